@@ -0,0 +1,216 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.benchmarks;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.JsonValue;
+
+/**
+ * Drives load against a backend by replaying the console's requests from a HAR file
+ * (e.g. saved from the browser's developer tools while clicking through the console).
+ * <p>
+ * Only the backend's requests (the ones whose paths start with /api/) are replayed.
+ * Each simulated user has its own session (cookies) and replays the requests in order,
+ * one at a time, over and over, until the duration or number of iterations is reached.
+ * <p>
+ * --replace old=new replaces text in the requests' urls and bodies, e.g. to point the
+ * connection at a ReplayAdminServer instead of the domain the HAR file was recorded against:
+ * <pre>
+ *   java -cp benchmarks.jar weblogic.remoteconsole.benchmarks.LoadDriver \
+ *     --har console.har --backend http://localhost:8012 --users 50 --seconds 60 \
+ *     --replace http://admin.example.com:7001=http://localhost:7001
+ * </pre>
+ * When done, it reports the throughput, the number of failed requests (status &gt;= 400 or errors)
+ * and the 50th, 90th and 99th percentile and maximum latencies.
+ */
+public class LoadDriver {
+  private static final String API_PATH = "/api/";
+  private static final long NANOS_PER_MILLI = 1000000L;
+
+  // A request from the HAR file
+  private static class HarRequest {
+    private String method;
+    private String pathAndQuery;
+    private String contentType;
+    private String body;
+  }
+
+  // What one user saw
+  private static class UserResults {
+    private List<Long> latencies = new ArrayList<>();
+    private int failures;
+  }
+
+  private List<HarRequest> requests;
+  private String backend;
+  private long deadlineNanos;
+  private int iterations;
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options =
+      Options.parse(args, "har", "backend", "users", "seconds", "iterations", "replace");
+    LoadDriver driver = new LoadDriver();
+    driver.backend = options.getOrDefault("backend", "http://localhost:8012");
+    driver.requests = readHar(Options.required(options, "har"), Options.getAll(options, "replace"));
+    if (driver.requests.isEmpty()) {
+      throw new IllegalArgumentException("The HAR file doesn't have any " + API_PATH + " requests");
+    }
+    int users = Integer.parseInt(options.getOrDefault("users", "10"));
+    long seconds = Long.parseLong(options.getOrDefault("seconds", "60"));
+    driver.iterations = Integer.parseInt(options.getOrDefault("iterations", String.valueOf(Integer.MAX_VALUE)));
+    System.out.println(
+      "Replaying " + driver.requests.size() + " requests with " + users + " users against " + driver.backend
+    );
+    long start = System.nanoTime();
+    driver.deadlineNanos = start + TimeUnit.SECONDS.toNanos(seconds);
+    ExecutorService executor = Executors.newFixedThreadPool(users);
+    List<Future<UserResults>> futures = new ArrayList<>();
+    for (int i = 0; i < users; i++) {
+      futures.add(executor.submit(driver::runUser));
+    }
+    List<Long> latencies = new ArrayList<>();
+    int failures = 0;
+    for (Future<UserResults> future : futures) {
+      UserResults results = future.get();
+      latencies.addAll(results.latencies);
+      failures += results.failures;
+    }
+    executor.shutdown();
+    report(latencies, failures, System.nanoTime() - start);
+  }
+
+  private UserResults runUser() {
+    UserResults results = new UserResults();
+    HttpClient client =
+      HttpClient.newBuilder()
+        .cookieHandler(new CookieManager())
+        .connectTimeout(Duration.ofSeconds(10))
+        .build();
+    for (int i = 0; i < iterations && System.nanoTime() < deadlineNanos; i++) {
+      for (HarRequest request : requests) {
+        if (System.nanoTime() >= deadlineNanos) {
+          break;
+        }
+        long start = System.nanoTime();
+        try {
+          HttpResponse<Void> response = client.send(toHttpRequest(request), HttpResponse.BodyHandlers.discarding());
+          if (response.statusCode() >= 400) {
+            results.failures++;
+          }
+        } catch (IOException e) {
+          results.failures++;
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return results;
+        }
+        results.latencies.add(System.nanoTime() - start);
+      }
+    }
+    return results;
+  }
+
+  private HttpRequest toHttpRequest(HarRequest request) {
+    HttpRequest.BodyPublisher body =
+      (request.body != null)
+        ? HttpRequest.BodyPublishers.ofString(request.body)
+        : HttpRequest.BodyPublishers.noBody();
+    HttpRequest.Builder builder =
+      HttpRequest.newBuilder(URI.create(backend + request.pathAndQuery))
+        .method(request.method, body);
+    if (request.contentType != null) {
+      builder.header("Content-Type", request.contentType);
+    }
+    return builder.build();
+  }
+
+  private static List<HarRequest> readHar(String harFile, List<String> replacements) throws IOException {
+    JsonObject har;
+    try (Reader reader = Files.newBufferedReader(Paths.get(harFile), StandardCharsets.UTF_8);
+      JsonReader jsonReader = Json.createReader(reader)) {
+      har = jsonReader.readObject();
+    }
+    List<HarRequest> rtn = new ArrayList<>();
+    for (JsonValue entry : har.getJsonObject("log").getJsonArray("entries")) {
+      JsonObject harRequest = entry.asJsonObject().getJsonObject("request");
+      URI uri = URI.create(replace(harRequest.getString("url"), replacements));
+      if (uri.getRawPath() == null || !uri.getRawPath().startsWith(API_PATH)) {
+        continue;
+      }
+      HarRequest request = new HarRequest();
+      request.method = harRequest.getString("method");
+      request.pathAndQuery = uri.getRawPath() + ((uri.getRawQuery() != null) ? "?" + uri.getRawQuery() : "");
+      JsonObject postData = harRequest.getJsonObject("postData");
+      if (postData != null) {
+        request.contentType = postData.getString("mimeType", null);
+        String text = postData.getString("text", null);
+        request.body = (text != null) ? replace(text, replacements) : null;
+      }
+      rtn.add(request);
+    }
+    return rtn;
+  }
+
+  // Applies the old=new replacements to a string
+  private static String replace(String string, List<String> replacements) {
+    String rtn = string;
+    for (String replacement : replacements) {
+      int index = replacement.indexOf('=');
+      if (index <= 0) {
+        throw new IllegalArgumentException("Invalid replacement " + replacement + ".  Use old=new.");
+      }
+      rtn = rtn.replace(replacement.substring(0, index), replacement.substring(index + 1));
+    }
+    return rtn;
+  }
+
+  private static void report(List<Long> latencies, int failures, long elapsedNanos) {
+    Collections.sort(latencies);
+    double seconds = elapsedNanos / (double)TimeUnit.SECONDS.toNanos(1);
+    System.out.println("Requests:   " + latencies.size() + " (" + failures + " failed)");
+    System.out.println(String.format("Throughput: %.1f requests/second", latencies.size() / seconds));
+    if (latencies.isEmpty()) {
+      return;
+    }
+    System.out.println(
+      String.format(
+        "Latency:    p50 %.1f ms, p90 %.1f ms, p99 %.1f ms, max %.1f ms",
+        toMillis(percentile(latencies, 50)),
+        toMillis(percentile(latencies, 90)),
+        toMillis(percentile(latencies, 99)),
+        toMillis(latencies.get(latencies.size() - 1))
+      )
+    );
+  }
+
+  // Returns the nearest-rank percentile of a sorted list
+  private static long percentile(List<Long> sorted, int percentile) {
+    int rank = (int)Math.ceil(percentile / 100.0 * sorted.size());
+    return sorted.get(Math.max(rank, 1) - 1);
+  }
+
+  private static double toMillis(long nanos) {
+    return nanos / (double)NANOS_PER_MILLI;
+  }
+}
@@ -0,0 +1,204 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.benchmarks;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.core.Cookie;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.core.UriInfo;
+
+/**
+ * A minimal, resettable ContainerRequestContext so that request filters
+ * can be benchmarked without starting a server.
+ * <p>
+ * Call reset() before each invocation of the filter since filters
+ * store properties in the context and may rewrite its uri.
+ */
+class MockContainerRequestContext implements ContainerRequestContext {
+  private URI originalRequestUri;
+  private MockUriInfo uriInfo;
+  private String method = "GET";
+  private Map<String, Object> properties = new HashMap<>();
+  private MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
+  private Map<String, Cookie> cookies = new HashMap<>();
+  private Response abortResponse;
+
+  MockContainerRequestContext(String requestUri) {
+    this.originalRequestUri = URI.create(requestUri);
+    this.uriInfo = new MockUriInfo(originalRequestUri);
+  }
+
+  void addHeader(String name, String value) {
+    headers.add(name, value);
+  }
+
+  void addCookie(String name, String value) {
+    cookies.put(name, new Cookie(name, value));
+  }
+
+  void reset() {
+    properties.clear();
+    uriInfo.setRequestUri(originalRequestUri);
+    abortResponse = null;
+  }
+
+  Response getAbortResponse() {
+    return abortResponse;
+  }
+
+  @Override
+  public Object getProperty(String name) {
+    return properties.get(name);
+  }
+
+  @Override
+  public Collection<String> getPropertyNames() {
+    return properties.keySet();
+  }
+
+  @Override
+  public void setProperty(String name, Object object) {
+    properties.put(name, object);
+  }
+
+  @Override
+  public void removeProperty(String name) {
+    properties.remove(name);
+  }
+
+  @Override
+  public UriInfo getUriInfo() {
+    return uriInfo;
+  }
+
+  @Override
+  public void setRequestUri(URI requestUri) {
+    uriInfo.setRequestUri(requestUri);
+  }
+
+  @Override
+  public void setRequestUri(URI baseUri, URI requestUri) {
+    uriInfo.setRequestUri(requestUri);
+  }
+
+  @Override
+  public Request getRequest() {
+    return null;
+  }
+
+  @Override
+  public String getMethod() {
+    return method;
+  }
+
+  @Override
+  public void setMethod(String method) {
+    this.method = method;
+  }
+
+  @Override
+  public MultivaluedMap<String, String> getHeaders() {
+    return headers;
+  }
+
+  @Override
+  public String getHeaderString(String name) {
+    List<String> values = headers.get(name);
+    return (values != null) ? String.join(",", values) : null;
+  }
+
+  @Override
+  public Date getDate() {
+    return null;
+  }
+
+  @Override
+  public Locale getLanguage() {
+    return null;
+  }
+
+  @Override
+  public int getLength() {
+    return -1;
+  }
+
+  @Override
+  public MediaType getMediaType() {
+    return null;
+  }
+
+  @Override
+  public List<MediaType> getAcceptableMediaTypes() {
+    List<MediaType> mediaTypes = new ArrayList<>();
+    mediaTypes.add(MediaType.WILDCARD_TYPE);
+    return mediaTypes;
+  }
+
+  // Like the real implementation, parse the Accept-Language header on every call
+  @Override
+  public List<Locale> getAcceptableLanguages() {
+    List<Locale> locales = new ArrayList<>();
+    String header = getHeaderString(HttpHeaders.ACCEPT_LANGUAGE);
+    if (header == null) {
+      locales.add(new Locale("*"));
+      return locales;
+    }
+    for (String language : header.split(",")) {
+      int paramsStart = language.indexOf(';');
+      if (paramsStart != -1) {
+        language = language.substring(0, paramsStart);
+      }
+      locales.add(Locale.forLanguageTag(language.trim()));
+    }
+    return locales;
+  }
+
+  @Override
+  public Map<String, Cookie> getCookies() {
+    return cookies;
+  }
+
+  @Override
+  public boolean hasEntity() {
+    return false;
+  }
+
+  @Override
+  public InputStream getEntityStream() {
+    return null;
+  }
+
+  @Override
+  public void setEntityStream(InputStream input) {
+  }
+
+  @Override
+  public SecurityContext getSecurityContext() {
+    return null;
+  }
+
+  @Override
+  public void setSecurityContext(SecurityContext context) {
+  }
+
+  @Override
+  public void abortWith(Response response) {
+    this.abortResponse = response;
+  }
+}
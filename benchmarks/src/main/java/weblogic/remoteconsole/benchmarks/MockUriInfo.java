@@ -0,0 +1,152 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.benchmarks;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.PathSegment;
+import javax.ws.rs.core.UriBuilder;
+import javax.ws.rs.core.UriInfo;
+
+/**
+ * A minimal UriInfo for a request whose base uri is the root of the server.
+ * <p>
+ * Like the real (Jersey) implementation, the path and path segments are
+ * recomputed on every call so that benchmarks see the same per-call costs.
+ */
+class MockUriInfo implements UriInfo {
+  private URI baseUri;
+  private URI requestUri;
+
+  MockUriInfo(URI requestUri) {
+    setRequestUri(requestUri);
+  }
+
+  void setRequestUri(URI requestUri) {
+    this.requestUri = requestUri;
+    this.baseUri = requestUri.resolve("/");
+  }
+
+  @Override
+  public String getPath() {
+    return getPath(true);
+  }
+
+  @Override
+  public String getPath(boolean decode) {
+    String path = (decode) ? requestUri.getPath() : requestUri.getRawPath();
+    return path.substring(1);
+  }
+
+  @Override
+  public List<PathSegment> getPathSegments() {
+    return getPathSegments(true);
+  }
+
+  @Override
+  public List<PathSegment> getPathSegments(boolean decode) {
+    List<PathSegment> segments = new ArrayList<>();
+    for (String segment : getPath(decode).split("/", -1)) {
+      segments.add(new MockPathSegment(segment));
+    }
+    return segments;
+  }
+
+  @Override
+  public URI getRequestUri() {
+    return requestUri;
+  }
+
+  @Override
+  public UriBuilder getRequestUriBuilder() {
+    return UriBuilder.fromUri(requestUri);
+  }
+
+  @Override
+  public URI getAbsolutePath() {
+    return getAbsolutePathBuilder().build();
+  }
+
+  @Override
+  public UriBuilder getAbsolutePathBuilder() {
+    return getRequestUriBuilder().replaceQuery(null);
+  }
+
+  @Override
+  public URI getBaseUri() {
+    return baseUri;
+  }
+
+  @Override
+  public UriBuilder getBaseUriBuilder() {
+    return UriBuilder.fromUri(baseUri);
+  }
+
+  @Override
+  public MultivaluedMap<String, String> getPathParameters() {
+    return getPathParameters(true);
+  }
+
+  @Override
+  public MultivaluedMap<String, String> getPathParameters(boolean decode) {
+    return new MultivaluedHashMap<>();
+  }
+
+  @Override
+  public MultivaluedMap<String, String> getQueryParameters() {
+    return getQueryParameters(true);
+  }
+
+  @Override
+  public MultivaluedMap<String, String> getQueryParameters(boolean decode) {
+    return new MultivaluedHashMap<>();
+  }
+
+  @Override
+  public List<String> getMatchedURIs() {
+    return getMatchedURIs(true);
+  }
+
+  @Override
+  public List<String> getMatchedURIs(boolean decode) {
+    return new ArrayList<>();
+  }
+
+  @Override
+  public List<Object> getMatchedResources() {
+    return new ArrayList<>();
+  }
+
+  @Override
+  public URI resolve(URI uri) {
+    return baseUri.resolve(uri);
+  }
+
+  @Override
+  public URI relativize(URI uri) {
+    return requestUri.relativize(uri);
+  }
+
+  private static class MockPathSegment implements PathSegment {
+    private String path;
+
+    private MockPathSegment(String segment) {
+      int matrixStart = segment.indexOf(';');
+      this.path = (matrixStart == -1) ? segment : segment.substring(0, matrixStart);
+    }
+
+    @Override
+    public String getPath() {
+      return path;
+    }
+
+    @Override
+    public MultivaluedMap<String, String> getMatrixParameters() {
+      return new MultivaluedHashMap<>();
+    }
+  }
+}
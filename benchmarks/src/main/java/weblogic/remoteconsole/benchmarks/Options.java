@@ -0,0 +1,55 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parses the '--name value' command line options of the load testing tools
+ * (ReplayAdminServer and LoadDriver).
+ * <p>
+ * An option that's specified more than once has its values joined by newlines
+ * (see getAll).
+ */
+class Options {
+
+  private Options() {
+  }
+
+  // Returns the options' values.  Throws an IllegalArgumentException if there's an unknown option.
+  static Map<String, String> parse(String[] args, String... names) {
+    List<String> known = Arrays.asList(names);
+    Map<String, String> rtn = new HashMap<>();
+    for (int i = 0; i < args.length; i++) {
+      String arg = args[i];
+      String name = arg.startsWith("--") ? arg.substring(2) : null;
+      if (name == null || !known.contains(name) || i + 1 == args.length) {
+        throw new IllegalArgumentException(
+          "Invalid option " + arg + ".  The options are --" + String.join(" --", names)
+        );
+      }
+      String value = args[++i];
+      rtn.merge(name, value, (oldValue, newValue) -> oldValue + "\n" + newValue);
+    }
+    return rtn;
+  }
+
+  static String required(Map<String, String> options, String name) {
+    String rtn = options.get(name);
+    if (rtn == null) {
+      throw new IllegalArgumentException("Missing option --" + name);
+    }
+    return rtn;
+  }
+
+  // Returns all the values of an option that can be specified more than once
+  static List<String> getAll(Map<String, String> options, String name) {
+    String value = options.get(name);
+    return (value != null) ? Arrays.asList(value.split("\n")) : new ArrayList<>();
+  }
+}
@@ -0,0 +1,144 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import weblogic.remoteconsole.common.repodef.BeanTypeDef;
+import weblogic.remoteconsole.common.utils.Path;
+import weblogic.remoteconsole.server.providers.Root;
+import weblogic.remoteconsole.server.providers.WDTModelDataProvider;
+import weblogic.remoteconsole.server.repo.BeanRepo;
+import weblogic.remoteconsole.server.repo.BeanTreePath;
+import weblogic.remoteconsole.server.repo.Frontend;
+import weblogic.remoteconsole.server.repo.FrontendManager;
+import weblogic.remoteconsole.server.repo.InvocationContext;
+
+/**
+ * Measures the path operations that rendering a table page does for each row.
+ * <ul>
+ * <li>parseDottedPaths parses the property paths a page refers to.</li>
+ * <li>childPathsToUris makes each row's path and its relative uri.</li>
+ * <li>createBeanTreePaths makes each row's bean tree path.</li>
+ * <li>lookupChildDefs finds type info by child name, like the WebLogic REST search code.</li>
+ * <li>pathMapLookups uses paths as map keys.</li>
+ * </ul>
+ * <p>
+ * Run with the GC profiler (-prof gc) to see the allocations per operation (gc.alloc.rate.norm).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PathBenchmark {
+  private static final String PROVIDER_NAME = "benchmark";
+
+  private static final String[] PROPERTY_PATHS = {
+    "Name",
+    "ListenPort",
+    "SSL.Enabled",
+    "SSL.ListenPort",
+    "JDBCResource.JDBCDataSourceParams.JNDINames",
+    "JDBCResource.JDBCDriverParams.Properties"
+  };
+
+  private static final String[] CHILD_NAMES = {
+    "Servers", "SSL", "Log", "WebServer", "NetworkAccessPoints"
+  };
+
+  @Param({"1000"})
+  private int rows;
+
+  private BeanRepo beanRepo;
+  private Path collectionPath;
+  private BeanTypeDef domainTypeDef;
+  private List<String> keys = new ArrayList<>();
+  private Map<Path, String> pathMap = new HashMap<>();
+  private List<Path> lookupPaths = new ArrayList<>();
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Frontend frontend = FrontendManager.create();
+    WDTModelDataProvider provider =
+      frontend.getProviderManager().createWDTModelDataProvider(PROVIDER_NAME);
+    provider.parseModel(
+      new ByteArrayInputStream(SyntheticDomain.createModel(rows, 0, 0).getBytes(StandardCharsets.UTF_8)),
+      false, // yaml
+      new InvocationContext()
+    );
+    InvocationContext ic = new InvocationContext();
+    provider.start(ic);
+    ic.setPageRepoByName(Root.EDIT_NAME);
+    beanRepo = ic.getPageRepo().getBeanRepo();
+    collectionPath = new Path("Domain.Servers");
+    domainTypeDef = BeanTreePath.create(beanRepo, new Path("Domain")).getTypeDef();
+    for (int i = 0; i < rows; i++) {
+      String key = "Server" + i;
+      keys.add(key);
+      pathMap.put(collectionPath.childPath(key), key);
+      // Look up equal, but not identical, paths like callers do
+      lookupPaths.add(Path.fromRelativeUri("Domain/Servers/" + key));
+    }
+  }
+
+  @Benchmark
+  public void parseDottedPaths(Blackhole blackhole) {
+    for (int i = 0; i < rows; i++) {
+      for (String propertyPath : PROPERTY_PATHS) {
+        blackhole.consume(new Path(propertyPath));
+      }
+    }
+  }
+
+  @Benchmark
+  public void childPathsToUris(Blackhole blackhole) {
+    for (String key : keys) {
+      blackhole.consume(collectionPath.childPath(key).getRelativeUri());
+    }
+  }
+
+  @Benchmark
+  public void createBeanTreePaths(Blackhole blackhole) {
+    for (String key : keys) {
+      blackhole.consume(BeanTreePath.create(beanRepo, collectionPath.childPath(key)));
+    }
+  }
+
+  @Benchmark
+  public void lookupChildDefs(Blackhole blackhole) {
+    for (int i = 0; i < rows; i++) {
+      for (String childName : CHILD_NAMES) {
+        blackhole.consume(domainTypeDef.hasChildDef(new Path(childName), true));
+      }
+    }
+  }
+
+  @Benchmark
+  public void pathMapLookups(Blackhole blackhole) {
+    for (Path path : lookupPaths) {
+      blackhole.consume(pathMap.get(path));
+    }
+  }
+}
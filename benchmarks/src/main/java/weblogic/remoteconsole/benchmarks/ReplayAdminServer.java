@@ -0,0 +1,313 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonReader;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import weblogic.remoteconsole.server.repo.RequestDeadline;
+
+/**
+ * A stand-in for a WebLogic admin server's REST API that replays the calls recorded by
+ * the backend (see WebLogicRestRecorder) so that load tests can be run without a domain.
+ * <p>
+ * Point the backend at it by connecting to http://localhost:&lt;port&gt; (any credentials work).
+ * <p>
+ * A call is matched to a recording by its method, path, query and (json) request body.
+ * Query parameters that vary from one request to the next (e.g. requestMaxWaitMillis, which
+ * is derived from the time left in the request's budget) are ignored.
+ * If a call was recorded more than once, the recordings are replayed round robin.
+ * Calls that weren't recorded get a 404.
+ * <p>
+ * Each response is delayed by how long the recorded call took, or, if --latency is specified,
+ * by that many milliseconds.  --jitter adds a random delay of up to that many milliseconds.
+ * <p>
+ * The edit tree's change manager is simulated so that the backend sees consistent edit sessions:
+ * startEdit locks the configuration, other edits mark it as having changes, and activate and
+ * cancelEdit unlock it and discard the changes.  The change manager in replayed search responses
+ * is updated to match.
+ * <p>
+ * Usage:
+ * <pre>
+ *   java -cp benchmarks.jar weblogic.remoteconsole.benchmarks.ReplayAdminServer \
+ *     --recordings &lt;directory&gt; [--port 7001] [--threads 32] [--latency &lt;ms&gt;] [--jitter &lt;ms&gt;]
+ * </pre>
+ */
+public class ReplayAdminServer {
+  private static final String CHANGE_MANAGER = "changeManager";
+  private static final String CHANGE_MANAGER_PATH = "/edit/" + CHANGE_MANAGER + "/";
+
+  // Query parameters that aren't used to match calls to recordings
+  private static final Set<String> VOLATILE_QUERY_PARAMS = Set.of(RequestDeadline.REQUEST_MAX_WAIT_MILLIS);
+
+  // All the recordings of a call, and the next one to replay.
+  private static class Recordings {
+    private List<JsonObject> calls = new ArrayList<>();
+    private int next;
+
+    private synchronized JsonObject next() {
+      JsonObject rtn = calls.get(next);
+      next = (next + 1) % calls.size();
+      return rtn;
+    }
+  }
+
+  private Map<String, Recordings> recordings = new HashMap<>();
+  private long latencyMillis = -1; // -1 means use the recorded latency
+  private long jitterMillis;
+
+  // The state of the simulated edit session
+  private boolean locked;
+  private boolean hasChanges;
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options = Options.parse(args, "recordings", "port", "threads", "latency", "jitter");
+    ReplayAdminServer replayServer = new ReplayAdminServer();
+    replayServer.latencyMillis = Long.parseLong(options.getOrDefault("latency", "-1"));
+    replayServer.jitterMillis = Long.parseLong(options.getOrDefault("jitter", "0"));
+    Path directory = Paths.get(Options.required(options, "recordings"));
+    int count = replayServer.load(directory);
+    int port = Integer.parseInt(options.getOrDefault("port", "7001"));
+    HttpServer server = HttpServer.create(new InetSocketAddress(port), 0);
+    server.setExecutor(Executors.newFixedThreadPool(Integer.parseInt(options.getOrDefault("threads", "32"))));
+    server.createContext("/", replayServer::handle);
+    server.start();
+    System.out.println(
+      "Replaying " + count + " WebLogic REST calls (" + replayServer.recordings.size() + " distinct)"
+      + " from " + directory + " on port " + port
+    );
+  }
+
+  // Loads all the recordings in a directory and returns the number of recorded calls
+  private int load(Path directory) throws IOException {
+    int count = 0;
+    List<Path> files;
+    try (Stream<Path> paths = Files.list(directory)) {
+      files = paths.filter(path -> path.toString().endsWith(".jsonl")).sorted().collect(Collectors.toList());
+    }
+    for (Path file : files) {
+      for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+        if (line.isBlank()) {
+          continue;
+        }
+        JsonObject call = parse(line).asJsonObject();
+        String key =
+          getKey(
+            call.getString("method"),
+            call.getString("path"),
+            getString(call, "query"),
+            call.get("requestBody")
+          );
+        recordings.computeIfAbsent(key, k -> new Recordings()).calls.add(call);
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try {
+      String method = exchange.getRequestMethod();
+      String path = exchange.getRequestURI().getRawPath();
+      String query = exchange.getRequestURI().getRawQuery();
+      String body = readBody(exchange);
+      JsonValue requestBody = isJson(exchange, body) ? parse(body) : JsonValue.NULL;
+      Recordings matches = recordings.get(getKey(method, path, query, requestBody));
+      JsonObject call = (matches != null) ? matches.next() : null;
+      boolean changeManagerCall = path.contains(CHANGE_MANAGER_PATH);
+      boolean edit = updateEditSession(method, path);
+      delay(call);
+      if (call == null && !changeManagerCall && !edit) {
+        sendResponse(exchange, 404, "application/json", notFound(method, path, query));
+      } else if (call == null) {
+        // An edit that wasn't recorded (e.g. with a different value).  Pretend it worked.
+        sendResponse(exchange, 200, "application/json", "{}");
+      } else {
+        sendResponse(
+          exchange,
+          call.getInt("status"),
+          getString(call, "contentType"),
+          patchChangeManager(getString(call, "responseBody"))
+        );
+      }
+    } finally {
+      exchange.close();
+    }
+  }
+
+  // Updates the simulated edit session.  Returns whether the call modifies the configuration.
+  private synchronized boolean updateEditSession(String method, String path) {
+    if (path.endsWith(CHANGE_MANAGER_PATH + "startEdit")) {
+      locked = true;
+    } else if (path.endsWith(CHANGE_MANAGER_PATH + "activate") || path.endsWith(CHANGE_MANAGER_PATH + "cancelEdit")) {
+      locked = false;
+      hasChanges = false;
+    } else if (isEdit(method, path)) {
+      hasChanges = true;
+      return true;
+    }
+    return false;
+  }
+
+  private boolean isEdit(String method, String path) {
+    if (!path.contains("/edit/") || path.contains(CHANGE_MANAGER_PATH) || path.endsWith("/search")) {
+      return false;
+    }
+    return "POST".equals(method) || "DELETE".equals(method);
+  }
+
+  // Replaces the change manager's state in a search response with the simulated edit session's
+  private String patchChangeManager(String responseBody) {
+    if (responseBody == null || !responseBody.contains(CHANGE_MANAGER)) {
+      return responseBody;
+    }
+    JsonValue response = parse(responseBody);
+    if (response.getValueType() != JsonValue.ValueType.OBJECT) {
+      return responseBody;
+    }
+    JsonObject responseObject = response.asJsonObject();
+    JsonValue changeManager = responseObject.get(CHANGE_MANAGER);
+    if (changeManager == null || changeManager.getValueType() != JsonValue.ValueType.OBJECT) {
+      return responseBody;
+    }
+    JsonObjectBuilder builder = Json.createObjectBuilder(changeManager.asJsonObject());
+    synchronized (this) {
+      builder.add("locked", locked);
+      builder.add("hasChanges", hasChanges);
+      builder.add("lockOwner", locked ? "weblogic" : "");
+    }
+    return Json.createObjectBuilder(responseObject).add(CHANGE_MANAGER, builder).build().toString();
+  }
+
+  private void delay(JsonObject call) {
+    long millis = latencyMillis;
+    if (millis < 0) {
+      millis = (call != null) ? call.getJsonNumber("millis").longValue() : 0;
+    }
+    if (jitterMillis > 0) {
+      millis += ThreadLocalRandom.current().nextLong(jitterMillis + 1);
+    }
+    if (millis > 0) {
+      try {
+        Thread.sleep(millis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private String notFound(String method, String path, String query) {
+    String call = method + " " + path + ((query != null) ? "?" + query : "");
+    System.out.println("Not recorded: " + call);
+    return
+      Json.createObjectBuilder()
+        .add("status", 404)
+        .add("detail", "The replay server has no recording of " + call)
+        .build()
+        .toString();
+  }
+
+  private static void sendResponse(
+    HttpExchange exchange,
+    int status,
+    String contentType,
+    String body
+  ) throws IOException {
+    if (contentType != null) {
+      exchange.getResponseHeaders().set("Content-Type", contentType);
+    }
+    if (body == null) {
+      exchange.sendResponseHeaders(status, -1);
+      return;
+    }
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream os = exchange.getResponseBody()) {
+      os.write(bytes);
+    }
+  }
+
+  private static String readBody(HttpExchange exchange) throws IOException {
+    try (InputStream is = exchange.getRequestBody()) {
+      return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
+  private static boolean isJson(HttpExchange exchange, String body) {
+    String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+    return !body.isEmpty() && contentType != null && contentType.startsWith("application/json");
+  }
+
+  // The key for matching calls to recordings.  The query's parameters are sorted
+  // and the body is normalized so that the order they're written in doesn't matter.
+  // The volatile query parameters are left out.
+  private static String getKey(String method, String path, String query, JsonValue requestBody) {
+    String sortedQuery = "";
+    if (query != null) {
+      sortedQuery =
+        Arrays.stream(query.split("&"))
+          .filter(param -> !VOLATILE_QUERY_PARAMS.contains(param.split("=", 2)[0]))
+          .sorted()
+          .collect(Collectors.joining("&"));
+    }
+    String body = (requestBody != null) ? normalize(requestBody).toString() : "null";
+    return method + " " + path + "?" + sortedQuery + " " + body;
+  }
+
+  // Sorts the properties of the json objects
+  private static JsonValue normalize(JsonValue value) {
+    if (value.getValueType() == JsonValue.ValueType.OBJECT) {
+      Map<String, JsonValue> sorted = new TreeMap<>(value.asJsonObject());
+      JsonObjectBuilder builder = Json.createObjectBuilder();
+      sorted.forEach((name, propertyValue) -> builder.add(name, normalize(propertyValue)));
+      return builder.build();
+    }
+    if (value.getValueType() == JsonValue.ValueType.ARRAY) {
+      JsonArray array = value.asJsonArray();
+      JsonArrayBuilder builder = Json.createArrayBuilder();
+      array.forEach(item -> builder.add(normalize(item)));
+      return builder.build();
+    }
+    return value;
+  }
+
+  private static JsonValue parse(String json) {
+    try (JsonReader reader = Json.createReader(new StringReader(json))) {
+      return reader.readValue();
+    }
+  }
+
+  private static String getString(JsonObject object, String name) {
+    JsonValue value = object.get(name);
+    return (value instanceof JsonString) ? ((JsonString)value).getString() : null;
+  }
+}
@@ -0,0 +1,165 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.benchmarks;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import weblogic.remoteconsole.common.repodef.BeanPropertyDef;
+import weblogic.remoteconsole.common.repodef.BeanTypeDef;
+import weblogic.remoteconsole.common.utils.Path;
+import weblogic.remoteconsole.common.utils.WebLogicMBeansVersion;
+import weblogic.remoteconsole.common.utils.WebLogicMBeansVersions;
+import weblogic.remoteconsole.common.utils.WebLogicVersions;
+import weblogic.remoteconsole.server.repo.BeanReaderRepoSearchBuilder;
+import weblogic.remoteconsole.server.repo.BeanReaderRepoSearchResults;
+import weblogic.remoteconsole.server.repo.BeanSearchResults;
+import weblogic.remoteconsole.server.repo.BeanTreePath;
+import weblogic.remoteconsole.server.repo.InvocationContext;
+import weblogic.remoteconsole.server.repo.Response;
+import weblogic.remoteconsole.server.repo.weblogic.WebLogicFileRuntimeTreeBeanRepo;
+
+/**
+ * Measures reading a large DomainRuntime search response, using
+ * WebLogicFileRuntimeTreeBeanRepo's file mode (i.e. a recorded WLS REST response).
+ * <p>
+ * The response has a configurable number of server runtimes.  Some of them
+ * are ones that the WLS REST api couldn't connect to.
+ * <ul>
+ * <li>loadResponse parses the file (and fixes the server runtime identities, if done eagerly).</li>
+ * <li>readServerRuntimes reads a row for each server runtime, including its identity.</li>
+ * </ul>
+ * <p>
+ * Run with the GC profiler (-prof gc) to see the allocations per operation (gc.alloc.rate.norm).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RuntimeSearchResultsBenchmark {
+  private static final String[] PROPERTY_PATHS = {
+    "Name",
+    "State",
+    "OpenSocketsCurrentCount",
+    "ThreadPoolRuntime.CompletedRequestCount",
+    "ThreadPoolRuntime.QueueLength"
+  };
+
+  // Every UNREACHABLE_SERVER_INTERVAL'th server runtime is one that the WLS REST api couldn't connect to.
+  private static final int UNREACHABLE_SERVER_INTERVAL = 20;
+
+  @Param({"200"})
+  private int servers;
+
+  private java.nio.file.Path responseFile;
+  private WebLogicMBeansVersion mbeansVersion;
+  private WebLogicFileRuntimeTreeBeanRepo beanRepo;
+  private BeanTreePath serverRuntimesPath;
+  private List<BeanPropertyDef> propertyDefs = new ArrayList<>();
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    responseFile = Files.createTempFile("domainRuntime", ".json");
+    try (Writer writer = Files.newBufferedWriter(responseFile, StandardCharsets.UTF_8)) {
+      writer.write(createDomainRuntimeResponse(servers));
+    }
+    mbeansVersion = WebLogicMBeansVersions.getVersion(WebLogicVersions.getCurrentVersion(), false);
+    beanRepo = loadResponse();
+    serverRuntimesPath = BeanTreePath.create(beanRepo, new Path("DomainRuntime.ServerRuntimes"));
+    BeanTypeDef typeDef = serverRuntimesPath.getTypeDef();
+    propertyDefs.add(typeDef.getIdentityPropertyDef());
+    for (String propertyPath : PROPERTY_PATHS) {
+      propertyDefs.add(typeDef.getPropertyDef(new Path(propertyPath)));
+    }
+    int rows = readServerRuntimes().size();
+    int expectedRows = servers - (servers + UNREACHABLE_SERVER_INTERVAL - 1) / UNREACHABLE_SERVER_INTERVAL;
+    if (rows != expectedRows) {
+      throw new AssertionError("Expected " + expectedRows + " server runtimes, found " + rows);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(responseFile);
+  }
+
+  @Benchmark
+  public void loadResponse(Blackhole blackhole) {
+    blackhole.consume(loadResponse());
+  }
+
+  @Benchmark
+  public void readServerRuntimes(Blackhole blackhole) {
+    for (BeanSearchResults row : readServerRuntimes()) {
+      for (BeanPropertyDef propertyDef : propertyDefs) {
+        blackhole.consume(row.getUnsortedValue(propertyDef));
+      }
+    }
+  }
+
+  private WebLogicFileRuntimeTreeBeanRepo loadResponse() {
+    return new WebLogicFileRuntimeTreeBeanRepo(mbeansVersion, responseFile.toString());
+  }
+
+  private List<BeanSearchResults> readServerRuntimes() {
+    InvocationContext ic = new InvocationContext();
+    ic.setIdentity(serverRuntimesPath);
+    BeanReaderRepoSearchBuilder builder = beanRepo.createSearchBuilder(ic, false);
+    for (BeanPropertyDef propertyDef : propertyDefs) {
+      builder.addProperty(serverRuntimesPath, propertyDef);
+    }
+    Response<BeanReaderRepoSearchResults> response = builder.search();
+    if (!response.isSuccess()) {
+      throw new AssertionError("Search failed: " + response.getMessages());
+    }
+    return response.getResults().getUnsortedCollection(serverRuntimesPath);
+  }
+
+  // Returns a WLS REST DomainRuntime search response like the one used for the server runtimes table.
+  // Like WLS REST, the identities under each server runtime are relative to that server.
+  static String createDomainRuntimeResponse(int servers) {
+    StringBuilder sb = new StringBuilder();
+    sb.append("{\"name\":\"benchmark\",\"type\":\"DomainRuntime\",\"identity\":[],");
+    sb.append("\"serverRuntimes\":{\"items\":[");
+    for (int i = 0; i < servers; i++) {
+      String name = "Server" + i;
+      if (i != 0) {
+        sb.append(",");
+      }
+      if (i % UNREACHABLE_SERVER_INTERVAL == 0) {
+        sb.append("{\"httpStatus\":504,\"name\":\"").append(name).append("\",\"identity\":[]}");
+        continue;
+      }
+      sb.append("{\"name\":\"").append(name).append("\",\"type\":\"ServerRuntime\",\"identity\":[],");
+      sb.append("\"state\":\"RUNNING\",\"openSocketsCurrentCount\":").append(i % 50).append(",");
+      sb.append("\"threadPoolRuntime\":{\"name\":\"ThreadPoolRuntime\",\"type\":\"ThreadPoolRuntime\",");
+      sb.append("\"identity\":[\"threadPoolRuntime\"],");
+      sb.append("\"completedRequestCount\":").append(i * 1000L).append(",");
+      sb.append("\"queueLength\":").append(i % 7).append("}}");
+    }
+    sb.append("]}}");
+    return sb.toString();
+  }
+}
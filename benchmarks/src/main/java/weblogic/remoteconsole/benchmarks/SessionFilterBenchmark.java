@@ -0,0 +1,116 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.core.HttpHeaders;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import weblogic.remoteconsole.server.filter.SessionFilter;
+import weblogic.remoteconsole.server.providers.WDTModelDataProvider;
+import weblogic.remoteconsole.server.repo.Frontend;
+import weblogic.remoteconsole.server.repo.FrontendManager;
+import weblogic.remoteconsole.server.repo.InvocationContext;
+import weblogic.remoteconsole.server.webapp.WebAppUtils;
+
+/**
+ * Measures the per-request cost of the SessionFilter, which runs on every
+ * request to the backend.
+ * <p>
+ * Run with the GC profiler (-prof gc) to see the allocations per request
+ * (gc.alloc.rate.norm).
+ * <p>
+ * It only uses APIs that predate this module, so to get the numbers for an
+ * older SessionFilter, copy this module and the root pom's benchmarks profile
+ * onto that commit and run it there too.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SessionFilterBenchmark {
+  private static final String PROVIDER_NAME = "benchmark provider";
+  private static final String ENCODED_PROVIDER_NAME = "benchmark%20provider";
+  private static final String ACCEPT_LANGUAGE = "en-US,en;q=0.9,fr;q=0.8";
+  private static final String MODEL = "topology:\n  Name: benchmark\n";
+
+  private SessionFilter filter = new SessionFilter();
+  private MockContainerRequestContext providerRequest;
+  private MockContainerRequestContext unknownProviderRequest;
+  private MockContainerRequestContext providerManagementRequest;
+  private MockContainerRequestContext nonApiRequest;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    Frontend frontend = FrontendManager.create();
+    WDTModelDataProvider provider =
+      frontend.getProviderManager().createWDTModelDataProvider(PROVIDER_NAME);
+    provider.parseModel(
+      new ByteArrayInputStream(MODEL.getBytes(StandardCharsets.UTF_8)),
+      false, // yaml
+      new InvocationContext()
+    );
+    // Note: the provider's first start creates its page repo.
+    providerRequest = createRequest(frontend, ENCODED_PROVIDER_NAME + "/edit/Servers/Server1?slice=General");
+    unknownProviderRequest = createRequest(frontend, "unknown/edit/Servers/Server1");
+    providerManagementRequest = createRequest(frontend, "providers");
+    nonApiRequest = createRequest(frontend, null);
+    // Make sure the provider really is looked up and started
+    // (vs. the request being aborted because of a bad provider)
+    runFilter(providerRequest);
+    if (providerRequest.getAbortResponse() != null) {
+      throw new AssertionError("Request was aborted: " + providerRequest.getAbortResponse().getStatus());
+    }
+  }
+
+  @Benchmark
+  public MockContainerRequestContext providerRequest() throws IOException {
+    return runFilter(providerRequest);
+  }
+
+  @Benchmark
+  public MockContainerRequestContext unknownProviderRequest() throws IOException {
+    return runFilter(unknownProviderRequest);
+  }
+
+  @Benchmark
+  public MockContainerRequestContext providerManagementRequest() throws IOException {
+    return runFilter(providerManagementRequest);
+  }
+
+  @Benchmark
+  public MockContainerRequestContext nonApiRequest() throws IOException {
+    return runFilter(nonApiRequest);
+  }
+
+  private MockContainerRequestContext runFilter(MockContainerRequestContext requestContext) throws IOException {
+    requestContext.reset();
+    filter.filter(requestContext);
+    return requestContext;
+  }
+
+  private static MockContainerRequestContext createRequest(Frontend frontend, String apiRelativePath) {
+    String path = (apiRelativePath != null) ? "/api/" + apiRelativePath : "/index.html";
+    MockContainerRequestContext requestContext =
+      new MockContainerRequestContext("http://localhost:8012" + path);
+    requestContext.addCookie(WebAppUtils.CONSOLE_BACKEND_COOKIE, frontend.getID());
+    requestContext.addHeader(HttpHeaders.ACCEPT_LANGUAGE, ACCEPT_LANGUAGE);
+    return requestContext;
+  }
+}
@@ -0,0 +1,81 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.benchmarks;
+
+/**
+ * Generates WDT models of synthetic domains so that the benchmarks can measure
+ * how the backend scales with the size of the domain.
+ * <p>
+ * The domain has a configurable number of servers, clusters and JDBC data sources.
+ * The servers are spread across the clusters and the data sources are targeted
+ * to the clusters (or to the first server if there aren't any clusters),
+ * so building the bean tree has references to resolve.
+ */
+class SyntheticDomain {
+
+  private SyntheticDomain() {
+  }
+
+  // Returns the yaml of a WDT model with the given number of servers, clusters and data sources.
+  static String createModel(int servers, int clusters, int dataSources) {
+    StringBuilder model = new StringBuilder();
+    model.append("topology:\n");
+    model.append("  Name: benchmark\n");
+    if (clusters > 0) {
+      model.append("  Cluster:\n");
+      for (int i = 0; i < clusters; i++) {
+        model.append("    ").append(getClusterName(i)).append(":\n");
+        model.append("      ClusterMessagingMode: unicast\n");
+      }
+    }
+    if (servers > 0) {
+      model.append("  Server:\n");
+      for (int i = 0; i < servers; i++) {
+        model.append("    ").append(getServerName(i)).append(":\n");
+        model.append("      ListenAddress: host").append(i).append(".example.com\n");
+        model.append("      ListenPort: ").append(7001 + i).append("\n");
+        if (clusters > 0) {
+          model.append("      Cluster: ").append(getClusterName(i % clusters)).append("\n");
+        }
+      }
+    }
+    if (dataSources > 0) {
+      model.append("resources:\n");
+      model.append("  JDBCSystemResource:\n");
+      for (int i = 0; i < dataSources; i++) {
+        String name = "DataSource" + i;
+        model.append("    ").append(name).append(":\n");
+        String target = getDataSourceTarget(i, servers, clusters);
+        if (target != null) {
+          model.append("      Target: ").append(target).append("\n");
+        }
+        model.append("      JdbcResource:\n");
+        model.append("        JDBCDataSourceParams:\n");
+        model.append("          JNDIName: jdbc/").append(name).append("\n");
+        model.append("        JDBCDriverParams:\n");
+        model.append("          URL: 'jdbc:oracle:thin:@//db").append(i).append(".example.com:1521/orcl'\n");
+        model.append("          DriverName: oracle.jdbc.OracleDriver\n");
+      }
+    }
+    return model.toString();
+  }
+
+  static String getServerName(int index) {
+    return "Server" + index;
+  }
+
+  static String getClusterName(int index) {
+    return "Cluster" + index;
+  }
+
+  private static String getDataSourceTarget(int index, int servers, int clusters) {
+    if (clusters > 0) {
+      return getClusterName(index % clusters);
+    }
+    if (servers > 0) {
+      return getServerName(0);
+    }
+    return null;
+  }
+}
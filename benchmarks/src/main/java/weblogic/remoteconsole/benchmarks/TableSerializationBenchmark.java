@@ -0,0 +1,157 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.core.StreamingOutput;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import weblogic.remoteconsole.common.utils.Path;
+import weblogic.remoteconsole.server.providers.Root;
+import weblogic.remoteconsole.server.providers.WDTModelDataProvider;
+import weblogic.remoteconsole.server.repo.BeanTreePath;
+import weblogic.remoteconsole.server.repo.BooleanValue;
+import weblogic.remoteconsole.server.repo.DateValue;
+import weblogic.remoteconsole.server.repo.Frontend;
+import weblogic.remoteconsole.server.repo.FrontendManager;
+import weblogic.remoteconsole.server.repo.IntValue;
+import weblogic.remoteconsole.server.repo.InvocationContext;
+import weblogic.remoteconsole.server.repo.LongValue;
+import weblogic.remoteconsole.server.repo.Page;
+import weblogic.remoteconsole.server.repo.Response;
+import weblogic.remoteconsole.server.repo.StringValue;
+import weblogic.remoteconsole.server.repo.Table;
+import weblogic.remoteconsole.server.repo.TableCell;
+import weblogic.remoteconsole.server.repo.TableRow;
+import weblogic.remoteconsole.server.webapp.GetPageResponseMapper;
+
+/**
+ * Measures converting a table page to json and writing it to the response.
+ * <p>
+ * The table is the Servers table of a WDT model with a configurable number of servers.
+ * <ul>
+ * <li>serializeTable writes the table as it's read from the model.</li>
+ * <li>serializeMixedTable replaces the rows with ones that have string, int, long,
+ *     boolean and date cells, like runtime tables.</li>
+ * <li>readAndSerializeTable also includes reading the table from the model.</li>
+ * </ul>
+ * <p>
+ * Run with the GC profiler (-prof gc) to see the allocations per table (gc.alloc.rate.norm).
+ * <p>
+ * It only uses APIs that predate this benchmark, so to get the numbers for an older
+ * ResponseMapper, copy this module and the root pom's benchmarks profile onto that commit
+ * and run it there too.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TableSerializationBenchmark {
+  private static final String PROVIDER_NAME = "benchmark";
+
+  @Param({"1000"})
+  private int rows;
+
+  private InvocationContext ic;
+  private Response<Page> table;
+  private Response<Page> mixedTable;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Frontend frontend = FrontendManager.create();
+    WDTModelDataProvider provider =
+      frontend.getProviderManager().createWDTModelDataProvider(PROVIDER_NAME);
+    provider.parseModel(
+      new ByteArrayInputStream(SyntheticDomain.createModel(rows, 0, 0).getBytes(StandardCharsets.UTF_8)),
+      false, // yaml
+      new InvocationContext()
+    );
+    ic = new InvocationContext();
+    provider.start(ic);
+    ic.setPageRepoByName(Root.EDIT_NAME);
+    ic.setIdentity(BeanTreePath.create(ic.getPageRepo().getBeanRepo(), new Path("Domain.Servers")));
+    ic.setPagePath(ic.getPageRepo().getPageRepoDef().newTablePagePath(ic.getBeanTreePath().getTypeDef()));
+    table = readTable();
+    if (!table.isSuccess() || table.getResults().asTable().getRows().size() != rows) {
+      throw new AssertionError("Could not read the table: " + table.getMessages());
+    }
+    mixedTable = readTable();
+    Table mixed = mixedTable.getResults().asTable();
+    mixed.getRows().clear();
+    long now = System.currentTimeMillis();
+    for (int i = 0; i < rows; i++) {
+      TableRow row = new TableRow();
+      row.getCells().add(new TableCell("Name", new StringValue("Row" + i)));
+      row.getCells().add(new TableCell("Count", new IntValue(i)));
+      row.getCells().add(new TableCell("Bytes", new LongValue(i * 1024L * 1024L)));
+      row.getCells().add(new TableCell("Active", new BooleanValue(i % 2 == 0)));
+      row.getCells().add(new TableCell("Started", new DateValue(new Date(now - i * 60000L))));
+      row.getCells().add(new TableCell("Stopped", new DateValue(new Date(now - i * 30000L))));
+      mixed.getRows().add(row);
+    }
+  }
+
+  @Benchmark
+  public void serializeTable(Blackhole blackhole) throws IOException {
+    write(table, blackhole);
+  }
+
+  @Benchmark
+  public void serializeMixedTable(Blackhole blackhole) throws IOException {
+    write(mixedTable, blackhole);
+  }
+
+  @Benchmark
+  public void readAndSerializeTable(Blackhole blackhole) throws IOException {
+    write(readTable(), blackhole);
+  }
+
+  private Response<Page> readTable() {
+    return ic.getPageRepo().asPageReaderRepo().getPage(ic);
+  }
+
+  private void write(Response<Page> page, Blackhole blackhole) throws IOException {
+    javax.ws.rs.core.Response response = GetPageResponseMapper.toResponse(ic, page);
+    ((StreamingOutput)response.getEntity()).write(new BlackholeOutputStream(blackhole));
+  }
+
+  // Consumes the response's bytes without buffering them.
+  private static class BlackholeOutputStream extends OutputStream {
+    private Blackhole blackhole;
+
+    private BlackholeOutputStream(Blackhole blackhole) {
+      this.blackhole = blackhole;
+    }
+
+    @Override
+    public void write(int b) {
+      blackhole.consume(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      blackhole.consume(b);
+      blackhole.consume(len);
+    }
+  }
+}
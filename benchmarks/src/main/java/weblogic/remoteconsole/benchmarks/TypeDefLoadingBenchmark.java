@@ -0,0 +1,92 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import weblogic.remoteconsole.common.YamlUtils;
+import weblogic.remoteconsole.common.repodef.BeanRepoDef;
+import weblogic.remoteconsole.common.repodef.BeanTypeDef;
+import weblogic.remoteconsole.common.repodef.schema.BeanTypeDefSource;
+import weblogic.remoteconsole.common.repodef.weblogic.WebLogicEditTreeBeanRepoDef;
+import weblogic.remoteconsole.common.utils.WebLogicMBeansVersion;
+import weblogic.remoteconsole.common.utils.WebLogicMBeansVersions;
+import weblogic.remoteconsole.common.utils.WebLogicVersions;
+
+/**
+ * Measures loading the yaml type definitions of the current WebLogic version's mbeans.
+ * <ul>
+ * <li>readTypeYaml parses one type's harvested yaml file (what YamlReader does for each type).</li>
+ * <li>loadTypeDefs creates a new bean repo def and loads the type defs that the pages
+ *     of a typical domain use (e.g. when the first request for a connection is made).</li>
+ * </ul>
+ * <p>
+ * Run with the GC profiler (-prof gc) to see the allocations per operation (gc.alloc.rate.norm).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TypeDefLoadingBenchmark {
+  private static final String[] TYPES = {
+    "DomainMBean",
+    "ServerMBean",
+    "ClusterMBean",
+    "MachineMBean",
+    "JDBCSystemResourceMBean",
+    "JDBCDataSourceBean",
+    "JMSServerMBean",
+    "AppDeploymentMBean"
+  };
+
+  @Param({"ServerMBean"})
+  private String type;
+
+  private WebLogicMBeansVersion mbeansVersion;
+  private String typeYaml;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    mbeansVersion = WebLogicMBeansVersions.getVersion(WebLogicVersions.getCurrentVersion(), false);
+    // Same location as WebLogicYamlReader
+    typeYaml =
+      "harvestedWeblogicBeanTypes/"
+      + mbeansVersion.getWebLogicVersion().getDomainVersion()
+      + "/" + type + ".yaml";
+    if (YamlUtils.read(typeYaml, BeanTypeDefSource.class) == null) {
+      throw new AssertionError("Can't find " + typeYaml);
+    }
+  }
+
+  @Benchmark
+  public void readTypeYaml(Blackhole blackhole) {
+    blackhole.consume(YamlUtils.read(typeYaml, BeanTypeDefSource.class));
+  }
+
+  @Benchmark
+  public void loadTypeDefs(Blackhole blackhole) {
+    BeanRepoDef repoDef = new WebLogicEditTreeBeanRepoDef(mbeansVersion);
+    for (String typeName : TYPES) {
+      BeanTypeDef typeDef = repoDef.getTypeDef(typeName);
+      // Make sure the properties and children are loaded too
+      blackhole.consume(typeDef.getPropertyDefs());
+      blackhole.consume(typeDef.getChildDefs());
+    }
+  }
+}
@@ -0,0 +1,124 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.yaml.snakeyaml.Yaml;
+import weblogic.remoteconsole.common.repodef.BeanChildDef;
+import weblogic.remoteconsole.common.repodef.Localizer;
+import weblogic.remoteconsole.common.utils.Path;
+import weblogic.remoteconsole.common.utils.WebLogicMBeansVersion;
+import weblogic.remoteconsole.common.utils.WebLogicMBeansVersions;
+import weblogic.remoteconsole.common.utils.WebLogicVersions;
+import weblogic.remoteconsole.server.repo.InvocationContext;
+import weblogic.remoteconsole.server.repo.weblogic.BeanTree;
+import weblogic.remoteconsole.server.repo.weblogic.BeanTreeBuilder;
+import weblogic.remoteconsole.server.repo.weblogic.WDTEditTreeBeanRepo;
+
+/**
+ * Measures loading a WDT model of a synthetic domain (see SyntheticDomain)
+ * with a configurable number of servers, clusters and data sources.
+ * <ul>
+ * <li>parseModel parses the model's yaml (like WDTModelDataProvider).</li>
+ * <li>buildBeanTree builds the bean tree from the parsed model.</li>
+ * <li>buildBeanTreeAndResolveReferences also resolves the servers' clusters and the data sources' targets.</li>
+ * <li>createBeanRepo does all of the work of creating the edit tree bean repo,
+ *     including filling in the required beans that aren't in the model.</li>
+ * </ul>
+ * <p>
+ * Run with the GC profiler (-prof gc) to see the allocations per model (gc.alloc.rate.norm).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WDTModelBenchmark {
+
+  @Param({"1000"})
+  private int servers;
+
+  @Param({"50"})
+  private int clusters;
+
+  @Param({"200"})
+  private int dataSources;
+
+  private String modelYaml;
+  private Map<String, Object> model;
+  private WebLogicMBeansVersion mbeansVersion;
+  private WDTEditTreeBeanRepo emptyBeanRepo;
+  private BeanChildDef domainChildDef;
+  private Localizer localizer;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    modelYaml = SyntheticDomain.createModel(servers, clusters, dataSources);
+    model = parseModel();
+    // Use the same version of the mbeans as WDTModelDataProvider
+    mbeansVersion = WebLogicMBeansVersions.getVersion(WebLogicVersions.getCurrentVersion(), false);
+    InvocationContext ic = new InvocationContext();
+    localizer = ic.getLocalizer();
+    // The bean tree builder needs a bean repo for the type info.  Since the model is null,
+    // this bean repo doesn't build a bean tree of its own.
+    emptyBeanRepo = new WDTEditTreeBeanRepo(mbeansVersion, null, ic);
+    domainChildDef = emptyBeanRepo.getBeanRepoDef().getRootTypeDef().getChildDef(new Path("Domain"));
+    // Make sure the model builds (and load the types it uses)
+    BeanTree beanTree = buildBeanTree();
+    beanTree.resolveReferences();
+  }
+
+  @Benchmark
+  public void parseModel(Blackhole blackhole) {
+    blackhole.consume(parseModel());
+  }
+
+  @Benchmark
+  public void buildBeanTree(Blackhole blackhole) {
+    blackhole.consume(buildBeanTree());
+  }
+
+  @Benchmark
+  public void buildBeanTreeAndResolveReferences(Blackhole blackhole) {
+    BeanTree beanTree = buildBeanTree();
+    beanTree.resolveReferences();
+    blackhole.consume(beanTree);
+  }
+
+  @Benchmark
+  public void createBeanRepo(Blackhole blackhole) {
+    blackhole.consume(new WDTEditTreeBeanRepo(mbeansVersion, model, new InvocationContext()));
+  }
+
+  private Map<String, Object> parseModel() {
+    return new Yaml().load(modelYaml);
+  }
+
+  // Builds the bean tree the same way as WDTEditTreeBeanRepo.
+  // The builder doesn't modify the model, so it can be shared by all the builds.
+  private BeanTree buildBeanTree() {
+    return
+      new BeanTreeBuilder(model, emptyBeanRepo, domainChildDef, localizer)
+        .addModelSection("topology")
+        .addModelSection("resources")
+        .addModelSection("appDeployments")
+        .build();
+  }
+}
@@ -371,6 +371,14 @@ define(['ojs/ojcore', 'knockout', 'ojs/ojcontext', 'ojs/ojknockout-keyset', 'ojs
         resizeNavTreeContainer();
       };
 
+      this.onCollapse = function (event) {
+        self.perspectiveMemory.navtree.keySet = self.expanded;
+
+        // Let the CBE know, so that the node stays collapsed when other nodes
+        // are expanded or refreshed. This doesn't fetch anything.
+        self.navtreeManager.collapseNode(event.detail.key);
+      };
+
       this.beforeCollapse = event => {
         if (self.selectedItem() === event.detail.key) {
           // when something node is already open and it is selected, don't close it...
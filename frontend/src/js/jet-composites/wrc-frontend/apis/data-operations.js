@@ -149,10 +149,11 @@ define(['ojs/ojcore', 'wrc-frontend/microservices/data-management/cbe-data-manag
          * Use a ``multipart/form-data`` POST request to upload deployment-related files to a CBE REST endpoint
          * @param {string} uri - URI for endpoint accepting ``multipart/form-data`` POST requests
          * @param {object} formData - Data to use in ``multipart/form-data`` POST request sent to CBE REST API endpoint
+         * @param {function(number, number)} [onProgress] - Called with the bytes sent so far and the total bytes to send, as the files are uploaded
          * @returns {Promise<{transport?: {status: number, statusText: string}, body: {data: any, messages?: any}}|{failureType: FailureType, failureReason?: any}|{Error}>}
          */
-        upload: function (uri, formData) {
-          return CbeDataManager.postMultipartFormData(uri, formData);
+        upload: function (uri, formData, onProgress) {
+          return CbeDataManager.postMultipartFormData(uri, formData, onProgress);
         },
         /**
          *
@@ -208,6 +209,19 @@ define(['ojs/ojcore', 'wrc-frontend/microservices/data-management/cbe-data-manag
               return reply.body.data;
             });
         },
+        /**
+         * Expands, collapses or refreshes a single node of the navtree, and returns the changes to the navtree.
+         * @param {string} navtreeUri - Value assigned to ``navtree`` field of dataProvider.beanTrees[index] JS object
+         * @param {"expand"|"collapse"|"refresh"} action - What to do to the node
+         * @param {[string]} path - Names of the nodes from the root of the navtree to the node
+         * @returns {Promise<{diffs: [object]}|{failureType: FailureType, failureReason?: any}|{Error}>}
+         */
+        updateNavtreeNode: function(navtreeUri, action, path) {
+          return CbeDataManager.updateNavtreeData(navtreeUri, action, path)
+            .then(reply => {
+              return reply.body.data;
+            });
+        },
         isNavTreeLeaf: function(url) {
           return CbeDataManager.isNavTreeLeaf(url)
             .then(reply => {
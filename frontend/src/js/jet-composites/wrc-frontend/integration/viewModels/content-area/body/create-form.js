@@ -725,32 +725,35 @@ define(['ojs/ojcore', 'knockout', 'ojs/ojhtmlutils', 'wrc-frontend/microservices
           // Create FormData object that we'll be populating
           // from scratch.
           const formData = new FormData();
-          // Find properties with "type": "fileContents" field
-          const fields = properties.filter(property => property.type === "fileContents");
+          // Find properties with "type": "fileContents" field.
+          // The 'Source' file goes last, so the CBE can stream
+          // it to WebLogic as it's uploaded, instead of having
+          // to wait for (and buffer) the whole upload.
+          const fields = properties
+            .filter(property => property.type === "fileContents")
+            .sort((a, b) => (a.name === "Source") - (b.name === "Source"));
           // Use property.name to get File onject that was saved
           // in this.backingData.fileUploads map.
+          const uploads = [];
           fields.forEach((field) => {
             if (typeof self.backingData.fileUploads[field.name] !== "undefined") {
-              // Add multipart sections using file
-              formData.append(
-                field.name,
-                self.backingData.fileUploads[field.name],
-                results.data[field.name].value
-              );
-              delete results.data[field.name];
-            }
-            else {
-              // Remove field.name from results.data, if there
-              // is no file upload for it. This prevents sending
-              // a "Plan": {value: ""} (or "Plan": {value: null})
-              // field to the CBE, in results.data object.
-              delete results.data[field.name];
+              uploads.push({
+                name: field.name,
+                file: self.backingData.fileUploads[field.name],
+                fileName: results.data[field.name].value
+              });
             }
+            // Remove field.name from results.data. If there is
+            // no file upload for it, this prevents sending a
+            // "Plan": {value: ""} (or "Plan": {value: null})
+            // field to the CBE, in results.data object.
+            delete results.data[field.name];
           });
 
           // Add multipart section for 'requestBody' part, using
-          // the current state of the results.data object.
-
+          // the current state of the results.data object. It
+          // must come before the file parts so the CBE can
+          // stream them.
           formData.append(
             'requestBody',
             new Blob([JSON.stringify({
@@ -758,17 +761,36 @@ define(['ojs/ojcore', 'knockout', 'ojs/ojhtmlutils', 'wrc-frontend/microservices
             })], {type: "application/json"})
           );
 
+          // Add multipart sections using files
+          uploads.forEach((upload) => {
+            formData.append(upload.name, upload.file, upload.fileName);
+          });
+
           Logger.info(`[CREATEFORM] formData.requestBody=${formData.get("requestBody")}`);
           Logger.info(`[CREATEFORM] formData.Source=${formData.get("Source")}`);
           Logger.info(`[CREATEFORM] formData.Plan=${formData.get("Plan")}`);
 
-          // Create the multipart request and POST it.
-          DataOperations.mbean.upload(self.viewParams.parentRouter.data.rdjUrl(), formData)
+          // Create the multipart request and POST it, showing
+          // the progress cursor until the upload is finished.
+          let lastPercent = -1;
+          ViewModelUtils.setCursorType("progress");
+          DataOperations.mbean.upload(self.viewParams.parentRouter.data.rdjUrl(), formData, (loaded, total) => {
+            const percent = (total > 0 ? Math.floor((loaded * 100) / total) : 100);
+            // Only log when the percentage changes, because the
+            // browser fires progress events every few KB.
+            if (percent !== lastPercent) {
+              lastPercent = percent;
+              Logger.info(`[CREATEFORM] upload progress=${percent}% (${loaded} of ${total} bytes)`);
+            }
+          })
             .then(reply => {
               resolve(reply);
             })
             .catch(response => {
               reject(response);
+            })
+            .finally(() => {
+              ViewModelUtils.setCursorType("default");
             });
         });
       },
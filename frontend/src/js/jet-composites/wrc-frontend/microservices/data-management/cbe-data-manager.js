@@ -614,9 +614,10 @@ define(['jquery', 'wrc-frontend/core/adapters/http-adapter', 'wrc-frontend/core/
        * Sends a ``multipart/form-data`` POST request to the CBE REST endpoint
        * @param {string} url - URL for endpoint accepting ``multipart/form-data`` POST requests
        * @param {object} formData - Data to use in ``multipart/form-data`` POST request sent to CBE REST API endpoint
+       * @param {function(number, number)} [onProgress] - Called with the bytes sent so far and the total bytes to send, as the request body is uploaded
        * @returns {Promise<{transport?: {status: number, statusText: string}, body: {data: any, messages?: any}}|{failureType: FailureType, failureReason?: any}|{Error}>}
        */
-      postMultipartFormData: function (url, formData) {
+      postMultipartFormData: function (url, formData, onProgress) {
         return new Promise((resolve, reject) => {
           const jqXHR = $.ajax({
             type: "POST",
@@ -625,6 +626,17 @@ define(['jquery', 'wrc-frontend/core/adapters/http-adapter', 'wrc-frontend/core/
             data: formData,
             processData: false,
             contentType: false,
+            xhr: () => {
+              // Use jQuery's own XMLHttpRequest factory, so
+              // we only add the upload progress listener.
+              const xhr = $.ajaxSettings.xhr();
+              if (typeof onProgress === "function" && xhr.upload) {
+                xhr.upload.addEventListener("progress", (event) => {
+                  if (event.lengthComputable) onProgress(event.loaded, event.total);
+                });
+              }
+              return xhr;
+            },
             xhrFields: {
               withCredentials: true
             },
@@ -748,6 +760,29 @@ define(['jquery', 'wrc-frontend/core/adapters/http-adapter', 'wrc-frontend/core/
         return postData.call(this, {url: Runtime.getBackendUrl() + navtreeUri}, treeModel);
       },
 
+      /**
+       * Expands, collapses or refreshes a single node of the navtree that was returned by the last ``getNavtreeData`` call whose ``treeModel`` included ``session: true``.
+       * <p>Only the changes to the navtree are returned, not the whole navtree.</p>
+       * @param {string} navtreeUri - Value assigned to ``navtree`` field of dataProvider.beanTrees[index] JS object
+       * @param {"expand"|"collapse"|"refresh"} action - What to do to the node
+       * @param {[string]} path - Names of the nodes from the root of the navtree to the node
+       * @returns {Promise<{transport?: {status: number, statusText: string}, body: {data: any, messages?: any}}|{failureType: FailureType, failureReason?: any}|{Error}>}
+       * @example [POST /api/bob/edit/navtree {"action": "expand", "path": ["Environment", "Servers"]}]
+       * const reply = {
+       *   body: {
+       *     data: {
+       *       "diffs": [
+       *          {"type": "replace", "path": ["Environment", "Servers"], "node": {"name": "Servers", "expanded": true, "contents": [ ... ], ... }}
+       *       ]
+       *     },
+       *     messages: []
+       *   }
+       * }
+       */
+      updateNavtreeData: function(navtreeUri, action, path) {
+        return postData.call(this, {url: Runtime.getBackendUrl() + navtreeUri}, {action: action, path: path});
+      },
+
       /**
        *
        * @param {ServiceType} serviceType
@@ -80,8 +80,14 @@ define([
       return node.class;
     },
 
+    /**
+     * fetch the whole navtree (i.e. all of the expanded nodes) and make the CBE
+     * remember it, so that single nodes can then be expanded, collapsed and
+     * refreshed with `updateTreeModel`
+     */
     refreshTreeModel: async function () {
-      return DataOperations.navtree.refreshNavtreeData(this.beanTree.navtree, this.treeModel).then((newTreeModel) => {
+      const treeModel = Object.assign({}, this.treeModel, { session: true });
+      return DataOperations.navtree.refreshNavtreeData(this.beanTree.navtree, treeModel).then((newTreeModel) => {
         this.treeModel = newTreeModel;
 
         console.log(this.treeModel);
@@ -91,12 +97,92 @@ define([
       });
     },
 
+    /**
+     * expand, collapse or refresh a single node and apply the changes the CBE
+     * returns to treeModel. Only the path to the node (and the expanded nodes
+     * under it) are fetched, instead of the whole navtree.
+     *
+     * If that fails (e.g. the CBE doesn't remember this navtree anymore),
+     * fall back to fetching the whole navtree.
+     *
+     * @param {"expand"|"collapse"|"refresh"} action
+     * @param {*} nodeId identifier of the node
+     */
+    updateTreeModel: function (action, nodeId) {
+      const node = this.nodes[nodeId];
+      const path = node?.navtreePath || nodeId.split("/");
+      return DataOperations.navtree.updateNavtreeNode(this.beanTree.navtree, action, path).then((data) => {
+        this.applyDiffs(data.diffs);
+      })
+      .catch(() => {
+        return this.refreshTreeModel();
+      });
+    },
+
+    /**
+     * apply the add / remove / update / replace changes returned by the CBE to treeModel
+     * @param {*} diffs
+     */
+    applyDiffs: function (diffs) {
+      diffs?.forEach((diff) => {
+        const parent = this.findTreeModelNode(diff.path.slice(0, -1));
+        if (!parent) {
+          // not displayed
+          return;
+        }
+        if (!parent.contents) {
+          parent.contents = [];
+        }
+        const name = diff.path[diff.path.length - 1];
+        const index = parent.contents.findIndex((item) => item.name === name);
+        switch (diff.type) {
+          case "add":
+            if (index !== -1) {
+              parent.contents[index] = diff.node;
+            } else {
+              parent.contents.splice(Math.min(diff.index, parent.contents.length), 0, diff.node);
+            }
+            break;
+          case "remove":
+            if (index !== -1) {
+              parent.contents.splice(index, 1);
+            }
+            break;
+          case "update":
+            // the node's contents haven't changed, and aren't included
+            if (index !== -1) {
+              parent.contents[index] = Object.assign({}, diff.node, { contents: parent.contents[index].contents });
+            }
+            break;
+          case "replace":
+            if (index !== -1) {
+              parent.contents[index] = diff.node;
+            } else {
+              parent.contents.push(diff.node);
+            }
+            break;
+        }
+      });
+    },
+
+    /**
+     * return the treeModel node for a list of names, starting at the root
+     * @param {[string]} names
+     */
+    findTreeModelNode: function (names) {
+      let node = this.treeModel;
+      names.forEach((name) => {
+        node = node?.contents?.find((item) => item.name === name);
+      });
+      return node;
+    },
+
     /**
      * convert treeModel into the datastructure that oj-navigation-list needs
      */
     updateTreeView: function () {
       // recursive function to process contents attribute of a node
-      function processContents(contents, parentPath) {
+      function processContents(contents, parentPath, parentNames) {
         let tree = [];
 
         contents?.forEach((item) => {
@@ -105,6 +191,7 @@ define([
 
           let node = item;
           node.identifier = identifier;
+          node.navtreePath = parentNames.concat(item.name);
 
           // tree nodes are not marked as expanding because they do not have landing pages
           if (node.expandable !== false) {
@@ -115,7 +202,7 @@ define([
 
           if (item.contents) {
             processContents
-              .call(this, item.contents, node.identifier)
+              .call(this, item.contents, node.identifier, node.navtreePath)
               ?.forEach((n) => {
                 node.children.push(n);
               });
@@ -131,7 +218,7 @@ define([
         return tree;
       }
 
-      this.treeData(processContents.call(this, this.treeModel.contents));
+      this.treeData(processContents.call(this, this.treeModel.contents, "", []));
       this.treeData.valueHasMutated();
     },
 
@@ -147,12 +234,25 @@ define([
       console.log(node);
       if (node) {
         node.expanded = true;
-        return this.refreshTreeModel().then(() => {
+        return this.updateTreeModel("expand", nodeId).then(() => {
           this.updateTreeView();
         });
       }
 
-      return Promise(1);
+      return Promise.resolve(1);
+    },
+
+    collapseNode: function (nodeId) {
+      let node = this.nodes[nodeId];
+
+      if (node) {
+        node.expanded = false;
+        // oj-navigation-list has already hidden the node's children,
+        // so there's no need to rebuild the tree view
+        return this.updateTreeModel("collapse", nodeId);
+      }
+
+      return Promise.resolve(1);
     },
 
     /**
@@ -684,17 +784,22 @@ define([
      * @param {Set} paths of nodes to populate
      */
     populateNodeSet: function (nodes) {
-      let promise =  Promise.resolve(1);
-      
-      nodes.values().forEach((n) => {
-        promise = promise.then(
-          (() => {
-            this.expandNode(n);
-          })
-        );
+      // refreshing a node refreshes the expanded nodes under it too,
+      // so only refresh the expanded nodes whose parents aren't expanded
+      const nodeIds = Array.from(nodes.values());
+      const topNodeIds = nodeIds.filter((nodeId) => !nodeIds.some((other) => nodeId.startsWith(other + "/")));
+
+      let promise = Promise.resolve(1);
+
+      topNodeIds.forEach((nodeId) => {
+        promise = promise.then(() => {
+          return this.updateTreeModel("refresh", nodeId);
+        });
       });
 
-      return promise;
+      return promise.then(() => {
+        this.updateTreeView();
+      });
     },
   };
   return NavtreeManager;
@@ -0,0 +1,276 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.backend.build;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.FSDirectory;
+import weblogic.remoteconsole.common.repodef.BeanChildNavTreeNodeDef;
+import weblogic.remoteconsole.common.repodef.HelpTopicDef;
+import weblogic.remoteconsole.common.repodef.LocalizableString;
+import weblogic.remoteconsole.common.repodef.PageDef;
+import weblogic.remoteconsole.common.repodef.PagePropertyDef;
+import weblogic.remoteconsole.common.repodef.weblogic.WebLogicHelpIndexUtils;
+import weblogic.remoteconsole.common.repodef.weblogic.WebLogicPageDefWalker;
+import weblogic.remoteconsole.common.utils.WebLogicMBeansVersion;
+import weblogic.remoteconsole.common.utils.WebLogicMBeansVersions;
+import weblogic.remoteconsole.common.utils.WebLogicVersion;
+import weblogic.remoteconsole.common.utils.WebLogicVersions;
+
+/**
+ * The console lets the user search for settings by their labels and help (e.g. 'which page has
+ * the listen port').  Walking all of the page and type yaml files to do that at runtime is too slow.
+ * <p>
+ * This class walks all of the pages for each supported WebLogic version (the same way that
+ * EnglishResourceBundleCreator does) and creates a Lucene index of the pages' titles and help
+ * and the labels and help of the properties on the slice forms, along with the nav tree path
+ * to each page's type.
+ * <p>
+ * It writes each version's index to its own directory, e.g.
+ * build/console_backend_help_index_14_1_1_0_0, so that it ends up in the resource bundles jar.
+ * See WebLogicHelpIndexUtils.
+ */
+public class HelpIndexCreator extends WebLogicPageDefWalker {
+
+  private static final Logger LOGGER = Logger.getLogger(HelpIndexCreator.class.getName());
+
+  private String indexDir;
+  private List<HelpDocument> documents = new ArrayList<>();
+
+  // Maps a perspective and type to the nav tree node that leads to it
+  private Map<String,NavTreeEdge> navTreeEdges = new HashMap<>();
+
+  private HelpIndexCreator(WebLogicMBeansVersion mbeansVersion, String indexDir) {
+    super(mbeansVersion);
+    this.indexDir = indexDir;
+  }
+
+  public static void main(String[] args) {
+    try {
+      LOGGER.info("HelpIndexCreator.main");
+      String indexDir = args[0];
+      for (WebLogicVersion weblogicVersion : WebLogicVersions.getSupportedVersions()) {
+        WebLogicMBeansVersion mbeansVersion =
+          WebLogicMBeansVersions.getVersion(
+            weblogicVersion,
+            true // supports security warnings
+          );
+        (new HelpIndexCreator(mbeansVersion, indexDir)).create();
+      }
+    } catch (Throwable t) {
+      t.printStackTrace();
+      // FortifyIssueSuppression J2EE Bad Practices: JVM Termination
+      // This is a utility and terminating the JVM is fine.
+      System.exit(1);
+    }
+  }
+
+  private void create() throws Exception {
+    walk();
+    writeIndex();
+  }
+
+  private void writeIndex() throws Exception {
+    String domainVersion = getMBeansVersion().getWebLogicVersion().getDomainVersion();
+    // FortifyIssueSuppression Path Manipulation
+    // This is a build utility and, therefore, such an issue is irrelevant
+    Path dir = Paths.get(indexDir, WebLogicHelpIndexUtils.getHelpIndexName(domainVersion));
+    Files.createDirectories(dir);
+    IndexWriterConfig config =
+      new IndexWriterConfig(WebLogicHelpIndexUtils.newAnalyzer())
+        .setOpenMode(IndexWriterConfig.OpenMode.CREATE);
+    try (FSDirectory directory = FSDirectory.open(dir); IndexWriter writer = new IndexWriter(directory, config)) {
+      for (HelpDocument document : documents) {
+        for (String name : getNavTreePath(document.getNavTreeKey(), new HashSet<>())) {
+          document.getDocument().add(new TextField(WebLogicHelpIndexUtils.FIELD_NAV_TREE_PATH, name, Field.Store.YES));
+        }
+        writer.addDocument(document.getDocument());
+      }
+      // The index is read-only at runtime, so make it as compact as possible
+      writer.forceMerge(1);
+      writer.commit();
+    }
+    writeFiles(dir);
+    LOGGER.info("Created help index " + dir + " with " + documents.size() + " documents");
+  }
+
+  // Lists the index's files so that they can be found when the index is in a jar
+  private void writeFiles(Path dir) throws Exception {
+    List<String> files = null;
+    try (Stream<Path> paths = Files.list(dir)) {
+      files =
+        paths
+          .map(path -> path.getFileName().toString())
+          .filter(name -> !IndexWriter.WRITE_LOCK_NAME.equals(name))
+          .filter(name -> !WebLogicHelpIndexUtils.FILES_NAME.equals(name))
+          .sorted()
+          .collect(Collectors.toList());
+    }
+    Files.write(dir.resolve(WebLogicHelpIndexUtils.FILES_NAME), files, StandardCharsets.UTF_8);
+  }
+
+  @Override
+  protected void processPageDef(PageDef pageDef) {
+    Document pageDoc = newDocument(pageDef);
+    addLocalizableString(pageDoc, WebLogicHelpIndexUtils.FIELD_LABEL, WebLogicHelpIndexUtils.FIELD_LABEL_KEY,
+      pageDef.getHelpPageTitle());
+    addHelpText(pageDoc, pageDef.getIntroductionHTML());
+    for (HelpTopicDef helpTopicDef : pageDef.getHelpTopicDefs()) {
+      addHelpText(pageDoc, helpTopicDef.getLabel());
+    }
+    addDocument(pageDef, pageDoc);
+    if (!pageDef.isSliceFormDef()) {
+      // Only index the properties on the slice forms since the tables and create forms
+      // repeat them and the slice forms are where they're set.
+      return;
+    }
+    for (PagePropertyDef propertyDef : pageDef.getAllPropertyDefs()) {
+      Document propertyDoc = newDocument(pageDef);
+      addText(propertyDoc, WebLogicHelpIndexUtils.FIELD_PROPERTY, propertyDef.getPropertyPath().getDotSeparatedPath());
+      addLocalizableString(propertyDoc, WebLogicHelpIndexUtils.FIELD_LABEL, WebLogicHelpIndexUtils.FIELD_LABEL_KEY,
+        propertyDef.getLabel());
+      addLocalizableString(propertyDoc, WebLogicHelpIndexUtils.FIELD_HELP_SUMMARY,
+        WebLogicHelpIndexUtils.FIELD_HELP_SUMMARY_KEY, propertyDef.getHelpSummaryHTML());
+      addHelpText(propertyDoc, propertyDef.getHelpSummaryHTML());
+      addHelpText(propertyDoc, propertyDef.getDetailedHelpHTML());
+      addDocument(pageDef, propertyDoc);
+    }
+  }
+
+  @Override
+  protected void processChildNavTreeNodeDef(BeanChildNavTreeNodeDef childNodeDef) {
+    String perspective = childNodeDef.getNavTreeDef().getPageRepoDef().getName();
+    String parentKey = getNavTreeKey(perspective, childNodeDef.getNavTreeDef().getTypeDef().getTypeName());
+    String childKey = getNavTreeKey(perspective, childNodeDef.getLastChildDef().getChildTypeDef().getTypeName());
+    List<String> names = new ArrayList<>(childNodeDef.getNodePath().getComponents());
+    if (childNodeDef.getLastChildDef().isCollection()) {
+      // The pages display a child of the collection, whose name isn't known until runtime
+      names.add("*");
+    }
+    navTreeEdges.putIfAbsent(childKey, new NavTreeEdge(parentKey, names));
+  }
+
+  // Returns the names of the nav tree nodes that lead to a type's pages
+  private List<String> getNavTreePath(String navTreeKey, Set<String> visitedKeys) {
+    NavTreeEdge edge = navTreeEdges.get(navTreeKey);
+    if (edge == null || !visitedKeys.add(navTreeKey)) {
+      return new ArrayList<>(); // the root of the nav tree, or a type that's not in the nav tree
+    }
+    List<String> path = getNavTreePath(edge.getParentKey(), visitedKeys);
+    path.addAll(edge.getNames());
+    return path;
+  }
+
+  private Document newDocument(PageDef pageDef) {
+    Document doc = new Document();
+    doc.add(new StringField(WebLogicHelpIndexUtils.FIELD_PERSPECTIVE, getPerspective(pageDef), Field.Store.YES));
+    doc.add(new StoredField(WebLogicHelpIndexUtils.FIELD_PAGE_URI, pageDef.getPagePath().getURI()));
+    addText(doc, WebLogicHelpIndexUtils.FIELD_TYPE, getTypeName(pageDef));
+    addLocalizableString(doc, WebLogicHelpIndexUtils.FIELD_PAGE_TITLE, WebLogicHelpIndexUtils.FIELD_PAGE_TITLE_KEY,
+      pageDef.getHelpPageTitle());
+    return doc;
+  }
+
+  private void addDocument(PageDef pageDef, Document doc) {
+    documents.add(new HelpDocument(getNavTreeKey(getPerspective(pageDef), getTypeName(pageDef)), doc));
+  }
+
+  private void addText(Document doc, String field, String text) {
+    if (text != null && !text.isEmpty()) {
+      doc.add(new TextField(field, text, Field.Store.YES));
+    }
+  }
+
+  // Stores the english text and the resource bundle key so that the runtime can localize it.
+  // The help summary is html, so it's stored but not indexed (addHelpText indexes its text instead).
+  private void addLocalizableString(Document doc, String field, String keyField, LocalizableString ls) {
+    if (ls.isEmpty()) {
+      return;
+    }
+    if (WebLogicHelpIndexUtils.FIELD_HELP_SUMMARY.equals(field)) {
+      doc.add(new StoredField(field, ls.getEnglishText()));
+    } else {
+      addText(doc, field, ls.getEnglishText());
+    }
+    doc.add(new StoredField(keyField, ls.getResourceBundleKey()));
+  }
+
+  private void addHelpText(Document doc, LocalizableString html) {
+    if (!html.isEmpty()) {
+      doc.add(new TextField(WebLogicHelpIndexUtils.FIELD_HELP_TEXT, stripHtml(html.getEnglishText()), Field.Store.NO));
+    }
+  }
+
+  private static String stripHtml(String html) {
+    return html.replaceAll("<[^>]*>", " ").replace("&nbsp;", " ");
+  }
+
+  private static String getPerspective(PageDef pageDef) {
+    return pageDef.getPagePath().getPagesPath().getPageRepoDef().getName();
+  }
+
+  private static String getTypeName(PageDef pageDef) {
+    return pageDef.getPagePath().getPagesPath().getTypeDef().getTypeName();
+  }
+
+  private static String getNavTreeKey(String perspective, String typeName) {
+    return perspective + ":" + typeName;
+  }
+
+  private static class HelpDocument {
+    private String navTreeKey;
+    private Document document;
+
+    private HelpDocument(String navTreeKey, Document document) {
+      this.navTreeKey = navTreeKey;
+      this.document = document;
+    }
+
+    private String getNavTreeKey() {
+      return navTreeKey;
+    }
+
+    private Document getDocument() {
+      return document;
+    }
+  }
+
+  // The nav tree node in a parent type's nav tree that leads to a child type
+  private static class NavTreeEdge {
+    private String parentKey;
+    private List<String> names;
+
+    private NavTreeEdge(String parentKey, List<String> names) {
+      this.parentKey = parentKey;
+      this.names = names;
+    }
+
+    private String getParentKey() {
+      return parentKey;
+    }
+
+    private List<String> getNames() {
+      return names;
+    }
+  }
+}
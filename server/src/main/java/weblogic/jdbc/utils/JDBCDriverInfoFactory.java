@@ -5,10 +5,11 @@ package weblogic.jdbc.utils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.TreeSet;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * This is the entry class for getting JDBCDriverInfo's
@@ -19,38 +20,100 @@ import java.util.TreeSet;
  * <p>
  * Using JDBCURLHelperFactory and a JDBCDriverInfo you can get a JDBCURLHelper
  * which formats the JDBC URL and the required properties object
- *
+ * <p>
+ * The driver metadata is indexed (by vendor, driver name and class name) when the
+ * factory is created and is never modified afterwards, so the factory can be shared
+ * by concurrent requests.  Since JDBCDriverInfos hold the values the user enters
+ * (e.g. the host and port), each call returns new JDBCDriverInfos.
  */
 
 public final class JDBCDriverInfoFactory {
 
+  private static final MetaJDBCDriverInfo[] NO_DRIVERS = new MetaJDBCDriverInfo[0];
+
   /* package */
   public JDBCDriverInfoFactory(List<MetaJDBCDriverInfo> listOfJDBCDriverInfos) {
-    driverInfos = listOfJDBCDriverInfos;
+    if (listOfJDBCDriverInfos == null) {
+      dbVendorNames = null;
+      gridLinkDrivers = NO_DRIVERS;
+      ucpDrivers = NO_DRIVERS;
+      genericDrivers = List.of();
+      return;
+    }
+    Map<String, Map<String, MetaJDBCDriverInfo>> vendorToNameToDriver = new TreeMap<>();
+    Map<String, MetaJDBCDriverInfo> gridLinkNameToDriver = new TreeMap<>();
+    Map<String, MetaJDBCDriverInfo> ucpNameToDriver = new TreeMap<>();
+    List<MetaJDBCDriverInfo> generic = new ArrayList<>();
+    for (MetaJDBCDriverInfo driverInfo : listOfJDBCDriverInfos) {
+      String name = driverInfo.toString();
+      String className = driverInfo.getDriverClassName();
+      // The first driver with a name or class name wins
+      nameToDriver.putIfAbsent(name, driverInfo);
+      classNameToDriver.putIfAbsent(className, driverInfo);
+      (driverInfo.isForXA() ? xaClassNameToDriver : nonXAClassNameToDriver).putIfAbsent(className, driverInfo);
+      // Drivers with the same name are only returned once, sorted by name
+      // (like the JDBCDriverInfos' natural ordering)
+      Map<String, MetaJDBCDriverInfo> vendorNameToDriver =
+        vendorToNameToDriver.computeIfAbsent(driverInfo.getDbmsVendor(), k -> new TreeMap<>());
+      if (isGridLink(driverInfo)) {
+        gridLinkNameToDriver.putIfAbsent(name, driverInfo);
+      }
+      if (isUCP(driverInfo)) {
+        ucpNameToDriver.putIfAbsent(name, driverInfo);
+      }
+      if (!isGridLink(driverInfo) && !isUCP(driverInfo)) {
+        vendorNameToDriver.putIfAbsent(name, driverInfo);
+        generic.add(driverInfo);
+      }
+    }
+    // The vendors of all the drivers, including GridLink and UCP ones
+    dbVendorNames = vendorToNameToDriver.keySet().toArray(new String[0]);
+    Arrays.sort(dbVendorNames);
+    for (Map.Entry<String, Map<String, MetaJDBCDriverInfo>> entry : vendorToNameToDriver.entrySet()) {
+      vendorToDrivers.put(entry.getKey(), entry.getValue().values().toArray(NO_DRIVERS));
+    }
+    gridLinkDrivers = gridLinkNameToDriver.values().toArray(NO_DRIVERS);
+    ucpDrivers = ucpNameToDriver.values().toArray(NO_DRIVERS);
+    genericDrivers = Collections.unmodifiableList(generic);
   }
 
-  private List<MetaJDBCDriverInfo> driverInfos = null;
+  private final String[] dbVendorNames;
 
-  private String[] dbVendorNames;
+  // Indexes of the driver infos
+  private final Map<String, MetaJDBCDriverInfo[]> vendorToDrivers = new HashMap<>();
+  private final MetaJDBCDriverInfo[] gridLinkDrivers;
+  private final MetaJDBCDriverInfo[] ucpDrivers;
+  private final List<MetaJDBCDriverInfo> genericDrivers;
+  private final Map<String, MetaJDBCDriverInfo> nameToDriver = new HashMap<>();
+  private final Map<String, MetaJDBCDriverInfo> classNameToDriver = new HashMap<>();
+  private final Map<String, MetaJDBCDriverInfo> xaClassNameToDriver = new HashMap<>();
+  private final Map<String, MetaJDBCDriverInfo> nonXAClassNameToDriver = new HashMap<>();
 
-  public String[] getDBMSVendorNames() {
-    if (driverInfos == null) {
-      return null;
+  private static boolean isGridLink(MetaJDBCDriverInfo driverInfo) {
+    return driverInfo.getDescription() != null && driverInfo.getDescription().contains("GridLink");
+  }
+
+  private static boolean isUCP(MetaJDBCDriverInfo driverInfo) {
+    return driverInfo.getDescription() != null && driverInfo.getDescription().contains("UCP");
+  }
+
+  private static JDBCDriverInfo[] newDriverInfos(MetaJDBCDriverInfo[] metaInfos) {
+    JDBCDriverInfo[] rtn = new JDBCDriverInfo[metaInfos.length];
+    for (int i = 0; i < metaInfos.length; i++) {
+      rtn[i] = new JDBCDriverInfo(metaInfos[i]);
     }
+    return rtn;
+  }
+
+  private static JDBCDriverInfo newDriverInfo(MetaJDBCDriverInfo metaInfo) {
+    return (metaInfo != null) ? new JDBCDriverInfo(metaInfo) : null;
+  }
+
+  public String[] getDBMSVendorNames() {
     if (dbVendorNames == null) {
-      //take all the vendor names and strip out all the duplicates
-      //they just replace 
-      HashSet<String> set = new HashSet<String>();
-      Iterator<MetaJDBCDriverInfo> it = driverInfos.iterator();
-      while (it.hasNext()) {
-        MetaJDBCDriverInfo info = it.next();
-        set.add(info.getDbmsVendor());
-      }
-      dbVendorNames = new String[set.size()];
-      dbVendorNames = set.toArray(dbVendorNames);
-      Arrays.sort(dbVendorNames);
+      return null;
     }
-    return dbVendorNames;
+    return dbVendorNames.clone();
   }
 
   /*
@@ -58,60 +121,21 @@ public final class JDBCDriverInfoFactory {
    *
    */
   public JDBCDriverInfo[] getDriverInfos(String vendorName) {
-    // Filter out the database driver info for other vendors
-    TreeSet<JDBCDriverInfo> set = new TreeSet<>();
-    for (MetaJDBCDriverInfo driverInfo : driverInfos) {
-      if (driverInfo.getDescription() != null
-        && (driverInfo.getDescription().contains("GridLink")
-        || driverInfo.getDescription().contains("UCP"))) {
-        continue;
-      }
-      if (driverInfo.getDbmsVendor().equals(vendorName)) {
-        set.add(new JDBCDriverInfo(driverInfo));
-      }
-    }
-    // Return the results, as an array
-    JDBCDriverInfo[] vendorDriverInfos = new JDBCDriverInfo[set.size()];
-    vendorDriverInfos = set.toArray(vendorDriverInfos);
-    Arrays.sort(vendorDriverInfos);
-    return vendorDriverInfos;
+    return newDriverInfos(vendorToDrivers.getOrDefault(vendorName, NO_DRIVERS));
   }
 
   /*
    * <p>Returns an array of database driver infos for GridLink</p>
    */
   public JDBCDriverInfo[] getGridLinkDriverInfos() {
-    // Filter out the database driver info for only GridLink
-    TreeSet<JDBCDriverInfo> set = new TreeSet<>();
-    for (MetaJDBCDriverInfo driverInfo : driverInfos) {
-      if (driverInfo.getDescription() == null
-        || !driverInfo.getDescription().contains("GridLink")) {
-        continue;
-      }
-      set.add(new JDBCDriverInfo(driverInfo));
-    }
-    // Return the results, as an array
-    JDBCDriverInfo[] vendorDriverInfos = new JDBCDriverInfo[set.size()];
-    vendorDriverInfos = set.toArray(vendorDriverInfos);
-    return vendorDriverInfos;
+    return newDriverInfos(gridLinkDrivers);
   }
 
   /*
    * <p>Returns an array of database driver infos for UCP</p>
    */
   public JDBCDriverInfo[] getUCPDriverInfos() {
-    // Filter out the database driver info for only UCP
-    TreeSet<JDBCDriverInfo> driverInfos = new TreeSet<>();
-    for (MetaJDBCDriverInfo driverInfo : this.driverInfos) {
-      if (driverInfo.getDescription() == null || !driverInfo.getDescription().contains("UCP")) {
-        continue;
-      }
-      driverInfos.add(new JDBCDriverInfo(driverInfo));
-    }
-    // Return the results, as an array
-    JDBCDriverInfo[] vendorDriverInfos = new JDBCDriverInfo[driverInfos.size()];
-    vendorDriverInfos = driverInfos.toArray(vendorDriverInfos);
-    return vendorDriverInfos;
+    return newDriverInfos(ucpDrivers);
   }
 
   /*
@@ -120,13 +144,7 @@ public final class JDBCDriverInfoFactory {
    * @vendorName is the toString() of JDBCDriverInfo
    */
   public JDBCDriverInfo getDriverInfo(String vendorName) {
-    // Look for a driver with this name
-    for (MetaJDBCDriverInfo metaInfo : driverInfos) {
-      if (metaInfo.toString().equals(vendorName)) {
-        return new JDBCDriverInfo(metaInfo);
-      }
-    }
-    return null;
+    return newDriverInfo(nameToDriver.get(vendorName));
   }
 
   /*
@@ -135,13 +153,7 @@ public final class JDBCDriverInfoFactory {
    * @driverClassName is the class name for the driver
    */
   public JDBCDriverInfo getDriverInfoByClass(String driverClassName) {
-    // Look for a driver with this name
-    for (MetaJDBCDriverInfo metaInfo : driverInfos) {
-      if (metaInfo.getDriverClassName().equals(driverClassName)) {
-        return new JDBCDriverInfo(metaInfo);
-      }
-    }
-    return null;
+    return newDriverInfo(classNameToDriver.get(driverClassName));
   }
 
   /*
@@ -152,23 +164,13 @@ public final class JDBCDriverInfoFactory {
    */
   public JDBCDriverInfo getDriverInfoByClass(String driverClassName,
                                              boolean isForXA) {
-    // Look for a driver with this name and flag
-    for (MetaJDBCDriverInfo metaInfo : driverInfos) {
-      if ((metaInfo.isForXA() == isForXA) && metaInfo.getDriverClassName().equals(driverClassName)) {
-        return new JDBCDriverInfo(metaInfo);
-      }
-    }
-    return null;
+    return newDriverInfo((isForXA ? xaClassNameToDriver : nonXAClassNameToDriver).get(driverClassName));
   }
 
   //for testing purposes
   public List<JDBCDriverInfo> getJDBCDriverInfos() {
-    List<JDBCDriverInfo> newDriverInfoList = new ArrayList<>();
-    for (MetaJDBCDriverInfo metaInfo : driverInfos) {
-      if (metaInfo.getDescription() != null
-        && (metaInfo.getDescription().contains("GridLink") || metaInfo.getDescription().contains("UCP"))) {
-        continue;
-      }
+    List<JDBCDriverInfo> newDriverInfoList = new ArrayList<>(genericDrivers.size());
+    for (MetaJDBCDriverInfo metaInfo : genericDrivers) {
       newDriverInfoList.add(new JDBCDriverInfo(metaInfo));
     }
     return newDriverInfoList;
@@ -37,7 +37,7 @@ public interface BeanChildNavTreeNodeDef extends NavTreeNodeDef {
   public default Path getChildNodePath() {
     Path path = new Path();
     for (BeanChildDef childDef : getChildDefs()) {
-      path.addPath(childDef.getChildPath());
+      path = path.childPath(childDef.getChildPath());
     }
     return path;
   }
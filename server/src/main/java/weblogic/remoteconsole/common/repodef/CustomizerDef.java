@@ -6,6 +6,8 @@ package weblogic.remoteconsole.common.repodef;
 import java.lang.reflect.Method;
 import java.util.List;
 
+import weblogic.remoteconsole.common.utils.CustomizerInvoker;
+
 /**
  * This interface describes how to invoke custom code on a method
  * that can define which parameters should be passed in (e.g.
@@ -20,6 +22,9 @@ public interface CustomizerDef {
   // Returns the static java customizer method to call.
   public Method getMethod();
 
+  // Returns the invoker used to call the static java customizer method.
+  public CustomizerInvoker getInvoker();
+
   // Returns the descriptions of the parameters to pass to this java method.
   public List<ParamDef> getParamDefs();
 
@@ -143,6 +143,161 @@ public class LocalizedConstants {
       "Model not valid!"
     );
 
+  // Indicates that an edit that modifies several beans at once can't be made
+  // because the edit session already has changes that it can't roll back to.
+  public static final LocalizableString COMMIT_OR_DISCARD_PENDING_CHANGES_FIRST =
+    addConstant(
+      "commitOrDiscardPendingChangesFirst",
+      "Commit or discard the pending changes before modifying several objects at once."
+    );
+
+  // Indicates that some of the objects couldn't be modified so none of them were.
+  public static final LocalizableString NO_CHANGES_APPLIED =
+    addConstant(
+      "noChangesApplied",
+      "None of the changes were applied."
+    );
+
+  // Indicates that some of the objects couldn't be modified and
+  // the ones that were modified couldn't be rolled back.
+  public static final LocalizableString CHANGES_NOT_ROLLED_BACK =
+    addConstant(
+      "changesNotRolledBack",
+      "Some of the changes could not be rolled back.  Discard the pending changes."
+    );
+
+  // Followed by the path of a data source that a batch create specifies more than once
+  public static final LocalizableString DATA_SOURCE_SPECIFIED_MORE_THAN_ONCE =
+    addConstant(
+      "dataSourceSpecifiedMoreThanOnce",
+      "Data source specified more than once: "
+    );
+
+  // Followed by the path of a data source that a batch create could not create
+  public static final LocalizableString COULD_NOT_CREATE =
+    addConstant(
+      "couldNotCreate",
+      "Could not create: "
+    );
+
+  // Indicates that a batch create's request body's list of objects to create is not valid
+  public static final LocalizableString INVALID_BATCH_CREATE_REQUEST =
+    addConstant(
+      "invalidBatchCreateRequest",
+      "The objects to create must be an array of objects."
+    );
+
+  // Followed by the name of a column that a table can't be sorted by since it's not on the table
+  public static final LocalizableString INVALID_SORT_COLUMN =
+    addConstant(
+      "invalidSortColumn",
+      "Cannot sort by a property that is not a column on this table: "
+    );
+
+  // Indicates that a search request didn't include the text to search for
+  public static final LocalizableString MISSING_SEARCH_QUERY =
+    addConstant(
+      "missingSearchQuery",
+      "Enter the text to search for."
+    );
+
+  // Indicates that the text to search for isn't valid search syntax (e.g. unbalanced quotes)
+  public static final LocalizableString INVALID_SEARCH_QUERY =
+    addConstant(
+      "invalidSearchQuery",
+      "The search text is not valid.  Check for unbalanced quotes or parentheses: "
+    );
+
+  // Followed by the key of a table row that an action unexpectedly failed on
+  public static final LocalizableString ROW_ACTION_FAILED =
+    addConstant(
+      "rowActionFailed",
+      "The action could not be invoked on: "
+    );
+
+  // Followed by the number of a bulk edit's operations that are invalid.
+  public static final LocalizableString BULK_EDIT_OPERATIONS_INVALID =
+    addConstant(
+      "bulkEditOperationsInvalid",
+      "Did not modify any objects.  Number of invalid changes: "
+    );
+
+  // Followed by the number of objects that a bulk edit could not modify.
+  public static final LocalizableString BULK_EDIT_OPERATIONS_FAILED =
+    addConstant(
+      "bulkEditOperationsFailed",
+      "Number of objects that could not be modified: "
+    );
+
+  // Followed by the path of an object that a bulk edit can't modify
+  public static final LocalizableString NOT_EDITABLE =
+    addConstant(
+      "notEditable",
+      "Not an editable object: "
+    );
+
+  // Followed by the path of a read-only slice that a bulk edit can't modify
+  public static final LocalizableString READ_ONLY_SLICE =
+    addConstant(
+      "readOnlySlice",
+      "Read-only slice: "
+    );
+
+  // Followed by the names of the servers whose runtime beans are missing from a table.
+  public static final LocalizableString SERVERS_DID_NOT_RESPOND =
+    addConstant(
+      "serversDidNotRespond",
+      "Some results are missing because these servers did not respond: "
+    );
+
+  // Indicates that a WebLogic REST call wasn't made, or was given up on,
+  // because the request's time budget was used up (see RequestDeadline).
+  public static final LocalizableString REQUEST_TIME_BUDGET_USED_UP =
+    addConstant(
+      "requestTimeBudgetUsedUp",
+      "The WebLogic domain did not respond before the request's time budget was used up"
+    );
+
+  // Indicates that a request wasn't handled because too many of its connection's requests are waiting
+  // (see ConnectionExecutor).
+  public static final LocalizableString TOO_MANY_REQUESTS_WAITING =
+    addConstant(
+      "tooManyRequestsWaiting",
+      "Too many requests are waiting"
+    );
+
+  // Indicates that a request wasn't handled because it used up its time budget waiting for a thread.
+  public static final LocalizableString REQUEST_TIMED_OUT_WAITING =
+    addConstant(
+      "requestTimedOutWaiting",
+      "The request timed out waiting to be handled"
+    );
+
+  // The reasons that a WebLogic REST call is rejected (see ConnectionBulkhead)
+  public static final LocalizableString TOO_MANY_REST_CALLS_WAITING =
+    addConstant(
+      "tooManyRestCallsWaiting",
+      "The WebLogic domain is busy.  Too many calls to it are waiting."
+    );
+
+  public static final LocalizableString REST_CALL_QUEUE_TIMED_OUT =
+    addConstant(
+      "restCallQueueTimedOut",
+      "The WebLogic domain is busy.  Timed out waiting for the other calls to it to finish."
+    );
+
+  public static final LocalizableString REST_CALL_QUEUE_INTERRUPTED =
+    addConstant(
+      "restCallQueueInterrupted",
+      "Interrupted waiting for the other calls to the WebLogic domain to finish."
+    );
+
+  public static final LocalizableString ADMIN_SERVER_NOT_RESPONDING =
+    addConstant(
+      "adminServerNotResponding",
+      "The WebLogic domain is not responding."
+    );
+
   // Returns all of the constants (used when the resource bundles are
   // generated at build time)
   public static List<LocalizableString> getAllConstants() {
@@ -29,6 +29,11 @@ public interface PageRepoDef {
   // on these pages.
   public String getResourceBundleName();
 
+  // This is the name of the prebuilt search index
+  // of the labels and help on these pages
+  // (see WebLogicHelpIndexUtils).
+  public String getHelpIndexName();
+
   // Looks up the definition of a page in this repo.
   public PageDef getPageDef(PagePath pagePath);
 
@@ -5,6 +5,8 @@ package weblogic.remoteconsole.common.repodef;
 
 import java.util.List;
 
+import weblogic.remoteconsole.common.utils.CustomizerInvoker;
+
 /**
  * This interface describes an action on a table page
  * (e.g. the action to start a server)
@@ -28,6 +30,10 @@ public interface TableActionDef extends BeanActionDef {
   // (e.g. domainRuntime/data/DomainRuntime/ServerLifeCycleRuntimes/MyServer?action=start)
   public String getActionMethod();
 
+  // Returns the invoker for the custom java method that invokes this action.
+  // Returns null if the action doesn't have a custom method.
+  public CustomizerInvoker getActionMethodInvoker();
+
   // If this action is just a group of actions (e.g. the shutdown group has
   // graceful shutdown and force shutdown child actions), returns the child groups.
   // Returns an empty list of there are no child actions (i.e. if this is a leaf action).
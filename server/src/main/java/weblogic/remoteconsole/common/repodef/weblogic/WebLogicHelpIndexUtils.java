@@ -0,0 +1,68 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.common.repodef.weblogic;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+
+/**
+ * Utility class for the prebuilt search index for a WebLogic version
+ * that has the labels and help of all of that version's pages.
+ * 
+ * The index is created at build time by the resource-bundles module
+ * and is searched at runtime by HelpSearchIndex, so they both use
+ * the field names and analyzer in this class.
+ *
+ * For example, the index for WebLogic 14.1.1.0.0 is in the
+ * console_backend_help_index_14_1_1_0_0 directory.  It contains the
+ * Lucene index files and index.files, which lists them
+ * (since the directory can't be listed when it's in a jar).
+ */
+public class WebLogicHelpIndexUtils {
+
+  private static final String INDEX_NAME = "console_backend_help_index";
+  public static final String FILES_NAME = "index.files";
+
+  // The perspective (i.e. page repo name) of the page, e.g. edit or domainRuntime
+  public static final String FIELD_PERSPECTIVE = "perspective";
+  // The page's uri, relative to the perspective's pages, e.g. ServerMBean?view=Tuning
+  public static final String FIELD_PAGE_URI = "pageUri";
+  // The type the page displays, e.g. ServerMBean
+  public static final String FIELD_TYPE = "type";
+  // The property's name, e.g. ListenPort (not set for page documents)
+  public static final String FIELD_PROPERTY = "property";
+  // The property's label or the page's title, and its resource bundle key
+  public static final String FIELD_LABEL = "label";
+  public static final String FIELD_LABEL_KEY = "labelKey";
+  // The property's help summary html (stored, not indexed), and its resource bundle key
+  public static final String FIELD_HELP_SUMMARY = "helpSummary";
+  public static final String FIELD_HELP_SUMMARY_KEY = "helpSummaryKey";
+  // The page's help title, and its resource bundle key
+  public static final String FIELD_PAGE_TITLE = "pageTitle";
+  public static final String FIELD_PAGE_TITLE_KEY = "pageTitleKey";
+  // The names of the nav tree nodes that lead to the page's type, e.g. Environment, Servers
+  public static final String FIELD_NAV_TREE_PATH = "navTreePath";
+  // The text, without html, of the property's help summary and detailed help,
+  // the page's introduction and its help topics (indexed, not stored)
+  public static final String FIELD_HELP_TEXT = "helpText";
+
+  public static final String[] SEARCH_FIELDS = {
+    FIELD_LABEL, FIELD_PROPERTY, FIELD_TYPE, FIELD_PAGE_TITLE, FIELD_NAV_TREE_PATH, FIELD_HELP_TEXT
+  };
+
+  private WebLogicHelpIndexUtils() {
+  }
+
+  public static String getHelpIndexName(String weblogicVersion) {
+    return
+      INDEX_NAME
+      + "_"
+      + weblogicVersion.replace('.', '_');
+  }
+
+  // The help is english, so stem it as english (e.g. so that 'timeouts' finds 'Timeout').
+  public static Analyzer newAnalyzer() {
+    return new EnglishAnalyzer();
+  }
+}
@@ -41,4 +41,12 @@ public abstract class WebLogicPageRepoDef extends PageRepoDefImpl {
         getMBeansVersion().getWebLogicVersion().getDomainVersion()
       );
   }
+
+  @Override
+  public String getHelpIndexName() {
+    return
+      WebLogicHelpIndexUtils.getHelpIndexName(
+        getMBeansVersion().getWebLogicVersion().getDomainVersion()
+      );
+  }
 }
@@ -11,19 +11,20 @@ import java.util.List;
 import weblogic.remoteconsole.common.repodef.CustomizerDef;
 import weblogic.remoteconsole.common.repodef.ParamDef;
 import weblogic.remoteconsole.common.utils.CustomizerInvocationUtils;
+import weblogic.remoteconsole.common.utils.CustomizerInvoker;
 
 /**
  * yaml-based implemetation of the CustomizerDef interface
  */
 abstract class CustomizerDefImpl implements CustomizerDef {
   private String methodName;
-  private Method method;
+  private CustomizerInvoker invoker;
   private List<ParamDefImpl> paramDefImpls = new ArrayList<>();
   private List<ParamDef> paramDefs;
 
   CustomizerDefImpl(String methodName) {
     this.methodName = methodName;
-    this.method = CustomizerInvocationUtils.getMethod(getMethodName());
+    this.invoker = CustomizerInvocationUtils.getInvoker(getMethodName());
   }
 
   protected String getMethodName() {
@@ -32,7 +33,12 @@ abstract class CustomizerDefImpl implements CustomizerDef {
 
   @Override
   public Method getMethod() {
-    return method;
+    return invoker.getMethod();
+  }
+
+  @Override
+  public CustomizerInvoker getInvoker() {
+    return invoker;
   }
 
   List<ParamDefImpl> getParamDefImpls() {
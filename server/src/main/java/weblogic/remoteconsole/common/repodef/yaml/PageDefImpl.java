@@ -3,7 +3,6 @@
 
 package weblogic.remoteconsole.common.repodef.yaml;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -107,12 +106,9 @@ public abstract class PageDefImpl implements PageDef {
     if (StringUtils.isEmpty(customizerName)) {
       return;
     }
-    Method method = CustomizerInvocationUtils.getMethod(customizerName);
-    CustomizerInvocationUtils.checkSignature(method, Void.TYPE, PagePath.class, PageDefSource.class);
-    List<Object> args = new ArrayList<>();
-    args.add(pagePath);
-    args.add(source);
-    CustomizerInvocationUtils.invokeMethod(method, args);
+    CustomizerInvocationUtils.getInvoker(customizerName)
+      .checkSignature(Void.TYPE, PagePath.class, PageDefSource.class)
+      .invoke(pagePath, source);
   }
 
   protected void createUsedIfDefImpls() {
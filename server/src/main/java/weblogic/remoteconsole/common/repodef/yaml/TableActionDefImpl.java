@@ -3,11 +3,13 @@
 
 package weblogic.remoteconsole.common.repodef.yaml;
 
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import weblogic.remoteconsole.common.repodef.LocalizableString;
 import weblogic.remoteconsole.common.repodef.PageDef;
 import weblogic.remoteconsole.common.repodef.TableActionDef;
@@ -16,20 +18,29 @@ import weblogic.remoteconsole.common.repodef.schema.BeanActionDefCustomizerSourc
 import weblogic.remoteconsole.common.repodef.schema.BeanActionDefSource;
 import weblogic.remoteconsole.common.repodef.schema.TableActionDefCustomizerSource;
 import weblogic.remoteconsole.common.repodef.schema.UsedIfDefSource;
+import weblogic.remoteconsole.common.utils.CustomizerInvocationUtils;
+import weblogic.remoteconsole.common.utils.CustomizerInvoker;
 import weblogic.remoteconsole.common.utils.Path;
 import weblogic.remoteconsole.common.utils.StringUtils;
 import weblogic.remoteconsole.common.utils.WebLogicRoles;
+import weblogic.remoteconsole.server.repo.InvocationContext;
+import weblogic.remoteconsole.server.repo.Response;
+import weblogic.remoteconsole.server.repo.Value;
 
 /**
  * yaml-based implementation of the TableActionDef interface.
  */
 class TableActionDefImpl extends BeanActionDefImpl implements TableActionDef {
+  private static final Type ACTION_METHOD_RETURN_TYPE =
+    (new TypeReference<Response<Value>>() {}).getType();
+
   private PageDefImpl pageDefImpl;
   private TableActionDefCustomizerSource pageLevelCustomizerSource;
   private LocalizableString label;
   private TableActionUsedIfDefImpl usedIfDefImpl;
   private List<TableActionDefImpl> actionDefImpls = new ArrayList<>();
   private List<TableActionDef> actionDefs;
+  private CustomizerInvoker actionMethodInvoker;
 
   static TableActionDefImpl create(PageDefImpl pageDefImpl, TableActionDefCustomizerSource actionCustomizerSource) {
     if (!actionCustomizerSource.getActions().isEmpty()) {
@@ -114,6 +125,7 @@ class TableActionDefImpl extends BeanActionDefImpl implements TableActionDef {
     createUsedIfDefImpl();
     createActionDefImpls();
     this.actionDefs = Collections.unmodifiableList(getActionDefImpls());
+    createActionMethodInvoker();
     // Initialize the label after the actions since the i18n key depends
     // on whether this action contains actions or not.
     initializeLabel();
@@ -128,6 +140,17 @@ class TableActionDefImpl extends BeanActionDefImpl implements TableActionDef {
     }
   }
 
+  // Resolve and check the custom action method now so that
+  // it doesn't need to be done each time the action is invoked.
+  private void createActionMethodInvoker() {
+    String actionMethod = getActionMethod();
+    if (StringUtils.notEmpty(actionMethod)) {
+      actionMethodInvoker =
+        CustomizerInvocationUtils.getInvoker(actionMethod)
+          .checkSignature(ACTION_METHOD_RETURN_TYPE, InvocationContext.class);
+    }
+  }
+
   private void createActionDefImpls() {
     for (TableActionDefCustomizerSource actionCustomizerSource : pageLevelCustomizerSource.getActions()) {
       TableActionDefImpl actionDefImpl = create(pageDefImpl, actionCustomizerSource);
@@ -165,6 +188,11 @@ class TableActionDefImpl extends BeanActionDefImpl implements TableActionDef {
     return getCustomizerSource().getActionMethod();
   }
 
+  @Override
+  public CustomizerInvoker getActionMethodInvoker() {
+    return actionMethodInvoker;
+  }
+
   List<TableActionDefImpl> getActionDefImpls() {
     return actionDefImpls;
   }
@@ -3,30 +3,42 @@
 
 package weblogic.remoteconsole.common.utils;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.Arrays;
-import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /** Utilities used to help invoke customizers */
 public class CustomizerInvocationUtils {
 
+  // Maps <java class name>.<method name> to the resolved customizer.
+  // The same customizers are referenced from the type defs of every
+  // WebLogic version so only resolve each one once.
+  private static final Map<String, CustomizerInvoker> invokers = new ConcurrentHashMap<>();
+
   private CustomizerInvocationUtils() {
   }
 
-  public static Object invokeMethod(Method method, List<Object> args) {
-    try {
-      return method.invoke(null, args.toArray());
-    } catch (InvocationTargetException e) {
-      rethrow(e.getCause());
-    } catch (IllegalAccessException e) {
-      rethrow(e);
+  // Returns the invoker for a <java class name>.<method name> customizer,
+  // resolving it the first time it's used.
+  public static CustomizerInvoker getInvoker(String customizerName) {
+    CustomizerInvoker invoker = invokers.get(customizerName);
+    if (invoker == null) {
+      invoker = new CustomizerInvoker(resolveMethod(customizerName));
+      CustomizerInvoker existing = invokers.putIfAbsent(customizerName, invoker);
+      if (existing != null) {
+        invoker = existing;
+      }
     }
-    return null;
+    return invoker;
   }
 
   public static Method getMethod(String customizerName) {
+    return getInvoker(customizerName).getMethod();
+  }
+
+  private static Method resolveMethod(String customizerName) {
     int idx = customizerName.lastIndexOf(".");
     if (idx < 1 || idx >= customizerName.length() - 1) {
       throw new AssertionError("Not <java class name>.<method name> : " + customizerName);
@@ -88,21 +100,10 @@ public class CustomizerInvocationUtils {
     if (StringUtils.isEmpty(javaClassName)) {
       throw new AssertionError("javaClassName not specified");
     }
-    Class clazz = null;
     try {
       return Class.forName(javaClassName);
     } catch (ClassNotFoundException e) {
       throw new AssertionError("Can't find class " + javaClassName);
     }
   }
-
-  private static void rethrow(Throwable t) {
-    if (t instanceof RuntimeException) {
-      throw (RuntimeException)t;
-    } else if (t instanceof Error) {
-      throw (Error)t;
-    } else {
-      throw new RuntimeException(t);
-    }
-  }
 }
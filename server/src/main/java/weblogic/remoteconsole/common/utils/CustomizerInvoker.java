@@ -0,0 +1,91 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.common.utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Invokes a static java customizer method.
+ * <p>
+ * The method is resolved once (see CustomizerInvocationUtils.getInvoker) into a
+ * MethodHandle that takes its arguments as an Object[] and returns an Object.
+ * This avoids looking up the method and going through reflection each time a
+ * customizer is called (which can be once per row of a table).
+ */
+public class CustomizerInvoker {
+  private Method method;
+  private MethodHandle methodHandle;
+
+  // The signature this customizer has been successfully checked against.
+  // A customizer is always called with the same signature, so this lets
+  // callers check the signature before each invocation for free.
+  private volatile Signature checkedSignature;
+
+  CustomizerInvoker(Method method) {
+    this.method = method;
+    try {
+      MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+      this.methodHandle =
+        handle
+          .asType(handle.type().generic())
+          .asSpreader(Object[].class, method.getParameterCount());
+    } catch (IllegalAccessException e) {
+      throw new AssertionError("Can't access " + method, e);
+    }
+  }
+
+  // Returns the static java customizer method that this invoker calls.
+  public Method getMethod() {
+    return method;
+  }
+
+  // Checks that the customizer has the expected return type and argument types.
+  // Throws an AssertionError if it doesn't.
+  public CustomizerInvoker checkSignature(Type returnTypeWant, Type... argTypesWant) {
+    Signature signature = checkedSignature;
+    if (signature == null || !signature.matches(returnTypeWant, argTypesWant)) {
+      CustomizerInvocationUtils.checkSignature(method, returnTypeWant, argTypesWant);
+      checkedSignature = new Signature(returnTypeWant, argTypesWant);
+    }
+    return this;
+  }
+
+  public Object invoke(List<Object> args) {
+    return invoke(args.toArray());
+  }
+
+  public Object invoke(Object... args) {
+    try {
+      return (Object)methodHandle.invokeExact(args);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new RuntimeException(t);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return method.toString();
+  }
+
+  private static class Signature {
+    private Type returnType;
+    private Type[] argTypes;
+
+    private Signature(Type returnType, Type[] argTypes) {
+      this.returnType = returnType;
+      this.argTypes = argTypes;
+    }
+
+    private boolean matches(Type returnType, Type[] argTypes) {
+      return this.returnType.equals(returnType) && Arrays.equals(this.argTypes, argTypes);
+    }
+  }
+}
@@ -15,17 +15,17 @@ import weblogic.jdbc.utils.MetaJDBCDriverInfo;
 
 public class JDBCDriversUtils {
   private static final String JDBC_DRIVERS_RESOURCE = "jdbcdrivers.yaml";
-  private static List<MetaJDBCDriverInfo> driverInfos = new ArrayList<>();
-  private static JDBCDriverInfoFactory infoFactory = null;
 
+  // Parses the drivers and creates the factory the first time it's used.
+  // The class loader makes sure that this only happens once, even if
+  // several threads ask for the factory at the same time.
+  private static class InfoFactoryHolder {
+    private static final JDBCDriverInfoFactory INFO_FACTORY = new JDBCDriverInfoFactory(getJdbcDrivers());
+  }
+
+  // The factory is immutable, so it's shared by all the callers.
   public static JDBCDriverInfoFactory getJDBCDriverInfoFactory() {
-    if (infoFactory == null) {
-      if (driverInfos.isEmpty()) {
-        driverInfos = JDBCDriversUtils.getJdbcDrivers();
-      }
-      infoFactory = new JDBCDriverInfoFactory(driverInfos);
-    }
-    return infoFactory;
+    return InfoFactoryHolder.INFO_FACTORY;
   }
 
   @SuppressWarnings("unchecked")
@@ -53,6 +53,7 @@ public class JDBCDriversUtils {
     ArrayList<Map<String,Object>> rawDriversList =
       (ArrayList<Map<String,Object>>) (((Map<String,Object>) obj.get("JDBC-Drivers")).get("Driver"));
     // convert to a collection of Driver objects
+    List<MetaJDBCDriverInfo> driverInfos = new ArrayList<>();
     for (Map<String, Object> driverObj : rawDriversList) {
       MetaJDBCDriverInfo driver = new MetaJDBCDriverInfo();
       for (Map.Entry<String, Object> entry: driverObj.entrySet()) {
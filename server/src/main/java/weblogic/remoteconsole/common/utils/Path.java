@@ -3,117 +3,166 @@
 
 package weblogic.remoteconsole.common.utils;
 
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * General purpose path utilities needed by the console backend.
  * <p>
  * A path is an ordered list of strings that identify something.
+ * <p>
+ * Paths are immutable.  Methods that 'add' to a path (e.g. childPath)
+ * return a new path and leave the original one alone.  This lets paths
+ * be shared and used as map keys.
+ * <p>
+ * A path is stored as its parent path plus its last component, so
+ * making a child path is cheap and shares the parent's storage.
+ * The hash code is computed when the path is made, and the dot and
+ * slash separated forms are computed once, when first needed.
  */
-public class Path {
+public final class Path {
+
+  // Paths parsed from dot separated strings, e.g. property and type paths from the yaml files.
+  // There are a limited number of these, so they're shared instead of being parsed each time.
+  // Bounded in case a caller parses many distinct strings (e.g. bean keys).
+  private static final int MAX_PARSED_PATHS = 10000;
+  private static final Map<String, Path> PARSED_PATHS = new ConcurrentHashMap<>();
+
+  private static final Path EMPTY = new Path();
+
+  // null for the empty path
+  private final Path parent;
+
+  // null for the empty path
+  private final String lastComponent;
+
+  private final int length;
+
+  // Same as List.hashCode of the components.
+  private final int hashCode;
 
-  private List<String> components = new ArrayList<>();
+  // Computed on demand.  Racing threads compute the same values, which is harmless.
+  private List<String> components;
+  private String dotSeparatedPath;
+  private String slashSeparatedPath;
 
   public Path() {
+    this.parent = null;
+    this.lastComponent = null;
+    this.length = 0;
+    this.hashCode = 1;
   }
 
   public static Path fromRelativeUri(String relativeUri) {
-    Path path = new Path();
+    Path path = EMPTY;
     for (String encodedComponent : StringUtils.nonEmpty(relativeUri).split("/")) {
-      path.addComponent(StringUtils.urlDecode(encodedComponent));
+      path = path.childPath(StringUtils.urlDecode(encodedComponent));
     }
     return path;
   }
 
   public Path(String dotSeparatedPath) {
-    this(StringUtils.notEmpty(dotSeparatedPath) ? dotSeparatedPath.split("\\.") : (String[]) null);
+    this(parse(dotSeparatedPath));
   }
 
   public Path(Path toClone) {
-    this(toClone.getComponents());
+    this.parent = toClone.parent;
+    this.lastComponent = toClone.lastComponent;
+    this.length = toClone.length;
+    this.hashCode = toClone.hashCode;
+    this.components = toClone.components;
+    this.dotSeparatedPath = toClone.dotSeparatedPath;
+    this.slashSeparatedPath = toClone.slashSeparatedPath;
   }
 
+  private Path(Path parent, String lastComponent) {
+    this.parent = parent;
+    this.lastComponent = lastComponent;
+    this.length = parent.length + 1;
+    this.hashCode = 31 * parent.hashCode + lastComponent.hashCode();
+  }
+
+  // Paths are immutable, so there's no need to copy this one.
   public Path clone() {
-    return new Path(this);
+    return this;
   }
 
   public Path childPath(String component) {
-    Path rtn = clone();
-    rtn.addComponent(component);
-    return rtn;
+    if (StringUtils.isEmpty(component)) {
+      return this;
+    }
+    return new Path(this, component);
   }
 
   public Path childPath(Path child) {
-    Path rtn = clone();
-    rtn.addComponents(child.getComponents());
+    if (child.isEmpty()) {
+      return this;
+    }
+    if (isEmpty()) {
+      return child;
+    }
+    Path rtn = this;
+    for (String component : child.getComponents()) {
+      rtn = new Path(rtn, component);
+    }
     return rtn;
   }
 
   public Path subPath(int fromIndex /* inclusive */, int toIndex /* exclusive */) {
     if (toIndex == -1) {
-      toIndex = getComponents().size();
+      toIndex = length();
     }
-    return new Path(getComponents().subList(fromIndex, toIndex));
-  }
-
-  private Path(String[] components) {
-    addComponents(components);
-  }
-
-  private Path(List<String> components) {
-    addComponents(components);
-  }
-
-  public void addPath(Path path) {
-    addComponents(path.getComponents());
-  }
-
-  public void addComponents(String... components) {
-    addComponents(components != null ? Arrays.asList(components) : (List<String>) null);
-  }
-
-  public void addComponents(List<String> components) {
-    if (components != null) {
-      for (String component : components) {
-        addComponent(component);
-      }
+    if (fromIndex == 0) {
+      // Share this path's ancestors.
+      return getAncestor(toIndex);
     }
+    Path rtn = EMPTY;
+    for (String component : getComponents().subList(fromIndex, toIndex)) {
+      rtn = new Path(rtn, component);
+    }
+    return rtn;
   }
 
-  public void addComponent(String component) {
-    if (StringUtils.notEmpty(component)) {
-      this.components.add(component);
+  private Path getAncestor(int ancestorLength) {
+    if (ancestorLength < 0 || ancestorLength > length) {
+      throw new IndexOutOfBoundsException("length " + ancestorLength + " of " + this);
     }
+    Path rtn = this;
+    while (rtn.length > ancestorLength) {
+      rtn = rtn.parent;
+    }
+    return rtn;
   }
 
   public String getLastComponent() {
-    if (getComponents().isEmpty()) {
-      return null;
-    } else {
-      return getComponents().get(getComponents().size() - 1);
-    }
+    return this.lastComponent;
   }
 
   public String getFirstComponent() {
-    if (getComponents().isEmpty()) {
-      return null;
-    } else {
-      return getComponents().get(0);
-    }
+    return (isEmpty()) ? null : getAncestor(1).lastComponent;
   }
 
+  // Returns an unmodifiable list of this path's components.
   public List<String> getComponents() {
-    return this.components;
+    List<String> rtn = this.components;
+    if (rtn == null) {
+      String[] array = new String[length];
+      Path path = this;
+      for (int i = length - 1; i >= 0; i--) {
+        array[i] = path.lastComponent;
+        path = path.parent;
+      }
+      rtn = Collections.unmodifiableList(Arrays.asList(array));
+      this.components = rtn;
+    }
+    return rtn;
   }
 
   public Path getParent() {
-    Path parent = new Path();
-    for (int i = 0; i < getComponents().size() - 1; i++) {
-      parent.addComponent(getComponents().get(i));
-    }
-    return parent;
+    return (isEmpty()) ? this : this.parent;
   }
 
   public String getUnderscoreSeparatedPath() {
@@ -121,30 +170,48 @@ public class Path {
   }
 
   public String getDotSeparatedPath() {
-    return getPath(getComponents(), ".");
+    String rtn = this.dotSeparatedPath;
+    if (rtn == null) {
+      rtn = getPath(getComponents(), ".");
+      this.dotSeparatedPath = rtn;
+    }
+    return rtn;
   }
 
   public String getSlashSeparatedPath() {
-    return getPath(getComponents(), "/");
+    String rtn = this.slashSeparatedPath;
+    if (rtn == null) {
+      rtn = getPath(getComponents(), "/");
+      this.slashSeparatedPath = rtn;
+    }
+    return rtn;
   }
 
   public String getRelativeUri() {
-    List<String> components = new ArrayList<>();
+    StringBuilder sb = new StringBuilder();
+    boolean first = true;
     for (String component : getComponents()) {
-      components.add(StringUtils.urlEncode(component));
+      if (!first) {
+        sb.append("/");
+      }
+      sb.append(StringUtils.urlEncode(component));
+      first = false;
     }
-    return getPath(components, "/");
+    return sb.toString();
   }
 
   public boolean isEmpty() {
-    return getComponents().isEmpty();
+    return this.length == 0;
   }
 
   public int length() {
-    return getComponents().size();
+    return this.length;
   }
 
   private String getPath(List<String> components, String separator) {
+    if (components.size() == 1) {
+      return components.get(0);
+    }
     StringBuilder sb = new StringBuilder();
     boolean first = true;
     for (String component : components) {
@@ -157,16 +224,62 @@ public class Path {
     return sb.toString();
   }
 
+  private static Path parse(String dotSeparatedPath) {
+    if (StringUtils.isEmpty(dotSeparatedPath)) {
+      return EMPTY;
+    }
+    if (dotSeparatedPath.indexOf('.') == -1) {
+      // The common case - a single component, e.g. a property or child name.
+      return new Path(EMPTY, dotSeparatedPath);
+    }
+    Path path = PARSED_PATHS.get(dotSeparatedPath);
+    if (path != null) {
+      return path;
+    }
+    path = EMPTY;
+    int start = 0;
+    while (start <= dotSeparatedPath.length()) {
+      int end = dotSeparatedPath.indexOf('.', start);
+      if (end == -1) {
+        end = dotSeparatedPath.length();
+      }
+      // childPath skips empty components, e.g. "a..b" is "a", "b"
+      path = path.childPath(dotSeparatedPath.substring(start, end));
+      start = end + 1;
+    }
+    if (PARSED_PATHS.size() < MAX_PARSED_PATHS) {
+      PARSED_PATHS.putIfAbsent(dotSeparatedPath, path);
+    }
+    return path;
+  }
+
   @Override
   public boolean equals(Object obj) {
     if (obj == this) {
       return true;
     }
-    if (Path.class.isInstance(obj)) {
-      Path p = Path.class.cast(obj);
-      return getComponents().equals(p.getComponents());
+    if (!(obj instanceof Path)) {
+      return false;
+    }
+    Path p1 = this;
+    Path p2 = (Path)obj;
+    if (p1.length != p2.length || p1.hashCode != p2.hashCode) {
+      return false;
+    }
+    // Compare from the end since paths that share a prefix often share the same parent.
+    while (p1 != p2 && !p1.isEmpty()) {
+      if (!p1.lastComponent.equals(p2.lastComponent)) {
+        return false;
+      }
+      p1 = p1.parent;
+      p2 = p2.parent;
     }
-    return false;
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    return this.hashCode;
   }
 
   @Override
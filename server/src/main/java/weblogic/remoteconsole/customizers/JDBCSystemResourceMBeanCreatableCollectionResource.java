@@ -4,13 +4,17 @@
 package weblogic.remoteconsole.customizers;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Properties;
+import java.util.Set;
+import java.util.function.Supplier;
 import javax.json.Json;
 import javax.json.JsonArray;
 import javax.json.JsonArrayBuilder;
 import javax.json.JsonObject;
 import javax.json.JsonObjectBuilder;
+import javax.json.JsonValue;
 
 import weblogic.jdbc.utils.JDBCDriverAttribute;
 import weblogic.jdbc.utils.JDBCDriverInfo;
@@ -20,6 +24,7 @@ import weblogic.jdbc.utils.JDBCURLHelperFactory;
 import weblogic.remoteconsole.common.repodef.LocalizedConstants;
 import weblogic.remoteconsole.common.utils.Path;
 import weblogic.remoteconsole.common.utils.StringUtils;
+import weblogic.remoteconsole.server.ConsoleBackendRuntimeConfig;
 import weblogic.remoteconsole.server.repo.ArrayValue;
 import weblogic.remoteconsole.server.repo.BeanPropertyValue;
 import weblogic.remoteconsole.server.repo.BeanPropertyValues;
@@ -36,9 +41,12 @@ import weblogic.remoteconsole.server.repo.StringValue;
 import weblogic.remoteconsole.server.repo.Value;
 import weblogic.remoteconsole.server.repo.weblogic.WebLogicRestEditPageRepo;
 import weblogic.remoteconsole.server.repo.weblogic.WebLogicRestInvoker;
+import weblogic.remoteconsole.server.utils.ConcurrentTaskRunner;
 import weblogic.remoteconsole.server.utils.WebLogicRestRequest;
+import weblogic.remoteconsole.server.webapp.BatchCreateResponseMapper;
 import weblogic.remoteconsole.server.webapp.CreatableBeanCollectionResource;
 import weblogic.remoteconsole.server.webapp.CreateHelper;
+import weblogic.remoteconsole.server.webapp.FormRequestBodyMapper;
 import weblogic.remoteconsole.server.webapp.GetPageResponseMapper;
 
 import static weblogic.remoteconsole.customizers.JDBCSystemResourceMBeanCustomizerUtils.DATASOURCE_TYPE_GENERIC;
@@ -74,9 +82,17 @@ import static weblogic.remoteconsole.customizers.JDBCSystemResourceMBeanCustomiz
  */
 public class JDBCSystemResourceMBeanCreatableCollectionResource extends CreatableBeanCollectionResource {
 
-  // Customize creating a JDBCSystemResourceMBean
+  // Lists the data sources to create when creating several at once.
+  // Each one has the same format as the request body for creating one data source.
+  private static final String PROP_DATA_SOURCES = "dataSources";
+
+  // Customize creating a JDBCSystemResourceMBean.
+  // Also supports creating several of them at once, e.g. one per tenant.
   @Override
   protected javax.ws.rs.core.Response createCollectionChild(JsonObject requestBody) {
+    if (requestBody.containsKey(PROP_DATA_SOURCES)) {
+      return (new JDBCSystemResourceMBeanCreator()).createBeans(getInvocationContext(), requestBody);
+    }
     return (new JDBCSystemResourceMBeanCreator()).createBean(getInvocationContext(), requestBody);
   }
 
@@ -112,30 +128,162 @@ public class JDBCSystemResourceMBeanCreatableCollectionResource extends Creatabl
   private class JDBCSystemResourceMBeanCreator extends CreateHelper {
     @Override
     protected Response<Void> createBean(InvocationContext ic, List<FormProperty> formProperties) {
-      FormPropertiesToBeansPropertyValuesConverter converter =
-        new FormPropertiesToBeansPropertyValuesConverter(ic, formProperties);
-      Response<Void> response = converter.convert();
-      if (!response.isSuccess()) {
-        return response;
-      }
-      response = testConfiguration(converter);
-      if (!response.isSuccess()) {
-        return response;
-      }
-      // Create the JDBCSystemResource mbean and set the properties on its mandatory singleton children.
-      response = (new CreateFormCreator(ic, converter.getDataSourceValues())).create();
-      if (!response.isSuccess()) {
-        return response;
-      }
-      // Create the JDBCSystemResource's properties mbeans.
-      for (BeansPropertyValues dataSourcePropertyValues : converter.getDataSourcePropertiesValues()) {
-        response = (new CreateFormCreator(ic, dataSourcePropertyValues)).create();
+      Response<List<CreateFormCreator>> prepareResponse = prepareDataSource(ic, formProperties);
+      if (!prepareResponse.isSuccess()) {
+        return new Response<Void>().copyUnsuccessfulResponse(prepareResponse);
+      }
+      // Create the JDBCSystemResource mbean and set the properties on its mandatory singleton children,
+      // then create the JDBCSystemResource's properties mbeans.
+      for (CreateFormCreator creator : prepareResponse.getResults()) {
+        Response<Void> response = creator.create();
         if (!response.isSuccess()) {
           return response;
         }
       }
       return new Response<Void>();
     }
+
+    // Create several data sources in one edit session.
+    // Nothing is created if any of them are invalid, already exist or fail their configuration test.
+    private javax.ws.rs.core.Response createBeans(InvocationContext ic, JsonObject requestBody) {
+      Response<List<BeanTreePath>> response = new Response<>();
+      Response<List<JsonObject>> unmarshalResponse = getDataSourcesRequestBodies(ic, requestBody);
+      if (!unmarshalResponse.isSuccess()) {
+        response.copyUnsuccessfulResponse(unmarshalResponse);
+        return BatchCreateResponseMapper.toResponse(ic, response);
+      }
+      // Unmarshal each data source's create form properties and find its new bean's path.
+      List<InvocationContext> dataSourceIcs = new ArrayList<>();
+      List<List<FormProperty>> dataSourcesFormProperties = new ArrayList<>();
+      List<BeanTreePath> newBeanPaths = new ArrayList<>();
+      Set<String> names = new LinkedHashSet<>();
+      for (JsonObject dataSourceRequestBody : unmarshalResponse.getResults()) {
+        InvocationContext dataSourceIc = new InvocationContext(ic);
+        dataSourceIc.setIdentity(ic.getBeanTreePath());
+        dataSourceIc.setPagePath(ic.getPagePath());
+        Response<List<FormProperty>> formResponse =
+          FormRequestBodyMapper.fromRequestBody(dataSourceIc, dataSourceRequestBody);
+        if (!formResponse.isSuccess()) {
+          response.copyUnsuccessfulResponse(formResponse);
+          return BatchCreateResponseMapper.toResponse(ic, response);
+        }
+        Response<BeanTreePath> pathResponse = computeNewBeanPath(dataSourceIc, formResponse.getResults());
+        if (!pathResponse.isSuccess()) {
+          response.copyUnsuccessfulResponse(pathResponse);
+          return BatchCreateResponseMapper.toResponse(ic, response);
+        }
+        BeanTreePath newBeanPath = pathResponse.getResults();
+        if (!names.add(newBeanPath.getLastSegment().getKey())) {
+          response.addFailureMessage(
+            ic.getLocalizer().localizeString(LocalizedConstants.DATA_SOURCE_SPECIFIED_MORE_THAN_ONCE)
+            + newBeanPath.getPath().getRelativeUri()
+          );
+          return BatchCreateResponseMapper.toResponse(ic, response.setUserBadRequest());
+        }
+        dataSourceIcs.add(dataSourceIc);
+        dataSourcesFormProperties.add(formResponse.getResults());
+        newBeanPaths.add(newBeanPath);
+      }
+      // Make sure none of them exist, using one search.
+      Response<List<String>> existingResponse =
+        ic.getPageRepo().asPageReaderRepo().findTableRows(ic, new ArrayList<>(names));
+      if (!existingResponse.isSuccess()) {
+        response.copyUnsuccessfulResponse(existingResponse);
+        return BatchCreateResponseMapper.toResponse(ic, response);
+      }
+      if (!existingResponse.getResults().isEmpty()) {
+        for (String name : existingResponse.getResults()) {
+          response.addFailureMessage(
+            ic.getLocalizer().localizeString(LocalizedConstants.BEAN_ALREADY_EXISTS)
+            + ic.getBeanTreePath().getPath().childPath(name).getRelativeUri()
+          );
+        }
+        return BatchCreateResponseMapper.toResponse(ic, response.setUserBadRequest());
+      }
+      // Convert and test the data sources.  Testing a data source is a call
+      // to the admin server that can take a while, so test them concurrently.
+      List<Supplier<Response<List<CreateFormCreator>>>> tasks = new ArrayList<>();
+      for (int i = 0; i < dataSourceIcs.size(); i++) {
+        InvocationContext dataSourceIc = dataSourceIcs.get(i);
+        List<FormProperty> formProperties = dataSourcesFormProperties.get(i);
+        tasks.add(() -> prepareDataSource(dataSourceIc, formProperties));
+      }
+      List<Response<List<CreateFormCreator>>> prepareResponses =
+        ConcurrentTaskRunner.runAll(tasks, ConsoleBackendRuntimeConfig.getMaxInFlightRestCallsPerConnection());
+      List<Response<List<CreateFormCreator>>> failures = Response.getFailures(prepareResponses);
+      if (!failures.isEmpty()) {
+        for (int i = 0; i < prepareResponses.size(); i++) {
+          Response<List<CreateFormCreator>> prepareResponse = prepareResponses.get(i);
+          if (!prepareResponse.isSuccess()) {
+            response.addFailureMessage(
+              ic.getLocalizer().localizeString(LocalizedConstants.COULD_NOT_CREATE)
+              + newBeanPaths.get(i).getPath().getRelativeUri()
+            );
+            response.copyMessages(prepareResponse);
+          }
+        }
+        response.copyStatus(failures.get(0));
+        return BatchCreateResponseMapper.toResponse(ic, response);
+      }
+      List<List<CreateFormCreator>> batches = new ArrayList<>();
+      for (Response<List<CreateFormCreator>> prepareResponse : prepareResponses) {
+        batches.add(prepareResponse.getResults());
+      }
+      // Create all of the data sources and their properties in one edit session.
+      Response<Void> createResponse = CreateFormCreator.createAll(ic, batches);
+      if (!createResponse.isSuccess()) {
+        response.copyUnsuccessfulResponse(createResponse);
+        return BatchCreateResponseMapper.toResponse(ic, response);
+      }
+      response.copyMessages(createResponse);
+      return BatchCreateResponseMapper.toResponse(ic, response.setSuccess(newBeanPaths));
+    }
+
+    private Response<List<JsonObject>> getDataSourcesRequestBodies(InvocationContext ic, JsonObject requestBody) {
+      Response<List<JsonObject>> response = new Response<>();
+      JsonValue dataSources = requestBody.get(PROP_DATA_SOURCES);
+      if (dataSources.getValueType() != JsonValue.ValueType.ARRAY) {
+        response.addFailureMessage(ic.getLocalizer().localizeString(LocalizedConstants.INVALID_BATCH_CREATE_REQUEST));
+        return response.setFrontEndBadRequest();
+      }
+      List<JsonObject> rtn = new ArrayList<>();
+      for (JsonValue dataSource : dataSources.asJsonArray()) {
+        if (dataSource.getValueType() != JsonValue.ValueType.OBJECT) {
+          response.addFailureMessage(ic.getLocalizer().localizeString(LocalizedConstants.INVALID_BATCH_CREATE_REQUEST));
+          return response.setFrontEndBadRequest();
+        }
+        rtn.add(dataSource.asJsonObject());
+      }
+      return response.setSuccess(rtn);
+    }
+  }
+
+  // Converts a data source's create form properties to the creators for its JDBCSystemResource
+  // mbean (and its mandatory singleton children) and its properties mbeans.
+  // Tests the data source's configuration first if the user asked to.
+  private Response<List<CreateFormCreator>> prepareDataSource(
+    InvocationContext ic,
+    List<FormProperty> formProperties
+  ) {
+    Response<List<CreateFormCreator>> response = new Response<>();
+    FormPropertiesToBeansPropertyValuesConverter converter =
+      new FormPropertiesToBeansPropertyValuesConverter(ic, formProperties);
+    Response<Void> convertResponse = converter.convert();
+    if (!convertResponse.isSuccess()) {
+      return response.copyUnsuccessfulResponse(convertResponse);
+    }
+    Response<Void> testResponse = testConfiguration(converter);
+    if (!testResponse.isSuccess()) {
+      return response.copyUnsuccessfulResponse(testResponse);
+    }
+    List<CreateFormCreator> creators = new ArrayList<>();
+    // Create the JDBCSystemResource mbean and set the properties on its mandatory singleton children.
+    creators.add(new CreateFormCreator(ic, converter.getDataSourceValues()));
+    // Then create the JDBCSystemResource's properties mbeans.
+    for (BeansPropertyValues dataSourcePropertyValues : converter.getDataSourcePropertiesValues()) {
+      creators.add(new CreateFormCreator(ic, dataSourcePropertyValues));
+    }
+    return response.setSuccess(creators);
   }
 
   private Response<Void> testConfiguration(FormPropertiesToBeansPropertyValuesConverter converter) {
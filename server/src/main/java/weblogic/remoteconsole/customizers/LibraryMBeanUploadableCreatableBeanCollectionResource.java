@@ -3,15 +3,15 @@
 
 package weblogic.remoteconsole.customizers;
 
-import javax.json.JsonObject;
+import java.io.InputStream;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.POST;
 import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
-import org.glassfish.jersey.media.multipart.FormDataBodyPart;
-import org.glassfish.jersey.media.multipart.FormDataParam;
 import weblogic.remoteconsole.server.webapp.CreatableBeanCollectionResource;
 import weblogic.remoteconsole.server.webapp.CreateHelper;
 
@@ -19,14 +19,13 @@ import weblogic.remoteconsole.server.webapp.CreateHelper;
  * Custom JAXRS resource for uploading and deploying LibraryMBeans
  */
 public class LibraryMBeanUploadableCreatableBeanCollectionResource extends CreatableBeanCollectionResource {
+  // Reads the multipart request itself (v.s. using @FormDataParam) so that the
+  // Source part can be streamed to WebLogic as it's uploaded (see MultiPartUploadReader).
   @POST
   @Consumes(MediaType.MULTIPART_FORM_DATA)
   @Produces(MediaType.APPLICATION_JSON)
-  public Response post(
-    @FormDataParam("requestBody") JsonObject requestBody,
-    @FormDataParam("Source") FormDataBodyPart source
-  ) {
+  public Response post(@Context HttpHeaders headers, InputStream entity) {
     setCreateFormPagePath();
-    return CreateHelper.create(getInvocationContext(), requestBody, source);
+    return CreateHelper.upload(getInvocationContext(), headers.getMediaType(), entity, "Source");
   }
 }
@@ -9,6 +9,20 @@ public class ConsoleBackendRuntimeConfig {
   private static Config config = ConsoleBackendRuntime.INSTANCE.getConfig();
   private static final long DEFAULT_CONNECT_TIMEOUT_MILLIS = 10000L;
   private static final long DEFAULT_READ_TIMEOUT_MILLIS = 20000L;
+  private static final int DEFAULT_ASYNC_REQUEST_THREADS = 32;
+  private static final int DEFAULT_MAX_ASYNC_REQUESTS_PER_CONNECTION = 16;
+  private static final int DEFAULT_ASYNC_REST_CALL_THREADS = 32;
+  private static final int DEFAULT_ASYNC_QUEUE_SIZE = 256;
+  private static final int DEFAULT_MAX_IN_FLIGHT_REST_CALLS_PER_CONNECTION = 16;
+  private static final int DEFAULT_MAX_QUEUED_REST_CALLS_PER_CONNECTION = 64;
+  private static final long DEFAULT_REST_CALL_QUEUE_TIMEOUT_MILLIS = 10000L;
+  private static final int DEFAULT_CIRCUIT_BREAKER_TIMEOUTS = 5;
+  private static final long DEFAULT_CIRCUIT_BREAKER_OPEN_MILLIS = 30000L;
+  private static final long DEFAULT_CHANGE_MANAGER_REQUEST_BUDGET_MILLIS = 5000L;
+  private static final long DEFAULT_NAV_TREE_REQUEST_BUDGET_MILLIS = 10000L;
+  private static final long DEFAULT_FORM_REQUEST_BUDGET_MILLIS = 20000L;
+  private static final long DEFAULT_TABLE_REQUEST_BUDGET_MILLIS = 30000L;
+  private static final long DEFAULT_ACTION_REQUEST_BUDGET_MILLIS = 60000L;
 
   public static long getConnectionTimeout() {
     return
@@ -49,4 +63,161 @@ public class ConsoleBackendRuntimeConfig {
         .asBoolean()
         .orElse(false);
   }
+
+  // Whether to return how long each phase of a request took in the response's Server-Timing header
+  public static boolean isServerTimingEnabled() {
+    return
+      config
+        .get("enableServerTiming")
+        .asBoolean()
+        .orElse(true);
+  }
+
+  // The directory to record the WebLogic REST calls to (see WebLogicRestRecorder).
+  // Empty (the default) turns off recording.
+  public static String getWebLogicRestRecordingDirectory() {
+    return
+      config
+        .get("weblogicRestRecordingDirectory")
+        .asString()
+        .orElse("");
+  }
+
+  // The number of threads that handle the requests that the JAXRS resources
+  // have suspended (so that they don't block the web server's threads).
+  public static int getAsyncRequestThreads() {
+    return
+      config
+        .get("asyncRequestThreads")
+        .asInt()
+        .orElse(DEFAULT_ASYNC_REQUEST_THREADS);
+  }
+
+  // The maximum number of suspended requests for one connection
+  // that may be handled at the same time.
+  public static int getMaxAsyncRequestsPerConnection() {
+    return
+      config
+        .get("maxAsyncRequestsPerConnection")
+        .asInt()
+        .orElse(DEFAULT_MAX_ASYNC_REQUESTS_PER_CONNECTION);
+  }
+
+  // The number of threads that make asynchronous WebLogic REST calls.
+  public static int getAsyncRestCallThreads() {
+    return
+      config
+        .get("asyncRestCallThreads")
+        .asInt()
+        .orElse(DEFAULT_ASYNC_REST_CALL_THREADS);
+  }
+
+  // The maximum number of asynchronous requests or WebLogic REST calls that
+  // may wait for a thread before new ones are rejected.
+  public static int getAsyncQueueSize() {
+    return
+      config
+        .get("asyncQueueSize")
+        .asInt()
+        .orElse(DEFAULT_ASYNC_QUEUE_SIZE);
+  }
+
+  // The maximum number of WebLogic REST calls that may be made to one connection's
+  // admin server at the same time, from all requests (see ConnectionBulkhead).
+  // It also bounds the asynchronous WebLogic REST calls (see ConnectionExecutor)
+  // and the calls that one request (e.g. a bulk edit) makes at the same time.
+  public static int getMaxInFlightRestCallsPerConnection() {
+    return
+      config
+        .get("maxInFlightRestCallsPerConnection")
+        .asInt()
+        .orElse(DEFAULT_MAX_IN_FLIGHT_REST_CALLS_PER_CONNECTION);
+  }
+
+  // The maximum number of WebLogic REST calls to one connection's admin server that
+  // may wait for one of the in-flight calls to finish before new ones are rejected.
+  public static int getMaxQueuedRestCallsPerConnection() {
+    return
+      config
+        .get("maxQueuedRestCallsPerConnection")
+        .asInt()
+        .orElse(DEFAULT_MAX_QUEUED_REST_CALLS_PER_CONNECTION);
+  }
+
+  // How long a WebLogic REST call waits for one of the in-flight calls to finish
+  // before it's rejected.
+  public static long getRestCallQueueTimeout() {
+    return
+      config
+        .get("restCallQueueTimeoutMillis")
+        .asLong()
+        .orElse(DEFAULT_REST_CALL_QUEUE_TIMEOUT_MILLIS);
+  }
+
+  // The number of consecutive WebLogic REST calls to a connection's admin server
+  // that time out before the calls fail fast instead.  0 turns this off.
+  public static int getCircuitBreakerTimeouts() {
+    return
+      config
+        .get("circuitBreakerTimeouts")
+        .asInt()
+        .orElse(DEFAULT_CIRCUIT_BREAKER_TIMEOUTS);
+  }
+
+  // How long the calls fail fast before one is let through to see whether
+  // the admin server has recovered.
+  public static long getCircuitBreakerOpenTime() {
+    return
+      config
+        .get("circuitBreakerOpenMillis")
+        .asLong()
+        .orElse(DEFAULT_CIRCUIT_BREAKER_OPEN_MILLIS);
+  }
+
+  // How long a request for the change manager's status or pending changes may take
+  // (see RequestDeadline).  This and the other request budgets are in milliseconds.
+  // 0 means the request's WebLogic REST calls use readTimeoutMillis instead.
+  public static long getChangeManagerRequestBudget() {
+    return
+      config
+        .get("changeManagerRequestBudgetMillis")
+        .asLong()
+        .orElse(DEFAULT_CHANGE_MANAGER_REQUEST_BUDGET_MILLIS);
+  }
+
+  // How long a request to expand the nav tree may take
+  public static long getNavTreeRequestBudget() {
+    return
+      config
+        .get("navTreeRequestBudgetMillis")
+        .asLong()
+        .orElse(DEFAULT_NAV_TREE_REQUEST_BUDGET_MILLIS);
+  }
+
+  // How long a request for a slice or create form may take
+  public static long getFormRequestBudget() {
+    return
+      config
+        .get("formRequestBudgetMillis")
+        .asLong()
+        .orElse(DEFAULT_FORM_REQUEST_BUDGET_MILLIS);
+  }
+
+  // How long a request for a table may take
+  public static long getTableRequestBudget() {
+    return
+      config
+        .get("tableRequestBudgetMillis")
+        .asLong()
+        .orElse(DEFAULT_TABLE_REQUEST_BUDGET_MILLIS);
+  }
+
+  // How long a request to modify beans, invoke an action, or commit or discard changes may take
+  public static long getActionRequestBudget() {
+    return
+      config
+        .get("actionRequestBudgetMillis")
+        .asLong()
+        .orElse(DEFAULT_ACTION_REQUEST_BUDGET_MILLIS);
+  }
 }
@@ -26,6 +26,9 @@ public interface Connection {
   /** Obtain the JAX-RS Client for the Connection */
   public Client getClient();
 
+  /** Obtain the bulkhead that limits the WebLogic REST calls to the Connection's admin server */
+  public ConnectionBulkhead getBulkhead();
+
   /** Close the client, object will be useless after this, but closing is
    * required by JaxRS.  Without closing the client, there there are leaks
    */
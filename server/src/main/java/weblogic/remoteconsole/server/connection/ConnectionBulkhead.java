@@ -0,0 +1,157 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.connection;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import weblogic.remoteconsole.common.repodef.LocalizableString;
+import weblogic.remoteconsole.common.repodef.LocalizedConstants;
+import weblogic.remoteconsole.server.ConsoleBackendRuntimeConfig;
+import weblogic.remoteconsole.server.utils.WebLogicRestClientRejectedException;
+
+/**
+ * Limits the WebLogic REST calls that all of the console's requests make
+ * to a connection's admin server (see WebLogicRestClient).
+ * <p>
+ * Only maxInFlight calls are made at once.  The other calls wait, up to
+ * the queue timeout, for one of them to finish.  If too many calls are
+ * already waiting, or if a call waits too long, it's rejected.
+ * <p>
+ * If too many calls in a row time out (e.g. the admin server is hung), the
+ * circuit breaker opens and the calls are rejected right away instead of
+ * each one waiting for the read timeout.  After a while, one call is let
+ * through.  If it doesn't time out, the circuit breaker closes.
+ * Calls whose read timeouts were shortened to fit their console requests'
+ * time budgets neither count as timeouts nor close the circuit breaker.
+ * <p>
+ * This protects both the console's threads and the admin server during incidents.
+ * <p>
+ * This is the one place that limits how many calls are made to a connection's
+ * admin server at once.  The asynchronous calls (see ConnectionExecutor) and
+ * the calls that one request makes concurrently (see ConcurrentTaskRunner)
+ * are bounded by the same limit.
+ */
+public class ConnectionBulkhead {
+
+  private static final Logger LOGGER = Logger.getLogger(ConnectionBulkhead.class.getName());
+
+  private String connectionId;
+  private int maxQueued = ConsoleBackendRuntimeConfig.getMaxQueuedRestCallsPerConnection();
+  private long queueTimeoutMillis = ConsoleBackendRuntimeConfig.getRestCallQueueTimeout();
+  private int circuitBreakerTimeouts = ConsoleBackendRuntimeConfig.getCircuitBreakerTimeouts();
+  private long circuitBreakerOpenMillis = ConsoleBackendRuntimeConfig.getCircuitBreakerOpenTime();
+  private Semaphore inFlight =
+    new Semaphore(Math.max(1, ConsoleBackendRuntimeConfig.getMaxInFlightRestCallsPerConnection()), true);
+  private AtomicInteger queued = new AtomicInteger();
+
+  // The circuit breaker's state.  Guarded by this.
+  private int consecutiveTimeouts;
+  // When the circuit breaker will let a call through to see if the admin server has recovered.
+  // 0 if the circuit breaker is closed.
+  private long openUntil;
+  // Whether the call that was let through hasn't finished yet
+  private boolean probing;
+
+  ConnectionBulkhead(String connectionId) {
+    this.connectionId = connectionId;
+  }
+
+  // Waits until the call may be made.  The caller must call release
+  // when the call finishes (whether or not it succeeded).
+  // Throws WebLogicRestClientRejectedException if the call may not be made.
+  public void acquire() throws WebLogicRestClientRejectedException {
+    boolean probe = checkCircuitBreaker();
+    if (inFlight.tryAcquire()) {
+      return;
+    }
+    if (queued.incrementAndGet() > maxQueued) {
+      queued.decrementAndGet();
+      probeRejected(probe);
+      throw rejected(LocalizedConstants.TOO_MANY_REST_CALLS_WAITING);
+    }
+    try {
+      if (!inFlight.tryAcquire(queueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+        probeRejected(probe);
+        throw rejected(LocalizedConstants.REST_CALL_QUEUE_TIMED_OUT);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      probeRejected(probe);
+      throw rejected(LocalizedConstants.REST_CALL_QUEUE_INTERRUPTED);
+    } finally {
+      queued.decrementAndGet();
+    }
+  }
+
+  // Called when a call that was allowed by acquire finishes.
+  // timedOut is whether the admin server didn't respond within the configured read timeout.
+  // budgetTimedOut is whether it didn't respond within a read timeout that was shortened
+  // to the time left in the console request's time budget.
+  public void release(boolean timedOut, boolean budgetTimedOut) {
+    inFlight.release();
+    callFinished(timedOut, budgetTimedOut);
+  }
+
+  // Returns whether this call is being let through to see if the admin server has recovered
+  private synchronized boolean checkCircuitBreaker() throws WebLogicRestClientRejectedException {
+    if (openUntil == 0) {
+      return false; // closed
+    }
+    if (probing || System.currentTimeMillis() < openUntil) {
+      throw rejected(LocalizedConstants.ADMIN_SERVER_NOT_RESPONDING);
+    }
+    // Half open.  Let this call through to see if the admin server has recovered.
+    probing = true;
+    return true;
+  }
+
+  private synchronized void callFinished(boolean timedOut, boolean budgetTimedOut) {
+    probing = false;
+    if (budgetTimedOut) {
+      // This says nothing about whether the admin server is responding.
+      return;
+    }
+    if (!timedOut) {
+      if (openUntil != 0) {
+        LOGGER.info("WebLogic REST calls to connection " + connectionId + " are succeeding again");
+      }
+      consecutiveTimeouts = 0;
+      openUntil = 0;
+      return;
+    }
+    consecutiveTimeouts++;
+    if (circuitBreakerTimeouts > 0 && consecutiveTimeouts >= circuitBreakerTimeouts) {
+      if (openUntil == 0) {
+        LOGGER.warning(
+          consecutiveTimeouts
+          + " WebLogic REST calls in a row to connection "
+          + connectionId
+          + " timed out.  Failing calls for "
+          + circuitBreakerOpenMillis
+          + " ms."
+        );
+      }
+      openUntil = System.currentTimeMillis() + circuitBreakerOpenMillis;
+    }
+  }
+
+  // If the call that was let through to see if the admin server has recovered
+  // was rejected by the bulkhead instead, let the next call through.
+  private synchronized void probeRejected(boolean probe) {
+    if (probe) {
+      probing = false;
+    }
+  }
+
+  private WebLogicRestClientRejectedException rejected(LocalizableString reason) {
+    return
+      new WebLogicRestClientRejectedException(
+        "The WebLogic REST call to connection " + connectionId + " was rejected: " + reason.getEnglishText(),
+        reason
+      );
+  }
+}
@@ -5,6 +5,8 @@ package weblogic.remoteconsole.server.connection;
 
 import javax.ws.rs.client.Client;
 
+import weblogic.remoteconsole.server.utils.WebLogicRestMetrics;
+
 /** The implementation of Connection interface holding connection information */
 public class ConnectionImpl implements Connection {
   // Connection State
@@ -14,6 +16,7 @@ public class ConnectionImpl implements Connection {
   private String domainVersion;
   private String username;
   private Client client;
+  private ConnectionBulkhead bulkhead;
 
   /** Package level contructor for use by the ConnectionManager */
   ConnectionImpl(
@@ -30,6 +33,7 @@ public class ConnectionImpl implements Connection {
     this.domainVersion = domainVersion;
     this.username = username;
     this.client = client;
+    this.bulkhead = new ConnectionBulkhead(id);
   }
 
   @Override
@@ -62,11 +66,17 @@ public class ConnectionImpl implements Connection {
     return client;
   }
 
+  @Override
+  public ConnectionBulkhead getBulkhead() {
+    return bulkhead;
+  }
+
   @Override
   public void close() {
     if (client != null) {
       client.close();
       client = null;
     }
+    WebLogicRestMetrics.connectionClosed(id);
   }
 }
@@ -35,6 +35,8 @@ import weblogic.remoteconsole.common.utils.WebLogicMBeansVersions;
 import weblogic.remoteconsole.common.utils.WebLogicRoles;
 import weblogic.remoteconsole.common.utils.WebLogicVersions;
 import weblogic.remoteconsole.server.filter.ClientAuthFeature;
+import weblogic.remoteconsole.server.filter.WebLogicRestMetricsFilter;
+import weblogic.remoteconsole.server.filter.WebLogicRestRecordingFilter;
 import weblogic.remoteconsole.server.utils.ResponseHelper;
 import weblogic.remoteconsole.server.utils.WebLogicRestClient;
 import weblogic.remoteconsole.server.utils.WebLogicRestRequest;
@@ -193,6 +195,8 @@ public class ConnectionManager {
         .register(JacksonJsonProvider.class)
         .register(MultiPartFeature.class)
         .register(ClientAuthFeature.authorization(authorization))
+        .register(WebLogicRestMetricsFilter.class)
+        .register(WebLogicRestRecordingFilter.class)
         .build();
 
     // Obtain the username from the authorization header
@@ -227,6 +231,8 @@ public class ConnectionManager {
         .register(JacksonJsonProvider.class)
         .register(MultiPartFeature.class)
         .register(HttpAuthenticationFeature.basic(username, password))
+        .register(WebLogicRestMetricsFilter.class)
+        .register(WebLogicRestRecordingFilter.class)
         .build();
 
     // Try to get WebLogic version from RESTful Management endpoint
@@ -37,6 +37,10 @@ public class CorsFilter implements ContainerResponseFilter {
         res
           .getHeaders()
           .add("Access-Control-Allow-Methods", "GET, POST, PUT, DELETE, OPTIONS, HEAD");
+        // let the browser's developer tools show the Server-Timing header
+        res
+          .getHeaders()
+          .add("Timing-Allow-Origin", allowOrigin);
 
         if (req.getMethod().equals(HttpMethod.OPTIONS)) {
           res.setStatus(200);
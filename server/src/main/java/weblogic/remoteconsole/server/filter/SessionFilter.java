@@ -4,14 +4,20 @@
 package weblogic.remoteconsole.server.filter;
 
 import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerRequestFilter;
 import javax.ws.rs.container.PreMatching;
 import javax.ws.rs.core.Cookie;
-import javax.ws.rs.core.PathSegment;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.ext.Provider;
@@ -46,6 +52,12 @@ import weblogic.remoteconsole.server.webapp.WebAppUtils;
  * URL.  The rest of the code just assumes that the request was to the /x/y/z and that
  * the provider was set otherwise.  If "provider1" doesn't exist, the request is
  * rejected.
+ *
+ * Since every Console Backend request goes through this filter, it parses the
+ * request's path once, as a raw string, instead of asking the UriInfo for the
+ * path segments (which re-parses and re-allocates them on every call).  The parsed
+ * Accept-Language headers are cached too since a browser sends the same one
+ * on every request.
 */
 @Provider
 @PreMatching
@@ -54,6 +66,14 @@ public class SessionFilter implements ContainerRequestFilter {
     (System.getenv("BACKEND_FRONTEND_INPUT_OUTPUT_TRACE") != null);
   private static final Logger LOGGER = Logger.getLogger(SessionFilter.class.getName());
 
+  // The rewritten path of a provider based request starts with this
+  private static final String API_PATH = "/" + UriUtils.API_URI;
+
+  // The number of different Accept-Language headers whose parsed locales are cached.
+  // There are normally only a handful (one per browser language configuration).
+  private static final int MAX_CACHED_ACCEPT_LANGUAGES = 64;
+  private static final Map<String, List<Locale>> acceptLanguagesCache = new ConcurrentHashMap<>();
+
   @Override
   public void filter(ContainerRequestContext requestContext) throws IOException {
     if (inputOutputTrace) {
@@ -62,7 +82,9 @@ public class SessionFilter implements ContainerRequestFilter {
         + " with " + requestContext.getUriInfo().getRequestUri());
     }
 
-    List<PathSegment> segs = requestContext.getUriInfo().getPathSegments(false);
+    // Do not decode the path or else the segments will be screwed up
+    // when putting them back together
+    RequestPath path = new RequestPath(requestContext.getUriInfo().getPath(false));
 
     // Determine if FINE log level is enabled to avoid logger overhead
     // as the SessionFilter is used for all Console Backend requests
@@ -81,7 +103,7 @@ public class SessionFilter implements ContainerRequestFilter {
     }
 
     // Check if this request is for the JAX-RS resources in the Console Backend
-    if ((segs.size() == 0) || !segs.get(0).getPath().equals(UriUtils.API_URI)) {
+    if (!path.isApiPath()) {
       LOGGER.fine("Ignoring request NOT for Console Backend JAX-RS resource!");
       return;
     }
@@ -110,63 +132,132 @@ public class SessionFilter implements ContainerRequestFilter {
     }
     frontend.storeInRequestContext(requestContext);
     frontend.setLastRequestTime();
-    InvocationContext ic = new InvocationContext();
+    InvocationContext ic = new InvocationContext(getAcceptableLanguages(requestContext));
     WebAppUtils.storeInvocationContextInRequestContext(requestContext, ic);
-    ic.setLocales(requestContext.getAcceptableLanguages());
-    if (isProviderBasedPath(requestContext)) {
-      setupConnectionAndRewriteURL(requestContext, frontend, ic);
+    if (path.isProviderBasedPath()) {
+      setupConnectionAndRewriteURL(requestContext, path, frontend, ic);
     }
   }
 
-  private static boolean isProviderBasedPath(ContainerRequestContext requestContext) {
-    List<PathSegment> segs = requestContext.getUriInfo().getPathSegments(false);
-    // Must be at least three segments "/api/provider/<something>
-    if (segs.size() < 3) {
-      return false;
-    }
-    if (segs.get(1).getPath().equals(
-        RemoteConsoleResource.PROVIDER_MANAGEMENT_PATH)) {
-      return false;
-    }
-    if (segs.get(0).getPath().equals(RemoteConsoleResource.ABOUT_PATH)) {
-      return false;
+  private static List<Locale> getAcceptableLanguages(ContainerRequestContext requestContext) {
+    String header = StringUtils.nonNull(requestContext.getHeaderString(HttpHeaders.ACCEPT_LANGUAGE));
+    List<Locale> locales = acceptLanguagesCache.get(header);
+    if (locales == null) {
+      // The cached lists are shared across requests so they must not be modified.
+      locales = Collections.unmodifiableList(new ArrayList<>(requestContext.getAcceptableLanguages()));
+      if (acceptLanguagesCache.size() >= MAX_CACHED_ACCEPT_LANGUAGES) {
+        acceptLanguagesCache.clear();
+      }
+      acceptLanguagesCache.put(header, locales);
     }
-    return true;
+    return locales;
   }
 
-  // We know from test above that the path includes a provider (i.e. has two
-  // segments at least
+  // We know from test above that the path includes a provider (i.e. has three
+  // segments at least)
   private static void setupConnectionAndRewriteURL(
     ContainerRequestContext requestContext,
+    RequestPath path,
     Frontend frontend,
     InvocationContext ic
   ) {
-    // Do not decode the path segments or else the segment will be screwed up
-    // when putting it back together
-    List<PathSegment> segs = requestContext.getUriInfo().getPathSegments(false);
-
-    ProviderManager pm = frontend.getProviderManager();
     // Decode only the provider segment
-    String provider = StringUtils.urlDecode(segs.get(1).getPath());
-    if (!pm.hasProvider(provider)) {
+    String providerName = path.getProviderName();
+    // Look up the provider once instead of checking for it then getting it again
+    // (note: Provider is fully qualified since it clashes with the JAX-RS annotation)
+    ProviderManager pm = frontend.getProviderManager();
+    weblogic.remoteconsole.server.providers.Provider provider = pm.getProvider(providerName);
+    if (provider == null) {
       requestContext.abortWith(Response.status(Status.FORBIDDEN).build());
       LOGGER.fine(
-        "Aborted Console Backend request due to bad provider: " + provider
+        "Aborted Console Backend request due to bad provider: " + providerName
           + " with frontend: " + frontend.getID());
       return;
     }
-    if (!pm.startProvider(provider, ic)) {
+    if (!provider.start(ic)) {
       LOGGER.fine("Aborted Console Backend request due to failed provider!");
       requestContext.abortWith(Response.status(Status.FORBIDDEN).build());
       return;
     }
-    StringBuilder newPath = new StringBuilder();
-    newPath.append("/" + UriUtils.API_URI);
-    for (PathSegment seg : segs.subList(2, segs.size())) {
-      newPath.append("/");
-      newPath.append(seg.getPath());
-    }
+    // Strip the provider segment out of the path, leaving the rest of the
+    // request uri (e.g. the query parameters) as-is.
+    URI requestUri = requestContext.getUriInfo().getRequestUri();
+    String rawQuery = requestUri.getRawQuery();
     requestContext.setRequestUri(
-      requestContext.getUriInfo().getRequestUriBuilder().replacePath(newPath.toString()).build());
+      URI.create(
+        requestUri.getScheme() + "://" + requestUri.getRawAuthority()
+        + API_PATH + path.getPathAfterProvider()
+        + ((rawQuery != null) ? "?" + rawQuery : "")
+      )
+    );
+  }
+
+  /**
+   * Parses the raw (i.e. not decoded) path of a request, relative to the base uri,
+   * e.g. api/provider1/edit/Servers
+   */
+  private static class RequestPath {
+    private String path;
+    private boolean apiPath;
+
+    // The end of the provider segment (i.e. where the rest of the path starts).
+    // -1 if this isn't a provider based path.
+    private int providerEnd = -1;
+
+    private RequestPath(String path) {
+      this.path = (path.startsWith("/")) ? path.substring(1) : path;
+      int apiEnd = getSegmentEnd(0);
+      this.apiPath = segmentEquals(0, apiEnd, UriUtils.API_URI);
+      if (!apiPath || apiEnd == this.path.length()) {
+        return;
+      }
+      int providerStart = apiEnd + 1;
+      int end = getSegmentEnd(providerStart);
+      // Must be at least three segments "/api/provider/<something>
+      if (end == this.path.length()) {
+        return;
+      }
+      if (segmentEquals(providerStart, end, RemoteConsoleResource.PROVIDER_MANAGEMENT_PATH)) {
+        return;
+      }
+      this.providerEnd = end;
+    }
+
+    private boolean isApiPath() {
+      return apiPath;
+    }
+
+    private boolean isProviderBasedPath() {
+      return providerEnd != -1;
+    }
+
+    private String getProviderName() {
+      String provider = path.substring(UriUtils.API_URI.length() + 1, providerEnd);
+      int matrixStart = provider.indexOf(';');
+      if (matrixStart != -1) {
+        provider = provider.substring(0, matrixStart);
+      }
+      // Most provider names don't need decoding
+      return (provider.indexOf('%') == -1) ? provider : StringUtils.urlDecode(provider);
+    }
+
+    // Returns the rest of the path after the provider, starting with a "/"
+    private String getPathAfterProvider() {
+      return path.substring(providerEnd);
+    }
+
+    private int getSegmentEnd(int start) {
+      int end = path.indexOf('/', start);
+      return (end == -1) ? path.length() : end;
+    }
+
+    // Compares a segment, ignoring any matrix parameters, to an expected value
+    private boolean segmentEquals(int start, int end, String expected) {
+      int matrixStart = path.indexOf(';', start);
+      if (matrixStart != -1 && matrixStart < end) {
+        end = matrixStart;
+      }
+      return (end - start) == expected.length() && path.startsWith(expected, start);
+    }
   }
 }
@@ -0,0 +1,90 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.filter;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientResponseContext;
+import javax.ws.rs.client.ClientResponseFilter;
+
+import weblogic.remoteconsole.server.utils.WebLogicRestMetrics;
+
+/**
+ * WebLogic Console Backend JAX-RS Filter for recording the sizes of the responses
+ * from the WebLogic Domain (see WebLogicRestMetrics).
+ * <p>
+ * The entities are streamed, so their sizes are counted as they're read
+ * and recorded when they've been read or closed.
+ */
+public class WebLogicRestMetricsFilter implements ClientResponseFilter {
+
+  @Override
+  public void filter(ClientRequestContext request, ClientResponseContext response) throws IOException {
+    Object metrics = request.getProperty(WebLogicRestMetrics.PROPERTY);
+    if (metrics instanceof WebLogicRestMetrics && response.hasEntity()) {
+      response.setEntityStream(new CountingInputStream(response.getEntityStream(), (WebLogicRestMetrics) metrics));
+    }
+  }
+
+  private static class CountingInputStream extends FilterInputStream {
+    private WebLogicRestMetrics metrics;
+    private long bytes;
+    private boolean recorded;
+
+    private CountingInputStream(InputStream in, WebLogicRestMetrics metrics) {
+      super(in);
+      this.metrics = metrics;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int rtn = super.read();
+      if (rtn == -1) {
+        record();
+      } else {
+        bytes++;
+      }
+      return rtn;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int rtn = super.read(b, off, len);
+      if (rtn == -1) {
+        record();
+      } else {
+        bytes += rtn;
+      }
+      return rtn;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      long rtn = super.skip(n);
+      bytes += rtn;
+      return rtn;
+    }
+
+    @Override
+    public boolean markSupported() {
+      // Re-reading would count the bytes twice
+      return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+      record();
+      super.close();
+    }
+
+    private void record() {
+      if (!recorded) {
+        recorded = true;
+        metrics.responseRead(bytes);
+      }
+    }
+  }
+}
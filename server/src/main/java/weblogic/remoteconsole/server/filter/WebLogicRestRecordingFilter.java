@@ -0,0 +1,86 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.filter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import javax.json.Json;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonStructure;
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+import javax.ws.rs.client.ClientResponseContext;
+import javax.ws.rs.client.ClientResponseFilter;
+
+import weblogic.remoteconsole.server.utils.WebLogicRestRecorder;
+
+/**
+ * WebLogic Console Backend JAX-RS Filter for recording the requests to, and responses from,
+ * the WebLogic Domain (see WebLogicRestRecorder).  Does nothing unless recording is on.
+ * <p>
+ * The response's entity is read into memory so that it can be recorded,
+ * then handed back to the caller.
+ * <p>
+ * Only json request bodies are recorded.  The bodies of other requests
+ * (e.g. uploaded application archives) are recorded as null.
+ */
+public class WebLogicRestRecordingFilter implements ClientRequestFilter, ClientResponseFilter {
+  private static final String START_PROPERTY = WebLogicRestRecordingFilter.class.getName() + ".start";
+
+  @Override
+  public void filter(ClientRequestContext request) throws IOException {
+    if (WebLogicRestRecorder.isRecording()) {
+      request.setProperty(START_PROPERTY, System.nanoTime());
+    }
+  }
+
+  @Override
+  public void filter(ClientRequestContext request, ClientResponseContext response) throws IOException {
+    if (!WebLogicRestRecorder.isRecording()) {
+      return;
+    }
+    Object start = request.getProperty(START_PROPERTY);
+    long millis = (start instanceof Long) ? (System.nanoTime() - (Long)start) / 1000000L : 0;
+    URI uri = request.getUri();
+    JsonObjectBuilder call = Json.createObjectBuilder();
+    call.add("method", request.getMethod());
+    call.add("path", uri.getRawPath());
+    addString(call, "query", uri.getRawQuery());
+    Object requestBody = request.hasEntity() ? request.getEntity() : null;
+    if (requestBody instanceof JsonStructure) {
+      call.add("requestBody", (JsonStructure)requestBody);
+    } else {
+      call.addNull("requestBody");
+    }
+    call.add("status", response.getStatus());
+    addString(call, "contentType", response.getHeaderString("Content-Type"));
+    String responseBody = null;
+    if (response.hasEntity()) {
+      byte[] bytes = readAllBytes(response.getEntityStream());
+      response.setEntityStream(new ByteArrayInputStream(bytes));
+      responseBody = new String(bytes, StandardCharsets.UTF_8);
+    }
+    addString(call, "responseBody", responseBody);
+    call.add("millis", millis);
+    Object connectionId = request.getProperty(WebLogicRestRecorder.CONNECTION_PROPERTY);
+    WebLogicRestRecorder.record((connectionId != null) ? connectionId.toString() : null, call.build());
+  }
+
+  private static void addString(JsonObjectBuilder builder, String name, String value) {
+    if (value != null) {
+      builder.add(name, value);
+    } else {
+      builder.addNull(name);
+    }
+  }
+
+  private static byte[] readAllBytes(InputStream is) throws IOException {
+    try (InputStream in = is) {
+      return in.readAllBytes();
+    }
+  }
+}
@@ -41,6 +41,11 @@ public class ProviderManager {
     return ret;
   }
 
+  // Returns null if there is no provider with this name
+  public Provider getProvider(String name) {
+    return providers.get(name);
+  }
+
   public boolean hasProvider(String name) {
     return providers.containsKey(name);
   }
@@ -6,7 +6,6 @@ package weblogic.remoteconsole.server.repo;
 import java.util.List;
 
 import weblogic.remoteconsole.common.repodef.DeleteBeanCustomizerDef;
-import weblogic.remoteconsole.common.utils.CustomizerInvocationUtils;
 
 /**
  * This class manages deleting a bean.
@@ -63,7 +62,7 @@ class BeanDeleter extends PageManager {
     BeanReaderRepoSearchResults searchResults = searchResponse.getResults();
     BeanSearchResults beanResults = searchResults.getBean(beanPath);
     List<Object> args = reader.getArguments(customizerDef, beanResults, searchResults, includeIsSet); 
-    Object rtn = CustomizerInvocationUtils.invokeMethod(customizerDef.getMethod(), args);
+    Object rtn = reader.invokeCustomizer(customizerDef, args);
     @SuppressWarnings("unchecked")
     Response<Void> customizerResponse = (Response<Void>)rtn;
     return customizerResponse;
@@ -22,4 +22,10 @@ public interface BeanEditorRepo extends BeanReaderRepo {
 
   // Delete a bean from the bean repo
   public Response<Void> deleteBean(InvocationContext ic, BeanTreePath beanTreePath);
+
+  // Returns whether different beans can be created, updated and deleted
+  // at the same time, e.g. during a bulk edit.
+  public default boolean supportsConcurrentEdits() {
+    return false;
+  }
 }
@@ -42,6 +42,12 @@ public interface BeanReaderRepo extends BeanRepo {
     return invokeAction(ic, ic.getBeanTreePath(), actionDef, args);
   }
 
+  // Returns whether actions can be invoked on different beans at the same time,
+  // e.g. when invoking a table action on many rows.
+  public default boolean supportsConcurrentActions() {
+    return false;
+  }
+
   // Verify that a bean exists in the repo.
   // Returns a not found response if the bean does not exist.
   // This should be called before updating or deleting a bean in the repo.
@@ -3,10 +3,14 @@
 
 package weblogic.remoteconsole.server.repo;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
 
 /**
  * This interface returns the requested beans/properties from a search request.
@@ -28,19 +32,55 @@ public interface BeanReaderRepoSearchResults {
   // Note: the CFE has its own sorting where the user selects the column.
   // Returns null if the collection is not present in the search results.
   public default List<BeanSearchResults> getCollection(BeanTreePath collectionPath) {
+    return getCollection(collectionPath, beanResults -> true, Integer.MAX_VALUE);
+  }
+
+  // Get the first maxResults beans, in the same order as getCollection, that match the filter.
+  // Uses a bounded heap so that only maxResults beans are kept while searching for them,
+  // instead of sorting the entire collection.
+  // The filter is applied to every bean in the collection, even once maxResults beans
+  // have been found, so that filters that count the matches (e.g. KeyFilter) see them all.
+  // Returns null if the collection is not present in the search results.
+  public default List<BeanSearchResults> getCollection(
+    BeanTreePath collectionPath,
+    Predicate<BeanSearchResults> filter,
+    int maxResults
+  ) {
     List<BeanSearchResults> unsorted = getUnsortedCollection(collectionPath);
-    if (unsorted == null || collectionPath.getLastSegment().getChildDef().isOrdered()) {
-      return unsorted;
+    if (unsorted == null) {
+      return null;
+    }
+    List<BeanSearchResults> rtn = new ArrayList<>();
+    if (collectionPath.getLastSegment().getChildDef().isOrdered()) {
+      for (BeanSearchResults beanResults : unsorted) {
+        if (filter.test(beanResults) && rtn.size() < maxResults) {
+          rtn.add(beanResults);
+        }
+      }
+      return rtn;
     }
-    Map<String,BeanSearchResults> sorter = new TreeMap<>();
+    // Compute each bean's sort key once.
+    // The heap's head is the largest key so that it can be evicted when a smaller one is found.
+    Comparator<Map.Entry<String,BeanSearchResults>> byKey = Map.Entry.comparingByKey();
+    PriorityQueue<Map.Entry<String,BeanSearchResults>> heap =
+      new PriorityQueue<>(Math.min(unsorted.size(), maxResults) + 1, byKey.reversed());
     for (BeanSearchResults beanResults : unsorted) {
-      sorter.put(beanResults.getBeanTreePath().toString(), beanResults);
+      if (!filter.test(beanResults)) {
+        continue;
+      }
+      String key = beanResults.getBeanTreePath().toString();
+      if (heap.size() < maxResults) {
+        heap.add(new SimpleImmutableEntry<>(key, beanResults));
+      } else if (!heap.isEmpty() && key.compareTo(heap.peek().getKey()) < 0) {
+        heap.poll();
+        heap.add(new SimpleImmutableEntry<>(key, beanResults));
+      }
     }
-    List<BeanSearchResults> sorted = new ArrayList<>();
-    for (BeanSearchResults beanResults : sorter.values()) {
-      sorted.add(beanResults);
+    while (!heap.isEmpty()) {
+      rtn.add(heap.poll().getValue());
     }
-    return sorted;
+    Collections.reverse(rtn);
+    return rtn;
   }
 
   // Specifies whether this builder is a change manager search results.
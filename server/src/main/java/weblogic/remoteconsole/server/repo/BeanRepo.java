@@ -14,6 +14,10 @@ public interface BeanRepo {
   // in this repo.
   public BeanRepoDef getBeanRepoDef();
 
+  // Get the cache of this repo's resolved bean tree paths.
+  // Used by BeanTreePath.create so that beans are only resolved once.
+  public BeanTreePathCache getBeanTreePathCache();
+
   // Specifies whether this repo is a bean reader repo.
   public default boolean isBeanReaderRepo() {
     return this instanceof BeanReaderRepo;
@@ -4,6 +4,7 @@
 package weblogic.remoteconsole.server.repo;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import weblogic.remoteconsole.common.repodef.BeanChildDef;
@@ -15,12 +16,15 @@ import weblogic.remoteconsole.common.utils.Path;
  * 
  * It also contains information about the beans that parent this bean, starting
  * from the root bean in the bean repo.
+ * 
+ * Bean tree paths are immutable and are shared by the requests using the bean repo.
+ * A segment's bean tree path is the bean tree path that the segment was added to,
+ * i.e. the one whose path ends with that segment.
  */
 public class BeanTreePath extends Value {
   private BeanRepo beanRepo;
-  private boolean resolved;
-  private Path path = new Path();
-  private List<BeanTreePathSegment> segments = new ArrayList<>();
+  private Path path;
+  private List<BeanTreePathSegment> segments;
 
   public static final String ALL_COLLECTION_CHILDREN = "*";
 
@@ -37,7 +41,7 @@ public class BeanTreePath extends Value {
   //    child bean = JMSMBean's ConnectionFactories (collection), key = MyConnectionFactory
   // throws an AssertionError if any of the types in the path can't be found
   public static BeanTreePath create(BeanRepo beanRepo, Path path) {
-    return new BeanTreePath(beanRepo, path, false);
+    return resolve(beanRepo, path, false);
   }
 
   // Construct a bean tree path for a bean given its repo and the path to that bean in the repo.
@@ -53,18 +57,24 @@ public class BeanTreePath extends Value {
   //    child bean = JMSMBean's ConnectionFactories (collection), key = MyConnectionFactory
   // returns null if any of the types in the path can't be found
   public static BeanTreePath createAllowUnresolved(BeanRepo beanRepo, Path path) {
-    BeanTreePath beanTreePath = new BeanTreePath(beanRepo, path, true);
-    return (beanTreePath.resolved) ? beanTreePath : null;
+    return resolve(beanRepo, path, true);
   }
 
   // Construct a bean tree path for a bean that is a child of the bean identified
   // by this bean tree path.
   public BeanTreePath childPath(Path childPath) {
-    // Clone me
-    BeanTreePath beanTreePath = new BeanTreePath(beanRepo, path, false);
-    // Then add the child path
-    beanTreePath.addPath(childPath, false);
-    return beanTreePath;
+    Path parentPath = getPath();
+    if (isCollection() && !childPath.isEmpty()) {
+      // Currently, the last segment is referring to a collection
+      // (v.s. a child in the collection).  We want to add more segments.
+      // So, this collection is going to change from being the last
+      // segment to an intermediate segment.
+      // Add * to the path to indicate that we want to identify this collection.
+      // e.g. if we're currently /Domain/Servers and want to add NetworkAccessPoints,
+      // then we need /Domain/Servers/*/NetworkAccessPoints.
+      parentPath = parentPath.childPath(ALL_COLLECTION_CHILDREN);
+    }
+    return create(getBeanRepo(), parentPath.childPath(childPath));
   }
 
   // Get the corresponding bean repo.
@@ -84,74 +94,89 @@ public class BeanTreePath extends Value {
   //   Domain singleton
   //   Servers collection, key = AdminServer
   //   NetworkAccessPoints collection, key = Channel7
+  // The list is unmodifiable.
   public List<BeanTreePathSegment> getSegments() {
     return this.segments;
   }
 
-  // e.g.
-  // new BeanIdentity(
-  //   beanTypes = WebLogicEditTree
-  //   path = "Domain", "JMSSystemResources", "MyJMSSystemResource", "JMS", "ConnectionFactories", "MyConnectionFactory"
-  // )
-  // becomes:
-  //  segments=
-  //    child bean = DomainMBean's JMSSystemResources (collection), key = MyJMSSystemResource
-  //    child bean = JMSSystemResourceMBean's JMS (singleton)
-  //    child bean = JMSMBean's ConnectionFactories (collection), key = MyConnectionFactory
-  private BeanTreePath(BeanRepo beanRepo, Path path, boolean allowUnresolved) {
-    this.beanRepo = beanRepo;
-    this.resolved = addPath(path, allowUnresolved);
+  // Bean tree paths are immutable, so they're cached in their bean repo's
+  // BeanTreePathCache.  When a bean tree path isn't cached, it's made from
+  // its parent's bean tree path (which is usually cached, e.g. the collection
+  // when listing a collection's children or converting references to them)
+  // so that only the last component needs to be resolved.
+  private static BeanTreePath resolve(BeanRepo beanRepo, Path path, boolean allowUnresolved) {
+    BeanTreePathCache cache = beanRepo.getBeanTreePathCache();
+    BeanTreePath beanTreePath = cache.get(path);
+    if (beanTreePath != null) {
+      return beanTreePath;
+    }
+    if (path.isEmpty()) {
+      beanTreePath = new BeanTreePath(beanRepo, path, new ArrayList<>());
+    } else {
+      BeanTreePath parentBeanTreePath = resolve(beanRepo, path.getParent(), allowUnresolved);
+      if (parentBeanTreePath == null) {
+        return null;
+      }
+      beanTreePath = parentBeanTreePath.resolveChild(path, allowUnresolved);
+      if (beanTreePath == null) {
+        return null;
+      }
+    }
+    cache.put(beanTreePath);
+    return beanTreePath;
   }
 
-  private boolean addPath(Path pathToAdd, boolean allowUnresolved) {
-    if (isCollection() && !pathToAdd.isEmpty()) {
-      // Currently, the last segment is referring to a collection
-      // (v.s. a child in the collection).  We want to add more segments.
-      // So, this collection is going to change from being the last
-      // segment to an intermediate segment.
-      // Add * to the path to indicate that we want to identify this collection.
-      // e.g. if we're currently /Domain/Servers and want to add NetworkAccessPoints,
-      // then we need /Domain/Servers/*/NetworkAccessPoints.
-      path.addComponent(ALL_COLLECTION_CHILDREN);
-    }
-    BeanTypeDef typeDef =
-      getSegments().isEmpty()
-        ? getBeanRepo().getBeanRepoDef().getRootTypeDef()
-        : getLastSegment().getChildDef().getChildTypeDef();
-    List<String> components = pathToAdd.getComponents();
-    for (int i = 0; i < components.size();) {
-      String childName = components.get(i);
-      BeanChildDef childDef = findChild(typeDef, childName);
+  // Makes the bean tree path for a path whose parent path is this bean tree path's path,
+  // reusing this bean tree path's segments.
+  // e.g.
+  //   this = "Domain", "Servers" (the Servers collection)
+  //   path = "Domain", "Servers", "AdminServer"
+  // becomes:
+  //   segments=
+  //     child bean = DomainMBean's Servers (collection), key = AdminServer
+  // e.g.
+  //   this = "Domain", "Servers", "AdminServer"
+  //   path = "Domain", "Servers", "AdminServer", "SSL"
+  // becomes:
+  //   segments=
+  //     child bean = DomainMBean's Servers (collection), key = AdminServer
+  //     child bean = ServerMBean's SSL (singleton)
+  private BeanTreePath resolveChild(Path childPath, boolean allowUnresolved) {
+    String component = childPath.getLastComponent();
+    List<BeanTreePathSegment> childSegments = new ArrayList<>(getSegments());
+    BeanTreePath beanTreePath = new BeanTreePath(getBeanRepo(), childPath, childSegments);
+    if (isCollection() && !ALL_COLLECTION_CHILDREN.equals(getPath().getLastComponent())) {
+      // This bean tree path identifies a collection and its path doesn't have a key yet.
+      // The component identifies the child in the collection.
+      // Replace the collection's segment with one for that child.
+      BeanChildDef childDef = getLastSegment().getChildDef();
+      childSegments.remove(childSegments.size() - 1);
+      if (ALL_COLLECTION_CHILDREN.equals(component)) {
+        // Add a segment that identifies the entire collection.
+        childSegments.add(new BeanTreePathSegment(beanTreePath, childDef));
+      } else {
+        // Add a segment that identifies the specific child.
+        childSegments.add(new BeanTreePathSegment(beanTreePath, childDef, component));
+      }
+    } else {
+      BeanChildDef childDef = findChild(getTypeDef(), component);
       if (childDef == null) {
         if (allowUnresolved) {
-          return false;
-        } else {
-          throw new AssertionError(path + ": can't find " + childName);
-        }
-      }
-      i++;
-      typeDef = childDef.getChildTypeDef();
-      if (childDef.isCollection() && i < components.size()) {
-        // We're in a collection and there are more components.
-        // The next component identifies the child in the collection.
-        // Add a segment for that child.
-        String childKey = components.get(i);
-        i++;
-        if (ALL_COLLECTION_CHILDREN.equals(childKey)) {
-          // Add a segment that identifies the entire collection.
-          getSegments().add(new BeanTreePathSegment(this, childDef));
+          return null;
         } else {
-          // Add a segment that identifies the specific child.
-          getSegments().add(new BeanTreePathSegment(this, childDef, childKey));
+          throw new AssertionError(getPath() + ": can't find " + component);
         }
-      } else {
-        // Either this is a singleton or it's a collection and there are no more components.
-        // Either way, add a segment for the singleton or the collection.
-        getSegments().add(new BeanTreePathSegment(this, childDef));
       }
+      // Add a segment for the singleton or the collection.
+      childSegments.add(new BeanTreePathSegment(beanTreePath, childDef));
     }
-    path.addPath(pathToAdd);
-    return true;
+    return beanTreePath;
+  }
+
+  private BeanTreePath(BeanRepo beanRepo, Path path, List<BeanTreePathSegment> segments) {
+    this.beanRepo = beanRepo;
+    this.path = path;
+    this.segments = Collections.unmodifiableList(segments);
   }
 
   private BeanChildDef findChild(BeanTypeDef typeDef, String childName) {
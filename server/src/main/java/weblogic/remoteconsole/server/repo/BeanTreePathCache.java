@@ -0,0 +1,54 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.repo;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import weblogic.remoteconsole.common.utils.Path;
+
+/**
+ * This class caches a bean repo's resolved bean tree paths, keyed by path.
+ * <p>
+ * A bean tree path only depends on its path and the bean repo's type definitions,
+ * so it never becomes stale.  The cache is bounded, and discards the least recently
+ * used bean tree paths when it's full (e.g. when many different beans have been listed).
+ * <p>
+ * It is shared by all the requests using the bean repo, so it is thread safe.
+ */
+public class BeanTreePathCache {
+  private static final int DEFAULT_MAX_SIZE = 10000;
+
+  private final Map<Path, BeanTreePath> beanTreePaths;
+
+  public BeanTreePathCache() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  public BeanTreePathCache(int maxSize) {
+    boolean accessOrder = true;
+    this.beanTreePaths =
+      new LinkedHashMap<Path, BeanTreePath>(16, 0.75f, accessOrder) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, BeanTreePath> eldest) {
+          return size() > maxSize;
+        }
+      };
+  }
+
+  // Returns the cached bean tree path for a path, or null if it isn't cached.
+  synchronized BeanTreePath get(Path path) {
+    return this.beanTreePaths.get(path);
+  }
+
+  // Adds a resolved bean tree path to the cache.
+  synchronized void put(BeanTreePath beanTreePath) {
+    this.beanTreePaths.put(beanTreePath.getPath(), beanTreePath);
+  }
+
+  // Returns the number of cached bean tree paths.
+  public synchronized int size() {
+    return this.beanTreePaths.size();
+  }
+}
@@ -43,7 +43,7 @@ public class BeanTreePathTemplate {
         // we can't find a match for this template component.  That's OK.
         return null;
       }
-      path.addComponent(pathComponent);
+      path = path.childPath(pathComponent);
     }
     return path;
   }
@@ -0,0 +1,71 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.repo;
+
+import java.util.List;
+
+/**
+ * This class holds one of the beans to modify in a bulk edit,
+ * along with the result of modifying it.
+ * <p>
+ * Its invocation context identifies the bean and the slice form page
+ * whose properties are being modified.
+ */
+public class BulkEditOperation {
+  // The page repo relative path the caller used to identify the bean, e.g. Servers/Server1
+  private String path;
+  private InvocationContext invocationContext;
+
+  // Null until the caller's property values have been validated.
+  private List<FormProperty> properties;
+
+  // Null until the bulk edit has validated or tried to modify the bean.
+  private Response<Void> response;
+
+  // Whether the bean was modified, but the modification was rolled back
+  // because other beans in the bulk edit couldn't be modified.
+  private boolean rolledBack;
+
+  public BulkEditOperation(String path, InvocationContext invocationContext) {
+    this.path = path;
+    this.invocationContext = invocationContext;
+  }
+
+  public String getPath() {
+    return this.path;
+  }
+
+  public InvocationContext getInvocationContext() {
+    return this.invocationContext;
+  }
+
+  public List<FormProperty> getProperties() {
+    return this.properties;
+  }
+
+  public void setProperties(List<FormProperty> properties) {
+    this.properties = properties;
+  }
+
+  public Response<Void> getResponse() {
+    return this.response;
+  }
+
+  public void setResponse(Response<Void> response) {
+    this.response = response;
+  }
+
+  public boolean isRolledBack() {
+    return this.rolledBack;
+  }
+
+  public void setRolledBack(boolean rolledBack) {
+    this.rolledBack = rolledBack;
+  }
+
+  @Override
+  public String toString() {
+    return "BulkEditOperation<" + getPath() + "," + getProperties() + ">";
+  }
+}
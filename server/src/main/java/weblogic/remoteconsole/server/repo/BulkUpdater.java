@@ -0,0 +1,85 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.repo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import weblogic.remoteconsole.common.repodef.LocalizedConstants;
+import weblogic.remoteconsole.server.ConsoleBackendRuntimeConfig;
+import weblogic.remoteconsole.server.utils.ConcurrentTaskRunner;
+
+/**
+ * This class manages modifying the slice form properties of many beans at once.
+ * <p>
+ * All of the beans are modified in one configuration transaction,
+ * i.e. one edit session that's saved once, instead of one per bean.
+ * If any of them can't be modified, none of them are
+ * (see ConfigurationTransactionHelper.editConfigurationAllOrNothing).
+ * If the bean repo supports it, the beans are modified concurrently.
+ * <p>
+ * It's an internal detail of a PageRepo.
+ */
+class BulkUpdater extends PageManager {
+
+  private List<BulkEditOperation> operations;
+
+  BulkUpdater(InvocationContext invocationContext, List<BulkEditOperation> operations) {
+    super(invocationContext);
+    this.operations = operations;
+  }
+
+  Response<Void> update() {
+    Response<Void> response =
+      ConfigurationTransactionHelper.editConfigurationAllOrNothing(
+        getInvocationContext(),
+        new ConfigurationTransactionHelper.ConfigurationEditor() {
+          @Override
+          public Response<Void> editConfiguration() {
+            return doUpdate();
+          }
+        }
+      );
+    if (!response.isSuccess()) {
+      // None of the beans were modified, including the ones whose edits worked.
+      for (BulkEditOperation operation : this.operations) {
+        if (operation.getResponse() != null && operation.getResponse().isSuccess()) {
+          operation.setRolledBack(true);
+        }
+      }
+    }
+    return response;
+  }
+
+  private Response<Void> doUpdate() {
+    List<Supplier<Response<Void>>> tasks = new ArrayList<>();
+    for (BulkEditOperation operation : this.operations) {
+      tasks.add(
+        () -> (new SliceFormUpdater(operation.getInvocationContext(), operation.getProperties())).doUpdate()
+      );
+    }
+    List<Response<Void>> results = ConcurrentTaskRunner.runAll(tasks, getMaxConcurrency());
+    for (int i = 0; i < this.operations.size(); i++) {
+      this.operations.get(i).setResponse(results.get(i));
+    }
+    Response<Void> response = new Response<>();
+    List<Response<Void>> failures = Response.getFailures(results);
+    if (!failures.isEmpty()) {
+      response.addFailureMessage(
+        getInvocationContext().getLocalizer().localizeString(LocalizedConstants.BULK_EDIT_OPERATIONS_FAILED)
+        + failures.size()
+      );
+      return response.copyStatus(failures.get(0));
+    }
+    return response;
+  }
+
+  private int getMaxConcurrency() {
+    if (!getBeanRepo().asBeanEditorRepo().supportsConcurrentEdits()) {
+      return 1;
+    }
+    return ConsoleBackendRuntimeConfig.getMaxInFlightRestCallsPerConnection();
+  }
+}
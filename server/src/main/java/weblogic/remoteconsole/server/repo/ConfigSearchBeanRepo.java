@@ -0,0 +1,27 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.repo;
+
+import java.util.List;
+
+/**
+ * The ConfigSearchBeanRepo interface declares that the BeanRepo supports
+ * full text searches over its configuration (see ConfigSearchIndex).
+ *
+ * The searchConfig method returns the bean tree paths of the beans
+ * whose paths, keys, property names, property labels or property values
+ * match the query.
+ */
+public interface ConfigSearchBeanRepo {
+  /**
+   * Search the configuration using the supplied query and InvocationContext.
+   * Rebuilds the search index first if rebuild is true.
+   */
+  public Response<List<BeanTreePath>> searchConfig(
+    InvocationContext ic,
+    String query,
+    int maxResults,
+    boolean rebuild
+  );
+}
@@ -0,0 +1,524 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.repo;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.util.CharTokenizer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import weblogic.remoteconsole.common.repodef.BeanChildDef;
+import weblogic.remoteconsole.common.repodef.BeanPropertyDef;
+import weblogic.remoteconsole.common.repodef.BeanTypeDef;
+import weblogic.remoteconsole.common.repodef.LocalizedConstants;
+import weblogic.remoteconsole.common.utils.Path;
+import weblogic.remoteconsole.common.utils.StringUtils;
+
+/**
+ * This class is an in-memory Lucene full text index over the configuration in a bean repo.
+ * <p>
+ * There is one document per bean.  It contains the bean's path, key, type
+ * and the names, localized labels and values of the bean's properties that are set.
+ * Searching the index returns the bean tree paths of the matching beans
+ * so that the CFE can link to them.
+ * <p>
+ * The index is read through the bean repo's BeanReaderRepoSearchBuilder, so that it
+ * works the same way for the in-memory WDT bean tree and the WLS REST edit tree.
+ * It's built the first time it's searched, then the bean repo tells it when beans
+ * are created, updated or deleted.  It only records them so that editing a bean
+ * never waits for the index.  They're re-indexed the next time it's searched.
+ * <p>
+ * Only one search uses the index at a time.  Edits don't wait for searches
+ * (even ones that are rebuilding the index) and searches don't wait for edits.
+ * <p>
+ * Only properties that are stored in the configuration are indexed, i.e. secrets,
+ * file contents and properties computed by customizers are not.
+ * Only the properties of the base type of heterogeneous types are indexed.
+ * <p>
+ * The query syntax is the Lucene classic query syntax.  By default, it searches all the fields.
+ * The fields can also be searched individually, e.g. 'value:myhost' or 'label:"listen port"'.
+ */
+public class ConfigSearchIndex {
+  private static final Logger LOGGER = Logger.getLogger(ConfigSearchIndex.class.getName());
+
+  // Searchable fields
+  public static final String FIELD_PATH = "path";
+  public static final String FIELD_TYPE = "type";
+  public static final String FIELD_KEY = "key";
+  public static final String FIELD_PROPERTY = "property";
+  public static final String FIELD_LABEL = "label";
+  public static final String FIELD_VALUE = "value";
+  private static final String[] SEARCH_FIELDS = {
+    FIELD_PATH, FIELD_TYPE, FIELD_KEY, FIELD_PROPERTY, FIELD_LABEL, FIELD_VALUE
+  };
+
+  // The bean's unique id, used to update and delete it
+  private static final String FIELD_ID = "id";
+  // The components of the bean's path, used to recreate its bean tree path
+  private static final String FIELD_SEGMENT = "segment";
+  // Separates the components of the id since keys can contain slashes and dots
+  private static final String ID_SEPARATOR = "\u001f";
+
+  // Splits on anything that's not a letter or a digit so that, for example,
+  // a url like 'jdbc:oracle:thin:@myhost:1521/mysvc' can be found by searching for 'myhost'.
+  private static final Analyzer ANALYZER =
+    new Analyzer() {
+      @Override
+      protected TokenStreamComponents createComponents(String fieldName) {
+        Tokenizer tokenizer = CharTokenizer.fromTokenCharPredicate(Character::isLetterOrDigit);
+        return new TokenStreamComponents(tokenizer, new LowerCaseFilter(tokenizer));
+      }
+    };
+
+  // A bean (or collection) that was edited since the last search
+  private static class PendingChange {
+    private BeanTreePath beanTreePath;
+    private boolean includeChildren;
+    private boolean reindex; // false if the bean was deleted
+
+    private PendingChange(BeanTreePath beanTreePath, boolean includeChildren, boolean reindex) {
+      this.beanTreePath = beanTreePath;
+      this.includeChildren = includeChildren;
+      this.reindex = reindex;
+    }
+  }
+
+  private BeanRepo beanRepo;
+
+  // Only held by search.  Guards the index.
+  private final Object indexLock = new Object();
+
+  // Guarded by indexLock.  null until the index has been built.
+  private IndexWriter writer;
+  private SearcherManager searcherManager;
+  private ConfigSearchLabels labels;
+  private Locale locale;
+
+  // Guarded by this.  Whether the index has been (or is being) built, so that edits need to be recorded,
+  // the edits since the last search, and whether the index must be rebuilt the next time it's searched.
+  private boolean indexed;
+  private List<PendingChange> pendingChanges = new ArrayList<>();
+  private boolean stale;
+
+  public ConfigSearchIndex(BeanRepo beanRepo) {
+    this.beanRepo = beanRepo;
+  }
+
+  // Searches the index, building it first if it hasn't been built yet,
+  // if it's for a different locale, or if the caller asks to rebuild it
+  // (e.g. since the WLS REST edit tree can also be modified by other users).
+  // Otherwise, re-indexes the beans that have been edited since the last search.
+  // Returns the bean tree paths of the maxResults best matching beans.
+  public Response<List<BeanTreePath>> search(
+    InvocationContext ic,
+    String queryText,
+    int maxResults,
+    boolean rebuild
+  ) {
+    Response<List<BeanTreePath>> response = new Response<>();
+    Query query = null;
+    try {
+      QueryParser parser = new MultiFieldQueryParser(SEARCH_FIELDS, ANALYZER);
+      parser.setDefaultOperator(QueryParser.Operator.AND);
+      query = parser.parse(queryText);
+    } catch (ParseException e) {
+      LOGGER.log(Level.FINE, "Invalid configuration search query " + queryText, e);
+      return
+        response
+          .addFailureMessage(ic.getLocalizer().localizeString(LocalizedConstants.INVALID_SEARCH_QUERY) + queryText)
+          .setUserBadRequest();
+    }
+    synchronized (indexLock) {
+      Response<Void> updateResponse = update(ic, rebuild);
+      if (!updateResponse.isSuccess()) {
+        return response.copyUnsuccessfulResponse(updateResponse);
+      }
+      return search(query, maxResults);
+    }
+  }
+
+  private Response<List<BeanTreePath>> search(Query query, int maxResults) {
+    Response<List<BeanTreePath>> response = new Response<>();
+    try {
+      searcherManager.maybeRefreshBlocking();
+      IndexSearcher searcher = searcherManager.acquire();
+      try {
+        List<BeanTreePath> beanTreePaths = new ArrayList<>();
+        TopDocs topDocs = searcher.search(query, maxResults);
+        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+          BeanTreePath beanTreePath = getBeanTreePath(searcher.doc(scoreDoc.doc));
+          if (beanTreePath != null) {
+            beanTreePaths.add(beanTreePath);
+          }
+        }
+        return response.setSuccess(beanTreePaths);
+      } finally {
+        searcherManager.release(searcher);
+      }
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "Unable to search the configuration search index", e);
+      return response.setServiceNotAvailable();
+    }
+  }
+
+  // Records that a bean's properties have been updated
+  // so that it's re-indexed the next time the index is searched.
+  public void beanUpdated(BeanTreePath beanTreePath) {
+    addPendingChange(new PendingChange(beanTreePath, false, true));
+  }
+
+  // Records that a bean has been created so that it, and the beans under it,
+  // are re-indexed the next time the index is searched.
+  // If the bean tree path is a collection, the whole collection is re-indexed.
+  public void beanCreated(BeanTreePath beanTreePath) {
+    addPendingChange(new PendingChange(beanTreePath, true, true));
+  }
+
+  // Records that a bean has been deleted so that it, and the beans under it,
+  // are removed the next time the index is searched.
+  public void beanDeleted(BeanTreePath beanTreePath) {
+    addPendingChange(new PendingChange(beanTreePath, true, false));
+  }
+
+  // Discards the index (e.g. after the pending changes were discarded).
+  // It will be rebuilt (and its memory released) the next time it's searched.
+  public synchronized void discard() {
+    indexed = false;
+    pendingChanges = new ArrayList<>();
+    stale = true;
+  }
+
+  private synchronized void addPendingChange(PendingChange change) {
+    if (indexed) {
+      pendingChanges.add(change);
+    } // otherwise it will include this bean when it's built
+  }
+
+  // Brings the index up to date before searching it.  Must be called with the index lock held.
+  private Response<Void> update(InvocationContext ic, boolean rebuild) {
+    List<PendingChange> changes = null;
+    boolean mustBuild = rebuild || writer == null || !ic.getLocalizer().getLocale().equals(locale);
+    synchronized (this) {
+      mustBuild = mustBuild || stale;
+      stale = false;
+      // Edits made from now on are recorded and applied by the next search
+      // since the rebuild or re-indexing might not see them.
+      indexed = true;
+      changes = pendingChanges;
+      pendingChanges = new ArrayList<>();
+    }
+    if (mustBuild) {
+      return build(ic); // includes the pending changes
+    }
+    try {
+      for (PendingChange change : changes) {
+        delete(change.beanTreePath, change.includeChildren);
+        if (change.reindex) {
+          Response<Void> response = index(ic, change.beanTreePath, change.includeChildren);
+          if (!response.isSuccess()) {
+            // Rather than returning stale results, rebuild the index.
+            return build(ic);
+          }
+        }
+      }
+      return new Response<Void>().setSuccess(null);
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "Unable to update the configuration search index", e);
+      return build(ic);
+    }
+  }
+
+  private Response<Void> build(InvocationContext ic) {
+    close();
+    long start = System.currentTimeMillis();
+    Response<Void> response = new Response<>();
+    try {
+      writer = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(ANALYZER));
+      searcherManager = new SearcherManager(writer, null);
+      labels = new ConfigSearchLabels(ic.getPageRepo().getPageRepoDef(), ic.getLocalizer());
+      locale = ic.getLocalizer().getLocale();
+      Path rootPath = new Path();
+      for (BeanChildDef childDef : getChildDefs(beanRepo.getBeanRepoDef().getRootTypeDef())) {
+        response = index(ic, BeanTreePath.create(beanRepo, rootPath.childPath(childDef.getChildName())), true);
+        if (!response.isSuccess()) {
+          close();
+          discard();
+          return response;
+        }
+      }
+      LOGGER.fine("Built configuration search index ms=" + (System.currentTimeMillis() - start));
+      return response.setSuccess(null);
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "Unable to build the configuration search index", e);
+      close();
+      discard();
+      return response.setServiceNotAvailable();
+    }
+  }
+
+  // Closes the index.  Must be called with the index lock held.
+  private void close() {
+    if (writer == null) {
+      return;
+    }
+    try {
+      searcherManager.close();
+      writer.close();
+    } catch (IOException e) {
+      LOGGER.log(Level.FINE, "Unable to close the configuration search index", e);
+    }
+    writer = null;
+    searcherManager = null;
+    labels = null;
+    locale = null;
+  }
+
+  private void delete(BeanTreePath beanTreePath, boolean includeChildren) throws IOException {
+    String id = getId(beanTreePath.getPath());
+    writer.deleteDocuments(new Term(FIELD_ID, id));
+    if (includeChildren) {
+      writer.deleteDocuments(new PrefixQuery(new Term(FIELD_ID, id + ID_SEPARATOR)));
+    }
+  }
+
+  // Indexes a bean or collection, and optionally the beans under it, with one search.
+  private Response<Void> index(
+    InvocationContext ic,
+    BeanTreePath beanTreePath,
+    boolean includeChildren
+  ) throws IOException {
+    Response<Void> response = new Response<>();
+    BeanReaderRepoSearchBuilder builder =
+      beanRepo.asBeanReaderRepo().createSearchBuilder(ic, true); // include whether each property is set
+    addProperties(builder, beanTreePath, includeChildren, new HashSet<>());
+    Response<BeanReaderRepoSearchResults> searchResponse = builder.search();
+    if (!searchResponse.isSuccess()) {
+      return response.copyUnsuccessfulResponse(searchResponse);
+    }
+    addDocuments(searchResponse.getResults(), beanTreePath, includeChildren, new HashSet<>());
+    return response.setSuccess(null);
+  }
+
+  // Adds the indexed properties of a bean, or a collection of beans,
+  // and optionally the beans under it, to the search.
+  private void addProperties(
+    BeanReaderRepoSearchBuilder builder,
+    BeanTreePath beanTreePath,
+    boolean includeChildren,
+    Set<String> ancestorTypeNames
+  ) {
+    BeanTypeDef typeDef = beanTreePath.getTypeDef();
+    if (!ancestorTypeNames.add(typeDef.getTypeName())) {
+      return; // the type contains itself
+    }
+    BeanPropertyDef identityPropertyDef = typeDef.getIdentityPropertyDef();
+    if (identityPropertyDef != null) {
+      // so that the search returns the beans even if none of their properties are indexed
+      builder.addProperty(beanTreePath, identityPropertyDef);
+    }
+    for (BeanPropertyDef propertyDef : getIndexedPropertyDefs(typeDef)) {
+      builder.addProperty(beanTreePath, propertyDef);
+    }
+    if (includeChildren) {
+      for (BeanChildDef childDef : getChildDefs(typeDef)) {
+        addProperties(builder, beanTreePath.childPath(new Path(childDef.getChildName())), true, ancestorTypeNames);
+      }
+    }
+    ancestorTypeNames.remove(typeDef.getTypeName());
+  }
+
+  // Adds a document for a bean, or for each bean in a collection,
+  // and optionally for the beans under them, from the search results.
+  private void addDocuments(
+    BeanReaderRepoSearchResults results,
+    BeanTreePath beanTreePath,
+    boolean includeChildren,
+    Set<String> ancestorTypeNames
+  ) throws IOException {
+    BeanTypeDef typeDef = beanTreePath.getTypeDef();
+    if (!ancestorTypeNames.add(typeDef.getTypeName())) {
+      return; // the type contains itself
+    }
+    List<BeanSearchResults> beans = new ArrayList<>();
+    if (beanTreePath.isCollection()) {
+      List<BeanSearchResults> collection = results.getUnsortedCollection(beanTreePath);
+      if (collection != null) {
+        beans.addAll(collection);
+      }
+    } else {
+      BeanSearchResults bean = results.getBean(beanTreePath);
+      if (bean != null) {
+        beans.add(bean);
+      }
+    }
+    for (BeanSearchResults bean : beans) {
+      addDocument(bean);
+      if (includeChildren) {
+        for (BeanChildDef childDef : getChildDefs(typeDef)) {
+          addDocuments(
+            results,
+            bean.getBeanTreePath().childPath(new Path(childDef.getChildName())),
+            true,
+            ancestorTypeNames
+          );
+        }
+      }
+    }
+    ancestorTypeNames.remove(typeDef.getTypeName());
+  }
+
+  private void addDocument(BeanSearchResults bean) throws IOException {
+    BeanTreePath beanTreePath = bean.getBeanTreePath();
+    BeanTypeDef typeDef = beanTreePath.getTypeDef();
+    BeanTreePathSegment lastSegment = beanTreePath.getLastSegment();
+    String id = getId(beanTreePath.getPath());
+    Document doc = new Document();
+    doc.add(new StringField(FIELD_ID, id, Field.Store.NO));
+    for (String component : beanTreePath.getPath().getComponents()) {
+      doc.add(new StoredField(FIELD_SEGMENT, component));
+    }
+    addText(doc, FIELD_PATH, beanTreePath.getPath().getSlashSeparatedPath());
+    addText(doc, FIELD_TYPE, typeDef.getTypeName());
+    addText(doc, FIELD_LABEL, labels.localize(lastSegment.getChildDef().getLabel()));
+    if (lastSegment.isKeySet()) {
+      addText(doc, FIELD_KEY, lastSegment.getKey());
+    }
+    for (BeanPropertyDef propertyDef : getIndexedPropertyDefs(typeDef)) {
+      Value value = bean.getUnsortedValue(propertyDef);
+      if (value == null || (value.isSettable() && value.asSettable().isUnset())) {
+        continue; // only index the properties that have been configured
+      }
+      List<String> texts = new ArrayList<>();
+      addValueText(Value.unsettableValue(value), texts);
+      if (texts.isEmpty()) {
+        continue;
+      }
+      addText(doc, FIELD_PROPERTY, propertyDef.getPropertyName());
+      addText(doc, FIELD_LABEL, labels.getLabel(typeDef, propertyDef));
+      for (String text : texts) {
+        addText(doc, FIELD_VALUE, text);
+      }
+    }
+    writer.updateDocument(new Term(FIELD_ID, id), doc);
+  }
+
+  private static void addText(Document doc, String field, String text) {
+    if (StringUtils.notEmpty(text)) {
+      doc.add(new TextField(field, text, Field.Store.NO));
+    }
+  }
+
+  private static void addValueText(Value value, List<String> texts) {
+    if (value == null) {
+      return;
+    }
+    if (value.isString()) {
+      texts.add(value.asString().getValue());
+    } else if (value.isInt()) {
+      texts.add(String.valueOf(value.asInt().getValue()));
+    } else if (value.isLong()) {
+      texts.add(String.valueOf(value.asLong().getValue()));
+    } else if (value.isDouble()) {
+      texts.add(String.valueOf(value.asDouble().getValue()));
+    } else if (value.isBoolean()) {
+      texts.add(String.valueOf(value.asBoolean().getValue()));
+    } else if (value.isBeanTreePath()) {
+      texts.add(value.asBeanTreePath().getPath().getSlashSeparatedPath());
+    } else if (value.isUnresolvedReference()) {
+      texts.add(value.asUnresolvedReference().getKey());
+    } else if (value.isModelToken()) {
+      texts.add(value.asModelToken().getToken());
+    } else if (value.isReferenceAsReferences()) {
+      for (Value reference : value.asReferenceAsReferences().asReferences()) {
+        addValueText(reference, texts);
+      }
+    } else if (value.isArray()) {
+      for (Value element : value.asArray().getValues()) {
+        addValueText(element, texts);
+      }
+    } else if (value.isProperties()) {
+      // Only index the names since properties often hold credentials (e.g. JDBC driver properties)
+      Properties properties = value.asProperties().getValue();
+      if (properties != null) {
+        texts.addAll(properties.stringPropertyNames());
+      }
+    }
+    // Otherwise the value isn't searchable text (e.g. an unknown value or a null reference)
+  }
+
+  private static List<BeanPropertyDef> getIndexedPropertyDefs(BeanTypeDef typeDef) {
+    List<BeanPropertyDef> rtn = new ArrayList<>();
+    for (BeanPropertyDef propertyDef : typeDef.getPropertyDefs()) {
+      if (isIndexed(propertyDef)) {
+        rtn.add(propertyDef);
+      }
+    }
+    return rtn;
+  }
+
+  private static boolean isIndexed(BeanPropertyDef propertyDef) {
+    if (!propertyDef.getParentPath().isEmpty()) {
+      return false; // indexed with the child bean that holds it
+    }
+    if (propertyDef.isKey() || propertyDef.isIdentity()) {
+      return false; // indexed as the bean's key and path
+    }
+    if (propertyDef.isSecret() || propertyDef.isFileContents()
+        || propertyDef.isThrowable() || propertyDef.isHealthState()) {
+      return false;
+    }
+    return propertyDef.getGetValueCustomizerDef() == null;
+  }
+
+  // Returns the type's direct children (the ones with parent paths are the children of its children).
+  private static List<BeanChildDef> getChildDefs(BeanTypeDef typeDef) {
+    List<BeanChildDef> rtn = new ArrayList<>();
+    for (BeanChildDef childDef : typeDef.getChildDefs()) {
+      if (childDef.getParentPath().isEmpty()) {
+        rtn.add(childDef);
+      }
+    }
+    return rtn;
+  }
+
+  private BeanTreePath getBeanTreePath(Document doc) {
+    Path path = new Path();
+    for (String component : doc.getValues(FIELD_SEGMENT)) {
+      path = path.childPath(component);
+    }
+    // null if the bean's type is no longer in the bean repo def
+    return BeanTreePath.createAllowUnresolved(beanRepo, path);
+  }
+
+  private static String getId(Path path) {
+    return String.join(ID_SEPARATOR, path.getComponents());
+  }
+}
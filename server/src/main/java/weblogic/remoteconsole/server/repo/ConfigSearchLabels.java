@@ -0,0 +1,65 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.repo;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import weblogic.remoteconsole.common.repodef.BeanPropertyDef;
+import weblogic.remoteconsole.common.repodef.BeanTypeDef;
+import weblogic.remoteconsole.common.repodef.LocalizableString;
+import weblogic.remoteconsole.common.repodef.Localizer;
+import weblogic.remoteconsole.common.repodef.PageDef;
+import weblogic.remoteconsole.common.repodef.PageDefWalker;
+import weblogic.remoteconsole.common.repodef.PagePropertyDef;
+import weblogic.remoteconsole.common.repodef.PageRepoDef;
+import weblogic.remoteconsole.common.utils.Path;
+import weblogic.remoteconsole.common.utils.StringUtils;
+
+/**
+ * This class walks all the pages in a page repo and collects the localized
+ * labels of their properties so that the configuration search index can
+ * index the labels the user sees (e.g. 'Listen Port') along with the
+ * property names (e.g. 'ListenPort').
+ * <p>
+ * Bean property defs don't have labels, only the page property defs do.
+ */
+class ConfigSearchLabels extends PageDefWalker {
+
+  private Localizer localizer;
+
+  // Maps type name + property path to the property's label.
+  // Also maps just the property path, for subtypes whose pages use the subtype's type name.
+  private Map<String,String> labels = new HashMap<>();
+
+  ConfigSearchLabels(PageRepoDef pageRepoDef, Localizer localizer) {
+    this.localizer = localizer;
+    walk(pageRepoDef);
+  }
+
+  @Override
+  protected void processPageDef(PageDef pageDef) {
+    for (PagePropertyDef propertyDef : pageDef.getAllPropertyDefs()) {
+      String label = localizer.localizeString(propertyDef.getLabel());
+      if (StringUtils.notEmpty(label)) {
+        labels.putIfAbsent(getKey(propertyDef.getTypeDef().getTypeName(), propertyDef.getPropertyPath()), label);
+        labels.putIfAbsent(getKey("", propertyDef.getPropertyPath()), label);
+      }
+    }
+  }
+
+  // Returns the label of a property of a type, or null if no page displays the property.
+  String getLabel(BeanTypeDef typeDef, BeanPropertyDef propertyDef) {
+    String label = labels.get(getKey(typeDef.getTypeName(), propertyDef.getPropertyPath()));
+    return (label != null) ? label : labels.get(getKey("", propertyDef.getPropertyPath()));
+  }
+
+  String localize(LocalizableString localizableString) {
+    return localizer.localizeString(localizableString);
+  }
+
+  private static String getKey(String typeName, Path propertyPath) {
+    return typeName + ":" + propertyPath.getDotSeparatedPath();
+  }
+}
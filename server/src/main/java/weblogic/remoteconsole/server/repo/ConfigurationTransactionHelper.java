@@ -3,6 +3,8 @@
 
 package weblogic.remoteconsole.server.repo;
 
+import weblogic.remoteconsole.common.repodef.LocalizedConstants;
+
 /**
  * When a page makes edits to the bean repo (e.g. adds, modifies, deletes beans),
  * the bean repo may require some extra work be done before starting to make
@@ -52,6 +54,60 @@ public class ConfigurationTransactionHelper {
     return response;
   }
 
+  // Like editConfiguration, but for editors that modify several beans and must either
+  // modify all of them or none of them (e.g. bulk edits).
+  //
+  // If some of the edits fail, the ones that worked must not be left unsaved in the
+  // edit session, otherwise the next unrelated save would save them.  The WLS REST api
+  // can't undo just the unsaved edits, so the edit session is discarded instead.
+  // That's only safe if the edit session didn't have any changes before these edits,
+  // so the edits aren't made if it did.
+  //
+  // Bean repos that don't support transactions (e.g. WDT) just make the edits.
+  public static Response<Void> editConfigurationAllOrNothing(InvocationContext ic, ConfigurationEditor editor) {
+    BeanRepo beanRepo = ic.getPageRepo().getBeanRepo();
+    if (!beanRepo.isChangeManagerBeanRepo()) {
+      // The bean repo doesn't support transactions. Just do the work.
+      return editor.editConfiguration();
+    }
+    ChangeManagerBeanRepo changeManagerBeanRepo = beanRepo.asChangeManagerBeanRepo();
+    return editConfiguration(
+      ic,
+      new ConfigurationEditor() {
+        @Override
+        public Response<Void> editConfiguration() {
+          Response<Void> response = new Response<>();
+          Response<ChangeManagerStatus> statusResponse =
+            ic.getPageRepo().asChangeManagerPageRepo().getChangeManagerStatus(ic);
+          if (!statusResponse.isSuccess()) {
+            return response.copyUnsuccessfulResponse(statusResponse);
+          }
+          if (statusResponse.getResults().isHasChanges()) {
+            response.addFailureMessage(
+              ic.getLocalizer().localizeString(LocalizedConstants.COMMIT_OR_DISCARD_PENDING_CHANGES_FIRST)
+            );
+            return response.setUserBadRequest();
+          }
+          Response<Void> editResponse = editor.editConfiguration();
+          if (editResponse.isSuccess()) {
+            return response.copyMessages(editResponse);
+          }
+          response.copyUnsuccessfulResponse(editResponse);
+          Response<Void> discardResponse = changeManagerBeanRepo.discardChanges(ic);
+          if (!discardResponse.isSuccess()) {
+            response.copyMessages(discardResponse);
+            return response.addFailureMessage(
+              ic.getLocalizer().localizeString(LocalizedConstants.CHANGES_NOT_ROLLED_BACK)
+            );
+          }
+          return response.addFailureMessage(
+            ic.getLocalizer().localizeString(LocalizedConstants.NO_CHANGES_APPLIED)
+          );
+        }
+      }
+    );
+  }
+
   public interface ConfigurationEditor {
     Response<Void> editConfiguration();
   }
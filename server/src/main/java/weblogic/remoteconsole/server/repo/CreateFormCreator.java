@@ -5,8 +5,11 @@ package weblogic.remoteconsole.server.repo;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 import weblogic.remoteconsole.common.utils.Path;
+import weblogic.remoteconsole.server.ConsoleBackendRuntimeConfig;
+import weblogic.remoteconsole.server.utils.ConcurrentTaskRunner;
 
 /**
  * This class manages creating a new bean.
@@ -44,6 +47,62 @@ public class CreateFormCreator extends FormManager {
     );
   }
   
+  // Creates several new beans in one configuration transaction,
+  // i.e. one edit session and one save v.s. one per bean.
+  //
+  // Each batch is a list of creators that must run in order, e.g. to create a bean
+  // then the beans in its child collections.  The batches are independent of each
+  // other and are created concurrently if the bean repo supports it.
+  //
+  // If a bean can't be created, the rest of its batch is skipped and none of the beans are created
+  // (see ConfigurationTransactionHelper.editConfigurationAllOrNothing).  So, it's refused if
+  // there are already pending changes.  Use create, which doesn't have these restrictions,
+  // to create one bean.
+  public static Response<Void> createAll(InvocationContext ic, List<List<CreateFormCreator>> batches) {
+    return ConfigurationTransactionHelper.editConfigurationAllOrNothing(
+      ic,
+      new ConfigurationTransactionHelper.ConfigurationEditor() {
+        @Override
+        public Response<Void> editConfiguration() {
+          return doCreateAll(ic, batches);
+        }
+      }
+    );
+  }
+
+  private static Response<Void> doCreateAll(InvocationContext ic, List<List<CreateFormCreator>> batches) {
+    List<Supplier<Response<Void>>> tasks = new ArrayList<>();
+    for (List<CreateFormCreator> batch : batches) {
+      tasks.add(() -> doCreateBatch(batch));
+    }
+    int maxConcurrency =
+      ic.getPageRepo().getBeanRepo().asBeanEditorRepo().supportsConcurrentEdits()
+        ? ConsoleBackendRuntimeConfig.getMaxInFlightRestCallsPerConnection()
+        : 1;
+    List<Response<Void>> batchResponses = ConcurrentTaskRunner.runAll(tasks, maxConcurrency);
+    Response<Void> response = new Response<>();
+    for (Response<Void> batchResponse : batchResponses) {
+      response.copyMessages(batchResponse);
+    }
+    List<Response<Void>> failures = Response.getFailures(batchResponses);
+    if (!failures.isEmpty()) {
+      response.copyStatus(failures.get(0));
+    }
+    return response;
+  }
+
+  private static Response<Void> doCreateBatch(List<CreateFormCreator> batch) {
+    Response<Void> response = new Response<>();
+    for (CreateFormCreator creator : batch) {
+      Response<Void> createResponse = creator.doCreate();
+      response.copyMessages(createResponse);
+      if (!createResponse.isSuccess()) {
+        return response.copyStatus(createResponse);
+      }
+    }
+    return response;
+  }
+
   private Response<Void> doCreate() {
     Response<Void> overallResponse = new Response<>();
     createTopLevelBean(overallResponse);
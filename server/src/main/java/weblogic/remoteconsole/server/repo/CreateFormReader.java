@@ -48,7 +48,7 @@ class CreateFormReader extends FormReader {
   private Response<CreateFormDef> getCreateFormDef() {
     Response<CreateFormDef> response = new Response<>();
     CreateFormPagePath pagePath = getInvocationContext().getPagePath().asCreateFormPagePath();
-    PageDef pageDef = getPageRepoDef().getPageDef(pagePath);
+    PageDef pageDef = getPageDef(pagePath);
     if (pageDef == null) {
       // The slice doesn't exist
       LOGGER.warning("Can't find create form " + pagePath);
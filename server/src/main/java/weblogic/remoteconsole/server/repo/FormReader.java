@@ -9,7 +9,6 @@ import java.util.List;
 import weblogic.remoteconsole.common.repodef.BeanPropertyCustomizerDef;
 import weblogic.remoteconsole.common.repodef.BeanPropertyDef;
 import weblogic.remoteconsole.common.repodef.PagePropertyDef;
-import weblogic.remoteconsole.common.utils.CustomizerInvocationUtils;
 import weblogic.remoteconsole.common.utils.Path;
 
 /**
@@ -154,7 +153,7 @@ class FormReader extends PageReader {
     BeanPropertyCustomizerDef customizerDef = propertyDef.getGetOptionsCustomizerDef();
     boolean argsIncludeIsSet = false;
     List<Object> args = getArguments(customizerDef, beanResults, searchResults, argsIncludeIsSet); 
-    Object rtn = CustomizerInvocationUtils.invokeMethod(customizerDef.getMethod(), args);
+    Object rtn = invokeCustomizer(customizerDef, args);
     @SuppressWarnings("unchecked")
     Response<List<Option>> customizerResponse = (Response<List<Option>>)rtn;
     return customizerResponse;
@@ -0,0 +1,208 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.repo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.MMapDirectory;
+import weblogic.remoteconsole.common.repodef.LocalizableString;
+import weblogic.remoteconsole.common.repodef.LocalizedConstants;
+import weblogic.remoteconsole.common.repodef.weblogic.WebLogicHelpIndexUtils;
+import weblogic.remoteconsole.common.utils.StringUtils;
+import weblogic.remoteconsole.server.providers.Root;
+
+/**
+ * This class searches the prebuilt index of the labels and help of a page repo's pages
+ * (see HelpIndexCreator and WebLogicHelpIndexUtils).
+ * <p>
+ * The index is read-only, so it's opened once per WebLogic version and shared by all
+ * the page repos for that version.  It's memory mapped so that it's paged in on demand
+ * instead of being loaded into the heap.  If the index is in a jar, it's copied to
+ * a temporary directory first since memory mapping needs a real file.
+ * <p>
+ * The index's text is english, so the query is matched against the english labels and help.
+ * The results are localized using the resource bundle keys stored in the index.
+ */
+public class HelpSearchIndex {
+  private static final Logger LOGGER = Logger.getLogger(HelpSearchIndex.class.getName());
+
+  // Favor matching a label or property name over just matching the help text
+  private static final Map<String,Float> BOOSTS = new HashMap<>();
+
+  static {
+    BOOSTS.put(WebLogicHelpIndexUtils.FIELD_LABEL, 4.0f);
+    BOOSTS.put(WebLogicHelpIndexUtils.FIELD_PROPERTY, 3.0f);
+    BOOSTS.put(WebLogicHelpIndexUtils.FIELD_PAGE_TITLE, 2.0f);
+    BOOSTS.put(WebLogicHelpIndexUtils.FIELD_TYPE, 1.5f);
+    BOOSTS.put(WebLogicHelpIndexUtils.FIELD_NAV_TREE_PATH, 1.5f);
+    BOOSTS.put(WebLogicHelpIndexUtils.FIELD_HELP_TEXT, 1.0f);
+  }
+
+  // Maps from an index name to its index
+  private static final Map<String,HelpSearchIndex> INDEXES = new ConcurrentHashMap<>();
+
+  private String indexName;
+  private Analyzer analyzer = WebLogicHelpIndexUtils.newAnalyzer();
+  // null if the index couldn't be opened
+  private IndexSearcher searcher;
+
+  private HelpSearchIndex(String indexName) {
+    this.indexName = indexName;
+    try {
+      this.searcher = open();
+    } catch (Exception e) {
+      LOGGER.log(Level.WARNING, "Unable to open the help search index " + indexName, e);
+    }
+  }
+
+  // Searches the help of the invocation context's page repo.
+  // Returns the maxResults best matching pages and properties.
+  public static Response<List<HelpSearchResult>> search(InvocationContext ic, String queryText, int maxResults) {
+    String indexName = ic.getPageRepo().getPageRepoDef().getHelpIndexName();
+    HelpSearchIndex index = INDEXES.computeIfAbsent(indexName, HelpSearchIndex::new);
+    return index.search(ic, queryText, maxResults, getPerspective(ic));
+  }
+
+  private Response<List<HelpSearchResult>> search(
+    InvocationContext ic,
+    String queryText,
+    int maxResults,
+    String perspective
+  ) {
+    Response<List<HelpSearchResult>> response = new Response<>();
+    if (searcher == null) {
+      return response.setServiceNotAvailable();
+    }
+    Query textQuery = null;
+    try {
+      QueryParser parser = new MultiFieldQueryParser(WebLogicHelpIndexUtils.SEARCH_FIELDS, analyzer, BOOSTS);
+      parser.setDefaultOperator(QueryParser.Operator.AND);
+      textQuery = parser.parse(queryText);
+    } catch (ParseException e) {
+      LOGGER.log(Level.FINE, "Invalid help search query " + queryText, e);
+      return
+        response
+          .addFailureMessage(ic.getLocalizer().localizeString(LocalizedConstants.INVALID_SEARCH_QUERY) + queryText)
+          .setUserBadRequest();
+    }
+    Query query =
+      new BooleanQuery.Builder()
+        .add(textQuery, BooleanClause.Occur.MUST)
+        .add(
+          new TermQuery(new Term(WebLogicHelpIndexUtils.FIELD_PERSPECTIVE, perspective)),
+          BooleanClause.Occur.FILTER
+        )
+        .build();
+    try {
+      List<HelpSearchResult> results = new ArrayList<>();
+      TopDocs topDocs = searcher.search(query, maxResults);
+      for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+        results.add(toResult(ic, searcher.doc(scoreDoc.doc)));
+      }
+      return response.setSuccess(results);
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "Unable to search the help search index " + indexName, e);
+      return response.setServiceNotAvailable();
+    }
+  }
+
+  private HelpSearchResult toResult(InvocationContext ic, Document doc) {
+    return
+      new HelpSearchResult(
+        doc.get(WebLogicHelpIndexUtils.FIELD_PAGE_URI),
+        localize(ic, doc, WebLogicHelpIndexUtils.FIELD_PAGE_TITLE, WebLogicHelpIndexUtils.FIELD_PAGE_TITLE_KEY),
+        doc.get(WebLogicHelpIndexUtils.FIELD_TYPE),
+        doc.get(WebLogicHelpIndexUtils.FIELD_PROPERTY),
+        localize(ic, doc, WebLogicHelpIndexUtils.FIELD_LABEL, WebLogicHelpIndexUtils.FIELD_LABEL_KEY),
+        localize(ic, doc, WebLogicHelpIndexUtils.FIELD_HELP_SUMMARY, WebLogicHelpIndexUtils.FIELD_HELP_SUMMARY_KEY),
+        Arrays.asList(doc.getValues(WebLogicHelpIndexUtils.FIELD_NAV_TREE_PATH))
+      );
+  }
+
+  private String localize(InvocationContext ic, Document doc, String field, String keyField) {
+    String english = doc.get(field);
+    if (english == null) {
+      return null;
+    }
+    return ic.getLocalizer().localizeString(new LocalizableString(doc.get(keyField), english));
+  }
+
+  // The index only has the edit and domainRuntime pages.
+  // The other configuration page repos (e.g. serverConfig) use the same pages as edit.
+  private static String getPerspective(InvocationContext ic) {
+    String pageRepoName = ic.getPageRepo().getPageRepoDef().getName();
+    return Root.DOMAIN_RUNTIME_NAME.equals(pageRepoName) ? Root.DOMAIN_RUNTIME_NAME : Root.EDIT_NAME;
+  }
+
+  private IndexSearcher open() throws Exception {
+    String filesResource = indexName + "/" + WebLogicHelpIndexUtils.FILES_NAME;
+    URL filesURL = HelpSearchIndex.class.getClassLoader().getResource(filesResource);
+    if (filesURL == null) {
+      LOGGER.warning("Missing help search index " + indexName);
+      return null;
+    }
+    Path dir = null;
+    if ("file".equals(filesURL.getProtocol())) {
+      dir = Paths.get(filesURL.toURI()).getParent();
+    } else {
+      dir = extract(getFiles(filesURL));
+    }
+    return new IndexSearcher(DirectoryReader.open(new MMapDirectory(dir)));
+  }
+
+  // Copies the index's files out of the jar into a temporary directory
+  private Path extract(List<String> files) throws IOException {
+    Path dir = Files.createTempDirectory(indexName);
+    dir.toFile().deleteOnExit();
+    for (String file : files) {
+      Path path = dir.resolve(file);
+      try (InputStream is = HelpSearchIndex.class.getClassLoader().getResourceAsStream(indexName + "/" + file)) {
+        if (is == null) {
+          throw new IOException("Missing help search index file " + indexName + "/" + file);
+        }
+        Files.copy(is, path);
+      }
+      path.toFile().deleteOnExit();
+    }
+    return dir;
+  }
+
+  private List<String> getFiles(URL filesURL) throws IOException {
+    try (BufferedReader reader =
+      new BufferedReader(new InputStreamReader(filesURL.openStream(), StandardCharsets.UTF_8))) {
+      return reader.lines().filter(StringUtils::notEmpty).collect(Collectors.toList());
+    }
+  }
+}
@@ -0,0 +1,73 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.repo;
+
+import java.util.List;
+
+/**
+ * This class describes a page, or a property on a page, that matched a help search
+ * (see HelpSearchIndex).
+ *
+ * The strings have been localized.  The property and help summary are null
+ * if the page, rather than one of its properties, matched.
+ */
+public class HelpSearchResult {
+
+  private String pageURI;
+  private String pageTitle;
+  private String type;
+  private String property;
+  private String label;
+  private String helpSummaryHTML;
+  private List<String> navTreePath;
+
+  HelpSearchResult(
+    String pageURI,
+    String pageTitle,
+    String type,
+    String property,
+    String label,
+    String helpSummaryHTML,
+    List<String> navTreePath
+  ) {
+    this.pageURI = pageURI;
+    this.pageTitle = pageTitle;
+    this.type = type;
+    this.property = property;
+    this.label = label;
+    this.helpSummaryHTML = helpSummaryHTML;
+    this.navTreePath = navTreePath;
+  }
+
+  // The page's uri, relative to the page repo's pages, e.g. ServerMBean?view=Tuning
+  public String getPageURI() {
+    return pageURI;
+  }
+
+  public String getPageTitle() {
+    return pageTitle;
+  }
+
+  public String getType() {
+    return type;
+  }
+
+  public String getProperty() {
+    return property;
+  }
+
+  public String getLabel() {
+    return label;
+  }
+
+  public String getHelpSummaryHTML() {
+    return helpSummaryHTML;
+  }
+
+  // The names of the nav tree nodes that lead to the page.
+  // '*' is used for the name of a child of a collection.
+  public List<String> getNavTreePath() {
+    return navTreePath;
+  }
+}
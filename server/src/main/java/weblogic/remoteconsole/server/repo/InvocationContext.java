@@ -7,6 +7,8 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import javax.json.Json;
+import javax.json.JsonObject;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ResourceContext;
 import javax.ws.rs.core.HttpHeaders;
@@ -29,12 +31,19 @@ import weblogic.remoteconsole.server.providers.Root;
  *   <li>the connection</li>
  *   <li>the perspective</li>
  *   <li>the client's preferred locale (for i18n)</li>
+ *   <li>how long each phase of processing the request took</li>
+ *   <li>how much of the request's time budget is left</li>
  * </ul>
  */
 public class InvocationContext {
   /** The property name for the Console Backend session id in the ContainerRequestContext */
   public static final String CONSOLE_BACKEND_SESSION_ID = "wls.console.backend.session";
 
+  private static final String CURRENT_VERSION_RESOURCE_BUNDLE_NAME =
+    WebLogicLocalizationUtils.getResourceBundleName(
+      WebLogicVersions.getCurrentVersion().getDomainVersion()
+    );
+
   // the connection to a weblogic domain
   // null if not connected to a domain
   private Connection connection;
@@ -57,7 +66,7 @@ public class InvocationContext {
 
   public void setPageRepo(PageRepo pageRepo) {
     this.pageRepo = pageRepo;
-    this.localizer = new Localizer(pageRepo.getPageRepoDef().getResourceBundleName(), this.locales);
+    setLocalizerResourceBundleName(pageRepo.getPageRepoDef().getResourceBundleName());
   }
 
   public boolean setPageRepoByName(String rootName) {
@@ -79,13 +88,28 @@ public class InvocationContext {
 
   // localizes strings based on the page repo def's resource bundle
   // and the client's preferred language.
-  // null if not connected to a domain.
+  // Created on demand since many requests (e.g. for static resources
+  // or provider management) never localize anything.
   private Localizer localizer;
 
+  // the resource bundle that the localizer should use
+  private String localizerResourceBundleName;
+
   public Localizer getLocalizer() {
+    if (this.localizer == null) {
+      this.localizer = new Localizer(this.localizerResourceBundleName, this.locales);
+    }
     return this.localizer;
   }
 
+  private void setLocalizerResourceBundleName(String resourceBundleName) {
+    if (this.localizer != null && resourceBundleName.equals(this.localizerResourceBundleName)) {
+      return; // the current localizer is still valid
+    }
+    this.localizerResourceBundleName = resourceBundleName;
+    this.localizer = null;
+  }
+
   // identifies a bean or a collection of beans
   // used by per-perspective pages that manage beans (e.g. api/configuration/Domain/...)
   // null if not connected to a domain or not a resource that manages beans
@@ -137,6 +161,60 @@ public class InvocationContext {
     }
   }
 
+  // The paging, sorting and filtering to apply when a GET operation returns a table.
+  private TableQuery tableQuery = TableQuery.ALL_ROWS;
+
+  public TableQuery getTableQuery() {
+    return this.tableQuery;
+  }
+
+  public void setTableQuery(TableQuery tableQuery) {
+    this.tableQuery = (tableQuery != null) ? tableQuery : TableQuery.ALL_ROWS;
+  }
+
+  // The plans of the WLS REST searches this request made, in order.
+  // null unless they're being recorded (e.g. to debug the queries a page makes).
+  private List<JsonObject> searchQueryPlans;
+
+  public boolean isRecordingSearchQueryPlans() {
+    return this.searchQueryPlans != null;
+  }
+
+  public void startRecordingSearchQueryPlans() {
+    this.searchQueryPlans = new ArrayList<>();
+  }
+
+  // Records the plan of a WLS REST search if they're being recorded.
+  public void recordSearchQueryPlan(String weblogicRestTreeName, JsonObject plan) {
+    if (isRecordingSearchQueryPlans()) {
+      this.searchQueryPlans.add(
+        Json.createObjectBuilder().add("tree", weblogicRestTreeName).add("plan", plan).build()
+      );
+    }
+  }
+
+  public List<JsonObject> getSearchQueryPlans() {
+    return this.searchQueryPlans;
+  }
+
+  // How long each phase of processing this request took (e.g. for the Server-Timing header)
+  private RequestTimings timings = new RequestTimings();
+
+  public RequestTimings getTimings() {
+    return this.timings;
+  }
+
+  // How much of this request's time budget is left (e.g. for the WLS REST calls' read timeouts)
+  private RequestDeadline deadline = RequestDeadline.NONE;
+
+  public RequestDeadline getDeadline() {
+    return this.deadline;
+  }
+
+  public void setDeadline(RequestDeadline deadline) {
+    this.deadline = (deadline != null) ? deadline : RequestDeadline.NONE;
+  }
+
   public void setConnection(Connection connection) {
     this.connection = connection;
     this.weblogicVersion = findWeblogicVersion(connection);
@@ -144,7 +222,11 @@ public class InvocationContext {
 
   public InvocationContext() {
     // Use the default language until we find out what the client wants.
-    setLocales(new ArrayList<Locale>());
+    this(new ArrayList<Locale>());
+  }
+
+  public InvocationContext(List<Locale> locales) {
+    setLocales(locales);
   }
 
   public InvocationContext(
@@ -155,17 +237,30 @@ public class InvocationContext {
     setConnection(getConnection(resourceContext));
   }
 
+  // Creates an invocation context for doing part of the work of another
+  // invocation context's request, e.g. for one of the beans in a bulk edit.
+  // It shares the connection, provider, page repo and locales.
+  // The caller sets its identity and page path.
+  public InvocationContext(InvocationContext toClone) {
+    this.connection = toClone.connection;
+    this.weblogicVersion = toClone.weblogicVersion;
+    this.locales = toClone.locales;
+    this.provider = toClone.provider;
+    this.pageRepo = toClone.pageRepo;
+    this.localizerResourceBundleName = toClone.localizerResourceBundleName;
+    this.properties = toClone.properties;
+    this.tableQuery = toClone.tableQuery;
+    this.searchQueryPlans = toClone.searchQueryPlans;
+    this.timings = toClone.timings;
+    this.deadline = toClone.deadline;
+  }
+
   public void setLocales(List<Locale> locales) {
     this.locales = locales;
     // Localize using the current weblogic version until we find
     // out the actual domain version.
-    this.localizer =
-      new Localizer(
-        WebLogicLocalizationUtils.getResourceBundleName(
-          WebLogicVersions.getCurrentVersion().getDomainVersion()
-        ),
-        this.locales
-    );
+    this.localizer = null;
+    this.localizerResourceBundleName = CURRENT_VERSION_RESOURCE_BUNDLE_NAME;
   }
 
   private String getDomainVersion() {
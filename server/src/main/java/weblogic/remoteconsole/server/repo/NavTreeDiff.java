@@ -0,0 +1,64 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.repo;
+
+import weblogic.remoteconsole.common.utils.Path;
+
+/**
+ * This class describes a change to the nav tree that the CFE is displaying.
+ *
+ * When the CFE asks the CBE to expand, collapse or refresh a single nav tree node,
+ * the CBE returns the changes to the nav tree instead of the whole nav tree
+ * (see NavTreeSession).
+ */
+public class NavTreeDiff {
+
+  public enum Type {
+    // A node was added.  The node includes its contents.
+    ADD,
+    // A node was removed.
+    REMOVE,
+    // A node's properties (e.g. whether it's expandable) changed.
+    // The node doesn't include its contents.  The node's contents haven't changed.
+    UPDATE,
+    // A node (and its contents) were replaced.  The node includes its contents.
+    REPLACE,
+  }
+
+  private Type type;
+  private Path path;
+  private int index = -1;
+  private NavTreeNode node;
+
+  NavTreeDiff(Type type, Path path, NavTreeNode node) {
+    this.type = type;
+    this.path = path;
+    this.node = node;
+  }
+
+  NavTreeDiff(Type type, Path path, int index, NavTreeNode node) {
+    this(type, path, node);
+    this.index = index;
+  }
+
+  // The kind of change
+  public Type getType() {
+    return type;
+  }
+
+  // The nav tree path of the node that changed (e.g. Environment/Servers/Server1)
+  public Path getPath() {
+    return path;
+  }
+
+  // For ADD, the index of the new node in its parent's contents.  Otherwise -1.
+  public int getIndex() {
+    return index;
+  }
+
+  // The node that changed.  null for REMOVE.
+  public NavTreeNode getNode() {
+    return node;
+  }
+}
@@ -67,7 +67,7 @@ public class NavTreePath {
     List<String> components = getPath().getComponents();
     for (int i = 0; i < components.size(); i++) {
       String component = components.get(i);
-      typeRelativeNavTreePath.addComponent(component);
+      typeRelativeNavTreePath = typeRelativeNavTreePath.childPath(component);
       NavTreeNodeDef nodeDef = findNodeByNavTreePathInTypeOrSubType(typeDef, typeRelativeNavTreePath);
       if (nodeDef.isChildNodeDef()) {
         // This nav tree node is for a child bean
@@ -75,7 +75,7 @@ public class NavTreePath {
         // this node to the bean path.
         List<BeanChildDef> childDefs = nodeDef.asChildNodeDef().getChildDefs();
         for (BeanChildDef childDef : childDefs) {
-          beanTreePath.addPath(childDef.getChildPath());
+          beanTreePath = beanTreePath.childPath(childDef.getChildPath());
         }
         BeanChildDef lastChildDef = childDefs.get(childDefs.size() - 1);
         if (lastChildDef.isCollection() && i < components.size() - 1) {
@@ -83,7 +83,7 @@ public class NavTreePath {
           // add the child's key to the bean path
           i++;
           String key = components.get(i);
-          beanTreePath.addComponent(key);
+          beanTreePath = beanTreePath.childPath(key);
         }
         // create a nav segment for the child bean
         getSegments().add(
@@ -154,14 +154,14 @@ public class NavTreePath {
       BeanChildNavTreeNodeDef nodeDef =
         findMostSpecificMatchingNodeInTypeOrSubTypes(beanTreePath, typeDef, restOfBeanTreePath);
       // Add the nav tree node's relative nav tree path to the nav tree path
-      navTreePath.addPath(nodeDef.getNodePath());
+      navTreePath = navTreePath.childPath(nodeDef.getNodePath());
       // Remove the nav tree node's relative bean tree path from restOfBeanTreePath
       restOfBeanTreePath =
         restOfBeanTreePath.subPath(nodeDef.getChildNodePath().length(), restOfBeanTreePath.length());
       // If it's collection node and we have one or more components,
       // the next one is the child child's key.
       if (nodeDef.getLastChildDef().isCollection() && !restOfBeanTreePath.isEmpty()) {
-        navTreePath.addComponent(restOfBeanTreePath.getFirstComponent());
+        navTreePath = navTreePath.childPath(restOfBeanTreePath.getFirstComponent());
         restOfBeanTreePath = restOfBeanTreePath.subPath(1, restOfBeanTreePath.length());
       }
       // Continue searching from this nav tree node's type
@@ -0,0 +1,190 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.repo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import weblogic.remoteconsole.common.utils.Path;
+
+/**
+ * This class remembers the nav tree that the CFE is displaying for a page repo,
+ * i.e. which nodes are expanded and what their contents (e.g. collection children) were.
+ *
+ * Page repos are per frontend, so there is one session per frontend and root.
+ *
+ * When the CFE expands all of its expanded nodes at once, the session records the results.
+ * This lets the CFE then expand, collapse or refresh a single node:
+ * only the path to that node (and the expanded nodes under it) are searched,
+ * and only the differences from what the CFE is displaying are returned.
+ *
+ * The nodes are never modified once they've been added to the session
+ * (i.e. changes replace the nodes and lists along the path to the changed node)
+ * so that they can be read while a search is in progress.
+ */
+class NavTreeSession {
+
+  // The nav tree the CFE is displaying.  Empty until the CFE expands nodes.
+  private List<NavTreeNode> nodes = new ArrayList<>();
+
+  // Records the nav tree after the CFE has expanded all of its expanded nodes.
+  synchronized void setNodes(List<NavTreeNode> nodes) {
+    this.nodes = nodes;
+  }
+
+  // Returns the nodes that need to be expanded to expand or refresh the node at a path:
+  // its ancestors, the node itself and the expanded nodes under it.
+  synchronized List<NavTreeNode> getNodesToExpand(Path path, boolean expand) {
+    List<NavTreeNode> nodesToExpand = new ArrayList<>();
+    List<NavTreeNode> contentsToExpand = nodesToExpand;
+    List<NavTreeNode> currentContents = nodes;
+    List<String> names = path.getComponents();
+    for (int i = 0; i < names.size(); i++) {
+      NavTreeNode currentNode = findNode(names.get(i), currentContents);
+      NavTreeNode nodeToExpand = new NavTreeNode();
+      nodeToExpand.setName(names.get(i));
+      contentsToExpand.add(nodeToExpand);
+      if (i < names.size() - 1) {
+        // an ancestor of the node
+        nodeToExpand.setExpanded(true);
+        contentsToExpand = nodeToExpand.getContents();
+        currentContents = (currentNode != null) ? currentNode.getContents() : List.of();
+      } else if (expand || (currentNode != null && currentNode.isExpanded())) {
+        nodeToExpand.setExpanded(true);
+        if (currentNode != null) {
+          // NavTreeReader only looks at the expanded nodes under it
+          nodeToExpand.setContents(currentNode.getContents());
+        }
+      }
+    }
+    return nodesToExpand;
+  }
+
+  // Merges the nodes that NavTreeReader returned for getNodesToExpand(path) into
+  // the nav tree and returns the differences.
+  //
+  // The search also re-read the siblings of the node and its ancestors, so they're
+  // compared too.  However, it didn't read below them, so their contents are kept.
+  synchronized List<NavTreeDiff> merge(Path path, List<NavTreeNode> expandedNodes) {
+    List<NavTreeDiff> diffs = new ArrayList<>();
+    nodes = merge(new Path(), nodes, expandedNodes, path.getComponents(), diffs);
+    return diffs;
+  }
+
+  private List<NavTreeNode> merge(
+    Path parentPath,
+    List<NavTreeNode> oldNodes,
+    List<NavTreeNode> newNodes,
+    List<String> names,
+    List<NavTreeDiff> diffs
+  ) {
+    List<NavTreeNode> mergedNodes = new ArrayList<>();
+    for (NavTreeNode newNode : newNodes) {
+      Path nodePath = parentPath.childPath(newNode.getName());
+      NavTreeNode oldNode = findNode(newNode.getName(), oldNodes);
+      boolean onPath = !names.isEmpty() && names.get(0).equals(newNode.getName());
+      if (oldNode == null) {
+        diffs.add(new NavTreeDiff(NavTreeDiff.Type.ADD, nodePath, mergedNodes.size(), newNode));
+      } else if (onPath && names.size() == 1) {
+        diffs.add(new NavTreeDiff(NavTreeDiff.Type.REPLACE, nodePath, newNode));
+      } else {
+        if (!onPath && newNode.isExpandable() && oldNode.isExpanded()) {
+          newNode.setExpanded(true);
+          newNode.setContents(oldNode.getContents());
+        }
+        if (!isSameNode(oldNode, newNode)) {
+          diffs.add(new NavTreeDiff(NavTreeDiff.Type.UPDATE, nodePath, copyWithoutContents(newNode)));
+        }
+        if (onPath && newNode.isExpanded()) {
+          newNode.setContents(
+            merge(nodePath, oldNode.getContents(), newNode.getContents(), names.subList(1, names.size()), diffs)
+          );
+        }
+      }
+      mergedNodes.add(newNode);
+    }
+    for (NavTreeNode oldNode : oldNodes) {
+      if (findNode(oldNode.getName(), newNodes) == null) {
+        diffs.add(new NavTreeDiff(NavTreeDiff.Type.REMOVE, parentPath.childPath(oldNode.getName()), null));
+      }
+    }
+    return mergedNodes;
+  }
+
+  // Collapses the node at a path and returns the differences.
+  // Returns no differences if the session doesn't know about the node.
+  synchronized List<NavTreeDiff> collapse(Path path) {
+    List<NavTreeDiff> diffs = new ArrayList<>();
+    List<NavTreeNode> collapsedNodes = collapse(new Path(), nodes, path.getComponents(), diffs);
+    if (collapsedNodes != null) {
+      nodes = collapsedNodes;
+    }
+    return diffs;
+  }
+
+  private List<NavTreeNode> collapse(
+    Path parentPath,
+    List<NavTreeNode> currentNodes,
+    List<String> names,
+    List<NavTreeDiff> diffs
+  ) {
+    NavTreeNode node = findNode(names.get(0), currentNodes);
+    if (node == null) {
+      return null;
+    }
+    Path nodePath = parentPath.childPath(node.getName());
+    NavTreeNode replacement = copyWithoutContents(node);
+    if (names.size() == 1) {
+      replacement.setExpanded(false);
+      diffs.add(new NavTreeDiff(NavTreeDiff.Type.REPLACE, nodePath, replacement));
+    } else {
+      List<NavTreeNode> contents = collapse(nodePath, node.getContents(), names.subList(1, names.size()), diffs);
+      if (contents == null) {
+        return null;
+      }
+      replacement.setContents(contents);
+    }
+    List<NavTreeNode> rtn = new ArrayList<>(currentNodes);
+    rtn.set(rtn.indexOf(node), replacement);
+    return rtn;
+  }
+
+  private static NavTreeNode findNode(String name, List<NavTreeNode> nodes) {
+    for (NavTreeNode node : nodes) {
+      if (name.equals(node.getName())) {
+        return node;
+      }
+    }
+    return null;
+  }
+
+  // Compares the nodes' properties (but not their contents)
+  private static boolean isSameNode(NavTreeNode node1, NavTreeNode node2) {
+    return
+      Objects.equals(node1.getName(), node2.getName())
+        && Objects.equals(node1.getLabel(), node2.getLabel())
+        && node1.isExpanded() == node2.isExpanded()
+        && node1.isExpandable() == node2.isExpandable()
+        && node1.isSelectable() == node2.isSelectable()
+        && node1.getType() == node2.getType()
+        && Objects.equals(getPath(node1), getPath(node2));
+  }
+
+  private static Path getPath(NavTreeNode node) {
+    return (node.getResourceData() != null) ? node.getResourceData().getPath() : null;
+  }
+
+  private static NavTreeNode copyWithoutContents(NavTreeNode node) {
+    NavTreeNode copy = new NavTreeNode();
+    copy.setName(node.getName());
+    copy.setLabel(node.getLabel());
+    copy.setExpanded(node.isExpanded());
+    copy.setExpandable(node.isExpandable());
+    copy.setSelectable(node.isSelectable());
+    copy.setType(node.getType());
+    copy.setResourceData(node.getResourceData());
+    return copy;
+  }
+}
@@ -0,0 +1,38 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.repo;
+
+import weblogic.remoteconsole.common.utils.Path;
+
+/**
+ * This class holds a request from the CFE to change one node in the nav tree.
+ */
+public class NavTreeUpdate {
+
+  public enum Action {
+    // Expand the node (keeping the expanded nodes under it expanded)
+    EXPAND,
+    // Collapse the node
+    COLLAPSE,
+    // Re-read the node and the expanded nodes under it
+    REFRESH,
+  }
+
+  private Action action;
+  private Path path;
+
+  public NavTreeUpdate(Action action, Path path) {
+    this.action = action;
+    this.path = path;
+  }
+
+  public Action getAction() {
+    return action;
+  }
+
+  // The nav tree path of the node (e.g. Environment/Servers/Server1)
+  public Path getPath() {
+    return path;
+  }
+}
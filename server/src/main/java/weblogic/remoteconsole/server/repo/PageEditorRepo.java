@@ -27,6 +27,18 @@ public abstract class PageEditorRepo extends PageReaderRepo {
     }
   }
 
+  // Update the slice form properties of many beans in one configuration transaction.
+  // Each operation's invocation context identifies its bean and slice form page.
+  // Each operation's response is set to the result of updating its bean.
+  public Response<Void> bulkUpdate(InvocationContext ic, List<BulkEditOperation> operations) {
+    for (BulkEditOperation operation : operations) {
+      if (!operation.getInvocationContext().getPagePath().isSliceFormPagePath()) {
+        throw new AssertionError("Unsupported PagePath type : " + operation.getInvocationContext().getPagePath());
+      }
+    }
+    return (new BulkUpdater(ic, operations)).update();
+  }
+
   // Create a new bean, setting properties on it and on its mandatory singleton child beans
   // to the values the user entered on its create form page.
   public Response<Void> create(InvocationContext ic, List<FormProperty> properties) {
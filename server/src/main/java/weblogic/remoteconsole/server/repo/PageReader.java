@@ -16,8 +16,9 @@ import weblogic.remoteconsole.common.repodef.LinkDef;
 import weblogic.remoteconsole.common.repodef.LinksDef;
 import weblogic.remoteconsole.common.repodef.NavTreeDef;
 import weblogic.remoteconsole.common.repodef.NavTreeNodeDef;
+import weblogic.remoteconsole.common.repodef.PageDef;
+import weblogic.remoteconsole.common.repodef.PagePath;
 import weblogic.remoteconsole.common.repodef.ParamDef;
-import weblogic.remoteconsole.common.utils.CustomizerInvocationUtils;
 import weblogic.remoteconsole.common.utils.Path;
 import weblogic.remoteconsole.server.providers.Root;
 
@@ -31,6 +32,20 @@ class PageReader extends PageManager {
     super(invocationContext);
   }
 
+  // Finds a page's definition, timing how long it took (e.g. to load its type's yaml files)
+  protected PageDef getPageDef(PagePath pagePath) {
+    try (RequestTimings.Timer timer = getInvocationContext().getTimings().start(RequestTimings.PAGE_DEF)) {
+      return getPageRepoDef().getPageDef(pagePath);
+    }
+  }
+
+  // Calls one of the page's customizers, timing how long it took
+  protected Object invokeCustomizer(CustomizerDef customizerDef, List<Object> args) {
+    try (RequestTimings.Timer timer = getInvocationContext().getTimings().start(RequestTimings.CUSTOMIZERS)) {
+      return customizerDef.getInvoker().invoke(args);
+    }
+  }
+
   protected void addPageInfo(Page page) {
     addSelf(page);
     addBreadCrumbs(page);
@@ -137,7 +152,7 @@ class PageReader extends PageManager {
     List<BeanTreePath> breadCrumbs = new ArrayList<>();
     // Add a breadcrumb for every part of the path to this bean that has pages (and not for this bean)
     for (int i = 0; i < components.size() - 1; i++) {
-      path.addComponent(components.get(i));
+      path = path.childPath(components.get(i));
       BeanTreePath breadCrumb = BeanTreePath.create(beanTreePath.getBeanRepo(), path);
       if (getPageRepoDef().getSlicesDef(breadCrumb.getTypeDef()) != null) {
         // This part of the path has pages.  Add a breadcrumb for it.
@@ -192,12 +207,11 @@ class PageReader extends PageManager {
         + " - "
         + page.getNavTreePath().getLastComponent()
       );
-      Path path = new Path(
-        getInvocationContext().getPageRepo().getPageRepoDef().getName()
-      );
-      path.addComponent("data");
-      path.addPath(page.getSelf().getPath());
-      path.addPath(node.asChildNodeDef().getChildNodePath());
+      Path path =
+        new Path(getInvocationContext().getPageRepo().getPageRepoDef().getName())
+          .childPath("data")
+          .childPath(page.getSelf().getPath())
+          .childPath(node.asChildNodeDef().getChildNodePath());
       link.setResourceData(path);
       links.add(link);
     }
@@ -245,10 +259,10 @@ class PageReader extends PageManager {
   }
 
   private Path getLinkResourceData(Path pageRepoRelativeResourceData, Root root) {
-    Path resourceData = new Path(root.getName()); // e.g. edit or serverConfig
-    resourceData.addComponent("data");
-    resourceData.addPath(pageRepoRelativeResourceData); // e.g. Domain/Servers
-    return resourceData;
+    return
+      new Path(root.getName()) // e.g. edit or serverConfig
+        .childPath("data")
+        .childPath(pageRepoRelativeResourceData); // e.g. Domain/Servers
   }
   
   private String getLinkLabel(LinkDef linkDef, Root root) {
@@ -294,7 +308,7 @@ class PageReader extends PageManager {
     BeanPropertyCustomizerDef customizerDef = propertyDef.getGetValueCustomizerDef();
     boolean argsIncludeIsSet = true;
     List<Object> args = getArguments(customizerDef, beanResults, searchResults, argsIncludeIsSet);
-    Object rtn = CustomizerInvocationUtils.invokeMethod(customizerDef.getMethod(), args);
+    Object rtn = invokeCustomizer(customizerDef, args);
     @SuppressWarnings("unchecked")
     Response<SettableValue> customizerResponse = (Response<SettableValue>)rtn;
     if (!customizerResponse.isSuccess()) {
@@ -9,6 +9,7 @@ import java.util.logging.Logger;
 import weblogic.remoteconsole.common.repodef.PageRepoDef;
 import weblogic.remoteconsole.common.repodef.SliceFormPagePath;
 import weblogic.remoteconsole.common.repodef.TableActionDef;
+import weblogic.remoteconsole.common.utils.Path;
 
 /**
  * This class manages reading a bean tree's pages (invoking actions too)
@@ -17,6 +18,9 @@ public abstract class PageReaderRepo extends PageRepo {
 
   private static final Logger LOGGER = Logger.getLogger(PageReaderRepo.class.getName());
 
+  // The nav tree that the CFE is displaying for this repo
+  private NavTreeSession navTreeSession = new NavTreeSession();
+
   protected PageReaderRepo(PageRepoDef pageRepoDef, BeanRepo beanRepo) {
     super(pageRepoDef, beanRepo);
   }
@@ -64,6 +68,39 @@ public abstract class PageReaderRepo extends PageRepo {
     return (new NavTreeReader(ic)).expandNavTreeNodes(nodes);
   }
 
+  // Expand all of the nodes that the CFE's nav tree has expanded and remember the results,
+  // so that the CFE can then expand, collapse or refresh single nodes (see updateNavTree).
+  //
+  // Only the nav tree does this.  Other pages that expand nav tree nodes (e.g. landing pages)
+  // use expandNavTreeNodes so that they don't replace the nav tree that's remembered.
+  public Response<List<NavTreeNode>> startNavTreeSession(InvocationContext ic, List<NavTreeNode> nodes) {
+    Response<List<NavTreeNode>> response = expandNavTreeNodes(ic, nodes);
+    if (response.isSuccess()) {
+      navTreeSession.setNodes(response.getResults());
+    }
+    return response;
+  }
+
+  // Expand, collapse or refresh one nav tree node in the nav tree that the CFE is displaying.
+  //
+  // Only the path to the node and the expanded nodes under it are searched,
+  // so the cost doesn't grow with the number of other expanded nodes.
+  // Returns the differences from the nav tree that the CFE is displaying.
+  public Response<List<NavTreeDiff>> updateNavTree(InvocationContext ic, NavTreeUpdate update) {
+    Response<List<NavTreeDiff>> response = new Response<>();
+    Path path = update.getPath();
+    if (update.getAction() == NavTreeUpdate.Action.COLLAPSE) {
+      return response.setSuccess(navTreeSession.collapse(path));
+    }
+    boolean expand = (update.getAction() == NavTreeUpdate.Action.EXPAND);
+    Response<List<NavTreeNode>> expandResponse =
+      (new NavTreeReader(ic)).expandNavTreeNodes(navTreeSession.getNodesToExpand(path, expand));
+    if (!expandResponse.isSuccess()) {
+      return response.copyUnsuccessfulResponse(expandResponse);
+    }
+    return response.setSuccess(navTreeSession.merge(path, expandResponse.getResults()));
+  }
+
   // Verify that a bean exists.
   public Response<Void> verifyExists(InvocationContext ic, BeanTreePath beanPath) {
     return getBeanRepo().asBeanReaderRepo().verifyExists(ic, beanPath);
@@ -84,4 +121,25 @@ public abstract class PageReaderRepo extends PageRepo {
   public Response<Void> invokeTableRowAction(InvocationContext ic, TableActionDef tableActionDef) {
     return (new TableRowActionInvoker(ic, tableActionDef)).invokeAction();
   }
+
+  // Returns the keys of the rows of the table referenced by the invocation context that exist.
+  // Used to check the rows before invoking an action on them.
+  public Response<List<String>> findTableRows(InvocationContext ic, List<String> keys) {
+    return (new TableRowsActionInvoker(ic)).findRows(keys);
+  }
+
+  // Invoke an action on many rows of a table.
+  // For example, on the Servers table page, invoke the 'start' action on 'Server1' and 'Server2'.
+  //
+  // The invocation context identifies the table's collection.
+  //
+  // Returns each row's result, in the same order as the keys.
+  // The rows that don't exist are reported as not found.
+  public Response<List<Response<Void>>> invokeTableRowsAction(
+    InvocationContext ic,
+    TableActionDef tableActionDef,
+    List<String> keys
+  ) {
+    return (new TableRowsActionInvoker(ic)).invokeAction(tableActionDef, keys);
+  }
 }
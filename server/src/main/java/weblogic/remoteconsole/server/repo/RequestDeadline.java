@@ -0,0 +1,119 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.repo;
+
+import java.util.concurrent.TimeUnit;
+
+import weblogic.remoteconsole.server.ConsoleBackendRuntimeConfig;
+
+/**
+ * This class tracks how much of a REST request's time budget is left.
+ * <p>
+ * Each kind of request gets its own budget (see Budget), e.g. so that
+ * checking the change manager's status doesn't wait as long for a hung
+ * admin server as a table of all the servers' runtimes does.
+ * <p>
+ * The budget starts when the request is received (so it includes the time the request
+ * waits for a thread).  The WLS REST calls that the request makes use the time that's
+ * left as their read timeouts, and aren't made at all once too little of it is left.
+ * <p>
+ * It's shared by the invocation contexts that do the parts of a request.
+ */
+public class RequestDeadline {
+
+  // The kinds of requests that have their own time budgets
+  public enum Budget {
+    // Getting the change manager's status or the pending changes
+    CHANGE_MANAGER(ConsoleBackendRuntimeConfig.getChangeManagerRequestBudget()),
+    // Expanding the nav tree
+    NAV_TREE(ConsoleBackendRuntimeConfig.getNavTreeRequestBudget()),
+    // Getting a slice or create form
+    FORM(ConsoleBackendRuntimeConfig.getFormRequestBudget()),
+    // Getting a table
+    TABLE(ConsoleBackendRuntimeConfig.getTableRequestBudget()),
+    // Modifying beans, invoking actions and committing or discarding changes
+    ACTION(ConsoleBackendRuntimeConfig.getActionRequestBudget());
+
+    private long millis;
+
+    Budget(long millis) {
+      this.millis = millis;
+    }
+
+    // The budget, in milliseconds.  0 means the request doesn't have a budget.
+    public long getMillis() {
+      return this.millis;
+    }
+  }
+
+  // Used by requests that don't have a time budget
+  // (e.g. requests that don't call the admin server)
+  public static final RequestDeadline NONE = new RequestDeadline(0);
+
+  // The WLS REST api's query parameter for how long the admin server should wait for
+  // the managed servers' runtime beans before returning the ones that have responded.
+  public static final String REQUEST_MAX_WAIT_MILLIS = "requestMaxWaitMillis";
+
+  // The part of the time that's left that the admin server may spend waiting
+  // for the managed servers, leaving the rest for it to respond and for us
+  // to read the response.
+  private static final int FAN_OUT_PERCENT = 75;
+
+  // The least time, in milliseconds, that's worth making a WLS REST call with.
+  // With less than that left, the call would almost certainly time out,
+  // so it isn't made.
+  private static final long MIN_CALL_MILLIS = 250;
+
+  // System.nanoTime() when the budget is used up.  Only valid if bounded.
+  private long deadlineNanos;
+  private boolean bounded;
+
+  private RequestDeadline(long budgetMillis) {
+    this.bounded = budgetMillis > 0;
+    if (this.bounded) {
+      this.deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+    }
+  }
+
+  // Starts a request's time budget
+  public static RequestDeadline start(Budget budget) {
+    return (budget.getMillis() > 0) ? new RequestDeadline(budget.getMillis()) : NONE;
+  }
+
+  // Whether the request has a time budget
+  public boolean isBounded() {
+    return this.bounded;
+  }
+
+  // Whether the request has used up its time budget
+  public boolean isExpired() {
+    return isBounded() && getRemainingMillis() <= 0;
+  }
+
+  // Whether there's enough time left in the request's budget to make a WLS REST call
+  public boolean hasTimeForCall() {
+    return !isBounded() || getRemainingMillis() >= MIN_CALL_MILLIS;
+  }
+
+  // The number of milliseconds left in the request's time budget.
+  // Must only be called if the request has a time budget.
+  public long getRemainingMillis() {
+    if (!isBounded()) {
+      throw new AssertionError("The request does not have a time budget");
+    }
+    return TimeUnit.NANOSECONDS.toMillis(this.deadlineNanos - System.nanoTime());
+  }
+
+  // The read timeout, in milliseconds, for a WLS REST call made now.
+  // Must only be called if the request has a time budget.
+  public int getReadTimeoutMillis() {
+    return (int)Math.max(1, Math.min(Integer.MAX_VALUE, getRemainingMillis()));
+  }
+
+  // How long the admin server should wait for the managed servers to respond
+  // (see REQUEST_MAX_WAIT_MILLIS).  Must only be called if the request has a time budget.
+  public long getFanOutWaitMillis() {
+    return Math.max(1, getRemainingMillis() * FAN_OUT_PERCENT / 100);
+  }
+}
@@ -0,0 +1,102 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.repo;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * This class records how long each phase of processing a REST request took
+ * so that the times can be returned in the response's Server-Timing header
+ * (which the browser's developer tools display).
+ * <p>
+ * A phase can run more than once per request (e.g. a WLS REST call per bean tree),
+ * so each phase's times are added up and counted.  Phases can overlap (e.g. the
+ * WLS REST calls that a customizer makes are also counted in customizers,
+ * and WLS REST calls to different bean trees run at the same time),
+ * so the phases' times can add up to more than the total.
+ * <p>
+ * It's shared by the invocation contexts that do the parts of a request
+ * and can be updated by several threads at once.
+ */
+public class RequestTimings {
+
+  // Finding the page's definition (e.g. loading its type's yaml files)
+  public static final String PAGE_DEF = "pageDef";
+  // Planning the WLS REST searches
+  public static final String SEARCH_PLAN = "searchPlan";
+  // Waiting for WLS REST to respond
+  public static final String WLS_REST = "wlsRest";
+  // Reading and parsing the WLS REST responses
+  public static final String PARSE = "parse";
+  // Converting the search results to the page (including fixing identities)
+  public static final String RESULTS = "results";
+  // Calling the page's customizers
+  public static final String CUSTOMIZERS = "customizers";
+  // Converting the page to json
+  public static final String RESPONSE = "response";
+
+  private static final String TOTAL = "total";
+
+  private long startNanos = System.nanoTime();
+
+  // Maps from a phase's name to its times.  Guarded by this.
+  private Map<String,Phase> phases = new LinkedHashMap<>();
+
+  // Starts timing a phase.  Use try-with-resources to stop it.
+  public Timer start(String phase) {
+    return new Timer(phase);
+  }
+
+  // Adds time spent in a phase
+  public synchronized void add(String phase, long nanos) {
+    Phase rtn = phases.computeIfAbsent(phase, name -> new Phase());
+    rtn.nanos += nanos;
+    rtn.count++;
+  }
+
+  // Returns the value of the Server-Timing header, e.g.
+  //   pageDef;dur=0.52, wlsRest;dur=120.31;desc="2 calls", total;dur=134.08
+  // The durations are in milliseconds.
+  public synchronized String toServerTimingHeader() {
+    StringBuilder sb = new StringBuilder();
+    for (Map.Entry<String,Phase> entry : phases.entrySet()) {
+      Phase phase = entry.getValue();
+      appendMetric(sb, entry.getKey(), phase.nanos);
+      if (phase.count > 1) {
+        sb.append(";desc=\"").append(phase.count).append(" calls\"");
+      }
+      sb.append(", ");
+    }
+    appendMetric(sb, TOTAL, System.nanoTime() - startNanos);
+    return sb.toString();
+  }
+
+  private static void appendMetric(StringBuilder sb, String name, long nanos) {
+    sb.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.2f", nanos / 1000000.0));
+  }
+
+  private static class Phase {
+    private long nanos;
+    private int count;
+  }
+
+  /**
+   * Times one run of a phase.
+   */
+  public class Timer implements AutoCloseable {
+    private String phase;
+    private long startNanos = System.nanoTime();
+
+    private Timer(String phase) {
+      this.phase = phase;
+    }
+
+    @Override
+    public void close() {
+      add(phase, System.nanoTime() - startNanos);
+    }
+  }
+}
@@ -147,6 +147,19 @@ public class Response<T> {
     return this;
   }
 
+  // Returns the responses that weren't successful, in the same order.
+  // Used to combine the responses of tasks that are done together
+  // (e.g. by ConcurrentTaskRunner) where the whole operation fails if any of them did.
+  public static <R extends Response<?>> List<R> getFailures(List<R> responses) {
+    List<R> rtn = new ArrayList<>();
+    for (R response : responses) {
+      if (!response.isSuccess()) {
+        rtn.add(response);
+      }
+    }
+    return rtn;
+  }
+
   private T results;
 
   public T getResults() {
@@ -31,12 +31,10 @@ class SliceFormReader extends FormReader {
     }
     List<BeanPropertyDef> propDefs = createPropertyDefList();
     propDefs.addAll(sliceFormResponse.getResults().getAllPropertyDefs());
-    return
-      processSliceFormSearchResults(
-        sliceFormResponse.getResults(),
-        propDefs,
-        performSliceFormSearch(propDefs)
-      );
+    Response<BeanReaderRepoSearchResults> searchResponse = performSliceFormSearch(propDefs);
+    try (RequestTimings.Timer timer = getInvocationContext().getTimings().start(RequestTimings.RESULTS)) {
+      return processSliceFormSearchResults(sliceFormResponse.getResults(), propDefs, searchResponse);
+    }
   }
 
   private Response<SliceFormDef> getSliceFormDef() {
@@ -47,7 +45,7 @@ class SliceFormReader extends FormReader {
       return response.copyUnsuccessfulResponse(pagePathResponse);
     }
     SliceFormPagePath pagePath = pagePathResponse.getResults();
-    PageDef pageDef = getPageRepoDef().getPageDef(pagePathResponse.getResults());
+    PageDef pageDef = getPageDef(pagePathResponse.getResults());
     if (pageDef == null) {
       // The slice doesn't exist
       LOGGER.warning("Can't find slice form " + pagePath);
@@ -12,10 +12,22 @@ import java.util.List;
 public class Table extends Page {
   private List<TableRow> rows = new ArrayList<>();
 
+  // The number of rows that matched the caller's filter before the
+  // rows were paged.  Null if the caller didn't page or filter the table.
+  private Integer totalRows;
+
   public List<TableRow> getRows() {
     return this.rows;
   }
 
+  public Integer getTotalRows() {
+    return this.totalRows;
+  }
+
+  public void setTotalRows(Integer totalRows) {
+    this.totalRows = totalRows;
+  }
+
   @Override
   public String toString() {
     return "Table<" + getPageDef() + "," + getBeanTreePath() + ">";
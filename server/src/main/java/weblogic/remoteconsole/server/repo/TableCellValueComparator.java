@@ -0,0 +1,85 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.repo;
+
+import java.util.Comparator;
+
+/**
+ * Compares the values of table cells so that a table can be sorted by a column.
+ * <p>
+ * Numbers, booleans and dates are compared by value.  Everything else is
+ * compared by its displayed text.  Missing values sort after present ones.
+ * It's an internal detail of a TableReader.
+ */
+class TableCellValueComparator implements Comparator<Value> {
+
+  static final TableCellValueComparator INSTANCE = new TableCellValueComparator();
+
+  private TableCellValueComparator() {
+  }
+
+  @Override
+  public int compare(Value v1, Value v2) {
+    v1 = Value.unsettableValue(v1);
+    v2 = Value.unsettableValue(v2);
+    boolean missing1 = isMissing(v1);
+    boolean missing2 = isMissing(v2);
+    if (missing1 || missing2) {
+      return Boolean.compare(missing1, missing2);
+    }
+    if (isIntegral(v1) && isIntegral(v2)) {
+      return Long.compare(getLong(v1), getLong(v2));
+    }
+    if (isNumber(v1) && isNumber(v2)) {
+      return Double.compare(getDouble(v1), getDouble(v2));
+    }
+    if (v1.isBoolean() && v2.isBoolean()) {
+      return Boolean.compare(v1.asBoolean().getValue(), v2.asBoolean().getValue());
+    }
+    if (v1.isDate() && v2.isDate()) {
+      return v1.asDate().getValue().compareTo(v2.asDate().getValue());
+    }
+    return getText(v1).compareToIgnoreCase(getText(v2));
+  }
+
+  private boolean isMissing(Value value) {
+    return value == null || value.isUnknown() || value.isNullReference();
+  }
+
+  private boolean isIntegral(Value value) {
+    return value.isInt() || value.isLong() || value.isDateAsLong();
+  }
+
+  private boolean isNumber(Value value) {
+    return isIntegral(value) || value.isDouble();
+  }
+
+  private long getLong(Value value) {
+    if (value.isInt()) {
+      return value.asInt().getValue();
+    }
+    if (value.isLong()) {
+      return value.asLong().getValue();
+    }
+    return value.asDateAsLong().getValue();
+  }
+
+  private double getDouble(Value value) {
+    return (value.isDouble()) ? value.asDouble().getValue() : getLong(value);
+  }
+
+  private String getText(Value value) {
+    if (value.isString()) {
+      String str = value.asString().getValue();
+      return (str != null) ? str : "";
+    }
+    if (value.isHealthState()) {
+      return value.asHealthState().getValue();
+    }
+    if (value.isBeanTreePath()) {
+      return value.asBeanTreePath().getPath().getLastComponent();
+    }
+    return value.toString();
+  }
+}
@@ -0,0 +1,188 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.repo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import weblogic.remoteconsole.common.utils.StringUtils;
+
+/**
+ * This class holds the paging, sorting and filtering the caller
+ * requested when getting a table page.
+ * <p>
+ * It is populated from the table's query parameters:
+ * <ul>
+ * <li>offset - the index of the first row to return (defaults to 0)</li>
+ * <li>limit - the maximum number of rows to return (defaults to all of them)</li>
+ * <li>sort - the name of the column to sort by, prefixed with '-' to sort descending
+ *     (defaults to sorting by the rows' keys)</li>
+ * <li>filter - a comma separated list of row keys to return. A key may contain
+ *     '*' wildcards.  Keys are matched ignoring case (defaults to all rows)</li>
+ * </ul>
+ * <p>
+ * If the filter only contains exact keys, the keys can be pushed down to the
+ * bean repo's search so that only the matching beans are fetched.  Since the
+ * search only finds the beans whose keys have the same case, the caller must
+ * search the whole collection if the pushed down keys don't find all the rows
+ * (see getExactKeyCount).
+ */
+public class TableQuery {
+
+  // The query used when the caller doesn't page, sort or filter the table.
+  public static final TableQuery ALL_ROWS = new TableQuery(null, null, null, null);
+
+  private int offset;
+  private int limit;
+  private String sortProperty;
+  private boolean sortDescending;
+  private List<String> exactKeys = new ArrayList<>();
+  private Set<String> lowerCaseExactKeys = new HashSet<>();
+  private List<Pattern> keyPatterns = new ArrayList<>();
+  private boolean filtered;
+
+  public TableQuery(Integer offset, Integer limit, String sort, String filter) {
+    this.offset = (offset != null) ? Math.max(0, offset) : 0;
+    this.limit = (limit != null) ? Math.max(0, limit) : -1;
+    if (!StringUtils.isEmpty(sort)) {
+      String trimmed = sort.trim();
+      this.sortDescending = trimmed.startsWith("-");
+      this.sortProperty = (this.sortDescending) ? trimmed.substring(1) : trimmed;
+    }
+    if (!StringUtils.isEmpty(filter)) {
+      this.filtered = true;
+      for (String key : filter.split(",")) {
+        key = key.trim();
+        if (key.isEmpty()) {
+          continue;
+        }
+        if (key.indexOf('*') == -1) {
+          this.exactKeys.add(key);
+          this.lowerCaseExactKeys.add(toLowerCase(key));
+        } else {
+          this.keyPatterns.add(globToPattern(key));
+        }
+      }
+    }
+  }
+
+  // Returns the index of the first row to return.
+  public int getOffset() {
+    return this.offset;
+  }
+
+  // Returns whether the caller limited the number of rows to return.
+  public boolean isLimited() {
+    return this.limit != -1;
+  }
+
+  // Returns the maximum number of rows to return.
+  // Only valid if isLimited returns true.
+  public int getLimit() {
+    return this.limit;
+  }
+
+  // Returns the number of rows, in sorted order, that need to be found
+  // in order to return the requested page of rows.
+  public int getMaxRows() {
+    if (!isLimited()) {
+      return Integer.MAX_VALUE;
+    }
+    long max = (long)getOffset() + (long)getLimit();
+    return (max > Integer.MAX_VALUE) ? Integer.MAX_VALUE : (int)max;
+  }
+
+  // Returns whether the caller asked for a subset of the rows.
+  public boolean isPaged() {
+    return getOffset() > 0 || isLimited();
+  }
+
+  // Returns whether the caller asked for the rows to be sorted by a column.
+  public boolean isSorted() {
+    return this.sortProperty != null;
+  }
+
+  // Returns the name of the column to sort by.
+  // Only valid if isSorted returns true.
+  public String getSortProperty() {
+    return this.sortProperty;
+  }
+
+  public boolean isSortDescending() {
+    return this.sortDescending;
+  }
+
+  // Returns whether the caller asked for only some of the rows.
+  public boolean isFiltered() {
+    return this.filtered;
+  }
+
+  // Returns the keys to push down to the bean repo's search.
+  // Returns null if the filter can't be pushed down, i.e. if
+  // the table isn't filtered or if any of the keys have wildcards.
+  public List<String> getPushDownKeys() {
+    if (!isFiltered() || !this.keyPatterns.isEmpty()) {
+      return null;
+    }
+    return Collections.unmodifiableList(this.exactKeys);
+  }
+
+  // Returns the number of rows that the exact keys match,
+  // i.e. the number of keys that are different when case is ignored.
+  public int getExactKeyCount() {
+    return this.lowerCaseExactKeys.size();
+  }
+
+  // Returns whether a row with this key should be returned.
+  public boolean matchesKey(String key) {
+    if (!isFiltered()) {
+      return true;
+    }
+    if (this.lowerCaseExactKeys.contains(toLowerCase(key))) {
+      return true;
+    }
+    for (Pattern pattern : this.keyPatterns) {
+      if (pattern.matcher(key).matches()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String toLowerCase(String key) {
+    return key.toLowerCase(Locale.ROOT);
+  }
+
+  private static Pattern globToPattern(String glob) {
+    StringBuilder regex = new StringBuilder();
+    int start = 0;
+    for (int star = glob.indexOf('*'); star != -1; star = glob.indexOf('*', start)) {
+      if (star > start) {
+        regex.append(Pattern.quote(glob.substring(start, star)));
+      }
+      regex.append(".*");
+      start = star + 1;
+    }
+    if (start < glob.length()) {
+      regex.append(Pattern.quote(glob.substring(start)));
+    }
+    return Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+  }
+
+  @Override
+  public String toString() {
+    return
+      "TableQuery<offset=" + this.offset
+        + ", limit=" + this.limit
+        + ", sort=" + ((this.sortDescending) ? "-" : "") + this.sortProperty
+        + ", exactKeys=" + this.exactKeys
+        + ", keyPatterns=" + this.keyPatterns
+        + ">";
+  }
+}
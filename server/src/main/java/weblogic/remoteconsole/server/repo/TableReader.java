@@ -3,10 +3,14 @@
 
 package weblogic.remoteconsole.server.repo;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.function.Predicate;
 
 import weblogic.remoteconsole.common.repodef.BeanPropertyDef;
 import weblogic.remoteconsole.common.repodef.BeanTypeDef;
+import weblogic.remoteconsole.common.repodef.LocalizedConstants;
 import weblogic.remoteconsole.common.repodef.TableDef;
 
 /**
@@ -21,7 +25,49 @@ public class TableReader extends PageReader {
 
   Response<Page> getTable() {
     List<BeanPropertyDef> propDefs = getTablePropertyDefs();
-    return processTableSearchResults(propDefs, performTableSearch(propDefs));
+    Response<Page> response = new Response<>();
+    TableQuery query = getInvocationContext().getTableQuery();
+    if (query.isSorted() && findSortColumn(propDefs, query) == -1) {
+      return
+        response
+          .addFailureMessage(
+            getInvocationContext().getLocalizer().localizeString(LocalizedConstants.INVALID_SORT_COLUMN)
+            + query.getSortProperty()
+          )
+          .setFrontEndBadRequest();
+    }
+    List<String> keys = query.getPushDownKeys();
+    if (keys != null && !keys.isEmpty()) {
+      // If the caller filtered the table by exact keys, only search for those
+      // collection children instead of the whole collection.
+      response = getTable(propDefs, getKeySearchPaths(keys));
+      // The keys are matched ignoring case, but searching for the children only finds the
+      // ones whose keys have the same case.  If some weren't found, search the whole collection.
+      boolean allFound =
+        response.isSuccess() && response.getResults().asTable().getTotalRows() == query.getExactKeyCount();
+      if (allFound || (!response.isSuccess() && !response.isNotFound())) {
+        return response;
+      }
+    }
+    List<BeanTreePath> searchPaths = new ArrayList<>();
+    searchPaths.add(getBeanTreePath());
+    return getTable(propDefs, searchPaths);
+  }
+
+  private Response<Page> getTable(List<BeanPropertyDef> propDefs, List<BeanTreePath> searchPaths) {
+    Response<BeanReaderRepoSearchResults> searchResponse = performTableSearch(propDefs, searchPaths);
+    try (RequestTimings.Timer timer = getInvocationContext().getTimings().start(RequestTimings.RESULTS)) {
+      return processTableSearchResults(propDefs, searchResponse);
+    }
+  }
+
+  private int findSortColumn(List<BeanPropertyDef> propDefs, TableQuery query) {
+    for (int i = 0; i < propDefs.size(); i++) {
+      if (propDefs.get(i).getFormPropertyName().equals(query.getSortProperty())) {
+        return i;
+      }
+    }
+    return -1;
   }
 
   private List<BeanPropertyDef> getTablePropertyDefs() {
@@ -31,22 +77,25 @@ public class TableReader extends PageReader {
   }
 
   private TableDef getTableDef() {
-    return getPageRepoDef().getPageDef(getPagePath()).asTableDef();
+    return getPageDef(getPagePath()).asTableDef();
   }
 
   private Response<BeanReaderRepoSearchResults> performTableSearch(
-    List<BeanPropertyDef> propDefs
+    List<BeanPropertyDef> propDefs,
+    List<BeanTreePath> searchPaths
   ) {
     // Since tables never display whether a property is set, we don't need to fetch it
     boolean includeIsSet = false;
     BeanReaderRepoSearchBuilder builder =
       getBeanRepo().asBeanReaderRepo().createSearchBuilder(getInvocationContext(), includeIsSet);
-    for (BeanPropertyDef propDef : propDefs) {
-      builder.addProperty(getBeanTreePath(), propDef);
-      addParamsToSearch(builder, getBeanTreePath(), propDef.getGetValueCustomizerDef());
-    }
-    if (getBeanTreePath().getTypeDef().isHeterogeneous()) {
-      addSubTypeDiscriminatorToSearch(getBeanTreePath(), builder);
+    for (BeanTreePath searchPath : searchPaths) {
+      for (BeanPropertyDef propDef : propDefs) {
+        builder.addProperty(searchPath, propDef);
+        addParamsToSearch(builder, searchPath, propDef.getGetValueCustomizerDef());
+      }
+      if (getBeanTreePath().getTypeDef().isHeterogeneous()) {
+        addSubTypeDiscriminatorToSearch(searchPath, builder);
+      }
     }
     if (builder.isChangeManagerBeanRepoSearchBuilder()) {
       builder.asChangeManagerBeanRepoSearchBuilder().addChangeManagerStatus();
@@ -54,6 +103,17 @@ public class TableReader extends PageReader {
     return builder.search();
   }
 
+  // Returns the paths of the collection children with these keys
+  private List<BeanTreePath> getKeySearchPaths(List<String> keys) {
+    List<BeanTreePath> searchPaths = new ArrayList<>();
+    for (String key : keys) {
+      searchPaths.add(
+        BeanTreePath.create(getBeanRepo(), getBeanTreePath().getPath().childPath(key))
+      );
+    }
+    return searchPaths;
+  }
+
   private Response<Page> processTableSearchResults(
     List<BeanPropertyDef> propDefs,
     Response<BeanReaderRepoSearchResults> searchResponse
@@ -62,28 +122,59 @@ public class TableReader extends PageReader {
     if (!searchResponse.isSuccess()) {
       return response.copyUnsuccessfulResponse(searchResponse);
     }
+    // Pass along the search's warnings, e.g. that some servers' rows are missing
+    // because they didn't respond in time
+    response.copyMessages(searchResponse);
     BeanReaderRepoSearchResults searchResults = searchResponse.getResults();
     Table table = new Table();
     table.setPageDef(getTableDef());
     addPageInfo(table);
     addChangeManagerStatus(table, searchResults);
     addLinks(table, false); // false since it's a collection
+    TableQuery query = getInvocationContext().getTableQuery();
+    KeyFilter filter = new KeyFilter(query);
+    // Unless the table is sorted by a column, only the rows on the requested
+    // page, and the ones before it, need to be found and converted.
+    int maxResults = (query.isSorted()) ? Integer.MAX_VALUE : query.getMaxRows();
     List<BeanSearchResults> collectionResults =
-      searchResults.getCollection(getBeanTreePath());
+      searchResults.getCollection(getBeanTreePath(), filter, maxResults);
     if (collectionResults == null) {
       response.setNotFound();
       return response;
     }
-    for (BeanSearchResults beanResults : collectionResults) {
-      Response<TableRow> rowResponse = createTableRow(beanResults, searchResults, propDefs);
+    int firstRow = (query.isSorted()) ? 0 : query.getOffset();
+    List<TableRow> rows = new ArrayList<>();
+    for (int i = firstRow; i < collectionResults.size(); i++) {
+      Response<TableRow> rowResponse = createTableRow(collectionResults.get(i), searchResults, propDefs);
       if (!rowResponse.isSuccess()) {
         return response.copyUnsuccessfulResponse(rowResponse);
       }
-      table.getRows().add(rowResponse.getResults());
+      rows.add(rowResponse.getResults());
+    }
+    if (query.isSorted()) {
+      rows = getSortedPage(rows, findSortColumn(propDefs, query), query);
+    }
+    table.getRows().addAll(rows);
+    if (query.isPaged() || query.isFiltered()) {
+      table.setTotalRows(filter.getMatchCount());
     }
     return response.setSuccess(table);
   }
 
+  private List<TableRow> getSortedPage(List<TableRow> rows, int sortColumn, TableQuery query) {
+    Comparator<TableRow> comparator =
+      Comparator.comparing(row -> row.getCells().get(sortColumn).getValue(), TableCellValueComparator.INSTANCE);
+    if (query.isSortDescending()) {
+      comparator = comparator.reversed();
+    }
+    // The rows are already sorted by key, and List.sort is stable,
+    // so rows with the same value stay in key order.
+    rows.sort(comparator);
+    int fromIndex = Math.min(query.getOffset(), rows.size());
+    int toIndex = Math.min(query.getMaxRows(), rows.size());
+    return rows.subList(fromIndex, toIndex);
+  }
+
   private Response<TableRow> createTableRow(
     BeanSearchResults beanResults,
     BeanReaderRepoSearchResults searchResults,
@@ -134,4 +225,27 @@ public class TableReader extends PageReader {
     String subTypeDiscriminator = discResponse.getResults();
     return response.setSuccess(getBeanTreePath().getTypeDef().getSubTypeDef(subTypeDiscriminator));
   }
+
+  // Filters the collection's beans by their keys and counts how many match.
+  private static class KeyFilter implements Predicate<BeanSearchResults> {
+    private TableQuery query;
+    private int matchCount;
+
+    private KeyFilter(TableQuery query) {
+      this.query = query;
+    }
+
+    private int getMatchCount() {
+      return this.matchCount;
+    }
+
+    @Override
+    public boolean test(BeanSearchResults beanResults) {
+      if (!this.query.matchesKey(beanResults.getBeanTreePath().getLastSegment().getKey())) {
+        return false;
+      }
+      this.matchCount++;
+      return true;
+    }
+  }
 }
@@ -3,15 +3,9 @@
 
 package weblogic.remoteconsole.server.repo;
 
-import java.lang.reflect.Method;
-import java.lang.reflect.Type;
 import java.util.ArrayList;
-import java.util.List;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import weblogic.remoteconsole.common.repodef.TableActionDef;
-import weblogic.remoteconsole.common.utils.CustomizerInvocationUtils;
-import weblogic.remoteconsole.common.utils.StringUtils;
 
 /**
  * This class manages invoking actions on table rows.
@@ -21,9 +15,6 @@ class TableRowActionInvoker extends PageReader {
 
   private TableActionDef tableActionDef;
 
-  private static final Type CUSTOMIZER_RETURN_TYPE =
-    (new TypeReference<Response<Value>>() {}).getType();
-
   TableRowActionInvoker(InvocationContext invocationContext, TableActionDef tableActionDef) {
     super(invocationContext);
     this.tableActionDef = tableActionDef;
@@ -32,7 +23,7 @@ class TableRowActionInvoker extends PageReader {
   Response<Void> invokeAction() {
     Response<Void> response = new Response<>();
     Response<Value> invokeResponse = null;
-    if (StringUtils.isEmpty(tableActionDef.getActionMethod())) {
+    if (tableActionDef.getActionMethodInvoker() == null) {
       invokeResponse = standardInvokeAction();
     } else {
       invokeResponse = customInvokeAction();
@@ -55,11 +46,8 @@ class TableRowActionInvoker extends PageReader {
   }
 
   private Response<Value> customInvokeAction() {
-    Method method = CustomizerInvocationUtils.getMethod(tableActionDef.getActionMethod());
-    CustomizerInvocationUtils.checkSignature(method, CUSTOMIZER_RETURN_TYPE, InvocationContext.class);
-    List<Object> args = new ArrayList<>();
-    args.add(getInvocationContext());
-    Object responseAsObject = CustomizerInvocationUtils.invokeMethod(method, args);
+    // The table action def already checked the method's signature
+    Object responseAsObject = tableActionDef.getActionMethodInvoker().invoke(getInvocationContext());
     @SuppressWarnings("unchecked")
     Response<Value> customizerResponse = (Response<Value>)responseAsObject;
     return customizerResponse;
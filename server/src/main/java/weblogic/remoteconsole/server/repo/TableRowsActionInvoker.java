@@ -0,0 +1,128 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.repo;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import weblogic.remoteconsole.common.repodef.LocalizedConstants;
+import weblogic.remoteconsole.common.repodef.TableActionDef;
+import weblogic.remoteconsole.common.utils.Path;
+import weblogic.remoteconsole.server.ConsoleBackendRuntimeConfig;
+import weblogic.remoteconsole.server.utils.ConcurrentTaskRunner;
+
+/**
+ * This class manages invoking an action on many rows of a table,
+ * e.g. starting a set of servers from the Servers table.
+ * <p>
+ * The invocation context identifies the table's collection.
+ * The rows are checked for existence in one search, then the
+ * action is invoked on the rows, several at a time if the bean
+ * repo supports it.
+ * <p>
+ * All of the rows are done before any results are returned, so the
+ * actions never depend on writing the response to the client.
+ * <p>
+ * It's an internal detail of a PageRepo.
+ */
+class TableRowsActionInvoker extends PageReader {
+  private static final Logger LOGGER = Logger.getLogger(TableRowsActionInvoker.class.getName());
+
+  TableRowsActionInvoker(InvocationContext invocationContext) {
+    super(invocationContext);
+  }
+
+  // Returns the keys of the rows that exist, in the same order as the keys.
+  // Uses one search for all of them.
+  Response<List<String>> findRows(List<String> keys) {
+    Response<List<String>> response = new Response<>();
+    BeanReaderRepoSearchBuilder builder =
+      getBeanRepo().asBeanReaderRepo().createSearchBuilder(getInvocationContext(), false);
+    for (String key : keys) {
+      BeanTreePath rowPath = getRowPath(key);
+      builder.addProperty(rowPath, rowPath.getTypeDef().getIdentityPropertyDef());
+    }
+    Response<BeanReaderRepoSearchResults> searchResponse = builder.search();
+    if (!searchResponse.isSuccess()) {
+      return response.copyUnsuccessfulResponse(searchResponse);
+    }
+    List<String> existingKeys = new ArrayList<>();
+    for (String key : keys) {
+      if (searchResponse.getResults().getBean(getRowPath(key)) != null) {
+        existingKeys.add(key);
+      }
+    }
+    return response.setSuccess(existingKeys);
+  }
+
+  // Invokes the action on each row that exists and returns each row's result,
+  // in the same order as the keys.  The rows that don't exist are not found.
+  Response<List<Response<Void>>> invokeAction(TableActionDef tableActionDef, List<String> keys) {
+    Response<List<Response<Void>>> response = new Response<>();
+    // Find out which rows exist (in one search) before invoking the action on any of them.
+    Response<List<String>> findResponse = findRows(keys);
+    if (!findResponse.isSuccess()) {
+      return response.copyUnsuccessfulResponse(findResponse);
+    }
+    Set<String> existingKeys = new HashSet<>(findResponse.getResults());
+    List<Supplier<Response<Void>>> tasks = new ArrayList<>();
+    for (String key : keys) {
+      if (existingKeys.contains(key)) {
+        InvocationContext rowIc = createRowInvocationContext(getRowPath(key));
+        tasks.add(() -> invokeRowAction(rowIc, tableActionDef));
+      } else {
+        tasks.add(() -> new Response<Void>().setNotFound());
+      }
+    }
+    return response.setSuccess(ConcurrentTaskRunner.runAll(tasks, getMaxConcurrency()));
+  }
+
+  // Invokes the action on one row.  The action may already have been invoked on
+  // other rows, so an unexpected exception only fails this row (v.s. the request).
+  private static Response<Void> invokeRowAction(InvocationContext rowIc, TableActionDef tableActionDef) {
+    try {
+      return (new TableRowActionInvoker(rowIc, tableActionDef)).invokeAction();
+    } catch (RuntimeException e) {
+      LOGGER.log(
+        Level.WARNING,
+        "Failed to invoke " + tableActionDef.getActionMethod() + " on " + rowIc.getBeanTreePath().getPath(),
+        e
+      );
+      Response<Void> response = new Response<>();
+      response.addFailureMessage(
+        rowIc.getLocalizer().localizeString(LocalizedConstants.ROW_ACTION_FAILED)
+        + rowIc.getBeanTreePath().getLastSegment().getKey()
+      );
+      return response.setServiceNotAvailable();
+    }
+  }
+
+  private BeanTreePath getRowPath(String key) {
+    return BeanTreePath.create(getBeanRepo(), getBeanTreePath().getPath().childPath(key));
+  }
+
+  private InvocationContext createRowInvocationContext(BeanTreePath rowPath) {
+    // Make the row's invocation context look like the one for invoking
+    // the action on a single row (i.e. the row's slice form).
+    InvocationContext rowIc = new InvocationContext(getInvocationContext());
+    rowIc.setIdentity(rowPath);
+    rowIc.setPagePath(getPageRepoDef().newSliceFormPagePath(rowPath.getTypeDef(), new Path()));
+    return rowIc;
+  }
+
+  private int getMaxConcurrency() {
+    if (!getBeanRepo().asBeanReaderRepo().supportsConcurrentActions()) {
+      return 1;
+    }
+    // Asynchronous actions return as soon as the task has been started
+    // and synchronous ones wait for it to finish.  Either way, each row
+    // is a separate call to the bean repo, so bound them the same way.
+    return ConsoleBackendRuntimeConfig.getMaxInFlightRestCallsPerConnection();
+  }
+}
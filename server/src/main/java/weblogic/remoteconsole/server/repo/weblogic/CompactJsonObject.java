@@ -0,0 +1,267 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.repo.weblogic;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import javax.json.JsonValue;
+import javax.json.spi.JsonProvider;
+
+/**
+ * A compact, read-only json object for a bean in a WLS REST search response.
+ * <p>
+ * The properties that WLS REST returns for a bean are known from the query
+ * (see WebLogicRestSearchQueryPlan).  So, their names are stored once, in a Shape
+ * that's shared by all the beans returned for that part of the query, and each bean
+ * only stores its values, by ordinal.  Strings are stored as Strings and numbers are
+ * stored unboxed.  The corresponding JsonValues are only created when they're first read,
+ * then replace the unboxed values so that reading them again doesn't allocate.
+ * <p>
+ * Any other properties (e.g. links, or properties added by WLS REST) are stored in a map.
+ * <p>
+ * Created by WebLogicRestSearchResponseParser.
+ */
+class CompactJsonObject extends ReadOnlyJsonObject {
+  private static final JsonProvider JSON_PROVIDER = JsonProvider.provider();
+
+  // Marks values that are stored in numbers
+  private static final Object LONG = new Object();
+  private static final Object DOUBLE = new Object();
+
+  private Shape shape;
+
+  // Each value is a String, a JsonValue, LONG, DOUBLE or null (not present).
+  // Strings and numbers are replaced by their JsonValues when they're first read.
+  private Object[] values;
+
+  // Created when the first number is added
+  private long[] numbers;
+
+  // Created when the first property that's not in the shape is added
+  private Map<String, JsonValue> otherValues;
+
+  private int size;
+
+  CompactJsonObject(Shape shape) {
+    this.shape = shape;
+    this.values = new Object[shape.size()];
+  }
+
+  Shape getShape() {
+    return this.shape;
+  }
+
+  void putString(int ordinal, String value) {
+    putObject(ordinal, value);
+  }
+
+  void putLong(int ordinal, long value) {
+    getNumbers()[ordinal] = value;
+    putObject(ordinal, LONG);
+  }
+
+  void putDouble(int ordinal, double value) {
+    getNumbers()[ordinal] = Double.doubleToRawLongBits(value);
+    putObject(ordinal, DOUBLE);
+  }
+
+  void putValue(int ordinal, JsonValue value) {
+    putObject(ordinal, value);
+  }
+
+  // Adds a property that isn't in the shape.
+  void putOtherValue(String name, JsonValue value) {
+    if (this.otherValues == null) {
+      this.otherValues = new LinkedHashMap<>();
+    }
+    if (this.otherValues.put(name, value) == null) {
+      this.size++;
+    }
+  }
+
+  private void putObject(int ordinal, Object value) {
+    if (this.values[ordinal] == null) {
+      this.size++;
+    }
+    this.values[ordinal] = value;
+  }
+
+  private long[] getNumbers() {
+    if (this.numbers == null) {
+      this.numbers = new long[this.values.length];
+    }
+    return this.numbers;
+  }
+
+  @Override
+  public JsonValue get(Object key) {
+    int ordinal = this.shape.getOrdinal(key);
+    if (ordinal != -1) {
+      return getValue(ordinal);
+    }
+    return (this.otherValues != null) ? this.otherValues.get(key) : null;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    int ordinal = this.shape.getOrdinal(key);
+    if (ordinal != -1) {
+      return this.values[ordinal] != null;
+    }
+    return this.otherValues != null && this.otherValues.containsKey(key);
+  }
+
+  @Override
+  public int size() {
+    return this.size;
+  }
+
+  // Boxes the value the first time it's read and caches it in place of the unboxed value.
+  // The boxed value is immutable and equal to the unboxed one, so if several threads
+  // read the value at once, it doesn't matter which of their boxed values is kept.
+  private JsonValue getValue(int ordinal) {
+    Object value = this.values[ordinal];
+    if (value == null || value instanceof JsonValue) {
+      return (JsonValue)value;
+    }
+    JsonValue boxed = null;
+    if (value == LONG) {
+      boxed = JSON_PROVIDER.createValue(this.numbers[ordinal]);
+    } else if (value == DOUBLE) {
+      boxed = JSON_PROVIDER.createValue(Double.longBitsToDouble(this.numbers[ordinal]));
+    } else {
+      boxed = JSON_PROVIDER.createValue((String)value);
+    }
+    this.values[ordinal] = boxed;
+    return boxed;
+  }
+
+  @Override
+  public Set<Map.Entry<String, JsonValue>> entrySet() {
+    return new AbstractSet<Map.Entry<String, JsonValue>>() {
+      @Override
+      public int size() {
+        return CompactJsonObject.this.size();
+      }
+
+      @Override
+      public Iterator<Map.Entry<String, JsonValue>> iterator() {
+        return new EntryIterator();
+      }
+    };
+  }
+
+  // Iterates over the shape's properties that are present, then the other properties.
+  private class EntryIterator implements Iterator<Map.Entry<String, JsonValue>> {
+    private int nextOrdinal = -1;
+    private Iterator<Map.Entry<String, JsonValue>> otherEntries;
+
+    private EntryIterator() {
+      advance();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return this.nextOrdinal < values.length || (this.otherEntries != null && this.otherEntries.hasNext());
+    }
+
+    @Override
+    public Map.Entry<String, JsonValue> next() {
+      if (this.nextOrdinal < values.length) {
+        int ordinal = this.nextOrdinal;
+        advance();
+        return new SimpleImmutableEntry<>(shape.getName(ordinal), getValue(ordinal));
+      }
+      if (this.otherEntries != null) {
+        return this.otherEntries.next();
+      }
+      throw new NoSuchElementException();
+    }
+
+    private void advance() {
+      do {
+        this.nextOrdinal++;
+      } while (this.nextOrdinal < values.length && values[this.nextOrdinal] == null);
+      if (this.nextOrdinal == values.length && otherValues != null && this.otherEntries == null) {
+        this.otherEntries = otherValues.entrySet().iterator();
+      }
+    }
+  }
+
+  /**
+   * The names of the properties that a query returns for a bean,
+   * and the shapes of the bean's children.
+   */
+  static class Shape {
+    private static final String PROP_ITEMS = "items";
+
+    // The shape of the json object that WLS REST returns for a collection,
+    // i.e. { "items": [ ... ] }
+    static final Shape COLLECTION = new Shape(List.of(PROP_ITEMS), new HashMap<>(), false);
+
+    private String[] names;
+    private Map<String, Integer> ordinals = new HashMap<>();
+
+    // For each ordinal, the shape of the child bean (or the collection's children)
+    // or null if the property isn't a child.
+    private Shape[] childShapes;
+
+    // Whether this shape is for the children of a collection.
+    private boolean collectionChild;
+
+    private Shape(List<String> names, Map<String, Shape> childShapes, boolean collectionChild) {
+      this.names = names.toArray(new String[0]);
+      this.childShapes = new Shape[this.names.length];
+      for (int i = 0; i < this.names.length; i++) {
+        this.ordinals.put(this.names[i], i);
+        this.childShapes[i] = childShapes.get(this.names[i]);
+      }
+      this.collectionChild = collectionChild;
+    }
+
+    // Creates the shape of the beans returned for a query plan.
+    static Shape create(WebLogicRestSearchQueryPlan plan) {
+      List<String> names = new ArrayList<>(plan.getFields());
+      Map<String, Shape> childShapes = new HashMap<>();
+      for (Map.Entry<String, WebLogicRestSearchQueryPlan> child : plan.getChildren().entrySet()) {
+        if (!names.contains(child.getKey())) {
+          names.add(child.getKey());
+        }
+        childShapes.put(child.getKey(), create(child.getValue()));
+      }
+      return new Shape(names, childShapes, plan.isCollection());
+    }
+
+    int size() {
+      return this.names.length;
+    }
+
+    String getName(int ordinal) {
+      return this.names[ordinal];
+    }
+
+    // Returns -1 if the property isn't in this shape.
+    int getOrdinal(Object name) {
+      Integer ordinal = this.ordinals.get(name);
+      return (ordinal != null) ? ordinal : -1;
+    }
+
+    // Returns null if the property isn't a child bean or collection.
+    Shape getChildShape(int ordinal) {
+      return this.childShapes[ordinal];
+    }
+
+    boolean isCollectionChild() {
+      return this.collectionChild;
+    }
+  }
+}
@@ -0,0 +1,105 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.repo.weblogic;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+
+/**
+ * A read-only view of a json object that hides one of its properties.
+ * <p>
+ * Used to drop a property (e.g. the messages) from a large WLS REST response
+ * without copying the rest of the response.
+ */
+class JsonObjectWithoutProperty extends ReadOnlyJsonObject {
+  private JsonObject jsonObject;
+  private String hiddenProperty;
+
+  // The json object must contain the hidden property.
+  JsonObjectWithoutProperty(JsonObject jsonObject, String hiddenProperty) {
+    if (!jsonObject.containsKey(hiddenProperty)) {
+      throw new AssertionError("Missing " + hiddenProperty);
+    }
+    this.jsonObject = jsonObject;
+    this.hiddenProperty = hiddenProperty;
+  }
+
+  @Override
+  public JsonValue get(Object key) {
+    return (this.hiddenProperty.equals(key)) ? null : this.jsonObject.get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return !this.hiddenProperty.equals(key) && this.jsonObject.containsKey(key);
+  }
+
+  @Override
+  public int size() {
+    return this.jsonObject.size() - 1;
+  }
+
+  @Override
+  public Set<Map.Entry<String, JsonValue>> entrySet() {
+    return new AbstractSet<Map.Entry<String, JsonValue>>() {
+      @Override
+      public int size() {
+        return JsonObjectWithoutProperty.this.size();
+      }
+
+      @Override
+      public Iterator<Map.Entry<String, JsonValue>> iterator() {
+        return new EntryIterator(jsonObject.entrySet().iterator());
+      }
+    };
+  }
+
+  @Override
+  public String toString() {
+    // Only used for logging, so it's OK to copy the json object
+    return Json.createObjectBuilder(this.jsonObject).remove(this.hiddenProperty).build().toString();
+  }
+
+  // Iterates over the json object's entries, skipping the hidden property.
+  private class EntryIterator implements Iterator<Map.Entry<String, JsonValue>> {
+    private Iterator<Map.Entry<String, JsonValue>> entries;
+    private Map.Entry<String, JsonValue> next;
+
+    private EntryIterator(Iterator<Map.Entry<String, JsonValue>> entries) {
+      this.entries = entries;
+      advance();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return this.next != null;
+    }
+
+    @Override
+    public Map.Entry<String, JsonValue> next() {
+      if (this.next == null) {
+        throw new NoSuchElementException();
+      }
+      Map.Entry<String, JsonValue> rtn = this.next;
+      advance();
+      return rtn;
+    }
+
+    private void advance() {
+      this.next = null;
+      while (this.next == null && this.entries.hasNext()) {
+        Map.Entry<String, JsonValue> entry = this.entries.next();
+        if (!hiddenProperty.equals(entry.getKey())) {
+          this.next = entry;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,116 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.repo.weblogic;
+
+import java.io.StringWriter;
+import java.util.AbstractMap;
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+import javax.json.JsonWriter;
+
+/**
+ * Base class for this package's read-only json object implementations.
+ * <p>
+ * Implements JsonObject's typed getters in terms of get(Object),
+ * and toString as json (like the JSON-P implementations do, v.s. AbstractMap's {k=v}).
+ * Derived classes implement get, containsKey, size and entrySet.
+ */
+abstract class ReadOnlyJsonObject extends AbstractMap<String, JsonValue> implements JsonObject {
+
+  @Override
+  public JsonArray getJsonArray(String name) {
+    return (JsonArray)get(name);
+  }
+
+  @Override
+  public JsonObject getJsonObject(String name) {
+    return (JsonObject)get(name);
+  }
+
+  @Override
+  public JsonNumber getJsonNumber(String name) {
+    return (JsonNumber)get(name);
+  }
+
+  @Override
+  public JsonString getJsonString(String name) {
+    return (JsonString)get(name);
+  }
+
+  @Override
+  public String getString(String name) {
+    return getJsonString(name).getString();
+  }
+
+  @Override
+  public String getString(String name, String defaultValue) {
+    JsonValue value = get(name);
+    return (value instanceof JsonString) ? ((JsonString)value).getString() : defaultValue;
+  }
+
+  @Override
+  public int getInt(String name) {
+    return getJsonNumber(name).intValue();
+  }
+
+  @Override
+  public int getInt(String name, int defaultValue) {
+    JsonValue value = get(name);
+    return (value instanceof JsonNumber) ? ((JsonNumber)value).intValue() : defaultValue;
+  }
+
+  @Override
+  public boolean getBoolean(String name) {
+    JsonValue value = get(name);
+    if (value == null) {
+      throw new NullPointerException("Missing " + name);
+    }
+    if (value == JsonValue.TRUE) {
+      return true;
+    }
+    if (value == JsonValue.FALSE) {
+      return false;
+    }
+    throw new ClassCastException("Not a boolean: " + name);
+  }
+
+  @Override
+  public boolean getBoolean(String name, boolean defaultValue) {
+    JsonValue value = get(name);
+    if (value == JsonValue.TRUE) {
+      return true;
+    }
+    if (value == JsonValue.FALSE) {
+      return false;
+    }
+    return defaultValue;
+  }
+
+  @Override
+  public boolean isNull(String name) {
+    JsonValue value = get(name);
+    if (value == null) {
+      throw new NullPointerException("Missing " + name);
+    }
+    return value == JsonValue.NULL;
+  }
+
+  @Override
+  public ValueType getValueType() {
+    return ValueType.OBJECT;
+  }
+
+  @Override
+  public String toString() {
+    StringWriter sw = new StringWriter();
+    try (JsonWriter writer = Json.createWriter(sw)) {
+      writer.writeObject(this);
+    }
+    return sw.toString();
+  }
+}
@@ -0,0 +1,97 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.repo.weblogic;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Logs how much of a file has been uploaded to WLS REST, and how fast,
+ * e.g. to help diagnose slow deployments.
+ * <p>
+ * The file is read as it's written to WLS REST, so the number of bytes
+ * that have been read is the number of bytes that have been uploaded.
+ * They're logged (at FINE) every LOG_INTERVAL bytes, and when the upload completes.
+ * <p>
+ * It doesn't report progress to the client.  The browser tracks the upload's progress itself
+ * and, since the file is streamed through with bounded buffers, that follows what WLS has received.
+ */
+class UploadLoggingInputStream extends FilterInputStream {
+
+  private static final Logger LOGGER = Logger.getLogger(UploadLoggingInputStream.class.getName());
+  private static final long LOG_INTERVAL = 16 * 1024 * 1024;
+
+  private String description;
+  private long startTime;
+  private long bytesUploaded;
+  private long nextLog = LOG_INTERVAL;
+  private boolean done;
+
+  UploadLoggingInputStream(InputStream inputStream, String description) {
+    super(inputStream);
+    this.description = description;
+  }
+
+  @Override
+  public int read() throws IOException {
+    int b = super.read();
+    uploaded((b == -1) ? -1 : 1);
+    return b;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    int count = super.read(b, off, len);
+    uploaded(count);
+    return count;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    long count = super.skip(n);
+    if (count > 0) {
+      uploaded(count);
+    }
+    return count;
+  }
+
+  @Override
+  public boolean markSupported() {
+    // the stream is only read once, as it's uploaded
+    return false;
+  }
+
+  private void uploaded(long count) {
+    if (startTime == 0) {
+      startTime = System.currentTimeMillis();
+    }
+    if (count == -1) {
+      if (!done) {
+        done = true;
+        logUploaded("Uploaded");
+      }
+      return;
+    }
+    bytesUploaded += count;
+    if (bytesUploaded >= nextLog) {
+      nextLog = bytesUploaded + LOG_INTERVAL;
+      logUploaded("Uploading");
+    }
+  }
+
+  private void logUploaded(String status) {
+    if (!LOGGER.isLoggable(Level.FINE)) {
+      return;
+    }
+    long millis = Math.max(System.currentTimeMillis() - startTime, 1);
+    LOGGER.fine(
+      status + " " + description
+        + ": " + bytesUploaded + " bytes in " + millis + " ms"
+        + " (" + (bytesUploaded * 1000 / millis / 1024) + " KB/s)"
+    );
+  }
+}
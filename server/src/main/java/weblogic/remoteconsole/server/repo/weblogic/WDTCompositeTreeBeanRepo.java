@@ -15,21 +15,29 @@ import weblogic.remoteconsole.common.utils.Path;
 import weblogic.remoteconsole.common.utils.WebLogicMBeansVersion;
 import weblogic.remoteconsole.server.repo.BeanReaderRepo;
 import weblogic.remoteconsole.server.repo.BeanReaderRepoSearchBuilder;
+import weblogic.remoteconsole.server.repo.BeanTreePath;
+import weblogic.remoteconsole.server.repo.ConfigSearchBeanRepo;
+import weblogic.remoteconsole.server.repo.ConfigSearchIndex;
 import weblogic.remoteconsole.server.repo.DownloadBeanRepo;
 import weblogic.remoteconsole.server.repo.InvocationContext;
+import weblogic.remoteconsole.server.repo.Response;
 import weblogic.remoteconsole.server.webapp.FailedRequestException;
 
 /**
  * WDT model based implementation of a BeanRepo that implements BeanReaderRepo
  * and combines an order list of models into a single composite view.
  */
-public class WDTCompositeTreeBeanRepo extends WDTCompositeBeanRepo implements BeanReaderRepo, DownloadBeanRepo {
+public class WDTCompositeTreeBeanRepo extends WDTCompositeBeanRepo
+  implements BeanReaderRepo, DownloadBeanRepo, ConfigSearchBeanRepo {
   private static final Logger LOGGER = Logger.getLogger(WDTCompositeTreeBeanRepo.class.getName());
   private static final String DOMAIN = "Domain";
 
   // The resulting bean tree from the parsed models
   private BeanTree beanTree = null;
 
+  // The full text search index over the composite bean tree, built on the first search
+  private ConfigSearchIndex configSearchIndex = new ConfigSearchIndex(this);
+
   public WDTCompositeTreeBeanRepo(
     WebLogicMBeansVersion mbeansVersion,
     List<Map<String, Object>> models,
@@ -112,4 +120,21 @@ public class WDTCompositeTreeBeanRepo extends WDTCompositeBeanRepo implements Be
                  + " - includeSet: " + includeIsSet);
     return new WDTBeanRepoSearchBuilder(beanTree, includeIsSet);
   }
+
+  /**
+   * Handle search for the ConfigSearchBeanRepo using the search index over the composite bean tree
+   */
+  @Override
+  public Response<List<BeanTreePath>> searchConfig(
+    InvocationContext invocationContext,
+    String query,
+    int maxResults,
+    boolean rebuild
+  ) {
+    LOGGER.fine("WDT: WDTCompositeTreeBeanRepo searchConfig() " + query);
+    if (beanTree == null) {
+      return new Response<List<BeanTreePath>>().setNotFound();
+    }
+    return configSearchIndex.search(invocationContext, query, maxResults, rebuild);
+  }
 }
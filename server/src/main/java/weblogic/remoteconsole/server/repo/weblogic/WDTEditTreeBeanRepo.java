@@ -26,6 +26,8 @@ import weblogic.remoteconsole.server.repo.BeanPropertyValue;
 import weblogic.remoteconsole.server.repo.BeanPropertyValues;
 import weblogic.remoteconsole.server.repo.BeanReaderRepoSearchBuilder;
 import weblogic.remoteconsole.server.repo.BeanTreePath;
+import weblogic.remoteconsole.server.repo.ConfigSearchBeanRepo;
+import weblogic.remoteconsole.server.repo.ConfigSearchIndex;
 import weblogic.remoteconsole.server.repo.DownloadBeanRepo;
 import weblogic.remoteconsole.server.repo.InvocationContext;
 import weblogic.remoteconsole.server.repo.Response;
@@ -44,8 +46,11 @@ import weblogic.remoteconsole.server.webapp.FailedRequestException;
  * <p>
  * The WDTModelBuilder is used create a new model from the bean tree in YAML or JSON.
  * <p>
+ * The ConfigSearchIndex is used to search the bean tree and is updated as beans are edited.
+ * <p>
  */
-public class WDTEditTreeBeanRepo extends WDTBeanRepo implements BeanEditorRepo, DownloadBeanRepo {
+public class WDTEditTreeBeanRepo extends WDTBeanRepo
+  implements BeanEditorRepo, DownloadBeanRepo, ConfigSearchBeanRepo {
   private static final Logger LOGGER = Logger.getLogger(WDTEditTreeBeanRepo.class.getName());
   private static final String DOMAIN = "Domain";
 
@@ -58,6 +63,9 @@ public class WDTEditTreeBeanRepo extends WDTBeanRepo implements BeanEditorRepo,
   // The cached JSON factory
   private JsonWriterFactory writerFactory = null;
 
+  // The full text search index over the bean tree, built on the first search
+  private ConfigSearchIndex configSearchIndex = new ConfigSearchIndex(this);
+
   public WDTEditTreeBeanRepo(WebLogicMBeansVersion mbeansVersion, Map<String, Object> model, InvocationContext ic) {
     super(mbeansVersion);
 
@@ -175,6 +183,23 @@ public class WDTEditTreeBeanRepo extends WDTBeanRepo implements BeanEditorRepo,
     return new WDTBeanRepoSearchBuilder(beanTree, includeIsSet);
   }
 
+  /**
+   * Handle search for the ConfigSearchBeanRepo using the search index over the bean tree
+   */
+  @Override
+  public Response<List<BeanTreePath>> searchConfig(
+    InvocationContext invocationContext,
+    String query,
+    int maxResults,
+    boolean rebuild
+  ) {
+    LOGGER.fine("WDT: WDTEditTreeBeanRepo searchConfig() " + query);
+    if (beanTree == null) {
+      return new Response<List<BeanTreePath>>().setNotFound();
+    }
+    return configSearchIndex.search(invocationContext, query, maxResults, rebuild);
+  }
+
   /**
    * Handle udpate for the BeanEditorRepo on the bean tree
    */
@@ -252,6 +277,7 @@ public class WDTEditTreeBeanRepo extends WDTBeanRepo implements BeanEditorRepo,
         LOGGER.finest("WDT: updateBean() resolve only added or updated references!");
         beanTree.resolveReferences(false);
       }
+      configSearchIndex.beanUpdated(entry.getBeanTreePath());
     }
     return response;
   }
@@ -327,6 +353,7 @@ public class WDTEditTreeBeanRepo extends WDTBeanRepo implements BeanEditorRepo,
         LOGGER.finest("WDT: createBean() resolve only added references!");
         beanTree.resolveReferences(false);
       }
+      configSearchIndex.beanCreated(createdBean.getBeanTreePath());
     }
     return response;
   }
@@ -402,6 +429,8 @@ public class WDTEditTreeBeanRepo extends WDTBeanRepo implements BeanEditorRepo,
       if ((parent == null) || !beanTree.removeBean(parent, entry)) {
         LOGGER.warning("WDT: deleteBean() unable to delete bean: " + entry.getPath());
         response.setServiceNotAvailable();
+      } else {
+        configSearchIndex.beanDeleted(beanTreePath);
       }
     }
     return response;
@@ -5,12 +5,14 @@ package weblogic.remoteconsole.server.repo.weblogic;
 
 import weblogic.remoteconsole.common.repodef.BeanRepoDef;
 import weblogic.remoteconsole.server.repo.BeanRepo;
+import weblogic.remoteconsole.server.repo.BeanTreePathCache;
 
 /**
  * Base implementation for the various WebLogic BeanTreeManagers
  */
 public class WebLogicBeanRepo implements BeanRepo {
   private BeanRepoDef beanRepoDef;
+  private BeanTreePathCache beanTreePathCache = new BeanTreePathCache();
 
   protected WebLogicBeanRepo(BeanRepoDef beanRepoDef) {
     this.beanRepoDef = beanRepoDef;
@@ -20,4 +22,9 @@ public class WebLogicBeanRepo implements BeanRepo {
   public BeanRepoDef getBeanRepoDef() {
     return this.beanRepoDef;
   }
+
+  @Override
+  public BeanTreePathCache getBeanTreePathCache() {
+    return this.beanTreePathCache;
+  }
 }
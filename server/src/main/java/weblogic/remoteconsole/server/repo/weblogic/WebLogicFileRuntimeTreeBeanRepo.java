@@ -14,9 +14,7 @@ import javax.json.JsonObject;
 import javax.json.JsonReader;
 
 import weblogic.remoteconsole.common.repodef.BeanPropertyDef;
-import weblogic.remoteconsole.common.repodef.BeanTypeDef;
 import weblogic.remoteconsole.common.repodef.weblogic.WebLogicRuntimeTreeBeanRepoDef;
-import weblogic.remoteconsole.common.utils.Path;
 import weblogic.remoteconsole.common.utils.WebLogicMBeansVersion;
 import weblogic.remoteconsole.server.repo.BeanReaderRepoSearchBuilder;
 import weblogic.remoteconsole.server.repo.BeanReaderRepoSearchResults;
@@ -51,7 +49,7 @@ public class WebLogicFileRuntimeTreeBeanRepo extends WebLogicRestBeanRepo {
   }
 
   /**
-   * Obtain the WebLogic response JSON located in the specified filename and fixup the results.
+   * Obtain the WebLogic response JSON located in the specified filename.
    */
   private JsonObject createSearchResultsFromFile(String filename) {
     JsonObject runtime = null;
@@ -76,12 +74,7 @@ public class WebLogicFileRuntimeTreeBeanRepo extends WebLogicRestBeanRepo {
       // FortifyIssueSuppression Path Manipulation
       // This is test code
       LOGGER.info("FILE: WebLogicFileRuntimeTreeBeanRepo using file: " + new File(filename).getAbsolutePath());
-
-      // Get the BeanTypeDef for the tree and use that for fixing the results...
-      Path tree = new Path("DomainRuntime");
-      BeanTypeDef rootTypeDef = getBeanRepoDef().getRootTypeDef().getChildDef(tree).getChildTypeDef();
-      runtime = WebLogicRestSearchResultsFixer.fixServerRuntimes(runtime, rootTypeDef);
-      LOGGER.info("FILE: WebLogicFileRuntimeTreeBeanRepo completed fixServerRuntimes()");
+      // The identities are fixed as the search results are read (see WebLogicRestSearchResultsFixer)
     } catch (Exception exc) {
       // Report on any exceptions (e.g. issue finding/reading the file) then continue as
       // the runtime search will return not found status and test results will not match.
@@ -104,6 +104,12 @@ public abstract class WebLogicRestBeanRepo extends WebLogicBeanRepo implements B
     return response;
   }
 
+  @Override
+  public boolean supportsConcurrentActions() {
+    // Each action is a separate POST to the admin server.
+    return true;
+  }
+
   private Response<JsonObject> createRestActionRequestBody(BeanActionDef actionDef, List<BeanActionArg> args) {
     Response<JsonObject> response = new Response<>();
     List<BeanActionParamDef> paramDefs = actionDef.getParamDefs();
@@ -183,14 +189,14 @@ public abstract class WebLogicRestBeanRepo extends WebLogicBeanRepo implements B
     Path restActionPath = new Path(getWebLogicRestTreeName(rootBeanName));
 
     // add in the rest of the bean tree path, e.g. ServerLifeCycleRuntimes/Server1
-    restActionPath.addPath(getTreeRelativeRestPath(beanPath));
+    restActionPath = restActionPath.childPath(getTreeRelativeRestPath(beanPath));
 
     // If the action is on a mandatory singleton beneath collection child,
     // add the path from the child to the singleton
-    restActionPath.addPath(actionDef.getParentPath());
+    restActionPath = restActionPath.childPath(actionDef.getParentPath());
 
     // Add the name of the action:
-    restActionPath.addComponent(actionDef.getRemoteActionName());
+    restActionPath = restActionPath.childPath(actionDef.getRemoteActionName());
   
     return restActionPath;
   }
@@ -281,10 +287,10 @@ public abstract class WebLogicRestBeanRepo extends WebLogicBeanRepo implements B
         first = false;
       } else {
         // Add the WLS REST name of the containment property.
-        restPath.addComponent(segment.getChildDef().getOnlineChildName());
+        restPath = restPath.childPath(segment.getChildDef().getOnlineChildName());
         if (segment.isKeySet()) {
           // It's a collection child.  Add the key.
-          restPath.addComponent(segment.getKey());
+          restPath = restPath.childPath(segment.getKey());
         }
       }
     }
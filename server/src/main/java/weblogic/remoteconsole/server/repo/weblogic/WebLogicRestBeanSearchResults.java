@@ -3,6 +3,7 @@
 
 package weblogic.remoteconsole.server.repo.weblogic;
 
+import java.util.List;
 import javax.json.JsonObject;
 import javax.json.JsonValue;
 
@@ -24,17 +25,27 @@ public class WebLogicRestBeanSearchResults implements BeanSearchResults {
   private WeblogicRestBeanRepoSearchResults results;
   private BeanTreePath beanPath;
   private boolean haveExpandedValues;
+  private boolean fixIdentities;
   private JsonObject weblogicBeanResults;
 
+  // Created on demand, then used for all of this bean's values.
+  private WebLogicRestValueBuilder valueBuilder;
+
+  // This bean's identity, fixed per WebLogicRestSearchResultsFixer.
+  // Computed on demand.
+  private Value fixedIdentity;
+
   public WebLogicRestBeanSearchResults(
     WeblogicRestBeanRepoSearchResults results,
     BeanTreePath beanPath,
     boolean haveExpandedValues,
+    boolean fixIdentities,
     JsonObject weblogicBeanResults
   ) {
     this.results = results;
     this.beanPath = beanPath;
     this.haveExpandedValues = haveExpandedValues;
+    this.fixIdentities = fixIdentities;
     this.weblogicBeanResults = weblogicBeanResults;
   }
 
@@ -52,6 +63,10 @@ public class WebLogicRestBeanSearchResults implements BeanSearchResults {
     return this.haveExpandedValues;
   }
 
+  protected boolean isFixIdentities() {
+    return this.fixIdentities;
+  }
+
   protected JsonObject getWebLogicBeanResults() {
     return this.weblogicBeanResults;
   }
@@ -73,6 +88,12 @@ public class WebLogicRestBeanSearchResults implements BeanSearchResults {
     if (!wlBeanResults.containsKey(restName)) {
       return null; // the value isn't present
     }
+    if (propertyDef.isIdentity() && isFixIdentities()) {
+      // Use the identity computed from where the bean is in the search results
+      // instead of the one returned by WLS REST.
+      Value identity = getFixedIdentity(propertyDef, wlBeanResults.get(restName));
+      return (isHaveExpandedValues()) ? new SettableValue(identity, false) : identity;
+    }
     if (isHaveExpandedValues()) {
       // We should have been sent back a JsonObject that includes the property value and whether it was set
       JsonValue unwrappedValue = null;
@@ -93,12 +114,45 @@ public class WebLogicRestBeanSearchResults implements BeanSearchResults {
     }
   }
 
+  private Value getFixedIdentity(BeanPropertyDef propertyDef, JsonValue unfixedIdentity) {
+    Path parentPath = propertyDef.getParentPath();
+    if (!parentPath.isEmpty()) {
+      // The identity of a child of this bean (rare)
+      return computeFixedIdentity(getBeanTreePath().childPath(parentPath), propertyDef, unfixedIdentity);
+    }
+    if (this.fixedIdentity == null) {
+      this.fixedIdentity = computeFixedIdentity(getBeanTreePath(), propertyDef, unfixedIdentity);
+    }
+    return this.fixedIdentity;
+  }
+
+  private Value computeFixedIdentity(
+    BeanTreePath fixedIdentity,
+    BeanPropertyDef propertyDef,
+    JsonValue unfixedIdentity
+  ) {
+    if (WebLogicRestSearchResultsFixer.isCheckIdentities()) {
+      WebLogicRestSearchResultsFixer.checkIdentity(fixedIdentity, getValue(propertyDef, unfixedIdentity));
+    }
+    return fixedIdentity;
+  }
+
   private Value getValue(BeanPropertyDef propertyDef, JsonValue jsonValue) {
-    // The WLS REST identity is relative to the first level bean of the
-    // search results (e.g. /Domain or /DomainRuntime)
-    BeanChildDef rootChildBean = getBeanTreePath().getSegments().get(0).getChildDef();
-    WebLogicRestValueBuilder builder =
-      new WebLogicRestValueBuilder(getBeanTreePath().getBeanRepo(), rootChildBean);
-    return builder.buildValue(propertyDef, jsonValue);
+    return getValueBuilder().buildValue(propertyDef, jsonValue);
+  }
+
+  private WebLogicRestValueBuilder getValueBuilder() {
+    if (this.valueBuilder == null) {
+      // The WLS REST identity is relative to the first level bean of the
+      // search results (e.g. /Domain or /DomainRuntime)
+      BeanChildDef rootChildBean = getBeanTreePath().getSegments().get(0).getChildDef();
+      List<String> identityPrefix =
+        (isFixIdentities())
+          ? WebLogicRestSearchResultsFixer.getIdentityPrefix(getBeanTreePath())
+          : List.of();
+      this.valueBuilder =
+        new WebLogicRestValueBuilder(getBeanTreePath().getBeanRepo(), rootChildBean, identityPrefix);
+    }
+    return this.valueBuilder;
   }
 }
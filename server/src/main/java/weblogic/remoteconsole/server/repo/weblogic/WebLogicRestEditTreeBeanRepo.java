@@ -4,6 +4,7 @@
 package weblogic.remoteconsole.server.repo.weblogic;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
 import javax.json.Json;
@@ -23,6 +24,8 @@ import weblogic.remoteconsole.server.repo.BeanReaderRepoSearchBuilder;
 import weblogic.remoteconsole.server.repo.BeanRepo;
 import weblogic.remoteconsole.server.repo.BeanTreePath;
 import weblogic.remoteconsole.server.repo.ChangeManagerBeanRepo;
+import weblogic.remoteconsole.server.repo.ConfigSearchBeanRepo;
+import weblogic.remoteconsole.server.repo.ConfigSearchIndex;
 import weblogic.remoteconsole.server.repo.FileContentsValue;
 import weblogic.remoteconsole.server.repo.InvocationContext;
 import weblogic.remoteconsole.server.repo.Response;
@@ -32,8 +35,13 @@ import weblogic.remoteconsole.server.repo.Value;
 /**
  * This class manages the 'next' weblogic configuration (i.e. edit tree)
  * by using the WebLogic REST api on the admin server.
+ * <p>
+ * Configuration searches use an index built from a snapshot of the edit tree.
+ * It's updated as beans are edited through this repo and discarded when the
+ * changes are discarded.  It doesn't see changes made by other users until it's rebuilt.
  */
-public class WebLogicRestEditTreeBeanRepo extends WebLogicRestBeanRepo implements ChangeManagerBeanRepo { 
+public class WebLogicRestEditTreeBeanRepo extends WebLogicRestBeanRepo
+  implements ChangeManagerBeanRepo, ConfigSearchBeanRepo {
   private static final Logger LOGGER = Logger.getLogger(WebLogicRestEditTreeBeanRepo.class.getName());
   private static Map<String,String> rootBeanNameToWebLogicRestTreeNameMap = new HashMap<>();
   private static final String EDIT = "edit";
@@ -44,6 +52,8 @@ public class WebLogicRestEditTreeBeanRepo extends WebLogicRestBeanRepo implement
     rootBeanNameToWebLogicRestTreeNameMap.put("Domain", EDIT);
   }
 
+  private ConfigSearchIndex configSearchIndex = new ConfigSearchIndex(this);
+
   public static BeanRepo getInstance(final InvocationContext ic) {
     return ic.getPageRepo().getBeanRepo();
   }
@@ -61,6 +71,16 @@ public class WebLogicRestEditTreeBeanRepo extends WebLogicRestBeanRepo implement
     return new WeblogicRestEditTreeBeanRepoSearchBuilder(this, invocationContext, includeIsSet);
   }
 
+  @Override
+  public Response<List<BeanTreePath>> searchConfig(
+    InvocationContext ic,
+    String query,
+    int maxResults,
+    boolean rebuild
+  ) {
+    return configSearchIndex.search(ic, query, maxResults, rebuild);
+  }
+
   @Override
   public Response<Void> startEdit(InvocationContext ic) {
     return invokeChangeManagerAction(ic, "startEdit");
@@ -94,7 +114,17 @@ public class WebLogicRestEditTreeBeanRepo extends WebLogicRestBeanRepo implement
 
   @Override
   public Response<Void> discardChanges(InvocationContext ic) {
-    return invokeChangeManagerAction(ic, "cancelEdit");
+    Response<Void> response = invokeChangeManagerAction(ic, "cancelEdit");
+    if (response.isSuccess()) {
+      configSearchIndex.discard();
+    }
+    return response;
+  }
+
+  @Override
+  public boolean supportsConcurrentEdits() {
+    // Each edit is a separate POST to the admin server.
+    return true;
   }
 
   @Override
@@ -113,6 +143,9 @@ public class WebLogicRestEditTreeBeanRepo extends WebLogicRestBeanRepo implement
         false // asynchronous
       );
     convertRestMessagesToRepoMessages(postResponse, response);
+    if (postResponse.isSuccess()) {
+      configSearchIndex.beanUpdated(propertyValues.getBeanTreePath());
+    }
     return response.copyStatus(postResponse);
   }
 
@@ -136,6 +169,11 @@ public class WebLogicRestEditTreeBeanRepo extends WebLogicRestBeanRepo implement
         WebLogicRestInvoker.post(ic, restPath, requestBody, useExpandedValues, saveChanges, async);
     }
     convertRestMessagesToRepoMessages(postResponse, response);
+    if (postResponse.isSuccess()) {
+      // For a collection, the new bean's key is in the property values,
+      // so it's simpler to re-index the collection.
+      configSearchIndex.beanCreated(beanTreePath);
+    }
     return response.copyStatus(postResponse);
   }
 
@@ -152,6 +190,7 @@ public class WebLogicRestEditTreeBeanRepo extends WebLogicRestBeanRepo implement
     if (!deleteResponse.isSuccess()) {
       return response.copyUnsuccessfulResponse(deleteResponse);
     }
+    configSearchIndex.beanDeleted(beanTreePath);
     return response;
   }
 
@@ -171,10 +210,12 @@ public class WebLogicRestEditTreeBeanRepo extends WebLogicRestBeanRepo implement
       Value value = propertyValue.getValue().getValue();
       if (value.isFileContents()) {
         FileContentsValue fcValue = value.asFileContents();
+        String name = propertyValue.getPropertyDef().getOnlinePropertyName();
+        // The file is streamed to WLS REST as the parts are written (i.e. it's not copied here)
         parts.bodyPart(
           new StreamDataBodyPart(
-            propertyValue.getPropertyDef().getOnlinePropertyName(),
-            fcValue.getInputStream(),
+            name,
+            new UploadLoggingInputStream(fcValue.getInputStream(), name + " " + fcValue.getFileName()),
             fcValue.getFileName()
           )
         );
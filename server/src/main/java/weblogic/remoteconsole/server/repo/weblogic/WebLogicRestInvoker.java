@@ -3,21 +3,36 @@
 
 package weblogic.remoteconsole.server.repo.weblogic;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import javax.json.Json;
 import javax.json.JsonArray;
 import javax.json.JsonObject;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response.Status;
 
 import org.glassfish.jersey.media.multipart.FormDataMultiPart;
+import weblogic.remoteconsole.common.repodef.LocalizedConstants;
 import weblogic.remoteconsole.common.utils.Message;
 import weblogic.remoteconsole.common.utils.Path;
+import weblogic.remoteconsole.server.ConsoleBackendRuntimeConfig;
 import weblogic.remoteconsole.server.repo.InvocationContext;
+import weblogic.remoteconsole.server.repo.RequestDeadline;
+import weblogic.remoteconsole.server.repo.RequestTimings;
 import weblogic.remoteconsole.server.repo.Response;
+import weblogic.remoteconsole.server.utils.ConnectionExecutor;
 import weblogic.remoteconsole.server.utils.ResponseHelper;
 import weblogic.remoteconsole.server.utils.WebLogicRestClient;
 import weblogic.remoteconsole.server.utils.WebLogicRestClientException;
+import weblogic.remoteconsole.server.utils.WebLogicRestClientRejectedException;
 import weblogic.remoteconsole.server.utils.WebLogicRestRequest;
 
 /**
@@ -30,6 +45,14 @@ public class WebLogicRestInvoker {
 
   private static final Logger LOGGER = Logger.getLogger(WebLogicRestInvoker.class.getName());
 
+  /**
+   * Parses the json entity of a successful WLS REST response,
+   * e.g. into a more compact form than the default JsonObject.
+   */
+  public interface EntityParser {
+    JsonObject parse(InputStream entity) throws IOException;
+  }
+
   public static Response<JsonObject> post(
     InvocationContext ic,
     Path path,
@@ -37,10 +60,22 @@ public class WebLogicRestInvoker {
     boolean expandedValues,
     boolean saveChanges,
     boolean asynchronous
+  ) {
+    return post(ic, path, requestBody, expandedValues, saveChanges, asynchronous, (EntityParser)null);
+  }
+
+  public static Response<JsonObject> post(
+    InvocationContext ic,
+    Path path,
+    JsonObject requestBody,
+    boolean expandedValues,
+    boolean saveChanges,
+    boolean asynchronous,
+    EntityParser entityParser
   ) {
     WebLogicRestRequest.Builder builder = WebLogicRestRequest.builder();
     builder.root(WebLogicRestRequest.CURRENT_WEBLOGIC_REST_API_ROOT);
-    return post(ic, path, requestBody, expandedValues, saveChanges, asynchronous, builder);
+    return post(ic, path, requestBody, expandedValues, saveChanges, asynchronous, builder, entityParser);
   }
 
   public static Response<JsonObject> post(
@@ -52,27 +87,98 @@ public class WebLogicRestInvoker {
     boolean asynchronous,
     WebLogicRestRequest.Builder builder
   ) {
-    Response<JsonObject> response = new Response<>();
+    return post(ic, path, requestBody, expandedValues, saveChanges, asynchronous, builder, null);
+  }
+
+  public static Response<JsonObject> post(
+    InvocationContext ic,
+    Path path,
+    JsonObject requestBody,
+    boolean expandedValues,
+    boolean saveChanges,
+    boolean asynchronous,
+    WebLogicRestRequest.Builder builder,
+    EntityParser entityParser
+  ) {
+    if (!ic.getDeadline().hasTimeForCall()) {
+      return deadlineExpiredResponse(ic);
+    }
     try {
       javax.ws.rs.core.Response restResponse =
-        WebLogicRestClient.post(
-          builder
-            .connection(ic.getConnection())
-            .path(path.getComponents())
-            .saveChanges(saveChanges)
-            .expandedValues(expandedValues)
-            .asynchronous(asynchronous)
-            // returns properties tagged @restInternal,
-            // e.g. some deprecated ServerRuntimeMBean properties the remote console uses:
-            .internal(true)
-            .build(),
-          requestBody
+        callWebLogicRest(
+          ic,
+          () -> WebLogicRestClient.post(
+            withDeadline(ic, builder)
+              .connection(ic.getConnection())
+              .path(path.getComponents())
+              .saveChanges(saveChanges)
+              .expandedValues(expandedValues)
+              .asynchronous(asynchronous)
+              // returns properties tagged @restInternal,
+              // e.g. some deprecated ServerRuntimeMBean properties the remote console uses:
+              .internal(true)
+              .build(),
+            requestBody
+          )
         );
       boolean allowCreated = true;
-      return restResponseToResponse(restResponse, allowCreated, asynchronous);
+      return restResponseToResponse(ic, restResponse, allowCreated, asynchronous, entityParser);
     } catch (WebLogicRestClientException e) {
-      LOGGER.log(Level.WARNING, "Unexpected WebLogic Rest exception", e);
-      return response.setServiceNotAvailable();
+      return restClientExceptionToResponse(ic, e);
+    }
+  }
+
+  // Makes a WLS REST post on the WebLogic REST call executor instead of on the calling thread
+  // so that the caller can make other calls (e.g. to other WLS REST bean trees) at the same time.
+  // Use waitFor to get its response.
+  public static CompletionStage<Response<JsonObject>> postAsync(
+    InvocationContext ic,
+    Path path,
+    JsonObject requestBody,
+    boolean expandedValues,
+    boolean saveChanges,
+    boolean asynchronous,
+    WebLogicRestRequest.Builder builder,
+    EntityParser entityParser
+  ) {
+    return
+      ConnectionExecutor.getRestCallExecutor().submit(
+        ic.getConnection(),
+        () -> post(ic, path, requestBody, expandedValues, saveChanges, asynchronous, builder, entityParser)
+      );
+  }
+
+  // Waits for the response of a call that was made by postAsync.
+  // Returns service not available if there were too many calls
+  // waiting for the admin server to make the call, or if the request's
+  // time budget is used up before the call responds.
+  public static <T> Response<T> waitFor(InvocationContext ic, CompletionStage<Response<T>> stage) {
+    try {
+      RequestDeadline deadline = ic.getDeadline();
+      if (!deadline.isBounded()) {
+        return stage.toCompletableFuture().join();
+      }
+      // The call's read timeout will end it soon too, so there's no need to cancel it.
+      return stage.toCompletableFuture().get(Math.max(0, deadline.getRemainingMillis()), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      LOGGER.warning("Gave up waiting for a WebLogic Rest call: the request's time budget was used up");
+      return deadlineExpiredResponse(ic);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return deadlineExpiredResponse(ic);
+    } catch (ExecutionException | CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RejectedExecutionException) {
+        LOGGER.warning("WebLogic Rest call rejected: " + cause.getMessage());
+        return (new Response<T>()).setServiceNotAvailable();
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException)cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error)cause;
+      }
+      throw new CompletionException(cause);
     }
   }
 
@@ -84,26 +190,31 @@ public class WebLogicRestInvoker {
     boolean saveChanges,
     boolean asynchronous
   ) {
+    if (!ic.getDeadline().hasTimeForCall()) {
+      return deadlineExpiredResponse(ic);
+    }
     try {
       javax.ws.rs.core.Response restResponse =
-        WebLogicRestClient.post(
-          WebLogicRestRequest.builder()
-            .connection(ic.getConnection())
-            .path(path.getComponents())
-            .saveChanges(saveChanges)
-            .expandedValues(expandedValues)
-            .asynchronous(asynchronous)
-            // returns properties tagged @restInternal,
-            // e.g. some deprecated ServerRuntimeMBean properties the remote console uses:
-            .internal(true)
-            .build(),
-          parts
+        callWebLogicRest(
+          ic,
+          () -> WebLogicRestClient.post(
+            withDeadline(ic, WebLogicRestRequest.builder())
+              .connection(ic.getConnection())
+              .path(path.getComponents())
+              .saveChanges(saveChanges)
+              .expandedValues(expandedValues)
+              .asynchronous(asynchronous)
+              // returns properties tagged @restInternal,
+              // e.g. some deprecated ServerRuntimeMBean properties the remote console uses:
+              .internal(true)
+              .build(),
+            parts
+          )
         );
       boolean allowCreated = true;
-      return restResponseToResponse(restResponse, allowCreated, asynchronous);
+      return restResponseToResponse(ic, restResponse, allowCreated, asynchronous, null);
     } catch (WebLogicRestClientException e) {
-      LOGGER.log(Level.WARNING, "Unexpected WebLogic Rest exception", e);
-      return (new Response<JsonObject>()).setServiceNotAvailable();
+      return restClientExceptionToResponse(ic, e);
     }
   }
 
@@ -113,31 +224,104 @@ public class WebLogicRestInvoker {
     boolean saveChanges,
     boolean asynchronous
   ) {
+    if (!ic.getDeadline().hasTimeForCall()) {
+      return deadlineExpiredResponse(ic);
+    }
     try {
       javax.ws.rs.core.Response restResponse =
-        WebLogicRestClient.delete(
-          WebLogicRestRequest.builder()
-            .connection(ic.getConnection())
-            .path(path.getComponents())
-            .saveChanges(saveChanges)
-            .asynchronous(asynchronous)
-            .build()
+        callWebLogicRest(
+          ic,
+          () -> WebLogicRestClient.delete(
+            withDeadline(ic, WebLogicRestRequest.builder())
+              .connection(ic.getConnection())
+              .path(path.getComponents())
+              .saveChanges(saveChanges)
+              .asynchronous(asynchronous)
+              .build()
+          )
         );
       boolean allowCreated = false;
-      return restResponseToResponse(restResponse, allowCreated, asynchronous);
+      return restResponseToResponse(ic, restResponse, allowCreated, asynchronous, null);
     } catch (WebLogicRestClientException e) {
-      LOGGER.log(Level.WARNING, "Unexpected WebLogic Rest exception", e);
-      return (new Response<JsonObject>()).setServiceNotAvailable();
+      return restClientExceptionToResponse(ic, e);
+    }
+  }
+
+  private static Response<JsonObject> restClientExceptionToResponse(
+    InvocationContext ic,
+    WebLogicRestClientException e
+  ) {
+    Response<JsonObject> response = new Response<>();
+    if (e instanceof WebLogicRestClientRejectedException) {
+      // The admin server is busy or not responding (see ConnectionBulkhead).
+      // This is expected during incidents, so don't log the stack trace.
+      LOGGER.warning(e.getMessage());
+      String reason = ic.getLocalizer().localizeString(((WebLogicRestClientRejectedException)e).getReason());
+      return response.addFailureMessage(reason).setServiceNotAvailable();
+    }
+    if (e.getCause() instanceof SocketTimeoutException && ic.getDeadline().isBounded()) {
+      // The call's read timeout was the time left in the request's budget.
+      // This is expected when the admin server is slow, so don't log the stack trace.
+      LOGGER.warning("WebLogic Rest call timed out: " + e.getCause().getMessage());
+      return deadlineExpiredResponse(ic);
+    }
+    LOGGER.log(Level.WARNING, "Unexpected WebLogic Rest exception", e);
+    return response.setServiceNotAvailable();
+  }
+
+  // Uses the time left in the request's budget as the call's read timeout
+  // if it's shorter than the configured read timeout.
+  private static WebLogicRestRequest.Builder withDeadline(
+    InvocationContext ic,
+    WebLogicRestRequest.Builder builder
+  ) {
+    RequestDeadline deadline = ic.getDeadline();
+    if (deadline.isBounded()) {
+      int readTimeout = deadline.getReadTimeoutMillis();
+      if (readTimeout < ConsoleBackendRuntimeConfig.getReadTimeout()) {
+        builder.budgetReadTimeout(readTimeout);
+      }
+    }
+    return builder;
+  }
+
+  // Returned instead of making a call once the request's budget has been used up
+  private static <T> Response<T> deadlineExpiredResponse(InvocationContext ic) {
+    return
+      (new Response<T>())
+        .addFailureMessage(ic.getLocalizer().localizeString(LocalizedConstants.REQUEST_TIME_BUDGET_USED_UP))
+        .setServiceNotAvailable();
+  }
+
+  private interface RestCall {
+    javax.ws.rs.core.Response call() throws WebLogicRestClientException;
+  }
+
+  // Makes a WLS REST call, timing how long WLS REST took to respond
+  private static javax.ws.rs.core.Response callWebLogicRest(
+    InvocationContext ic,
+    RestCall call
+  ) throws WebLogicRestClientException {
+    try (RequestTimings.Timer timer = ic.getTimings().start(RequestTimings.WLS_REST)) {
+      return call.call();
     }
   }
 
   private static Response<JsonObject> restResponseToResponse(
+    InvocationContext ic,
     javax.ws.rs.core.Response restResponse,
     boolean allowCreated,
-    boolean asynchronous
+    boolean asynchronous,
+    EntityParser entityParser
   ) {
     Response<JsonObject> response = new Response<>();
-    JsonObject entity = ResponseHelper.getEntityAsJson(restResponse);
+    JsonObject entity = null;
+    try (RequestTimings.Timer timer = ic.getTimings().start(RequestTimings.PARSE)) {
+      entity = getEntityAsJson(restResponse, entityParser);
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "Unable to parse WebLogic Rest response", e);
+      return response.setServiceNotAvailable();
+    }
     JsonObject entityWithoutMessages = moveMessagesToResponse(response, entity);
     int status = restResponse.getStatus();
     if (Status.OK.getStatusCode() == status
@@ -156,6 +340,24 @@ public class WebLogicRestInvoker {
     return response.setServiceNotAvailable();
   }
 
+  private static JsonObject getEntityAsJson(
+    javax.ws.rs.core.Response restResponse,
+    EntityParser entityParser
+  ) throws IOException {
+    // Only successful responses are parsed by the entity parser.
+    // WebLogicRestClient may have already replaced the entity of other responses.
+    if (entityParser == null || Status.OK.getStatusCode() != restResponse.getStatus()) {
+      return ResponseHelper.getEntityAsJson(restResponse);
+    }
+    if (!restResponse.hasEntity()
+        || !MediaType.APPLICATION_JSON.equals(restResponse.getHeaderString("Content-Type"))) {
+      return null;
+    }
+    try (InputStream entity = restResponse.readEntity(InputStream.class)) {
+      return entityParser.parse(entity);
+    }
+  }
+
   private static JsonObject moveMessagesToResponse(Response<JsonObject> response, JsonObject entityJson) {
     if (entityJson == null || !entityJson.containsKey("messages")) {
       return entityJson;
@@ -171,6 +373,7 @@ public class WebLogicRestInvoker {
         )
       );
     }
-    return Json.createObjectBuilder(entityJson).remove("messages").build();
+    // Hide the messages instead of copying the rest of the (possibly large) entity
+    return new JsonObjectWithoutProperty(entityJson, "messages");
   }
 }
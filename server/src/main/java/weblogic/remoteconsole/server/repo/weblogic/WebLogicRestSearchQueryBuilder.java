@@ -8,9 +8,6 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.logging.Logger;
-import javax.json.Json;
-import javax.json.JsonArrayBuilder;
-import javax.json.JsonObjectBuilder;
 
 import weblogic.remoteconsole.common.repodef.BeanChildDef;
 import weblogic.remoteconsole.common.repodef.BeanPropertyDef;
@@ -18,26 +15,29 @@ import weblogic.remoteconsole.common.repodef.BeanTypeDef;
 
 /** 
  * Builder for creating WebLogic REST search queries.
+ * <p>
+ * It accumulates what the callers ask for.  WebLogicRestSearchQueryPlan
+ * normalizes it into the query that's sent to WLS REST.
  */
 public class WebLogicRestSearchQueryBuilder {
 
   private static final Logger LOGGER = Logger.getLogger(WebLogicRestSearchQueryBuilder.class.getName());
 
-  private static final Set<String> FIX_IDENTITIES_FIELDS = Set.of("type", "name", "identity");
-
   private WeblogicRestBeanRepoSearchBuilder builder;
 
   private WebLogicRestSearchQueryBuilder parent;
 
   private BeanTypeDef typeDef;
 
+  // whether this builder is for a collection (v.s. a singleton or the root bean)
+  private boolean collection;
+
   // defaults to whether the root type of this search is settable.
   // will get set to false if any of the childs types isn't settable.
   private boolean settable;
 
-  // Indicates that the query builder will include additional fields
-  // so that an mbeans' identity can be determined properly.
-  // The name, type and identity fields will be added if not already present.
+  // Indicates that the identities of the server runtime mbeans in the
+  // search results need to be fixed (see WebLogicRestSearchResultsFixer).
   private boolean fixIdentities = false;
 
   // whether any children, keys or fields were specified on this builder.
@@ -117,6 +117,7 @@ public class WebLogicRestSearchQueryBuilder {
         setSettable(false);
       }
       child = new WebLogicRestSearchQueryBuilder(builder, childDef.getChildTypeDef(), this);
+      child.collection = childDef.isCollection();
       children.put(childRestName, child);
     }
     setCustomized();
@@ -160,115 +161,42 @@ public class WebLogicRestSearchQueryBuilder {
     return fixIdentities;
   }
 
-  boolean isReturnExpandedValues() {
-    return builder.isIncludeIsSet() && isSettable();
+  boolean isCollection() {
+    return collection;
   }
 
-  JsonObjectBuilder getJsonObjectBuilder() {
-    if (!customized) {
-      return null; // don't need anything about this object or its children
-    }
-    JsonObjectBuilder bldr = Json.createObjectBuilder();
-    addFieldsToRestQuery(bldr);
-    addKeysToRestQuery(bldr);
-    addChildrenToRestQuery(bldr);
-    return bldr;
+  // Returns the children that were added to this builder, keyed by their WLS REST names.
+  Map<String, WebLogicRestSearchQueryBuilder> getChildren() {
+    return children;
   }
 
-  private void addFieldsToRestQuery(JsonObjectBuilder bldr) {
-    // Always fetch the key property if it's available
-    BeanPropertyDef keyPropertyDef = typeDef.getKeyPropertyDef();
-    if (keyPropertyDef != null) {
-      addProperty(keyPropertyDef);
-    }
-    JsonArrayBuilder fieldsBldr = Json.createArrayBuilder();
-    for (String field : fields) {
-      fieldsBldr.add(field);
-    }
-    // If identities need fixing then add those fields when not already present
-    if (fixIdentities) {
-      for (String fixIdentitiesField : FIX_IDENTITIES_FIELDS) {
-        if (!fields.contains(fixIdentitiesField)) {
-          fieldsBldr.add(fixIdentitiesField);
-        }
-      }
-    }
-    bldr.add("fields", fieldsBldr);
+  boolean isCustomized() {
+    return customized;
   }
 
-  private void addKeysToRestQuery(JsonObjectBuilder bldr) {
-    if (!allKeys && !keys.isEmpty()) {
-      // we're supposed to return a specific set of collection children:
-      JsonArrayBuilder keysBldr = Json.createArrayBuilder();
-      for (String key : keys) {
-        keysBldr.add(key);
-      }
-      bldr.add(typeDef.getKeyPropertyDef().getOnlinePropertyName(), keysBldr);
-    } else {
-      // we're supposed to return all of the collection's children
-      // do nothing (since, by default, the WLS REST api returns all collection children)
-    }
+  boolean isAllKeys() {
+    return allKeys;
   }
 
-  private void addChildrenToRestQuery(JsonObjectBuilder bldr) {
-    JsonObjectBuilder childrenBldr = null;
-    if (children != null) {
-      for (Map.Entry<String, WebLogicRestSearchQueryBuilder> entry : children.entrySet()) {
-        JsonObjectBuilder childBldr = entry.getValue().getJsonObjectBuilder();
-        if (childBldr != null) {
-          if (childrenBldr == null) {
-            childrenBldr = Json.createObjectBuilder();
-          }
-          childrenBldr.add(entry.getKey(), childBldr);
-        }
-      }
-    }
-    if (includeChangeManagerStatus) {
-      if (childrenBldr == null) {
-        childrenBldr = Json.createObjectBuilder();
-      }
-      addChangeManagerStatusToQuery(childrenBldr);
-    }
-    if (childrenBldr != null) {
-      bldr.add("children", childrenBldr);
-    }
+  Set<String> getKeys() {
+    return keys;
   }
 
-  private void addChangeManagerStatusToQuery(JsonObjectBuilder childrenBldr) {
-    addChangeManagerToQuery(childrenBldr);
-    addConsoleChangeManagerToQuery(childrenBldr);
+  // Returns the names of the fields that were asked for.
+  // The query plan adds the key property.
+  Set<String> getFields() {
+    return fields;
   }
 
-  private void addChangeManagerToQuery(JsonObjectBuilder childrenBldr) {
-    JsonArrayBuilder fieldsBldr = Json.createArrayBuilder();
-    fieldsBldr.add("locked");
-    fieldsBldr.add("lockOwner");
-    fieldsBldr.add("hasChanges");
-    fieldsBldr.add("mergeNeeded");
-    JsonObjectBuilder changeManagerBldr = Json.createObjectBuilder();
-    changeManagerBldr.add("fields", fieldsBldr);
-    childrenBldr.add("changeManager", changeManagerBldr);
+  boolean isIncludeChangeManagerStatus() {
+    return includeChangeManagerStatus;
   }
 
-  private void addConsoleChangeManagerToQuery(JsonObjectBuilder childrenBldr) {
-    // The console change manager doesn't have any specific properties (yet)
-    // but we need to see if it exists.
-    JsonObjectBuilder consoleChangeManagerBldr = Json.createObjectBuilder();
-    if (includeChanges) {
-      addChangesToQuery(consoleChangeManagerBldr);
-    }
-    childrenBldr.add("consoleChangeManager", consoleChangeManagerBldr);
+  boolean isIncludeChanges() {
+    return includeChanges;
   }
 
-  private void addChangesToQuery(JsonObjectBuilder consoleChangeManagerBldr) {
-    JsonObjectBuilder changesBldr = Json.createObjectBuilder();
-    JsonArrayBuilder fieldsBldr = Json.createArrayBuilder();
-    fieldsBldr.add("additions");
-    fieldsBldr.add("modifications");
-    fieldsBldr.add("removals");
-    changesBldr.add("fields", fieldsBldr);
-    JsonObjectBuilder childrenBldr = Json.createObjectBuilder();
-    childrenBldr.add("changes", changesBldr);
-    consoleChangeManagerBldr.add("children", childrenBldr);;
+  boolean isReturnExpandedValues() {
+    return builder.isIncludeIsSet() && isSettable();
   }
 }
@@ -0,0 +1,312 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.repo.weblogic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+
+import weblogic.remoteconsole.common.repodef.BeanPropertyDef;
+
+/**
+ * The normalized form of a WebLogicRestSearchQueryBuilder, i.e. what's actually
+ * sent to WLS REST.
+ * <p>
+ * The query builder just accumulates what the page readers ask for.  Since several
+ * readers add to the same query (e.g. a table's columns, the options sources of a
+ * form's properties and the page's params), the accumulated query can ask for more
+ * than it needs to.  Planning the query:
+ * <ul>
+ *   <li>drops the parts of the query that nothing was asked for</li>
+ *   <li>collapses specific keys into all keys if any reader asked for all of a
+ *       collection's children</li>
+ *   <li>only asks for the fields that were asked for, plus the key property.
+ *       The identity related fields (name, type, identity) aren't needed to fix the
+ *       server runtime identities since they're computed from the bean tree paths
+ *       (see WebLogicRestSearchResultsFixer).</li>
+ *   <li>estimates how many beans and values the response will contain</li>
+ * </ul>
+ * <p>
+ * The plan is immutable.  It's also used to parse the response
+ * (see WebLogicRestSearchResponseParser).
+ */
+class WebLogicRestSearchQueryPlan {
+
+  private static final Logger LOGGER = Logger.getLogger(WebLogicRestSearchQueryPlan.class.getName());
+
+  // beansPerParent for a collection that returns all of its children
+  // (i.e. the number of beans can't be estimated)
+  static final int ALL_BEANS = -1;
+
+  private String typeName;
+  private boolean collection;
+
+  // sorted so that the query is the same each time
+  private Set<String> fields;
+
+  // null if all of the collection's children are returned
+  private Set<String> keys;
+  private String keyField;
+
+  private Map<String, WebLogicRestSearchQueryPlan> children;
+  private boolean includeChangeManagerStatus;
+  private boolean includeChanges;
+  private int beansPerParent;
+  private long estimatedBeans;
+
+  // what the planner did to the query builder's query, e.g. for debugging
+  private List<String> notes;
+
+  // Plans a query builder's query.  Returns null if nothing was asked for (i.e. there's no need to search).
+  static WebLogicRestSearchQueryPlan create(WebLogicRestSearchQueryBuilder queryBuilder) {
+    List<String> notes = new ArrayList<>();
+    WebLogicRestSearchQueryPlan plan = create(queryBuilder, "", 1, notes);
+    if (plan != null) {
+      plan.notes = Collections.unmodifiableList(notes);
+      if (LOGGER.isLoggable(Level.FINEST)) {
+        LOGGER.finest("WebLogicRestSearchQueryPlan " + plan.toJson());
+      }
+    }
+    return plan;
+  }
+
+  private static WebLogicRestSearchQueryPlan create(
+    WebLogicRestSearchQueryBuilder queryBuilder,
+    String restPath,
+    long parentBeans,
+    List<String> notes
+  ) {
+    if (!queryBuilder.isCustomized()) {
+      return null;
+    }
+    WebLogicRestSearchQueryPlan plan = new WebLogicRestSearchQueryPlan();
+    plan.typeName = queryBuilder.getBeanTypeDef().getTypeName();
+    plan.collection = queryBuilder.isCollection();
+    plan.includeChangeManagerStatus = queryBuilder.isIncludeChangeManagerStatus();
+    plan.includeChanges = queryBuilder.isIncludeChanges();
+    planFields(plan, queryBuilder);
+    planKeys(plan, queryBuilder, restPath, notes);
+    if (plan.beansPerParent == ALL_BEANS || parentBeans == ALL_BEANS) {
+      plan.estimatedBeans = ALL_BEANS;
+    } else {
+      plan.estimatedBeans = parentBeans * plan.beansPerParent;
+    }
+    Map<String, WebLogicRestSearchQueryPlan> children = new TreeMap<>();
+    for (Map.Entry<String, WebLogicRestSearchQueryBuilder> entry : queryBuilder.getChildren().entrySet()) {
+      String childRestPath = restPath + "/" + entry.getKey();
+      WebLogicRestSearchQueryPlan child = create(entry.getValue(), childRestPath, plan.estimatedBeans, notes);
+      if (child != null) {
+        children.put(entry.getKey(), child);
+      } else {
+        notes.add("Dropped " + childRestPath + " since nothing was asked for");
+      }
+    }
+    plan.children = Collections.unmodifiableMap(children);
+    return plan;
+  }
+
+  private static void planFields(WebLogicRestSearchQueryPlan plan, WebLogicRestSearchQueryBuilder queryBuilder) {
+    Set<String> fields = new TreeSet<>(queryBuilder.getFields());
+    // Always fetch the key property if it's available
+    BeanPropertyDef keyPropertyDef = queryBuilder.getBeanTypeDef().getKeyPropertyDef();
+    if (keyPropertyDef != null) {
+      plan.keyField = keyPropertyDef.getOnlinePropertyName();
+      fields.add(plan.keyField);
+    }
+    plan.fields = Collections.unmodifiableSet(fields);
+  }
+
+  private static void planKeys(
+    WebLogicRestSearchQueryPlan plan,
+    WebLogicRestSearchQueryBuilder queryBuilder,
+    String restPath,
+    List<String> notes
+  ) {
+    Set<String> keys = queryBuilder.getKeys();
+    if (!plan.collection) {
+      plan.beansPerParent = 1;
+    } else if (queryBuilder.isAllKeys() || keys.isEmpty()) {
+      if (!keys.isEmpty()) {
+        notes.add("Collapsed keys " + new TreeSet<>(keys) + " of " + restPath + " into all keys");
+      }
+      plan.beansPerParent = ALL_BEANS;
+    } else {
+      plan.keys = Collections.unmodifiableSet(new TreeSet<>(keys));
+      plan.beansPerParent = keys.size();
+    }
+  }
+
+  private WebLogicRestSearchQueryPlan() {
+  }
+
+  String getTypeName() {
+    return typeName;
+  }
+
+  boolean isCollection() {
+    return collection;
+  }
+
+  Set<String> getFields() {
+    return fields;
+  }
+
+  // Returns null if all of the collection's children are returned.
+  Set<String> getKeys() {
+    return keys;
+  }
+
+  Map<String, WebLogicRestSearchQueryPlan> getChildren() {
+    return children;
+  }
+
+  // Returns ALL_BEANS if it can't be estimated
+  long getEstimatedBeans() {
+    return estimatedBeans;
+  }
+
+  // Returns the number of values (i.e. fields of beans) this plan and its
+  // children will return, or ALL_BEANS if it can't be estimated.
+  long getEstimatedValues() {
+    if (estimatedBeans == ALL_BEANS) {
+      return ALL_BEANS;
+    }
+    long rtn = estimatedBeans * fields.size();
+    for (WebLogicRestSearchQueryPlan child : children.values()) {
+      long childValues = child.getEstimatedValues();
+      if (childValues == ALL_BEANS) {
+        return ALL_BEANS;
+      }
+      rtn += childValues;
+    }
+    return rtn;
+  }
+
+  List<String> getNotes() {
+    return (notes != null) ? notes : List.of();
+  }
+
+  // Returns the WLS REST search query.
+  JsonObject toQuery() {
+    return toQueryBuilder().build();
+  }
+
+  private JsonObjectBuilder toQueryBuilder() {
+    JsonObjectBuilder bldr = Json.createObjectBuilder();
+    bldr.add("fields", toJsonArray(fields));
+    if (keys != null) {
+      // we're supposed to return a specific set of collection children:
+      bldr.add(keyField, toJsonArray(keys));
+    } else {
+      // we're supposed to return all of the collection's children
+      // do nothing (since, by default, the WLS REST api returns all collection children)
+    }
+    addChildrenToQuery(bldr);
+    return bldr;
+  }
+
+  private void addChildrenToQuery(JsonObjectBuilder bldr) {
+    if (children.isEmpty() && !includeChangeManagerStatus) {
+      return;
+    }
+    JsonObjectBuilder childrenBldr = Json.createObjectBuilder();
+    for (Map.Entry<String, WebLogicRestSearchQueryPlan> entry : children.entrySet()) {
+      childrenBldr.add(entry.getKey(), entry.getValue().toQueryBuilder());
+    }
+    if (includeChangeManagerStatus) {
+      addChangeManagerStatusToQuery(childrenBldr);
+    }
+    bldr.add("children", childrenBldr);
+  }
+
+  private void addChangeManagerStatusToQuery(JsonObjectBuilder childrenBldr) {
+    addChangeManagerToQuery(childrenBldr);
+    addConsoleChangeManagerToQuery(childrenBldr);
+  }
+
+  private void addChangeManagerToQuery(JsonObjectBuilder childrenBldr) {
+    JsonArrayBuilder fieldsBldr = Json.createArrayBuilder();
+    fieldsBldr.add("locked");
+    fieldsBldr.add("lockOwner");
+    fieldsBldr.add("hasChanges");
+    fieldsBldr.add("mergeNeeded");
+    JsonObjectBuilder changeManagerBldr = Json.createObjectBuilder();
+    changeManagerBldr.add("fields", fieldsBldr);
+    childrenBldr.add("changeManager", changeManagerBldr);
+  }
+
+  private void addConsoleChangeManagerToQuery(JsonObjectBuilder childrenBldr) {
+    // The console change manager doesn't have any specific properties (yet)
+    // but we need to see if it exists.
+    JsonObjectBuilder consoleChangeManagerBldr = Json.createObjectBuilder();
+    if (includeChanges) {
+      addChangesToQuery(consoleChangeManagerBldr);
+    }
+    childrenBldr.add("consoleChangeManager", consoleChangeManagerBldr);
+  }
+
+  private void addChangesToQuery(JsonObjectBuilder consoleChangeManagerBldr) {
+    JsonObjectBuilder changesBldr = Json.createObjectBuilder();
+    JsonArrayBuilder fieldsBldr = Json.createArrayBuilder();
+    fieldsBldr.add("additions");
+    fieldsBldr.add("modifications");
+    fieldsBldr.add("removals");
+    changesBldr.add("fields", fieldsBldr);
+    JsonObjectBuilder childrenBldr = Json.createObjectBuilder();
+    childrenBldr.add("changes", changesBldr);
+    consoleChangeManagerBldr.add("children", childrenBldr);
+  }
+
+  // Returns a description of the plan, e.g. for debugging.
+  JsonObject toJson() {
+    JsonObjectBuilder bldr = toJsonBuilder();
+    bldr.add("estimatedValues", getEstimatedValues());
+    bldr.add("notes", toJsonArray(getNotes()));
+    bldr.add("query", toQuery());
+    return bldr.build();
+  }
+
+  private JsonObjectBuilder toJsonBuilder() {
+    JsonObjectBuilder bldr = Json.createObjectBuilder();
+    bldr.add("type", typeName);
+    bldr.add("collection", collection);
+    bldr.add("fields", toJsonArray(fields));
+    if (keys != null) {
+      bldr.add("keys", toJsonArray(keys));
+    }
+    bldr.add("estimatedBeans", estimatedBeans);
+    if (includeChangeManagerStatus) {
+      bldr.add("changeManagerStatus", true);
+    }
+    if (includeChanges) {
+      bldr.add("changes", true);
+    }
+    if (!children.isEmpty()) {
+      JsonObjectBuilder childrenBldr = Json.createObjectBuilder();
+      for (Map.Entry<String, WebLogicRestSearchQueryPlan> entry : children.entrySet()) {
+        childrenBldr.add(entry.getKey(), entry.getValue().toJsonBuilder());
+      }
+      bldr.add("children", childrenBldr);
+    }
+    return bldr;
+  }
+
+  private static JsonArrayBuilder toJsonArray(Iterable<String> strings) {
+    JsonArrayBuilder bldr = Json.createArrayBuilder();
+    for (String string : strings) {
+      bldr.add(string);
+    }
+    return bldr;
+  }
+}
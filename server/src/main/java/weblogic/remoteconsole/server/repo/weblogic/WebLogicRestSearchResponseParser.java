@@ -0,0 +1,147 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.repo.weblogic;
+
+import java.io.IOException;
+import java.io.InputStream;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonValue;
+import javax.json.spi.JsonProvider;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import weblogic.remoteconsole.server.repo.weblogic.CompactJsonObject.Shape;
+
+/**
+ * Parses a WLS REST search response into CompactJsonObjects.
+ * <p>
+ * The response is streamed, instead of being read into a generic json object,
+ * since search responses (e.g. for the runtime tree of a large domain) can be large.
+ * <p>
+ * The beans in the response are parsed into CompactJsonObjects whose shapes
+ * come from the plan of the query that made the search request.
+ * Everything else is parsed into regular json values.
+ */
+class WebLogicRestSearchResponseParser implements WebLogicRestInvoker.EntityParser {
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final JsonProvider JSON_PROVIDER = JsonProvider.provider();
+  private static final String PROP_ITEMS = "items";
+
+  private Shape shape;
+
+  WebLogicRestSearchResponseParser(WebLogicRestSearchQueryPlan plan) {
+    this.shape = Shape.create(plan);
+  }
+
+  @Override
+  public JsonObject parse(InputStream entity) throws IOException {
+    try (JsonParser parser = JSON_FACTORY.createParser(entity)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new JsonParseException(parser, "Expected a json object");
+      }
+      return parseBean(parser, this.shape);
+    }
+  }
+
+  // Parses a bean.  The parser is positioned at the bean's START_OBJECT.
+  private CompactJsonObject parseBean(JsonParser parser, Shape beanShape) throws IOException {
+    CompactJsonObject bean = new CompactJsonObject(beanShape);
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = parser.getCurrentName();
+      JsonToken token = parser.nextToken();
+      int ordinal = beanShape.getOrdinal(name);
+      if (ordinal == -1) {
+        bean.putOtherValue(name, parseValue(parser, token));
+        continue;
+      }
+      Shape childShape = beanShape.getChildShape(ordinal);
+      if (childShape != null && token == JsonToken.START_OBJECT) {
+        if (childShape.isCollectionChild()) {
+          bean.putValue(ordinal, parseCollection(parser, childShape));
+        } else {
+          bean.putValue(ordinal, parseBean(parser, childShape));
+        }
+        continue;
+      }
+      if (token == JsonToken.VALUE_STRING) {
+        bean.putString(ordinal, parser.getText());
+      } else if (token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+        bean.putLong(ordinal, parser.getLongValue());
+      } else if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+        bean.putDouble(ordinal, parser.getDoubleValue());
+      } else {
+        bean.putValue(ordinal, parseValue(parser, token));
+      }
+    }
+    return bean;
+  }
+
+  // Parses a collection, i.e. { "items": [ child beans ] }.
+  // The parser is positioned at the collection's START_OBJECT.
+  private CompactJsonObject parseCollection(JsonParser parser, Shape childShape) throws IOException {
+    CompactJsonObject collection = new CompactJsonObject(Shape.COLLECTION);
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = parser.getCurrentName();
+      JsonToken token = parser.nextToken();
+      if (PROP_ITEMS.equals(name) && token == JsonToken.START_ARRAY) {
+        JsonArrayBuilder items = JSON_PROVIDER.createArrayBuilder();
+        for (token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+          if (token == JsonToken.START_OBJECT) {
+            items.add(parseBean(parser, childShape));
+          } else {
+            items.add(parseValue(parser, token));
+          }
+        }
+        collection.putValue(Shape.COLLECTION.getOrdinal(PROP_ITEMS), items.build());
+      } else {
+        collection.putOtherValue(name, parseValue(parser, token));
+      }
+    }
+    return collection;
+  }
+
+  // Parses a value that's not part of a bean's shape into a regular json value.
+  // The parser is positioned at the value's first token.
+  private JsonValue parseValue(JsonParser parser, JsonToken token) throws IOException {
+    if (token == null) {
+      throw new JsonParseException(parser, "Unexpected end of input");
+    }
+    switch (token) {
+      case START_OBJECT:
+        JsonObjectBuilder objectBuilder = JSON_PROVIDER.createObjectBuilder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String name = parser.getCurrentName();
+          objectBuilder.add(name, parseValue(parser, parser.nextToken()));
+        }
+        return objectBuilder.build();
+      case START_ARRAY:
+        JsonArrayBuilder arrayBuilder = JSON_PROVIDER.createArrayBuilder();
+        for (JsonToken t = parser.nextToken(); t != JsonToken.END_ARRAY; t = parser.nextToken()) {
+          arrayBuilder.add(parseValue(parser, t));
+        }
+        return arrayBuilder.build();
+      case VALUE_STRING:
+        return JSON_PROVIDER.createValue(parser.getText());
+      case VALUE_NUMBER_INT:
+        if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+          return JSON_PROVIDER.createValue(parser.getBigIntegerValue());
+        }
+        return JSON_PROVIDER.createValue(parser.getLongValue());
+      case VALUE_NUMBER_FLOAT:
+        return JSON_PROVIDER.createValue(parser.getDecimalValue());
+      case VALUE_TRUE:
+        return JsonValue.TRUE;
+      case VALUE_FALSE:
+        return JsonValue.FALSE;
+      case VALUE_NULL:
+        return JsonValue.NULL;
+      default:
+        throw new JsonParseException(parser, "Unexpected token " + token);
+    }
+  }
+}
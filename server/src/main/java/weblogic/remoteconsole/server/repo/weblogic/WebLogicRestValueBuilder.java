@@ -46,13 +46,21 @@ import weblogic.remoteconsole.server.repo.Value;
 class WebLogicRestValueBuilder {
   private BeanRepo beanRepo;
   private BeanChildDef rootChildDef;
+  // Added to the start of each WLS REST identity, e.g. to make
+  // server runtime relative identities domain runtime relative.
+  private List<String> identityPrefix;
 
   // 3 digit tz, e.g. ...+05:00
   private static final String ISO_8601_DATE_TIME_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
 
   WebLogicRestValueBuilder(BeanRepo beanRepo, BeanChildDef rootChildDef) {
+    this(beanRepo, rootChildDef, List.of());
+  }
+
+  WebLogicRestValueBuilder(BeanRepo beanRepo, BeanChildDef rootChildDef, List<String> identityPrefix) {
     this.beanRepo = beanRepo;
     this.rootChildDef = rootChildDef;
+    this.identityPrefix = identityPrefix;
   }
 
   Value buildValue(BeanValueDef valueDef, JsonValue jsonValue) {
@@ -194,16 +202,17 @@ class WebLogicRestValueBuilder {
 
     // Add the first level bean to the new bean identity's path
     // since the WLS REST identity doesn't include it.
-    beanPath.addComponent(startingChildBean.getChildName());
+    beanPath = beanPath.childPath(startingChildBean.getChildName());
 
     // Convert the WLS REST identity segments into a bean path
     BeanTypeDef typeDef = startingChildBean.getChildTypeDef();
     JsonArray restSegments = jsonValue.asJsonArray();
-    for (int i = 0; i < restSegments.size(); i++) {
+    int restSegmentsCount = identityPrefix.size() + restSegments.size();
+    for (int i = 0; i < restSegmentsCount; i++) {
 
       // Find the corresponding bean property for the WLS REST segment
       // and add it to the bean path
-      String restName = restSegments.getString(i);
+      String restName = getRestSegment(restSegments, i);
       String childName = StringUtils.getBeanName(restName);
       boolean searchSubTypes = true;
       BeanChildDef childDef = typeDef.getChildDef(new Path(childName), searchSubTypes);
@@ -212,15 +221,15 @@ class WebLogicRestValueBuilder {
         // Switch to an UnresolvedReference, using the WLS REST identity's last string as the label
         // (e.g. [ servers, myServer ] -> myserver)
         // so that the user can at least see the name of the referenced bean
-        return new UnresolvedReference(restSegments.getString(restSegments.size() - 1));
+        return new UnresolvedReference(getRestSegment(restSegments, restSegmentsCount - 1));
       }
-      beanPath.addComponent(childDef.getChildName());
+      beanPath = beanPath.childPath(childDef.getChildName());
 
-      if (childDef.isCollection() && i < (restSegments.size() - 1)) {
+      if (childDef.isCollection() && i < (restSegmentsCount - 1)) {
         // the next segment is the name of the item in the collection.
         // copy it over as-is
         i++;
-        beanPath.addComponent(restSegments.getString(i));
+        beanPath = beanPath.childPath(getRestSegment(restSegments, i));
       }
 
       typeDef = childDef.getChildTypeDef();
@@ -228,4 +237,10 @@ class WebLogicRestValueBuilder {
 
     return BeanTreePath.create(beanRepo, beanPath);
   }
+
+  // Returns a segment of a WLS REST identity, after adding the identity prefix.
+  private String getRestSegment(JsonArray restSegments, int index) {
+    int prefixSize = identityPrefix.size();
+    return (index < prefixSize) ? identityPrefix.get(index) : restSegments.getString(index - prefixSize);
+  }
 }
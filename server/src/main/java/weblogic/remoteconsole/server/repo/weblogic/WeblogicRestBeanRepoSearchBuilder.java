@@ -4,20 +4,28 @@
 package weblogic.remoteconsole.server.repo.weblogic;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import javax.json.JsonObject;
-import javax.json.JsonObjectBuilder;
 
 import weblogic.remoteconsole.common.repodef.BeanChildDef;
 import weblogic.remoteconsole.common.repodef.BeanPropertyDef;
 import weblogic.remoteconsole.common.repodef.BeanTypeDef;
+import weblogic.remoteconsole.common.repodef.LocalizedConstants;
+import weblogic.remoteconsole.common.utils.Message;
 import weblogic.remoteconsole.common.utils.Path;
 import weblogic.remoteconsole.server.repo.BeanReaderRepoSearchBuilder;
 import weblogic.remoteconsole.server.repo.BeanReaderRepoSearchResults;
 import weblogic.remoteconsole.server.repo.BeanTreePath;
 import weblogic.remoteconsole.server.repo.BeanTreePathSegment;
 import weblogic.remoteconsole.server.repo.InvocationContext;
+import weblogic.remoteconsole.server.repo.RequestDeadline;
+import weblogic.remoteconsole.server.repo.RequestTimings;
 import weblogic.remoteconsole.server.repo.Response;
+import weblogic.remoteconsole.server.utils.WebLogicRestRequest;
 
 /**
  * Builds a search request for a WebLogic REST-based bean repo.
@@ -88,60 +96,116 @@ public class WeblogicRestBeanRepoSearchBuilder implements BeanReaderRepoSearchBu
   @Override
   public Response<BeanReaderRepoSearchResults> search() {
     Response<BeanReaderRepoSearchResults> response = new Response<>();
+    Map<String,WebLogicRestSearchQueryPlan> plans = new LinkedHashMap<>();
+    try (RequestTimings.Timer timer = getInvocationContext().getTimings().start(RequestTimings.SEARCH_PLAN)) {
+      planSearches(plans);
+    }
+    // If there's more than one tree to search, search them at the same time
+    // so that a slow tree (e.g. the domain runtime tree when a managed server is hung)
+    // doesn't hold up the others.
+    boolean async = plans.size() > 1;
+    Map<String,CompletionStage<Response<JsonObject>>> searches = new LinkedHashMap<>();
+    for (Map.Entry<String,WebLogicRestSearchQueryPlan> entry : plans.entrySet()) {
+      String rootBeanName = entry.getKey();
+      searches.put(
+        rootBeanName,
+        doQuery(
+          getRootBeanNameToQueryBuilderMap().get(rootBeanName),
+          getBeanRepo().getWebLogicRestTreeName(rootBeanName),
+          entry.getValue(),
+          async
+        )
+      );
+    }
     Map<String,JsonObject> searchResults = new HashMap<String,JsonObject>();
+    for (Map.Entry<String,CompletionStage<Response<JsonObject>>> entry : searches.entrySet()) {
+      Response<JsonObject> searchResponse = WebLogicRestInvoker.waitFor(getInvocationContext(), entry.getValue());
+      if (!searchResponse.isSuccess()) {
+        // something went wrong in this search.  ignore the other searches.
+        return response.copyUnsuccessfulResponse(searchResponse);
+      }
+      // If the query builder is fixing identities, the search results
+      // fix them as they're read (see WebLogicRestSearchResultsFixer).
+      searchResults.put(entry.getKey(), searchResponse.getResults());
+      if (getRootBeanNameToQueryBuilderMap().get(entry.getKey()).isFixIdentities()) {
+        reportUnreachableServers(response, searchResponse.getResults());
+      }
+    }
+    return response.setSuccess(createSearchResults(searchResults));
+  }
+
+  // Plans the searches of the WLS REST bean trees that we've been asked to search.
+  // Skips the trees that we haven't been asked for anything in.
+  private void planSearches(Map<String,WebLogicRestSearchQueryPlan> plans) {
     for (String rootBeanName : getBeanRepo().getRootBeanNames()) {
       WebLogicRestSearchQueryBuilder queryBuilder = getRootBeanNameToQueryBuilderMap().get(rootBeanName);
-      JsonObjectBuilder builder = queryBuilder.getJsonObjectBuilder();
-      if (builder != null) {
-        // we've been asked to search this tree.  do it.
-        JsonObject query = builder.build();
-        Response<JsonObject> searchResponse =
-          doQuery(
-            queryBuilder,
-            getBeanRepo().getWebLogicRestTreeName(rootBeanName),
-            query
-          );
-        if (!searchResponse.isSuccess()) {
-          // something went wrong in this search.  don't do any further searches.
-          return response.copyUnsuccessfulResponse(searchResponse);
-        }
-        JsonObject rootBeanSearchResults = searchResponse.getResults();
-        // Check if the query builder is adding context in order to fix identities
-        // and provide the fixed search response to the BeanReaderRepoSearchResults
-        if (queryBuilder.isFixIdentities()) {
-          rootBeanSearchResults =
-            WebLogicRestSearchResultsFixer.fixServerRuntimes(rootBeanSearchResults, queryBuilder.getBeanTypeDef());
+      WebLogicRestSearchQueryPlan plan = WebLogicRestSearchQueryPlan.create(queryBuilder);
+      if (plan != null) {
+        plans.put(rootBeanName, plan);
+        if (getInvocationContext().isRecordingSearchQueryPlans()) {
+          String weblogicRestTreeName = getBeanRepo().getWebLogicRestTreeName(rootBeanName);
+          getInvocationContext().recordSearchQueryPlan(weblogicRestTreeName, plan.toJson());
         }
-        searchResults.put(rootBeanName, rootBeanSearchResults);
-      } else {
-        // we haven't been asked for anything in this tree. skip it.
       }
     }
-    return response.setSuccess(createSearchResults(searchResults));
+  }
+
+  // The search results leave out the server runtimes that the admin server couldn't get
+  // (e.g. because the managed server didn't respond in time).  Warn that they're missing
+  // so that the results aren't mistaken for a complete list.
+  private void reportUnreachableServers(Response<BeanReaderRepoSearchResults> response, JsonObject results) {
+    List<String> servers = WebLogicRestSearchResultsFixer.getUnreachableServerNames(results);
+    if (!servers.isEmpty()) {
+      response.addMessage(
+        Message.newWarningMessage(
+          getInvocationContext().getLocalizer().localizeString(LocalizedConstants.SERVERS_DID_NOT_RESPOND)
+          + String.join(", ", servers)
+        )
+      );
+    }
   }
 
   protected BeanReaderRepoSearchResults createSearchResults(Map<String,JsonObject> searchResults) {
     return new WeblogicRestBeanRepoSearchResults(this, searchResults);
   }
 
-  private Response<JsonObject> doQuery(
+  private CompletionStage<Response<JsonObject>> doQuery(
     WebLogicRestSearchQueryBuilder queryBuilder,
     String weblogicRestTreeName,
-    JsonObject query
+    WebLogicRestSearchQueryPlan plan,
+    boolean async
   ) {
     // if the caller wants to know whether properties are set and
     // if all the types in the query builder are settable,
     // then turn on the 'expandedValues' switch that tells WLS REST to
     // return whether properties are set.
     boolean returnExpandedValues = queryBuilder.isReturnExpandedValues();
+    Path path = (new Path(weblogicRestTreeName)).childPath("search");
+    JsonObject query = plan.toQuery();
+    boolean saveChanges = false;
+    boolean asynchronous = false;
+    // stream the response into compact json objects shaped by the query
+    WebLogicRestInvoker.EntityParser parser = new WebLogicRestSearchResponseParser(plan);
+    WebLogicRestRequest.Builder builder = WebLogicRestRequest.builder();
+    builder.root(WebLogicRestRequest.CURRENT_WEBLOGIC_REST_API_ROOT);
+    RequestDeadline deadline = getInvocationContext().getDeadline();
+    if (queryBuilder.isFixIdentities() && deadline.isBounded()) {
+      // The admin server gets the server runtimes from the managed servers.
+      // Have it give up on the ones that don't respond in time so that we get
+      // the rest of the results instead of timing out (see reportUnreachableServers).
+      builder.queryParam(RequestDeadline.REQUEST_MAX_WAIT_MILLIS, deadline.getFanOutWaitMillis());
+    }
+    if (async) {
+      return
+        WebLogicRestInvoker.postAsync(
+          getInvocationContext(), path, query, returnExpandedValues, saveChanges, asynchronous, builder, parser
+        );
+    }
     return
-      WebLogicRestInvoker.post(
-        getInvocationContext(),
-        (new Path(weblogicRestTreeName)).childPath("search"),
-        query,
-        returnExpandedValues,
-        false, // saveChanges
-        false // asynchronous
+      CompletableFuture.completedFuture(
+        WebLogicRestInvoker.post(
+          getInvocationContext(), path, query, returnExpandedValues, saveChanges, asynchronous, builder, parser
+        )
       );
   }
 
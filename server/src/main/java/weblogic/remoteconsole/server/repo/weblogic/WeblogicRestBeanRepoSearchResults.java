@@ -48,7 +48,14 @@ class WeblogicRestBeanRepoSearchResults implements BeanReaderRepoSearchResults {
     if (weblogicBeanResults == null) {
       return null;
     }
-    return new WebLogicRestBeanSearchResults(this, beanPath, haveExpandedValues, weblogicBeanResults);
+    return
+      new WebLogicRestBeanSearchResults(
+        this,
+        beanPath,
+        haveExpandedValues,
+        isFixIdentities(beanPath),
+        weblogicBeanResults
+      );
   }
 
   @Override
@@ -61,15 +68,27 @@ class WeblogicRestBeanRepoSearchResults implements BeanReaderRepoSearchResults {
     if (weblogicCollectionResults == null) {
       return null;
     }
+    boolean fixIdentities = isFixIdentities(collectionPath);
+    BeanChildDef collectionDef = collectionPath.getLastSegment().getChildDef();
     List<BeanSearchResults> rtn = new ArrayList<>();
     JsonArray items = weblogicCollectionResults.getJsonArray("items");
     for (int i = 0; i < items.size(); i++) {
       JsonObject weblogicBeanResults = items.getJsonObject(i);
+      if (fixIdentities
+          && WebLogicRestSearchResultsFixer.isUnreachableServerRuntime(collectionDef, weblogicBeanResults)) {
+        continue;
+      }
       String key = getKey(collectionPath.getLastSegment(), weblogicBeanResults, haveExpandedValues);
       BeanTreePath collectionChildPath =
         BeanTreePath.create(collectionPath.getBeanRepo(), collectionPath.getPath().childPath(key));
       rtn.add(
-        new WebLogicRestBeanSearchResults(this, collectionChildPath, haveExpandedValues, weblogicBeanResults)
+        new WebLogicRestBeanSearchResults(
+          this,
+          collectionChildPath,
+          haveExpandedValues,
+          fixIdentities,
+          weblogicBeanResults
+        )
       );
     }
     return rtn;
@@ -79,11 +98,12 @@ class WeblogicRestBeanRepoSearchResults implements BeanReaderRepoSearchResults {
     String rootBeanName = getBuilder().getBeanRepo().getRootBeanName(beanTreePath);
     JsonObject searchResults = getRootBeanNameToSearchResultsMap().get(rootBeanName);
     JsonObject childResults = searchResults;
+    boolean fixIdentities = isFixIdentities(beanTreePath);
     // The first segment identifies the root WLS bean tree and
     // is not included in the WLS REST search results
     for (int i = 1; i < beanTreePath.getSegments().size(); i++) {
       BeanTreePathSegment segment = beanTreePath.getSegments().get(i);
-      JsonObject segmentResults = findSegmentResults(childResults, segment, haveExpandedValues);
+      JsonObject segmentResults = findSegmentResults(childResults, segment, haveExpandedValues, fixIdentities);
       if (segmentResults == null) {
         return null; // not found
       } else {
@@ -96,7 +116,8 @@ class WeblogicRestBeanRepoSearchResults implements BeanReaderRepoSearchResults {
   private JsonObject findSegmentResults(
     JsonObject parentResults,
     BeanTreePathSegment segment,
-    boolean haveExpandedValues
+    boolean haveExpandedValues,
+    boolean fixIdentities
   ) {
     if (parentResults == null) {
       return null; // not found
@@ -110,8 +131,12 @@ class WeblogicRestBeanRepoSearchResults implements BeanReaderRepoSearchResults {
       return null; // not found
     }
     JsonObject segmentResults = parentResults.getJsonObject(childRestName);
-    if (segment.getChildDef().isCollection() && segment.isKeySet()) {
-      return findCollectionChild(segmentResults, segment, haveExpandedValues);
+    if (segment.getChildDef().isCollection()) {
+      if (segment.isKeySet()) {
+        return findCollectionChild(segmentResults, segment, haveExpandedValues, fixIdentities);
+      }
+    } else if (fixIdentities && WebLogicRestSearchResultsFixer.isUnreachableServerRuntime(childDef, segmentResults)) {
+      return null; // not found
     }
     return segmentResults;
   }
@@ -119,11 +144,16 @@ class WeblogicRestBeanRepoSearchResults implements BeanReaderRepoSearchResults {
   private JsonObject findCollectionChild(
     JsonObject collectionSearchResults,
     BeanTreePathSegment segment,
-    boolean haveExpandedValues
+    boolean haveExpandedValues,
+    boolean fixIdentities
   ) {
+    BeanChildDef childDef = segment.getChildDef();
     JsonArray items = collectionSearchResults.getJsonArray("items");
     for (int i = 0; i < items.size(); i++) {
       JsonObject beanResults = items.getJsonObject(i);
+      if (fixIdentities && WebLogicRestSearchResultsFixer.isUnreachableServerRuntime(childDef, beanResults)) {
+        continue;
+      }
       if (segment.getKey().equals(getKey(segment, beanResults, haveExpandedValues))) {
         return beanResults;
       }
@@ -153,6 +183,13 @@ class WeblogicRestBeanRepoSearchResults implements BeanReaderRepoSearchResults {
     return false; // singleton child or collection child
   }
 
+  // Returns whether the identities in a root bean's search results need to be
+  // fixed (see WebLogicRestSearchResultsFixer).
+  private boolean isFixIdentities(BeanTreePath beanTreePath) {
+    String rootBean = getBuilder().getBeanRepo().getRootBeanName(beanTreePath);
+    return getBuilder().getRootBeanNameToQueryBuilderMap().get(rootBean).isFixIdentities();
+  }
+
   public boolean isHaveExpandedValues(BeanTreePath beanTreePath) {
     if (!getBuilder().isIncludeIsSet()) {
       return false;
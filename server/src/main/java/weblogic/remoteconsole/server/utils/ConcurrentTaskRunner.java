@@ -0,0 +1,102 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs a request's independent tasks (e.g. WebLogic REST calls for different beans)
+ * at the same time, with a limit on how many of that request's tasks run at once.
+ * <p>
+ * The calling thread always works on the tasks too, so a request still makes
+ * progress if the shared worker threads are busy.
+ */
+public class ConcurrentTaskRunner {
+
+  private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+  private static final ThreadFactory THREAD_FACTORY = runnable -> {
+    Thread thread = new Thread(runnable, "console-backend-worker-" + THREAD_COUNT.incrementAndGet());
+    thread.setDaemon(true);
+    return thread;
+  };
+
+  // Worker threads are created on demand and go away when idle.
+  // The number in use is bounded by the maxConcurrency passed to runAll.
+  private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(THREAD_FACTORY);
+
+  private ConcurrentTaskRunner() {
+  }
+
+  // Runs the tasks, with at most maxConcurrency of them running at once,
+  // and returns their results in the same order as the tasks.
+  // If any task throws a RuntimeException or Error, the first one is rethrown
+  // after all the tasks have finished.
+  public static <T> List<T> runAll(List<Supplier<T>> tasks, int maxConcurrency) {
+    Object[] results = new Object[tasks.size()];
+    Throwable[] failures = new Throwable[tasks.size()];
+    AtomicInteger nextTask = new AtomicInteger();
+    Runnable worker = () -> {
+      for (int i = nextTask.getAndIncrement(); i < tasks.size(); i = nextTask.getAndIncrement()) {
+        try {
+          results[i] = tasks.get(i).get();
+        } catch (RuntimeException | Error e) {
+          failures[i] = e;
+        }
+      }
+    };
+    int workers = Math.max(1, Math.min(maxConcurrency, tasks.size()));
+    List<Future<?>> futures = new ArrayList<>();
+    // The calling thread is one of the workers.
+    for (int i = 1; i < workers; i++) {
+      futures.add(EXECUTOR.submit(worker));
+    }
+    worker.run();
+    for (Future<?> future : futures) {
+      waitFor(future);
+    }
+    for (Throwable failure : failures) {
+      if (failure instanceof RuntimeException) {
+        throw (RuntimeException)failure;
+      }
+      if (failure instanceof Error) {
+        throw (Error)failure;
+      }
+    }
+    @SuppressWarnings("unchecked")
+    List<T> rtn = (List<T>)Arrays.asList(results);
+    return rtn;
+  }
+
+  private static void waitFor(Future<?> future) {
+    boolean interrupted = false;
+    try {
+      while (true) {
+        try {
+          future.get();
+          return;
+        } catch (InterruptedException e) {
+          // The tasks are already running and their results are needed.  Keep waiting.
+          interrupted = true;
+        } catch (ExecutionException e) {
+          // Workers catch their tasks' exceptions, so this doesn't happen.
+          throw new AssertionError(e);
+        }
+      }
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
@@ -0,0 +1,218 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import weblogic.remoteconsole.server.ConsoleBackendRuntimeConfig;
+import weblogic.remoteconsole.server.connection.Connection;
+
+/**
+ * Runs tasks that wait on a connection's admin server (e.g. WebLogic REST calls)
+ * on a bounded pool of threads, with a limit on how many of each connection's
+ * tasks run at once.
+ * <p>
+ * A slow admin server (e.g. one whose managed servers are hung) can only use up
+ * its connection's share of the threads.  Its other tasks wait in its connection's queue,
+ * so that the other connections' tasks still run.
+ * <p>
+ * When too many tasks are waiting, new ones are rejected.  The futures of rejected
+ * tasks are completed with a RejectedExecutionException.
+ * <p>
+ * There are two executors: one that runs the requests that the JAXRS resources
+ * have suspended and one that makes asynchronous WebLogic REST calls.
+ * They're separate so that a request can wait for its WebLogic REST calls
+ * without using up the threads that the WebLogic REST calls need.
+ * <p>
+ * The WebLogic REST call executor only feeds the connection's ConnectionBulkhead,
+ * which limits all of the connection's calls, whether or not they're asynchronous.
+ * It runs as many of a connection's calls at once as the bulkhead lets through,
+ * so that its threads aren't used up waiting in the bulkhead's queue.
+ */
+public class ConnectionExecutor {
+
+  private static final ConnectionExecutor REQUEST_EXECUTOR =
+    new ConnectionExecutor(
+      "console-backend-request-",
+      ConsoleBackendRuntimeConfig.getAsyncRequestThreads(),
+      ConsoleBackendRuntimeConfig.getMaxAsyncRequestsPerConnection(),
+      ConsoleBackendRuntimeConfig.getAsyncQueueSize()
+    );
+
+  private static final ConnectionExecutor REST_CALL_EXECUTOR =
+    new ConnectionExecutor(
+      "console-backend-rest-",
+      ConsoleBackendRuntimeConfig.getAsyncRestCallThreads(),
+      ConsoleBackendRuntimeConfig.getMaxInFlightRestCallsPerConnection(),
+      ConsoleBackendRuntimeConfig.getAsyncQueueSize()
+    );
+
+  // Used for the tasks that don't have a connection (e.g. for WDT models)
+  private static final String NO_CONNECTION = "";
+
+  private ThreadPoolExecutor executor;
+  private int maxTasksPerConnection;
+  private int maxWaitingTasksPerConnection;
+
+  // Maps from a connection id to its tasks.
+  // Only contains the connections that have running or waiting tasks.
+  private Map<String,ConnectionTasks> connectionTasks = new ConcurrentHashMap<>();
+
+  // Returns the executor for the requests that the JAXRS resources have suspended.
+  public static ConnectionExecutor getRequestExecutor() {
+    return REQUEST_EXECUTOR;
+  }
+
+  // Returns the executor for asynchronous WebLogic REST calls.
+  public static ConnectionExecutor getRestCallExecutor() {
+    return REST_CALL_EXECUTOR;
+  }
+
+  private ConnectionExecutor(String threadNamePrefix, int threads, int maxTasksPerConnection, int queueSize) {
+    AtomicInteger threadCount = new AtomicInteger();
+    ThreadFactory threadFactory = runnable -> {
+      Thread thread = new Thread(runnable, threadNamePrefix + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+    this.executor =
+      new ThreadPoolExecutor(
+        threads,
+        threads,
+        60L,
+        TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(queueSize),
+        threadFactory,
+        new ThreadPoolExecutor.AbortPolicy()
+      );
+    // Let the threads go away when the console is idle
+    this.executor.allowCoreThreadTimeOut(true);
+    this.maxTasksPerConnection = Math.max(1, maxTasksPerConnection);
+    this.maxWaitingTasksPerConnection = queueSize;
+  }
+
+  // Runs a task for a connection (which is null if the task doesn't have one).
+  // Returns a future that is completed with the task's result, or with
+  // the RuntimeException or Error it threw, or with a RejectedExecutionException
+  // if there were too many tasks waiting to run.
+  public <T> CompletableFuture<T> submit(Connection connection, Supplier<T> supplier) {
+    Task<T> task = new Task<>(supplier);
+    String connectionId = (connection != null) ? connection.getId() : NO_CONNECTION;
+    List<Task<?>> rejected = new ArrayList<>();
+    connectionTasks.compute(
+      connectionId,
+      (id, tasks) -> {
+        ConnectionTasks rtn = (tasks != null) ? tasks : new ConnectionTasks();
+        if (rtn.running < maxTasksPerConnection) {
+          rtn.running++;
+          if (!execute(connectionId, task)) {
+            rtn.running--;
+            rejected.add(task);
+          }
+        } else if (rtn.waiting.size() < maxWaitingTasksPerConnection) {
+          rtn.waiting.add(task);
+        } else {
+          rejected.add(task);
+        }
+        return (rtn.running > 0 || !rtn.waiting.isEmpty()) ? rtn : null;
+      }
+    );
+    reject(rejected, connectionId);
+    return task.getFuture();
+  }
+
+  // Starts the connection's next waiting task, if any, in the finished task's place
+  private void taskFinished(String connectionId) {
+    List<Task<?>> rejected = new ArrayList<>();
+    connectionTasks.computeIfPresent(
+      connectionId,
+      (id, tasks) -> {
+        tasks.running--;
+        while (tasks.running < maxTasksPerConnection && !tasks.waiting.isEmpty()) {
+          tasks.running++;
+          Task<?> task = tasks.waiting.poll();
+          if (!execute(connectionId, task)) {
+            tasks.running--;
+            rejected.add(task);
+          }
+        }
+        // Forget about the connection once it's idle
+        return (tasks.running > 0 || !tasks.waiting.isEmpty()) ? tasks : null;
+      }
+    );
+    reject(rejected, connectionId);
+  }
+
+  // Hands a task to the thread pool.  Returns false if the pool's queue is full.
+  // Only called inside the connectionTasks map's compute methods, which update the connection's counts.
+  private boolean execute(String connectionId, Task<?> task) {
+    try {
+      executor.execute(
+        () -> {
+          try {
+            task.run();
+          } finally {
+            taskFinished(connectionId);
+          }
+        }
+      );
+      return true;
+    } catch (RejectedExecutionException e) {
+      return false;
+    }
+  }
+
+  // Completes the rejected tasks' futures.  This is done after the map's compute methods
+  // have returned since the futures' callers' callbacks could submit more tasks.
+  private void reject(List<Task<?>> rejected, String connectionId) {
+    for (Task<?> task : rejected) {
+      task.reject(new RejectedExecutionException("Too many tasks waiting for connection " + connectionId));
+    }
+  }
+
+  // The running and waiting tasks of a connection.
+  // Only modified inside the connectionTasks map's compute methods.
+  private static class ConnectionTasks {
+    private int running;
+    private Deque<Task<?>> waiting = new ArrayDeque<>();
+  }
+
+  private static class Task<T> {
+    private Supplier<T> supplier;
+    private CompletableFuture<T> future = new CompletableFuture<>();
+
+    private Task(Supplier<T> supplier) {
+      this.supplier = supplier;
+    }
+
+    private CompletableFuture<T> getFuture() {
+      return future;
+    }
+
+    private void run() {
+      try {
+        future.complete(supplier.get());
+      } catch (RuntimeException | Error e) {
+        future.completeExceptionally(e);
+      }
+    }
+
+    private void reject(RejectedExecutionException e) {
+      future.completeExceptionally(e);
+    }
+  }
+}
@@ -4,23 +4,27 @@
 package weblogic.remoteconsole.server.utils;
 
 import java.net.ConnectException;
+import java.net.SocketTimeoutException;
 import java.util.Map;
 import java.util.logging.Logger;
 import javax.json.JsonObject;
 import javax.ws.rs.ProcessingException;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.Invocation;
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
 
 import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.RequestEntityProcessing;
 import org.glassfish.jersey.media.multipart.FormDataMultiPart;
 import org.glassfish.jersey.media.sse.EventSource;
 import weblogic.remoteconsole.server.ConsoleBackendRuntime;
 import weblogic.remoteconsole.server.ConsoleBackendRuntime.State;
 import weblogic.remoteconsole.server.connection.Connection;
+import weblogic.remoteconsole.server.connection.ConnectionBulkhead;
 
 /**
  * WebLogicRestClient uses state from the WebLogicRestRequest and ConsoleBackendRuntime to use
@@ -28,6 +32,7 @@ import weblogic.remoteconsole.server.connection.Connection;
  */
 public class WebLogicRestClient {
   private static final Logger LOGGER = Logger.getLogger(WebLogicRestClient.class.getName());
+  private static final int CHUNK_SIZE = 64 * 1024;
 
   public static EventSource getEventSource(
     WebLogicRestRequest request,
@@ -47,11 +52,24 @@ public class WebLogicRestClient {
    * @throws WebLogicRestClientException
    */
   public static Response get(WebLogicRestRequest request) throws WebLogicRestClientException {
+    return callThroughBulkhead(request, "GET", metrics -> doGet(request, metrics));
+  }
+
+  private static Response doGet(
+    WebLogicRestRequest request,
+    WebLogicRestMetrics metrics
+  ) throws WebLogicRestClientException {
     WebTarget webTarget = getWebTarget(request);
     MultivaluedMap<String, Object> headers = WebLogicRestClientHelper.createHeaders(request);
     Response response = null;
     try {
-      response = webTarget.request().headers(headers).accept(MediaType.APPLICATION_JSON).get();
+      response =
+        webTarget.request()
+          .headers(headers)
+          .accept(MediaType.APPLICATION_JSON)
+          .property(WebLogicRestMetrics.PROPERTY, metrics)
+          .property(WebLogicRestRecorder.CONNECTION_PROPERTY, getConnectionId(request))
+          .get();
 
       if (WebLogicRestClientHelper.isErrorResponse("GET", response.getStatus())) {
         response = WebLogicRestClientHelper.getWebLogicRestErrorMessages(response);
@@ -60,7 +78,7 @@ public class WebLogicRestClient {
       if (response != null) {
         response.close();
       }
-      response = handleProcessingException(pe);
+      response = handleProcessingException(pe, metrics);
     } catch (Exception e) {
       if (response != null) {
         response.close();
@@ -84,15 +102,40 @@ public class WebLogicRestClient {
    * @throws WebLogicRestClientException
    */
   public static Response post(WebLogicRestRequest request, Entity<Object> entity) throws WebLogicRestClientException {
+    return post(request, entity, false);
+  }
+
+  private static Response post(
+    WebLogicRestRequest request,
+    Entity<Object> entity,
+    boolean chunked
+  ) throws WebLogicRestClientException {
+    return callThroughBulkhead(request, "POST", metrics -> doPost(request, entity, chunked, metrics));
+  }
+
+  private static Response doPost(
+    WebLogicRestRequest request,
+    Entity<Object> entity,
+    boolean chunked,
+    WebLogicRestMetrics metrics
+  ) throws WebLogicRestClientException {
     WebTarget webTarget = getWebTarget(request);
     MultivaluedMap<String, Object> headers = WebLogicRestClientHelper.createHeaders(request);
     Response response = null;
     try {
-      response =
+      Invocation.Builder builder =
         webTarget.request()
           .headers(headers)
           .accept(MediaType.APPLICATION_JSON)
-          .post(entity, Response.class);
+          .property(WebLogicRestMetrics.PROPERTY, metrics)
+          .property(WebLogicRestRecorder.CONNECTION_PROPERTY, getConnectionId(request));
+      if (chunked) {
+        builder =
+          builder
+            .property(ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.CHUNKED)
+            .property(ClientProperties.CHUNKED_ENCODING_SIZE, CHUNK_SIZE);
+      }
+      response = builder.post(entity, Response.class);
 
       if (WebLogicRestClientHelper.isErrorResponse("POST", response.getStatus())) {
         response = WebLogicRestClientHelper.getWebLogicRestErrorMessages(response);
@@ -101,7 +144,7 @@ public class WebLogicRestClient {
       if (response != null) {
         response.close();
       }
-      response = handleProcessingException(pe);
+      response = handleProcessingException(pe, metrics);
     } catch (Exception e) {
       if (response != null) {
         response.close();
@@ -118,7 +161,10 @@ public class WebLogicRestClient {
   }
 
   public static Response post(WebLogicRestRequest request, FormDataMultiPart parts) throws WebLogicRestClientException {
-    return post(request, Entity.entity(parts, MediaType.MULTIPART_FORM_DATA));
+    // The parts can contain large uploaded files (e.g. an application's archive).
+    // By default, the whole request is buffered so that its length can be sent.
+    // Instead, use chunked transfer encoding to write the files to WLS REST as they're read.
+    return post(request, Entity.entity(parts, MediaType.MULTIPART_FORM_DATA), true);
   }
 
   /**
@@ -131,6 +177,13 @@ public class WebLogicRestClient {
    * @throws WebLogicRestClientException
    */
   public static Response delete(WebLogicRestRequest request) throws WebLogicRestClientException {
+    return callThroughBulkhead(request, "DELETE", metrics -> doDelete(request, metrics));
+  }
+
+  private static Response doDelete(
+    WebLogicRestRequest request,
+    WebLogicRestMetrics metrics
+  ) throws WebLogicRestClientException {
     WebTarget webTarget = getWebTarget(request);
     MultivaluedMap<String, Object> headers = WebLogicRestClientHelper.createHeaders(request);
     Response response = null;
@@ -140,6 +193,8 @@ public class WebLogicRestClient {
         webTarget.request()
           .headers(headers)
           .accept(MediaType.APPLICATION_JSON)
+          .property(WebLogicRestMetrics.PROPERTY, metrics)
+          .property(WebLogicRestRecorder.CONNECTION_PROPERTY, getConnectionId(request))
           .delete(Response.class);
       if (WebLogicRestClientHelper.isErrorResponse("DELETE", response.getStatus())) {
         response = WebLogicRestClientHelper.getWebLogicRestErrorMessages(response);
@@ -148,7 +203,7 @@ public class WebLogicRestClient {
       if (response != null) {
         response.close();
       }
-      response = handleProcessingException(pe);
+      response = handleProcessingException(pe, metrics);
     } catch (Exception e) {
       if (response != null) {
         response.close();
@@ -160,6 +215,55 @@ public class WebLogicRestClient {
     return response;
   }
 
+  private interface Call {
+    Response call(WebLogicRestMetrics metrics) throws WebLogicRestClientException;
+  }
+
+  // Makes the call if the connection's bulkhead allows it (see ConnectionBulkhead)
+  // and records the call's metrics (see WebLogicRestMetrics).
+  // Requests that aren't for a connection (e.g. the ones that create connections)
+  // aren't limited.
+  private static Response callThroughBulkhead(
+    WebLogicRestRequest request,
+    String method,
+    Call call
+  ) throws WebLogicRestClientException {
+    WebLogicRestMetrics metrics = new WebLogicRestMetrics(request, method);
+    ConnectionBulkhead bulkhead = (request.connection() != null) ? request.connection().getBulkhead() : null;
+    if (bulkhead != null) {
+      try {
+        bulkhead.acquire();
+      } catch (WebLogicRestClientRejectedException e) {
+        metrics.failed(e);
+        throw e;
+      }
+    }
+    boolean timedOut = false;
+    boolean budgetTimedOut = false;
+    try {
+      metrics.started();
+      Response response = call.call(metrics);
+      metrics.responded(response);
+      return response;
+    } catch (WebLogicRestClientException e) {
+      if (e.getCause() instanceof SocketTimeoutException) {
+        // Only a timeout of the configured length says that the admin server isn't
+        // responding.  One shortened to the request's time budget doesn't.
+        if (request.readTimeoutFromBudget()) {
+          budgetTimedOut = true;
+        } else {
+          timedOut = true;
+        }
+      }
+      metrics.failed(e);
+      throw e;
+    } finally {
+      if (bulkhead != null) {
+        bulkhead.release(timedOut, budgetTimedOut);
+      }
+    }
+  }
+
   private static WebTarget getWebTarget(
     WebLogicRestRequest request
   ) throws WebLogicRestClientException {
@@ -230,11 +334,17 @@ public class WebLogicRestClient {
     return calculatedTargetUri;
   }
 
+  private static String getConnectionId(WebLogicRestRequest request) {
+    return (request.connection() != null) ? request.connection().getId() : null;
+  }
+
   private static Response handleProcessingException(
-    ProcessingException pe
+    ProcessingException pe,
+    WebLogicRestMetrics metrics
   ) throws WebLogicRestClientException {
     Throwable t = pe.getCause();
     if (t instanceof ConnectException) {
+      metrics.failed(t);
       return ResponseHelper.createExceptionResponse(t, "Unable to connect to the WebLogic Domain.");
     } else {
       throw new WebLogicRestClientException(t);
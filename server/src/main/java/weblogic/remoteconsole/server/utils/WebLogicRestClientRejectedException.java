@@ -0,0 +1,25 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.utils;
+
+import weblogic.remoteconsole.common.repodef.LocalizableString;
+
+/**
+ * Thrown when a WebLogic REST call isn't made because its connection's admin server
+ * already has too many calls in flight or isn't responding (see ConnectionBulkhead).
+ * <p>
+ * The message is for the log.  The reason is localized for the user.
+ */
+public class WebLogicRestClientRejectedException extends WebLogicRestClientException {
+  private LocalizableString reason;
+
+  public WebLogicRestClientRejectedException(String message, LocalizableString reason) {
+    super(message);
+    this.reason = reason;
+  }
+
+  public LocalizableString getReason() {
+    return this.reason;
+  }
+}
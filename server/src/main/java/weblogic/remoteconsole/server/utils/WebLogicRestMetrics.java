@@ -0,0 +1,171 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.utils;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.core.Response;
+
+import io.helidon.metrics.RegistryFactory;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
+
+/**
+ * Records the metrics of a WebLogic REST call (see WebLogicRestClient).
+ * <p>
+ * The metrics are in the application metrics registry, so they can be read from
+ * the console backend's /metrics/application endpoint.  They're tagged with
+ * the connection, the WLS REST tree (e.g. domainRuntime) and the kind of call
+ * (search, read, edit, action or changeManager):
+ * <ul>
+ * <li>weblogic.rest.calls - a timer of how long the calls took to return their responses</li>
+ * <li>weblogic.rest.response.bytes - a histogram of the sizes of the responses' entities</li>
+ * <li>weblogic.rest.responses - counts of the responses, also tagged by status code</li>
+ * <li>weblogic.rest.errors - counts of the calls that failed without a response,
+ *     also tagged by why (timeout, connect, rejected or other)</li>
+ * </ul>
+ * The metrics of a connection are removed when the connection is closed.
+ */
+public class WebLogicRestMetrics {
+
+  // The request property that holds the call's metrics so that
+  // WebLogicRestMetricsFilter can record the size of the response.
+  public static final String PROPERTY = WebLogicRestMetrics.class.getName();
+
+  private static final String TAG_CONNECTION = "connection";
+  private static final String TAG_TREE = "tree";
+  private static final String TAG_KIND = "kind";
+  private static final String TAG_STATUS = "status";
+  private static final String TAG_ERROR = "error";
+
+  private static final String KIND_SEARCH = "search";
+  private static final String KIND_READ = "read";
+  private static final String KIND_EDIT = "edit";
+  private static final String KIND_ACTION = "action";
+  private static final String KIND_CHANGE_MANAGER = "changeManager";
+
+  private static final Metadata CALLS =
+    Metadata.builder()
+      .withName("weblogic.rest.calls")
+      .withDescription("How long the WebLogic REST calls took to return their responses")
+      .withUnit(MetricUnits.NANOSECONDS)
+      .build();
+
+  private static final Metadata RESPONSE_BYTES =
+    Metadata.builder()
+      .withName("weblogic.rest.response.bytes")
+      .withDescription("The sizes of the WebLogic REST calls' response entities")
+      .withUnit(MetricUnits.BYTES)
+      .build();
+
+  private static final Metadata RESPONSES =
+    Metadata.builder()
+      .withName("weblogic.rest.responses")
+      .withDescription("The number of WebLogic REST responses with each status code")
+      .build();
+
+  private static final Metadata ERRORS =
+    Metadata.builder()
+      .withName("weblogic.rest.errors")
+      .withDescription("The number of WebLogic REST calls that failed without a response")
+      .build();
+
+  private static final MetricRegistry REGISTRY =
+    RegistryFactory.getInstance().getRegistry(MetricRegistry.Type.APPLICATION);
+
+  private Tag[] tags;
+  private long startNanos;
+  // Whether the call failed without a response from the admin server
+  private boolean failed;
+
+  WebLogicRestMetrics(WebLogicRestRequest request, String method) {
+    String connectionId = (request.connection() != null) ? request.connection().getId() : "none";
+    String tree = getTree(request.path());
+    this.tags =
+      new Tag[] {
+        new Tag(TAG_CONNECTION, connectionId),
+        new Tag(TAG_TREE, tree),
+        new Tag(TAG_KIND, getKind(request.path(), tree, method))
+      };
+  }
+
+  // Called when the call is about to be sent (i.e. after the bulkhead let it through)
+  void started() {
+    startNanos = System.nanoTime();
+  }
+
+  // Called when the call returned a response.  Doesn't count the responses
+  // that the client made up for calls that failed (e.g. couldn't connect).
+  void responded(Response response) {
+    if (failed) {
+      return;
+    }
+    REGISTRY.timer(CALLS, tags).update(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    REGISTRY.counter(RESPONSES, withTag(TAG_STATUS, String.valueOf(response.getStatus()))).inc();
+  }
+
+  // Called when the call failed without a response
+  void failed(Throwable t) {
+    failed = true;
+    REGISTRY.counter(ERRORS, withTag(TAG_ERROR, getError(t))).inc();
+  }
+
+  // Called by WebLogicRestMetricsFilter when the response's entity has been read
+  public void responseRead(long bytes) {
+    REGISTRY.histogram(RESPONSE_BYTES, tags).update(bytes);
+  }
+
+  // Removes a connection's metrics
+  public static void connectionClosed(String connectionId) {
+    REGISTRY.removeMatching(
+      (metricID, metric) -> connectionId.equals(metricID.getTags().get(TAG_CONNECTION))
+    );
+  }
+
+  private Tag[] withTag(String name, String value) {
+    Tag[] rtn = new Tag[tags.length + 1];
+    System.arraycopy(tags, 0, rtn, 0, tags.length);
+    rtn[tags.length] = new Tag(name, value);
+    return rtn;
+  }
+
+  private static String getTree(List<String> path) {
+    return (path == null || path.isEmpty()) ? "none" : path.get(0);
+  }
+
+  private static String getKind(List<String> path, String tree, String method) {
+    if (path != null && !path.isEmpty() && "search".equals(path.get(path.size() - 1))) {
+      return KIND_SEARCH;
+    }
+    if (path != null && path.contains("changeManager")) {
+      return KIND_CHANGE_MANAGER;
+    }
+    if ("GET".equals(method)) {
+      return KIND_READ;
+    }
+    if ("DELETE".equals(method) || "edit".equals(tree)) {
+      return KIND_EDIT;
+    }
+    // e.g. starting a server
+    return KIND_ACTION;
+  }
+
+  private static String getError(Throwable t) {
+    if (t instanceof WebLogicRestClientRejectedException) {
+      return "rejected";
+    }
+    Throwable cause = (t instanceof WebLogicRestClientException) ? t.getCause() : t;
+    if (cause instanceof SocketTimeoutException) {
+      return "timeout";
+    }
+    if (cause instanceof ConnectException) {
+      return "connect";
+    }
+    return "other";
+  }
+}
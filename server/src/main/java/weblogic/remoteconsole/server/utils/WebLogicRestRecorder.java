@@ -0,0 +1,81 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.utils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.json.JsonObject;
+
+import weblogic.remoteconsole.common.utils.StringUtils;
+import weblogic.remoteconsole.server.ConsoleBackendRuntimeConfig;
+
+/**
+ * Records the WebLogic REST calls and their responses to disk so that they can be
+ * replayed later without an admin server (e.g. by the benchmarks module's ReplayAdminServer
+ * to drive load tests offline).
+ * <p>
+ * Recording is off unless console.weblogicRestRecordingDirectory is set.
+ * Each connection's calls are appended, one json object per line, to
+ * &lt;directory&gt;/&lt;connection id&gt;.jsonl.  The calls that aren't
+ * for a connection (e.g. the ones that create connections) go to none.jsonl.
+ * <p>
+ * The recordings contain the domain's configuration (but not the credentials
+ * in the Authorization headers), so they should be protected accordingly.
+ * <p>
+ * The calls are recorded by WebLogicRestRecordingFilter.
+ */
+public class WebLogicRestRecorder {
+  private static final Logger LOGGER = Logger.getLogger(WebLogicRestRecorder.class.getName());
+
+  // The request property that holds the id of the call's connection.
+  public static final String CONNECTION_PROPERTY = WebLogicRestRecorder.class.getName() + ".connection";
+
+  private static final String NO_CONNECTION = "none";
+
+  // null if not recording
+  private static final Path DIRECTORY = getDirectory();
+
+  private WebLogicRestRecorder() {
+  }
+
+  public static boolean isRecording() {
+    return DIRECTORY != null;
+  }
+
+  // Appends a call to its connection's recording.  connectionId is null if the call isn't for a connection.
+  // Synchronized so that the lines from concurrent calls aren't interleaved.
+  public static synchronized void record(String connectionId, JsonObject call) {
+    Path file = DIRECTORY.resolve(((connectionId != null) ? connectionId : NO_CONNECTION) + ".jsonl");
+    try (Writer writer =
+      Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+      writer.write(call.toString());
+      writer.write("\n");
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "Unable to record WebLogic REST call to " + file, e);
+    }
+  }
+
+  private static Path getDirectory() {
+    String directory = ConsoleBackendRuntimeConfig.getWebLogicRestRecordingDirectory();
+    if (StringUtils.isEmpty(directory)) {
+      return null;
+    }
+    Path rtn = Paths.get(directory);
+    try {
+      Files.createDirectories(rtn);
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "Unable to create WebLogic REST recording directory " + directory, e);
+      return null;
+    }
+    LOGGER.warning("Recording WebLogic REST calls to " + rtn.toAbsolutePath());
+    return rtn;
+  }
+}
@@ -47,6 +47,8 @@ public interface WebLogicRestRequest {
 
   public int readTimeout();
 
+  public boolean readTimeoutFromBudget();
+
   public boolean connectTimeoutCustomized();
 
   public int connectTimeout();
@@ -73,6 +75,7 @@ public interface WebLogicRestRequest {
     private Map<String, Object> queryParams = new HashMap<>();
     private boolean readTimeoutCustomized = false;
     private int readTimeout;
+    private boolean readTimeoutFromBudget = false;
     private boolean connectTimeoutCustomized = false;
     private int connectTimeout;
   
@@ -335,6 +338,26 @@ public interface WebLogicRestRequest {
     public Builder readTimeout(int readTimeout) {
       this.readTimeoutCustomized = true;
       this.readTimeout = readTimeout;
+      this.readTimeoutFromBudget = false;
+      return this;
+    }
+
+    public boolean readTimeoutFromBudget() {
+      return readTimeoutFromBudget;
+    }
+
+    /**
+     * Customize the read timeout to the time left in the console request's
+     * time budget, which is shorter than the configured read timeout.
+     * Timing out then doesn't mean that the admin server isn't responding,
+     * so it isn't counted by the connection's circuit breaker.
+     *
+     * @param readTimeout in millis
+     * @return modified builder
+     */
+    public Builder budgetReadTimeout(int readTimeout) {
+      readTimeout(readTimeout);
+      this.readTimeoutFromBudget = true;
       return this;
     }
 
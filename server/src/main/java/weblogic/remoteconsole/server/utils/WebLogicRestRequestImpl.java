@@ -28,6 +28,7 @@ public class WebLogicRestRequestImpl implements WebLogicRestRequest {
   private final Map<String, Object> queryParams;
   private final boolean readTimeoutCustomized;
   private final int readTimeout;
+  private final boolean readTimeoutFromBudget;
   private final boolean connectTimeoutCustomized;
   private final int connectTimeout;
 
@@ -41,6 +42,7 @@ public class WebLogicRestRequestImpl implements WebLogicRestRequest {
     this.queryParams = builder.queryParams();
     this.readTimeoutCustomized = builder.readTimeoutCustomized();
     this.readTimeout = builder.readTimeout();
+    this.readTimeoutFromBudget = builder.readTimeoutFromBudget();
     this.connectTimeoutCustomized = builder.connectTimeoutCustomized();
     this.connectTimeout = builder.connectTimeout();
   }
@@ -163,6 +165,16 @@ public class WebLogicRestRequestImpl implements WebLogicRestRequest {
     return this.readTimeout;
   }
 
+  /**
+   * Get whether the custom read timeout is the time that was left in
+   * the console request's time budget (instead of a configured timeout).
+   * @return
+   */
+  @Override
+  public boolean readTimeoutFromBudget() {
+    return this.readTimeoutFromBudget;
+  }
+
   /**
    * Get whether the connect timeout has been customized for this request.
    * @return
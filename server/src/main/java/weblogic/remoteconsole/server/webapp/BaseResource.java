@@ -4,10 +4,18 @@
 package weblogic.remoteconsole.server.webapp;
 
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.PathSegment;
 
+import weblogic.remoteconsole.common.repodef.LocalizedConstants;
 import weblogic.remoteconsole.common.utils.Path;
 import weblogic.remoteconsole.server.repo.InvocationContext;
+import weblogic.remoteconsole.server.repo.RequestDeadline;
+import weblogic.remoteconsole.server.repo.RequestDeadline.Budget;
+import weblogic.remoteconsole.server.repo.Response;
+import weblogic.remoteconsole.server.utils.ConnectionExecutor;
 
 /**
  * Base class for all console JAXRS resources.
@@ -69,8 +77,63 @@ public abstract class BaseResource {
   protected Path getPathFromPathSegments(List<PathSegment> pathSegments) {
     Path path = new Path();
     for (PathSegment pathSegment : pathSegments) {
-      path.addComponent(pathSegment.getPath());
+      path = path.childPath(pathSegment.getPath());
     }
     return path;
   }
+
+  // Handles a request on the console's request executor instead of on the web server's thread,
+  // then resumes the suspended JAXRS request with the handler's response.
+  //
+  // Most requests wait on the admin server (e.g. for a WLS REST search).
+  // This keeps the web server's threads free while they wait.  Also, since
+  // the executor limits how many of each connection's requests run at once,
+  // a slow admin server can't hold up the requests for other connections.
+  //
+  // The request's time budget starts now (see RequestDeadline), so the time it
+  // waits for a thread counts against it.
+  protected void handleAsync(
+    AsyncResponse asyncResponse,
+    Budget budget,
+    Supplier<javax.ws.rs.core.Response> handler
+  ) {
+    InvocationContext ic = getInvocationContext();
+    ic.setDeadline(RequestDeadline.start(budget));
+    Supplier<javax.ws.rs.core.Response> task = () -> handleBeforeDeadline(handler);
+    ConnectionExecutor.getRequestExecutor().submit(ic.getConnection(), task).whenComplete(
+      (response, throwable) -> {
+        if (throwable == null) {
+          asyncResponse.resume(response);
+        } else if (throwable instanceof RejectedExecutionException) {
+          asyncResponse.resume(
+            VoidResponseMapper.toResponse(
+              ic,
+              (new Response<Void>())
+                .addFailureMessage(ic.getLocalizer().localizeString(LocalizedConstants.TOO_MANY_REQUESTS_WAITING))
+                .setServiceNotAvailable()
+            )
+          );
+        } else {
+          // Let the JAXRS exception mappers handle it the same way as for a synchronous request
+          asyncResponse.resume(throwable);
+        }
+      }
+    );
+  }
+
+  // Don't bother handling a request that has already used up its time budget
+  // waiting for a thread, since the client has probably given up on it.
+  private javax.ws.rs.core.Response handleBeforeDeadline(Supplier<javax.ws.rs.core.Response> handler) {
+    InvocationContext ic = getInvocationContext();
+    if (ic.getDeadline().isExpired()) {
+      return
+        VoidResponseMapper.toResponse(
+          ic,
+          (new Response<Void>())
+            .addFailureMessage(ic.getLocalizer().localizeString(LocalizedConstants.REQUEST_TIMED_OUT_WAITING))
+            .setServiceNotAvailable()
+        );
+    }
+    return handler.get();
+  }
 }
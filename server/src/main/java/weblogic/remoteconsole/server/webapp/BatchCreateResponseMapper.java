@@ -0,0 +1,42 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.webapp;
+
+import java.util.List;
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+
+import weblogic.remoteconsole.server.repo.BeanTreePath;
+import weblogic.remoteconsole.server.repo.InvocationContext;
+import weblogic.remoteconsole.server.repo.Response;
+
+/**
+ * Converts a Response<List<BeanTreePath>> from creating several new beans
+ * in one request to a JAXRS Response.
+ * <p>
+ * Like CreateResponseMapper, except that "resourceData" is an array
+ * with one entry per new bean, in the same order as the request.
+ */
+public class BatchCreateResponseMapper extends ResponseMapper<List<BeanTreePath>> {
+
+  public static javax.ws.rs.core.Response toResponse(
+    InvocationContext invocationContext,
+    Response<List<BeanTreePath>> response
+  ) {
+    return new BatchCreateResponseMapper(invocationContext, response).toResponse();
+  }
+
+  private BatchCreateResponseMapper(InvocationContext invocationContext, Response<List<BeanTreePath>> response) {
+    super(invocationContext, response);
+  }
+
+  @Override
+  protected void addResults() {
+    JsonArrayBuilder builder = Json.createArrayBuilder();
+    for (BeanTreePath beanTreePath : getResponse().getResults()) {
+      builder.add(beanTreePathToJson(beanTreePath));
+    }
+    getEntityBuilder().add("resourceData", builder);
+  }
+}
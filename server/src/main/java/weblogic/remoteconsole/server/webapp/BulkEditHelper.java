@@ -0,0 +1,152 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.webapp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import javax.json.JsonObject;
+
+import weblogic.remoteconsole.common.repodef.LocalizedConstants;
+import weblogic.remoteconsole.common.repodef.SliceFormPagePath;
+import weblogic.remoteconsole.common.utils.Path;
+import weblogic.remoteconsole.server.ConsoleBackendRuntimeConfig;
+import weblogic.remoteconsole.server.repo.BeanRepo;
+import weblogic.remoteconsole.server.repo.BeanTreePath;
+import weblogic.remoteconsole.server.repo.BulkEditOperation;
+import weblogic.remoteconsole.server.repo.FormProperty;
+import weblogic.remoteconsole.server.repo.InvocationContext;
+import weblogic.remoteconsole.server.repo.Response;
+import weblogic.remoteconsole.server.utils.ConcurrentTaskRunner;
+
+/**
+ * Utility code called by JAXRS resources to modify many beans at once.
+ * <p>
+ * Each operation is validated like a slice form POST (see UpdateHelper).
+ * If they're all valid, the beans are modified in one configuration transaction.
+ * Otherwise, none of the beans are modified.
+ */
+public class BulkEditHelper {
+
+  private BulkEditHelper() {
+  }
+
+  public static javax.ws.rs.core.Response bulkEdit(InvocationContext ic, JsonObject requestBody) {
+    Response<List<BulkEditOperation>> response = new Response<>();
+    Response<List<JsonObject>> unmarshalResponse = BulkEditRequestBodyMapper.fromRequestBody(ic, requestBody);
+    if (!unmarshalResponse.isSuccess()) {
+      response.copyUnsuccessfulResponse(unmarshalResponse);
+      return BulkEditResponseMapper.toResponse(ic, response);
+    }
+    List<JsonObject> operationsJson = unmarshalResponse.getResults();
+    if (operationsJson.isEmpty()) {
+      // Nothing to do.  Don't start an edit session.
+      return BulkEditResponseMapper.toResponse(ic, response.setSuccess(new ArrayList<>()));
+    }
+    List<BulkEditOperation> operations = new ArrayList<>();
+    for (JsonObject operationJson : operationsJson) {
+      operations.add(
+        new BulkEditOperation(
+          operationJson.getString(BulkEditRequestBodyMapper.PROP_PATH),
+          new InvocationContext(ic)
+        )
+      );
+    }
+    // Validate the operations.  Each one may need to read its bean, so do them concurrently.
+    List<Supplier<Response<Void>>> validations = new ArrayList<>();
+    for (int i = 0; i < operations.size(); i++) {
+      BulkEditOperation operation = operations.get(i);
+      JsonObject operationJson = operationsJson.get(i);
+      validations.add(() -> validate(operation, operationJson));
+    }
+    List<Response<Void>> validationResults = ConcurrentTaskRunner.runAll(validations, getMaxConcurrency(ic));
+    int invalid = 0;
+    for (int i = 0; i < operations.size(); i++) {
+      Response<Void> validationResult = validationResults.get(i);
+      if (!validationResult.isSuccess()) {
+        operations.get(i).setResponse(validationResult);
+        invalid++;
+      }
+    }
+    if (invalid != 0) {
+      response.addFailureMessage(
+        ic.getLocalizer().localizeString(LocalizedConstants.BULK_EDIT_OPERATIONS_INVALID) + invalid
+      );
+      return BulkEditResponseMapper.toResponse(ic, response.setSuccess(operations));
+    }
+    Response<Void> updateResponse = ic.getPageRepo().asPageEditorRepo().bulkUpdate(ic, operations);
+    if (!updateResponse.isSuccess() && !anyOperationFailed(operations)) {
+      // The configuration transaction failed (e.g. couldn't start or save the edit session)
+      response.copyUnsuccessfulResponse(updateResponse);
+      return BulkEditResponseMapper.toResponse(ic, response);
+    }
+    // Return the results for each bean, whether or not they all succeeded
+    response.copyMessages(updateResponse);
+    return BulkEditResponseMapper.toResponse(ic, response.setSuccess(operations));
+  }
+
+  private static Response<Void> validate(BulkEditOperation operation, JsonObject operationJson) {
+    Response<Void> response = new Response<>();
+    InvocationContext ic = operation.getInvocationContext();
+    BeanRepo beanRepo = ic.getPageRepo().getBeanRepo();
+    BeanTreePath beanTreePath =
+      BeanTreePath.createAllowUnresolved(beanRepo, Path.fromRelativeUri(operation.getPath()));
+    if (beanTreePath == null) {
+      return response.setNotFound();
+    }
+    if (!beanTreePath.isEditable()) {
+      response.addFailureMessage(
+        ic.getLocalizer().localizeString(LocalizedConstants.NOT_EDITABLE) + operation.getPath()
+      );
+      return response.setFrontEndBadRequest();
+    }
+    ic.setIdentity(beanTreePath);
+    ic.setPagePath(
+      ic.getPageRepo().getPageRepoDef().newSliceFormPagePath(
+        beanTreePath.getTypeDef(),
+        new Path(operationJson.getString(BulkEditRequestBodyMapper.PROP_SLICE, ""))
+      )
+    );
+    // Make sure the bean exists
+    Response<Void> existsResponse = ic.getPageRepo().asPageReaderRepo().verifyExists(ic, beanTreePath);
+    if (!existsResponse.isSuccess()) {
+      return response.copyUnsuccessfulResponse(existsResponse);
+    }
+    // Get the actual slice for this bean (i.e. if the type is heterogeneous)
+    Response<SliceFormPagePath> sliceResponse = ic.getPageRepo().asPageReaderRepo().getActualSliceFormPagePath(ic);
+    if (!sliceResponse.isSuccess()) {
+      return response.copyUnsuccessfulResponse(sliceResponse);
+    }
+    ic.setPagePath(sliceResponse.getResults());
+    if (ic.getPageRepo().getPageRepoDef().getPageDef(ic.getPagePath()).asSliceFormDef().isReadOnly()) {
+      response.addFailureMessage(
+        ic.getLocalizer().localizeString(LocalizedConstants.READ_ONLY_SLICE) + ic.getPagePath()
+      );
+      return response.setFrontEndBadRequest();
+    }
+    // Validate the property values against the slice
+    Response<List<FormProperty>> unmarshalResponse = FormRequestBodyMapper.fromRequestBody(ic, operationJson);
+    if (!unmarshalResponse.isSuccess()) {
+      return response.copyUnsuccessfulResponse(unmarshalResponse);
+    }
+    operation.setProperties(unmarshalResponse.getResults());
+    return response;
+  }
+
+  private static boolean anyOperationFailed(List<BulkEditOperation> operations) {
+    for (BulkEditOperation operation : operations) {
+      if (operation.getResponse() != null && !operation.getResponse().isSuccess()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static int getMaxConcurrency(InvocationContext ic) {
+    if (!ic.getPageRepo().getBeanRepo().asBeanEditorRepo().supportsConcurrentEdits()) {
+      return 1;
+    }
+    return ConsoleBackendRuntimeConfig.getMaxInFlightRestCallsPerConnection();
+  }
+}
@@ -0,0 +1,79 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.webapp;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+
+import weblogic.remoteconsole.server.repo.InvocationContext;
+import weblogic.remoteconsole.server.repo.Response;
+
+/**
+ * Converts a bulk edit JAXRS Request body to a Response<List<JsonObject>>,
+ * one json object per bean to modify.
+ * <p>
+ * The request body looks like:
+ * <pre>
+ * {
+ *   "operations": [
+ *     {
+ *       "path": "Servers/Server1",
+ *       "slice": "Tuning",
+ *       "data": { "AcceptBacklog": { "value": 400 } }
+ *     }
+ *   ]
+ * }
+ * </pre>
+ * Only the structure is checked here.  The "data" of each operation
+ * is validated against its slice form later, like a slice form's POST.
+ */
+public class BulkEditRequestBodyMapper extends RequestBodyMapper<List<JsonObject>> {
+  static final String PROP_OPERATIONS = "operations";
+  static final String PROP_PATH = "path";
+  static final String PROP_SLICE = "slice";
+  static final String PROP_DATA = "data";
+
+  public static Response<List<JsonObject>> fromRequestBody(
+    InvocationContext ic,
+    JsonObject requestBody
+  ) {
+    return (new BulkEditRequestBodyMapper(ic, requestBody)).fromRequestBody();
+  }
+
+  private BulkEditRequestBodyMapper(InvocationContext ic, JsonObject requestBody) {
+    super(ic, requestBody, null);
+  }
+
+  @Override
+  protected void parseRequestBody() {
+    List<JsonObject> operations = getOperations();
+    if (isOK()) {
+      getResponse().setSuccess(operations);
+    }
+  }
+
+  private List<JsonObject> getOperations() {
+    List<JsonObject> operations = new ArrayList<>();
+    JsonArray array = getRequiredJsonArray(getRequestBody(), PROP_OPERATIONS);
+    if (!isOK()) {
+      return null;
+    }
+    for (int i = 0; i < array.size(); i++) {
+      JsonObject operation = asJsonObject(PROP_OPERATIONS, array.get(i));
+      if (!isOK()) {
+        return null;
+      }
+      getRequiredString(operation, PROP_PATH);
+      getOptionalString(operation, PROP_SLICE);
+      getRequiredJsonObject(operation, PROP_DATA);
+      if (!isOK()) {
+        return null;
+      }
+      operations.add(operation);
+    }
+    return operations;
+  }
+}
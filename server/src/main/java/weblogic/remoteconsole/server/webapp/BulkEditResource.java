@@ -0,0 +1,34 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.webapp;
+
+import javax.json.JsonObject;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.MediaType;
+
+import weblogic.remoteconsole.server.repo.RequestDeadline.Budget;
+
+/**
+ * JAXRS resource for modifying the properties of many beans in one request.
+ */
+public class BulkEditResource extends BaseResource {
+
+  /**
+   * Modifies slices of a list of beans in one configuration transaction
+   * and returns the result for each bean.
+   */
+  @POST
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  public void post(
+    JsonObject requestBody,
+    @Suspended AsyncResponse asyncResponse
+  ) {
+    handleAsync(asyncResponse, Budget.ACTION, () -> BulkEditHelper.bulkEdit(getInvocationContext(), requestBody));
+  }
+}
@@ -0,0 +1,81 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.webapp;
+
+import java.util.List;
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObjectBuilder;
+
+import weblogic.remoteconsole.common.utils.Message;
+import weblogic.remoteconsole.server.repo.BulkEditOperation;
+import weblogic.remoteconsole.server.repo.InvocationContext;
+import weblogic.remoteconsole.server.repo.Response;
+
+/**
+ * Maps a bulk edit's Response<List<BulkEditOperation>> to a JAXRS response.
+ * <p>
+ * Returns the result of each operation, in the same order as the request:
+ * <pre>
+ * {
+ *   "messages": [ ... ],
+ *   "results": [
+ *     { "path": "Servers/Server1", "status": "success", "messages": [ ... ] },
+ *     { "path": "Servers/Server2", "status": "notFound" },
+ *     { "path": "Servers/Server3", "status": "notAttempted" },
+ *     { "path": "Servers/Server4", "status": "rolledBack" }
+ *   ]
+ * }
+ * </pre>
+ */
+public class BulkEditResponseMapper extends ResponseMapper<List<BulkEditOperation>> {
+
+  public static javax.ws.rs.core.Response toResponse(
+    InvocationContext invocationContext,
+    Response<List<BulkEditOperation>> response
+  ) {
+    return new BulkEditResponseMapper(invocationContext, response).toResponse();
+  }
+
+  private BulkEditResponseMapper(InvocationContext invocationContext, Response<List<BulkEditOperation>> response) {
+    super(invocationContext, response);
+  }
+
+  @Override
+  protected void addResults() {
+    JsonArrayBuilder builder = Json.createArrayBuilder();
+    for (BulkEditOperation operation : getResponse().getResults()) {
+      builder.add(operationToJson(operation));
+    }
+    getEntityBuilder().add("results", builder);
+  }
+
+  private JsonObjectBuilder operationToJson(BulkEditOperation operation) {
+    JsonObjectBuilder builder = Json.createObjectBuilder();
+    builder.add("path", operation.getPath());
+    Response<Void> response = operation.getResponse();
+    builder.add("status", getStatus(operation));
+    if (response != null && !response.getMessages().isEmpty()) {
+      JsonArrayBuilder messagesBuilder = Json.createArrayBuilder();
+      for (Message message : response.getMessages()) {
+        messagesBuilder.add(messageToJson(message));
+      }
+      builder.add("messages", messagesBuilder);
+    }
+    return builder;
+  }
+
+  private String getStatus(BulkEditOperation operation) {
+    if (operation.isRolledBack()) {
+      // This operation worked but another one didn't so it was undone.
+      return "rolledBack";
+    }
+    Response<Void> response = operation.getResponse();
+    if (response == null) {
+      // Another operation was invalid so this one wasn't tried.
+      return "notAttempted";
+    }
+    return getStatusName(response);
+  }
+}
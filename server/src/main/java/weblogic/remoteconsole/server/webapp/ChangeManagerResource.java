@@ -7,8 +7,11 @@ import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
-import javax.ws.rs.core.Response;
+
+import weblogic.remoteconsole.server.repo.RequestDeadline.Budget;
 
 /**
  * JAXRS resource for mananging the change manager
@@ -18,11 +21,15 @@ public class ChangeManagerResource extends BaseResource {
   // Get the current status of the change manager
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public Response getChangeManagerStatus() {
-    return ChangeManagerStatusResponseMapper.toResponse(
-      getInvocationContext(),
-      getInvocationContext().getPageRepo().asChangeManagerPageRepo().getChangeManagerStatus(
-        getInvocationContext()
+  public void getChangeManagerStatus(@Suspended AsyncResponse asyncResponse) {
+    handleAsync(
+      asyncResponse,
+      Budget.CHANGE_MANAGER,
+      () -> ChangeManagerStatusResponseMapper.toResponse(
+        getInvocationContext(),
+        getInvocationContext().getPageRepo().asChangeManagerPageRepo().getChangeManagerStatus(
+          getInvocationContext()
+        )
       )
     );
   }
@@ -31,41 +38,50 @@ public class ChangeManagerResource extends BaseResource {
   @Path("changes")
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public Response getChanges() {
-    return
-      ChangesResponseMapper.toResponse(
+  public void getChanges(@Suspended AsyncResponse asyncResponse) {
+    handleAsync(
+      asyncResponse,
+      Budget.CHANGE_MANAGER,
+      () -> ChangesResponseMapper.toResponse(
         getInvocationContext(),
         getInvocationContext().getPageRepo().asChangeManagerPageRepo().getChanges(
           getInvocationContext()
         )
-      );
+      )
+    );
   }
 
   // Commit the mbean changes (i.e. checkout the shopping cart contents)
   @Path("commitChanges")
   @POST
   @Produces(MediaType.APPLICATION_JSON)
-  public Response commitChanges() {
-    return
-      VoidResponseMapper.toResponse(
+  public void commitChanges(@Suspended AsyncResponse asyncResponse) {
+    handleAsync(
+      asyncResponse,
+      Budget.ACTION,
+      () -> VoidResponseMapper.toResponse(
         getInvocationContext(),
         getInvocationContext().getPageRepo().asChangeManagerPageRepo().commitChanges(
           getInvocationContext()
         )
-      );
+      )
+    );
   }
 
   // Discard the mbean changes (i.e. discard the shopping cart contents)
   @Path("discardChanges")
   @POST
   @Produces(MediaType.APPLICATION_JSON)
-  public Response discardChanges() {
-    return
-      VoidResponseMapper.toResponse(
+  public void discardChanges(@Suspended AsyncResponse asyncResponse) {
+    handleAsync(
+      asyncResponse,
+      Budget.ACTION,
+      () -> VoidResponseMapper.toResponse(
         getInvocationContext(),
         getInvocationContext().getPageRepo().asChangeManagerPageRepo().discardChanges(
           getInvocationContext()
         )
-      );
+      )
+    );
   }
 }
@@ -187,11 +187,10 @@ public class ChangesResponseMapper extends ResponseMapper<Changes> {
     for (BeanTreePathSegment segment : beanPath.getSegments()) {
       BeanChildDef childDef = segment.getChildDef();
       if (hasSlices(childDef)) {
-        breadCrumbs.addComponent(
-          getInvocationContext().getLocalizer().localizeString(childDef.getLabel())
-        );
+        breadCrumbs =
+          breadCrumbs.childPath(getInvocationContext().getLocalizer().localizeString(childDef.getLabel()));
         if (childDef.isCollection() && segment.isKeySet()) {
-          breadCrumbs.addComponent(segment.getKey());
+          breadCrumbs = breadCrumbs.childPath(segment.getKey());
         }
       }
     }
@@ -0,0 +1,64 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.webapp;
+
+import java.util.List;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.MediaType;
+
+import weblogic.remoteconsole.common.repodef.LocalizedConstants;
+import weblogic.remoteconsole.common.utils.StringUtils;
+import weblogic.remoteconsole.server.repo.BeanTreePath;
+import weblogic.remoteconsole.server.repo.ConfigSearchBeanRepo;
+import weblogic.remoteconsole.server.repo.InvocationContext;
+import weblogic.remoteconsole.server.repo.RequestDeadline.Budget;
+import weblogic.remoteconsole.server.repo.Response;
+
+/**
+ * Handles the JAXRS method for full text searches over the configuration in the page repo.
+ * <p>
+ * e.g. GET .../search?query=myhost returns links to the beans whose keys,
+ * property names, property labels or property values contain 'myhost'.
+ */
+public class ConfigSearchResource extends BaseResource {
+  private static final int DEFAULT_LIMIT = 50;
+  private static final int MAX_LIMIT = 1000;
+
+  /**
+   * Search the configuration.  If rebuild is true, rebuild the search index first
+   * (e.g. to see the changes other users have made to the WLS REST edit tree).
+   * <p>
+   * Building the index searches the whole edit tree, so it gets the same time budget as a table.
+   */
+  @GET
+  @Produces(MediaType.APPLICATION_JSON)
+  public void get(
+    @QueryParam("query") String query,
+    @QueryParam("limit") Integer limit,
+    @QueryParam("rebuild") @DefaultValue("false") boolean rebuild,
+    @Suspended AsyncResponse asyncResponse
+  ) {
+    handleAsync(asyncResponse, Budget.TABLE, () -> searchConfig(query, limit, rebuild));
+  }
+
+  private javax.ws.rs.core.Response searchConfig(String query, Integer limit, boolean rebuild) {
+    InvocationContext ic = getInvocationContext();
+    Response<List<BeanTreePath>> response = new Response<>();
+    if (StringUtils.isEmpty(query)) {
+      response
+        .addFailureMessage(ic.getLocalizer().localizeString(LocalizedConstants.MISSING_SEARCH_QUERY))
+        .setUserBadRequest();
+    } else {
+      int maxResults = (limit != null && limit > 0) ? Math.min(limit, MAX_LIMIT) : DEFAULT_LIMIT;
+      ConfigSearchBeanRepo beanRepo = (ConfigSearchBeanRepo)ic.getPageRepo().getBeanRepo();
+      response = beanRepo.searchConfig(ic, query, maxResults, rebuild);
+    }
+    return ConfigSearchResponseMapper.toResponse(ic, response);
+  }
+}
@@ -0,0 +1,47 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.webapp;
+
+import java.util.List;
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+
+import weblogic.remoteconsole.server.repo.BeanTreePath;
+import weblogic.remoteconsole.server.repo.InvocationContext;
+import weblogic.remoteconsole.server.repo.Response;
+
+/**
+ * Converts a Response<List<BeanTreePath>> from a configuration search to a JAXRS Response.
+ *
+ * The response looks like:
+ *   { "results": [
+ *       { "label": "Domain/JDBCSystemResources/MyDS/JDBCResource/JDBCDriverParams",
+ *         "resourceData": "/api/.../data/JDBCSystemResources/MyDS/JDBCResource/JDBCDriverParams" },
+ *       ...
+ *   ] }
+ * where the results are ordered from the best to the worst match.
+ */
+public class ConfigSearchResponseMapper extends ResponseMapper<List<BeanTreePath>> {
+
+  public static javax.ws.rs.core.Response toResponse(
+    InvocationContext invocationContext,
+    Response<List<BeanTreePath>> response
+  ) {
+    return new ConfigSearchResponseMapper(invocationContext, response).toResponse();
+  }
+
+  private ConfigSearchResponseMapper(InvocationContext invocationContext, Response<List<BeanTreePath>> response) {
+    super(invocationContext, response);
+  }
+
+  @Override
+  protected void addResults() {
+    JsonArrayBuilder builder = Json.createArrayBuilder();
+    for (BeanTreePath beanTreePath : getResponse().getResults()) {
+      // Use the whole path as the label since the results come from all over the bean tree
+      builder.add(beanTreePathToJson(beanTreePath, beanTreePath.getPath().getSlashSeparatedPath(), ""));
+    }
+    getEntityBuilder().add("results", builder);
+  }
+}
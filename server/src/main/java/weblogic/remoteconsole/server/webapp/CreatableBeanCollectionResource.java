@@ -10,9 +10,13 @@ import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
+import weblogic.remoteconsole.server.repo.RequestDeadline.Budget;
+
 /**
  * Handles JAXRS methods for a creatable collection of beans.
  */
@@ -35,13 +39,16 @@ public class CreatableBeanCollectionResource extends BeanResource {
    */
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public Response get(@QueryParam("view") @DefaultValue(VIEW_TABLE) String view) {
+  public void get(
+    @QueryParam("view") @DefaultValue(VIEW_TABLE) String view,
+    @Suspended AsyncResponse asyncResponse
+  ) {
     if (VIEW_TABLE.equals(view)) {
       setTablePagePath();
-      return getTable();
+      handleAsync(asyncResponse, Budget.TABLE, this::getTable);
     } else if (VIEW_CREATE_FORM.equals(view)) {
       setCreateFormPagePath();
-      return getCreateForm();
+      handleAsync(asyncResponse, Budget.FORM, this::getCreateForm);
     } else {
       throw
         new AssertionError(
@@ -59,20 +66,36 @@ public class CreatableBeanCollectionResource extends BeanResource {
   }
 
   /**
-   * Creates a new child in the collection.
+   * Handles the JAXRS POST method for this collection.
+   * <p>
+   * If action is not specified, creates a new child in the collection.
+   * Otherwise, invokes the table row action on the children listed in the request body.
    */
   @POST
   @Consumes(MediaType.APPLICATION_JSON)
   @Produces(MediaType.APPLICATION_JSON)
-  public Response post(JsonObject requestBody) {
-    setCreateFormPagePath();
-    return createCollectionChild(requestBody);
+  public void post(
+    @QueryParam("action") String action,
+    JsonObject requestBody,
+    @Suspended AsyncResponse asyncResponse
+  ) {
+    if (action == null) {
+      setCreateFormPagePath();
+      handleAsync(asyncResponse, Budget.ACTION, () -> createCollectionChild(requestBody));
+    } else {
+      setTablePagePath();
+      handleAsync(asyncResponse, Budget.ACTION, () -> invokeTableRowsAction(action, requestBody));
+    }
   }
 
   protected Response createCollectionChild(JsonObject requestBody) {
     return CreateHelper.create(getInvocationContext(), requestBody);
   }
 
+  protected Response invokeTableRowsAction(String action, JsonObject requestBody) {
+    return InvokeActionHelper.invokeTableRowsAction(getInvocationContext(), action, requestBody);
+  }
+
   protected Response getCreateForm() {
     return
       GetPageResponseMapper.toResponse(
@@ -11,9 +11,13 @@ import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
+import weblogic.remoteconsole.server.repo.RequestDeadline.Budget;
+
 /**
  * Handles the JAXRS methods for a creatable optional singleton bean.
  */
@@ -45,16 +49,17 @@ public class CreatableOptionalSingletonBeanResource extends BeanResource {
    */
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public Response get(
+  public void get(
     @QueryParam("view") @DefaultValue(VIEW_SLICE) String view,
-    @QueryParam("slice") @DefaultValue("") String slice
+    @QueryParam("slice") @DefaultValue("") String slice,
+    @Suspended AsyncResponse asyncResponse
   ) {
     if (VIEW_SLICE.equals(view)) {
       setSliceFormPagePath(slice);
-      return getSliceForm();
+      handleAsync(asyncResponse, Budget.FORM, this::getSliceForm);
     } else if (VIEW_CREATE_FORM.equals(view)) {
       setCreateFormPagePath();
-      return getCreateForm();
+      handleAsync(asyncResponse, Budget.FORM, this::getCreateForm);
     } else {
       throw
         new AssertionError(
@@ -80,17 +85,18 @@ public class CreatableOptionalSingletonBeanResource extends BeanResource {
   @POST
   @Consumes(MediaType.APPLICATION_JSON)
   @Produces(MediaType.APPLICATION_JSON)
-  public Response post(
+  public void post(
     @QueryParam("action") @DefaultValue(UPDATE) String action,
     @QueryParam("slice") @DefaultValue("") String slice,
-    JsonObject requestBody
+    JsonObject requestBody,
+    @Suspended AsyncResponse asyncResponse
   ) {
     if (UPDATE.equals(action)) {
       setSliceFormPagePath(slice);
-      return updateSliceForm(requestBody);
+      handleAsync(asyncResponse, Budget.ACTION, () -> updateSliceForm(requestBody));
     } else if (CREATE.equals(action)) {
       setCreateFormPagePath();
-      return createOptionalSingleton(requestBody);
+      handleAsync(asyncResponse, Budget.ACTION, () -> createOptionalSingleton(requestBody));
     } else {
       throw
         new AssertionError(
@@ -112,8 +118,8 @@ public class CreatableOptionalSingletonBeanResource extends BeanResource {
    */
   @DELETE
   @Produces(MediaType.APPLICATION_JSON)
-  public Response delete() {
-    return deleteOptionalSingleton();
+  public void delete(@Suspended AsyncResponse asyncResponse) {
+    handleAsync(asyncResponse, Budget.ACTION, this::deleteOptionalSingleton);
   }
 
   protected Response getSliceForm() {
@@ -3,10 +3,11 @@
 
 package weblogic.remoteconsole.server.webapp;
 
+import java.io.InputStream;
 import java.util.List;
 import javax.json.JsonObject;
+import javax.ws.rs.core.MediaType;
 
-import org.glassfish.jersey.media.multipart.FormDataBodyPart;
 import weblogic.remoteconsole.common.repodef.LocalizedConstants;
 import weblogic.remoteconsole.common.utils.Path;
 import weblogic.remoteconsole.common.utils.StringUtils;
@@ -28,15 +29,29 @@ public class CreateHelper {
   public static javax.ws.rs.core.Response create(
     InvocationContext ic,
     JsonObject requestBody,
-    FormDataBodyPart... uploadedFiles
+    UploadedFile... uploadedFiles
   ) {
     return (new CreateHelper()).createBean(ic, requestBody, uploadedFiles);
   }
 
+  // Creates a bean from a multipart/form-data request that uploads files.
+  // The streamed part (e.g. an application's archive) is passed through to the bean repo
+  // as it's read from the request instead of being buffered first (see MultiPartUploadReader).
+  public static javax.ws.rs.core.Response upload(
+    InvocationContext ic,
+    MediaType mediaType,
+    InputStream entity,
+    String streamedPartName
+  ) {
+    try (MultiPartUploadReader reader = MultiPartUploadReader.read(mediaType, entity, streamedPartName)) {
+      return create(ic, reader.getRequestBody(), reader.getUploadedFiles());
+    }
+  }
+
   public javax.ws.rs.core.Response createBean(
     InvocationContext ic,
     JsonObject requestBody,
-    FormDataBodyPart... uploadedFiles
+    UploadedFile... uploadedFiles
   ) {
     Response<BeanTreePath> response = new Response<>();
     // Unmarshal the request body.
@@ -75,7 +90,7 @@ public class CreateHelper {
     return ic.getPageRepo().asPageEditorRepo().create(ic, properties);
   }
 
-  private Response<BeanTreePath> computeNewBeanPath(InvocationContext ic, List<FormProperty> properties) {
+  protected Response<BeanTreePath> computeNewBeanPath(InvocationContext ic, List<FormProperty> properties) {
     Response<BeanTreePath> response = new Response<>();
     // returns the new bean's BeanTreePath
     BeanTreePath creatorBeanPath = ic.getBeanTreePath();
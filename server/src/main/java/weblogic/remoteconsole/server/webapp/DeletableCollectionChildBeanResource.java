@@ -5,9 +5,13 @@ package weblogic.remoteconsole.server.webapp;
 
 import javax.ws.rs.DELETE;
 import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
+import weblogic.remoteconsole.server.repo.RequestDeadline.Budget;
+
 /**
  * Handles the JAXRS methods for a deletable collection child bean's pages.
  */
@@ -18,8 +22,8 @@ public class DeletableCollectionChildBeanResource  extends EditableCollectionChi
    */
   @DELETE
   @Produces(MediaType.APPLICATION_JSON)
-  public Response delete() {
-    return deleteCollectionChild();
+  public void delete(@Suspended AsyncResponse asyncResponse) {
+    handleAsync(asyncResponse, Budget.ACTION, this::deleteCollectionChild);
   }
 
   protected Response getSliceForm() {
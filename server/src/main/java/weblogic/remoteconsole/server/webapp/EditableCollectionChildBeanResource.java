@@ -10,9 +10,13 @@ import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
+import weblogic.remoteconsole.server.repo.RequestDeadline.Budget;
+
 /**
  * Handles the JAXRS methods for an editable collection child bean's pages.
  */
@@ -25,9 +29,12 @@ public class EditableCollectionChildBeanResource  extends BeanResource {
    */
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public Response get(@QueryParam("slice") @DefaultValue("") String slice) {
+  public void get(
+    @QueryParam("slice") @DefaultValue("") String slice,
+    @Suspended AsyncResponse asyncResponse
+  ) {
     setSliceFormPagePath(slice);
-    return getSliceForm();
+    handleAsync(asyncResponse, Budget.FORM, this::getSliceForm);
   }
 
   /**
@@ -39,16 +46,17 @@ public class EditableCollectionChildBeanResource  extends BeanResource {
   @POST
   @Consumes(MediaType.APPLICATION_JSON)
   @Produces(MediaType.APPLICATION_JSON)
-  public Response post(
+  public void post(
     @QueryParam("slice") @DefaultValue("") String slice,
     @QueryParam("action") @DefaultValue(UPDATE) String action,
-    JsonObject requestBody
+    JsonObject requestBody,
+    @Suspended AsyncResponse asyncResponse
   ) {
     setSliceFormPagePath(slice);
     if (UPDATE.equals(action)) {
-      return updateSliceForm(requestBody);
+      handleAsync(asyncResponse, Budget.ACTION, () -> updateSliceForm(requestBody));
     } else {
-      return invokeAction(action, requestBody);
+      handleAsync(asyncResponse, Budget.ACTION, () -> invokeAction(action, requestBody));
     }
   }
 
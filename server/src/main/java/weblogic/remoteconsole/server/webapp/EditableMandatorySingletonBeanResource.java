@@ -9,9 +9,13 @@ import javax.ws.rs.DefaultValue;
 import javax.ws.rs.POST;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
+import weblogic.remoteconsole.server.repo.RequestDeadline.Budget;
+
 /**
  * Handles HTTP methods for an editable mandatory singleton bean.
  */
@@ -23,9 +27,13 @@ public class EditableMandatorySingletonBeanResource extends ReadOnlyMandatorySin
   @POST
   @Consumes(MediaType.APPLICATION_JSON)
   @Produces(MediaType.APPLICATION_JSON)
-  public Response post(@QueryParam("slice") @DefaultValue("") String slice, JsonObject requestBody) {
+  public void post(
+    @QueryParam("slice") @DefaultValue("") String slice,
+    JsonObject requestBody,
+    @Suspended AsyncResponse asyncResponse
+  ) {
     setSliceFormPagePath(slice);
-    return updateSliceForm(requestBody);
+    handleAsync(asyncResponse, Budget.ACTION, () -> updateSliceForm(requestBody));
   }
 
   protected Response updateSliceForm(JsonObject requestBody) {
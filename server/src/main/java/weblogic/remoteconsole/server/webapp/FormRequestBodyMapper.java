@@ -3,7 +3,6 @@
 
 package weblogic.remoteconsole.server.webapp;
 
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
@@ -11,7 +10,6 @@ import javax.json.JsonArray;
 import javax.json.JsonObject;
 import javax.json.JsonValue;
 
-import org.glassfish.jersey.media.multipart.FormDataBodyPart;
 import weblogic.remoteconsole.common.repodef.PageDef;
 import weblogic.remoteconsole.common.repodef.PagePropertyDef;
 import weblogic.remoteconsole.common.utils.Path;
@@ -49,7 +47,7 @@ public class FormRequestBodyMapper extends RequestBodyMapper<List<FormProperty>>
   public static Response<List<FormProperty>> fromRequestBody(
     InvocationContext ic,
     JsonObject requestBody,
-    FormDataBodyPart... uploadedFiles
+    UploadedFile... uploadedFiles
   ) {
     return (new FormRequestBodyMapper(ic, requestBody, uploadedFiles)).fromRequestBody();
   }
@@ -57,7 +55,7 @@ public class FormRequestBodyMapper extends RequestBodyMapper<List<FormProperty>>
   private FormRequestBodyMapper(
     InvocationContext ic,
     JsonObject requestBody,
-    FormDataBodyPart... uploadedFiles
+    UploadedFile... uploadedFiles
   ) {
     super(ic, requestBody, uploadedFiles);
     PageDef pageDef =
@@ -98,7 +96,7 @@ public class FormRequestBodyMapper extends RequestBodyMapper<List<FormProperty>>
         formProperties.add(formProperty);
       }
     }
-    for (FormDataBodyPart uploadedFile : getUploadedFiles()) {
+    for (UploadedFile uploadedFile : getUploadedFiles()) {
       FormProperty formProperty = getFormProperty(uploadedFile);
       if (!isOK()) {
         return null;
@@ -136,11 +134,11 @@ public class FormRequestBodyMapper extends RequestBodyMapper<List<FormProperty>>
     return new FormProperty(propertyDef, value);
   }
 
-  private FormProperty getFormProperty(FormDataBodyPart uploadedFile) {
+  private FormProperty getFormProperty(UploadedFile uploadedFile) {
     if (uploadedFile == null) {
       return null;
     }
-    String name = uploadedFile.getFormDataContentDisposition().getName();
+    String name = uploadedFile.getName();
     PagePropertyDef propertyDef = getPropertyDef(name);
     if (!isOK()) {
       return null;
@@ -156,9 +154,9 @@ public class FormRequestBodyMapper extends RequestBodyMapper<List<FormProperty>>
     }
     Value value =
       new FileContentsValue(
-        uploadedFile.getFormDataContentDisposition().getFileName(),
-        uploadedFile.getEntityAs(InputStream.class),
-        uploadedFile.getMediaType().getType()
+        uploadedFile.getFileName(),
+        uploadedFile.getInputStream(),
+        uploadedFile.getMediaType()
       );
     return new FormProperty(propertyDef, new SettableValue(value));
   }
@@ -369,11 +367,12 @@ public class FormRequestBodyMapper extends RequestBodyMapper<List<FormProperty>>
     if (!isOK()) {
       return null;
     }
-    Path requiredPrefixPath = new Path();
-    requiredPrefixPath.addComponent("api");
-    requiredPrefixPath.addComponent(getInvocationContext().getProvider().getName());
-    requiredPrefixPath.addComponent(getInvocationContext().getPageRepo().getPageRepoDef().getName());
-    requiredPrefixPath.addComponent("data");
+    Path requiredPrefixPath =
+      new Path()
+        .childPath("api")
+        .childPath(getInvocationContext().getProvider().getName())
+        .childPath(getInvocationContext().getPageRepo().getPageRepoDef().getName())
+        .childPath("data");
     String requiredPrefix = "/" + requiredPrefixPath.getRelativeUri();
     if (!resourceData.startsWith(requiredPrefix)) {
       badFormat(
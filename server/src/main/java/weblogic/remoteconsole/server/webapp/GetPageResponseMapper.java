@@ -3,11 +3,18 @@
 
 package weblogic.remoteconsole.server.webapp;
 
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Map;
 import javax.json.Json;
 import javax.json.JsonArray;
 import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
 import javax.json.JsonObjectBuilder;
+import javax.json.JsonValue;
+import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonGeneratorFactory;
+import javax.ws.rs.core.StreamingOutput;
 
 import weblogic.remoteconsole.common.repodef.PagePath;
 import weblogic.remoteconsole.common.utils.Path;
@@ -26,9 +33,15 @@ import weblogic.remoteconsole.server.repo.TableRow;
 
 /**
  * Converts a Response<Page> to a JAXRS Response.
+ * <p>
+ * Tables can have thousands of rows so, instead of converting the
+ * rows to a json object, then having JAXRS write out the json object,
+ * the rows are written directly to the response's output stream.
  */
 public class GetPageResponseMapper extends ResponseMapper<Page> {
 
+  private static final JsonGeneratorFactory GENERATOR_FACTORY = Json.createGeneratorFactory(null);
+
   public static javax.ws.rs.core.Response toResponse(InvocationContext invocationContext, Response<Page> response) {
     return new GetPageResponseMapper(invocationContext, response).toResponse();
   }
@@ -88,27 +101,52 @@ public class GetPageResponseMapper extends ResponseMapper<Page> {
   }
 
   private void addTable() {
-    JsonArrayBuilder builder = Json.createArrayBuilder();
-    Table tableData = getResponse().getResults().asTable();
-    addPageInfo(tableData);
-    for (TableRow tableRowValues : tableData.getRows()) {
-      builder.add(tableRowToJson(tableRowValues));
+    // Only add the page info.  The rows are streamed by writeTable.
+    Table table = getResponse().getResults().asTable();
+    addPageInfo(table);
+    if (table.getTotalRows() != null) {
+      // The caller paged or filtered the table.  Let it know how many rows matched.
+      getEntityBuilder().add("totalRows", table.getTotalRows());
     }
-    getEntityBuilder().add("data", builder);
   }
 
-  private JsonObjectBuilder tableRowToJson(TableRow tableRowValues) {
-    JsonObjectBuilder builder = Json.createObjectBuilder();
-    for (TableCell cellValue : tableRowValues.getCells()) {
-      builder.add(cellValue.getName(), tableCellToJson(cellValue));
+  @Override
+  protected Object getSuccessEntity() {
+    if (!getResponse().getResults().isTable()) {
+      return super.getSuccessEntity();
     }
-    return builder;
+    // Everything except the rows
+    JsonObject entity = getEntityBuilder().build();
+    Table table = getResponse().getResults().asTable();
+    StreamingOutput output = out -> writeTable(out, entity, table);
+    return output;
+  }
+
+  private void writeTable(OutputStream out, JsonObject entity, Table table) {
+    JsonGenerator generator = GENERATOR_FACTORY.createGenerator(out);
+    generator.writeStartObject();
+    for (Map.Entry<String, JsonValue> entry : entity.entrySet()) {
+      generator.write(entry.getKey(), entry.getValue());
+    }
+    generator.writeStartArray("data");
+    for (TableRow tableRowValues : table.getRows()) {
+      writeTableRow(generator, tableRowValues);
+    }
+    generator.writeEnd(); // data
+    generator.writeEnd(); // entity
+    // Don't close the generator since that would close the
+    // response's output stream, which is owned by JAXRS.
+    generator.flush();
   }
 
-  private JsonObjectBuilder tableCellToJson(TableCell cellValue) {
-    JsonObjectBuilder builder = Json.createObjectBuilder();
-    addValueToJsonObject(builder, cellValue.getValue());
-    return builder;
+  private void writeTableRow(JsonGenerator generator, TableRow tableRowValues) {
+    generator.writeStartObject();
+    for (TableCell cellValue : tableRowValues.getCells()) {
+      generator.writeStartObject(cellValue.getName());
+      writeValueToJsonObject(generator, cellValue.getValue());
+      generator.writeEnd();
+    }
+    generator.writeEnd();
   }
 
   private void addPageInfo(Page page) {
@@ -203,11 +241,9 @@ public class GetPageResponseMapper extends ResponseMapper<Page> {
   }
 
   private String getBackendRelativeUri(PagePath pagePath) {
-    Path connectionRelativePath = new Path();
     String pageRepoName =
       getInvocationContext().getPageRepo().getPageRepoDef().getName();
-    connectionRelativePath.addComponent(pageRepoName);
-    connectionRelativePath.addComponent("pages");
+    Path connectionRelativePath = new Path().childPath(pageRepoName).childPath("pages");
     return
       UriUtils.getBackendRelativeUri(getInvocationContext(), connectionRelativePath)
       + "/"
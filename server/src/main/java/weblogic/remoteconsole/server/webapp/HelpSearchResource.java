@@ -0,0 +1,50 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.webapp;
+
+import java.util.List;
+import javax.ws.rs.GET;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+
+import weblogic.remoteconsole.common.repodef.LocalizedConstants;
+import weblogic.remoteconsole.common.utils.StringUtils;
+import weblogic.remoteconsole.server.repo.HelpSearchIndex;
+import weblogic.remoteconsole.server.repo.HelpSearchResult;
+import weblogic.remoteconsole.server.repo.InvocationContext;
+import weblogic.remoteconsole.server.repo.Response;
+
+/**
+ * Handles the JAXRS method for searching the labels and help of the pages in the page repo.
+ * <p>
+ * e.g. GET .../help?query=listen+port returns the pages and properties whose labels,
+ * names, page titles, nav tree paths or help match 'listen port'.
+ */
+public class HelpSearchResource extends BaseResource {
+  private static final int DEFAULT_LIMIT = 25;
+  private static final int MAX_LIMIT = 200;
+
+  /**
+   * Search the help.
+   */
+  @GET
+  @Produces(MediaType.APPLICATION_JSON)
+  public javax.ws.rs.core.Response get(
+    @QueryParam("query") String query,
+    @QueryParam("limit") Integer limit
+  ) {
+    InvocationContext ic = getInvocationContext();
+    Response<List<HelpSearchResult>> response = new Response<>();
+    if (StringUtils.isEmpty(query)) {
+      response
+        .addFailureMessage(ic.getLocalizer().localizeString(LocalizedConstants.MISSING_SEARCH_QUERY))
+        .setUserBadRequest();
+    } else {
+      int maxResults = (limit != null && limit > 0) ? Math.min(limit, MAX_LIMIT) : DEFAULT_LIMIT;
+      response = HelpSearchIndex.search(ic, query, maxResults);
+    }
+    return HelpSearchResponseMapper.toResponse(ic, response);
+  }
+}
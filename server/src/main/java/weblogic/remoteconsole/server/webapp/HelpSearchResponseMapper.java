@@ -0,0 +1,85 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.webapp;
+
+import java.util.List;
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObjectBuilder;
+
+import weblogic.remoteconsole.common.utils.Path;
+import weblogic.remoteconsole.server.repo.HelpSearchResult;
+import weblogic.remoteconsole.server.repo.InvocationContext;
+import weblogic.remoteconsole.server.repo.Response;
+
+/**
+ * Converts a Response<List<HelpSearchResult>> to a JAXRS Response.
+ *
+ * The response looks like:
+ *   { "results": [
+ *       { "label": "Listen Port",
+ *         "helpSummary": "<p>The default TCP port ...</p>",
+ *         "pageTitle": "Server: General",
+ *         "type": "ServerMBean",
+ *         "property": "ListenPort",
+ *         "navTreePath": [ "Environment", "Servers", "*" ],
+ *         "pageDescription": "/api/.../edit/pages/ServerMBean" },
+ *       ...
+ *   ] }
+ * where the results are ordered from the best to the worst match.
+ */
+public class HelpSearchResponseMapper extends ResponseMapper<List<HelpSearchResult>> {
+
+  public static javax.ws.rs.core.Response toResponse(
+    InvocationContext invocationContext,
+    Response<List<HelpSearchResult>> response
+  ) {
+    return new HelpSearchResponseMapper(invocationContext, response).toResponse();
+  }
+
+  private HelpSearchResponseMapper(InvocationContext invocationContext, Response<List<HelpSearchResult>> response) {
+    super(invocationContext, response);
+  }
+
+  @Override
+  protected void addResults() {
+    JsonArrayBuilder builder = Json.createArrayBuilder();
+    for (HelpSearchResult result : getResponse().getResults()) {
+      builder.add(helpSearchResultToJson(result));
+    }
+    getEntityBuilder().add("results", builder);
+  }
+
+  private JsonObjectBuilder helpSearchResultToJson(HelpSearchResult result) {
+    JsonObjectBuilder builder = Json.createObjectBuilder();
+    addIfNotNull(builder, "label", result.getLabel());
+    addIfNotNull(builder, "helpSummary", result.getHelpSummaryHTML());
+    addIfNotNull(builder, "pageTitle", result.getPageTitle());
+    addIfNotNull(builder, "type", result.getType());
+    addIfNotNull(builder, "property", result.getProperty());
+    JsonArrayBuilder pathBuilder = Json.createArrayBuilder();
+    for (String name : result.getNavTreePath()) {
+      pathBuilder.add(name);
+    }
+    builder.add("navTreePath", pathBuilder);
+    builder.add("pageDescription", getBackendRelativeUri(result.getPageURI()));
+    return builder;
+  }
+
+  private void addIfNotNull(JsonObjectBuilder builder, String name, String value) {
+    if (value != null) {
+      builder.add(name, value);
+    }
+  }
+
+  private String getBackendRelativeUri(String pageURI) {
+    String pageRepoName =
+      getInvocationContext().getPageRepo().getPageRepoDef().getName();
+    Path connectionRelativePath = new Path().childPath(pageRepoName).childPath("pages");
+    return
+      UriUtils.getBackendRelativeUri(getInvocationContext(), connectionRelativePath)
+      + "/"
+      + pageURI;
+  }
+}
@@ -48,9 +48,38 @@ public class InvokeActionHelper {
     return VoidResponseMapper.toResponse(ic, response);
   }
 
+  // Invoke a table row action on many rows of a table.
+  // The invocation context identifies the table's collection.
+  // Returns each row's result.
+  public static javax.ws.rs.core.Response invokeTableRowsAction(
+    InvocationContext ic,
+    String action,
+    JsonObject requestBody
+  ) {
+    Response<Void> response = new Response<>();
+    // Make sure the collection's children support the action
+    Response<TableActionDef> findActionResponse = findTableActionDef(ic, action);
+    if (!findActionResponse.isSuccess()) {
+      response.copyUnsuccessfulResponse(findActionResponse);
+      return VoidResponseMapper.toResponse(ic, response);
+    }
+    Response<List<String>> unmarshalResponse = TableRowsRequestBodyMapper.fromRequestBody(ic, requestBody);
+    if (!unmarshalResponse.isSuccess()) {
+      response.copyUnsuccessfulResponse(unmarshalResponse);
+      return VoidResponseMapper.toResponse(ic, response);
+    }
+    List<String> keys = unmarshalResponse.getResults();
+    TableActionDef tableActionDef = findActionResponse.getResults();
+    // Invoke the action on all the rows before writing the response.
+    Response<List<Response<Void>>> invokeResponse =
+      ic.getPageRepo().asPageReaderRepo().invokeTableRowsAction(ic, tableActionDef, keys);
+    return TableRowsActionResponseMapper.toResponse(ic, tableActionDef, keys, invokeResponse);
+  }
+
   private static Response<TableActionDef> findTableActionDef(InvocationContext ic, String action) {
     Response<TableActionDef> response = new Response<>();
-    // The action is invoked on a collection child, so we're passed a slice form page path.
+    // The action is invoked on a collection child (or on a collection's children),
+    // so we're passed a slice form (or table) page path.
     // Get the corresponding table page path since that's where the action defs live.
     TablePagePath tablePagePath = PagePath.newTablePagePath(ic.getPagePath().getPagesPath());
     TableDef tableDef = ic.getPageRepo().getPageRepoDef().getPageDef(tablePagePath).asTableDef();
@@ -0,0 +1,226 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.webapp;
+
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import javax.json.Json;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.media.multipart.FormDataContentDisposition;
+import org.jvnet.mimepull.Header;
+import org.jvnet.mimepull.MIMEConfig;
+import org.jvnet.mimepull.MIMEMessage;
+import org.jvnet.mimepull.MIMEParsingException;
+import org.jvnet.mimepull.MIMEPart;
+
+/**
+ * Reads a multipart/form-data request that uploads files (e.g. an application's archive)
+ * without reading the whole request up front.
+ * <p>
+ * JAXRS @FormDataParam parameters are only available after the whole request has been read,
+ * so a large upload (e.g. a 300MB ear) is spooled to a temp file before the resource
+ * can start sending it to WebLogic.  Instead, this class reads the parts lazily:
+ * <ul>
+ *   <li>The "requestBody" part is read as json.</li>
+ *   <li>If the streamed part (e.g. "Source") follows the "requestBody" part, it's not read.
+ *       Its input stream reads directly from the request, so the file is passed through
+ *       to WebLogic as it arrives.  It must be the last part of the request.</li>
+ *   <li>Any other part is buffered (in memory up to BUFFER_THRESHOLD, then in a temp file)
+ *       since the parts after it need to be read before the resource can use it.</li>
+ * </ul>
+ * So, the client should send the "requestBody" part first and the streamed part last.
+ * Other orders still work, they just buffer the streamed part too.
+ * <p>
+ * The reader must be closed (which deletes any temp files) after the uploaded files have been used.
+ */
+public class MultiPartUploadReader implements Closeable {
+
+  private static final Logger LOGGER = Logger.getLogger(MultiPartUploadReader.class.getName());
+
+  private static final String REQUEST_BODY = "requestBody";
+  private static final long BUFFER_THRESHOLD = 64 * 1024;
+
+  private MIMEMessage message;
+  private String streamedPartName;
+  private JsonObject requestBody;
+  private List<UploadedFile> uploadedFiles = new ArrayList<>();
+
+  // Reads the parts of a multipart/form-data request up to (but not including)
+  // the contents of the streamed part.
+  // Throws a BadRequestException if the request is malformed.
+  public static MultiPartUploadReader read(MediaType mediaType, InputStream entity, String streamedPartName) {
+    String boundary = (mediaType != null) ? mediaType.getParameters().get("boundary") : null;
+    if (boundary == null) {
+      throw new BadRequestException("Missing multipart boundary");
+    }
+    MultiPartUploadReader reader = new MultiPartUploadReader(entity, boundary, streamedPartName);
+    try {
+      reader.readParts();
+    } catch (RuntimeException e) {
+      reader.close();
+      throw e;
+    }
+    return reader;
+  }
+
+  private MultiPartUploadReader(InputStream entity, String boundary, String streamedPartName) {
+    MIMEConfig config = new MIMEConfig();
+    config.setMemoryThreshold(BUFFER_THRESHOLD);
+    this.message = new MIMEMessage(entity, boundary, config);
+    this.streamedPartName = streamedPartName;
+  }
+
+  public JsonObject getRequestBody() {
+    return requestBody;
+  }
+
+  public UploadedFile[] getUploadedFiles() {
+    return uploadedFiles.toArray(new UploadedFile[0]);
+  }
+
+  @Override
+  public void close() {
+    message.close();
+  }
+
+  private void readParts() {
+    try {
+      for (int index = 0; true; index++) {
+        MIMEPart part = getPart(index);
+        if (part == null) {
+          break;
+        }
+        FormDataContentDisposition disposition = getContentDisposition(part);
+        String name = disposition.getName();
+        if (REQUEST_BODY.equals(name)) {
+          readRequestBody(part);
+        } else if (name.equals(streamedPartName) && requestBody != null) {
+          uploadedFiles.add(createUploadedFile(part, disposition, new StreamedPartInputStream(part, index)));
+          break;
+        } else {
+          LOGGER.fine("Buffering uploaded file " + name);
+          uploadedFiles.add(createUploadedFile(part, disposition, part.read()));
+        }
+      }
+    } catch (MIMEParsingException e) {
+      throw new BadRequestException(e);
+    }
+    if (requestBody == null) {
+      throw new BadRequestException("Missing " + REQUEST_BODY);
+    }
+  }
+
+  // Returns null if the request doesn't have a part with this index.
+  private MIMEPart getPart(int index) {
+    MIMEPart part = message.getPart(index);
+    try {
+      // Reads the part's headers (and any earlier parts that haven't been read yet)
+      part.getAllHeaders();
+    } catch (IllegalStateException e) {
+      // mimepull reached the end of the request before finding the part's headers
+      return null;
+    }
+    return part;
+  }
+
+  private void readRequestBody(MIMEPart part) {
+    if (requestBody != null) {
+      throw new BadRequestException("Duplicate " + REQUEST_BODY);
+    }
+    try (JsonReader reader = Json.createReader(part.readOnce())) {
+      requestBody = reader.readObject();
+    } catch (JsonException | IllegalStateException e) {
+      throw new BadRequestException(e);
+    }
+  }
+
+  private UploadedFile createUploadedFile(
+    MIMEPart part,
+    FormDataContentDisposition disposition,
+    InputStream inputStream
+  ) {
+    String contentType = getHeader(part, HttpHeaders.CONTENT_TYPE);
+    MediaType mediaType =
+      (contentType != null) ? MediaType.valueOf(contentType) : MediaType.APPLICATION_OCTET_STREAM_TYPE;
+    return new UploadedFile(disposition.getName(), disposition.getFileName(), mediaType.getType(), inputStream);
+  }
+
+  private FormDataContentDisposition getContentDisposition(MIMEPart part) {
+    String contentDisposition = getHeader(part, "Content-Disposition");
+    if (contentDisposition == null) {
+      throw new BadRequestException("Missing Content-Disposition");
+    }
+    FormDataContentDisposition disposition;
+    try {
+      disposition = new FormDataContentDisposition(contentDisposition);
+    } catch (ParseException e) {
+      throw new BadRequestException(e);
+    }
+    if (disposition.getName() == null) {
+      throw new BadRequestException("Missing part name: " + contentDisposition);
+    }
+    return disposition;
+  }
+
+  private static String getHeader(MIMEPart part, String name) {
+    for (Header header : part.getAllHeaders()) {
+      if (name.equalsIgnoreCase(header.getName())) {
+        return header.getValue();
+      }
+    }
+    return null;
+  }
+
+  // Reads the streamed part's contents directly from the request.
+  // Once they've been read, makes sure that the request doesn't have any more parts
+  // since, by then, it's too late to use them.
+  private class StreamedPartInputStream extends FilterInputStream {
+    private int index;
+    private boolean checkedForMoreParts;
+
+    private StreamedPartInputStream(MIMEPart part, int index) {
+      super(part.readOnce());
+      this.index = index;
+    }
+
+    @Override
+    public int read() throws IOException {
+      return checkForMoreParts(super.read());
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      return checkForMoreParts(super.read(b, off, len));
+    }
+
+    private int checkForMoreParts(int read) throws IOException {
+      if (read != -1 || checkedForMoreParts) {
+        return read;
+      }
+      checkedForMoreParts = true;
+      MIMEPart part;
+      try {
+        part = getPart(index + 1);
+      } catch (MIMEParsingException e) {
+        throw new IOException(e);
+      }
+      if (part != null) {
+        throw new IOException("The " + streamedPartName + " part must be the last part of the request");
+      }
+      return read;
+    }
+  }
+}
@@ -0,0 +1,87 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.webapp;
+
+import java.util.List;
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObjectBuilder;
+
+import weblogic.remoteconsole.server.repo.InvocationContext;
+import weblogic.remoteconsole.server.repo.NavTreeDiff;
+import weblogic.remoteconsole.server.repo.Response;
+
+/**
+ * Converts a Response<List<NavTreeDiff>> to a JAXRS Response.
+ * Used to return the changes to the nav tree when the CFE expands,
+ * collapses or refreshes a single nav tree node.
+ *
+ * The response looks like:
+ *   { "diffs": [
+ *       { "type": "replace", "path": [ "Environment", "Servers" ], "node": { ... } },
+ *       { "type": "add", "path": [ "Environment", "Clusters", "Cluster2" ], "index": 1, "node": { ... } },
+ *       { "type": "remove", "path": [ "Environment", "Clusters", "Cluster3" ] },
+ *       { "type": "update", "path": [ "Scheduling" ], "node": { ... } }
+ *   ] }
+ */
+public class NavTreeDiffResponseMapper extends BaseNavTreeResponseMapper<List<NavTreeDiff>> {
+
+  public static javax.ws.rs.core.Response toResponse(
+    InvocationContext invocationContext,
+    Response<List<NavTreeDiff>> response
+  ) {
+    return new NavTreeDiffResponseMapper(invocationContext, response).toResponse();
+  }
+
+  private NavTreeDiffResponseMapper(InvocationContext invocationContext, Response<List<NavTreeDiff>> response) {
+    super(invocationContext, response);
+  }
+
+  @Override
+  protected void addResults() {
+    JsonArrayBuilder builder = Json.createArrayBuilder();
+    for (NavTreeDiff diff : getResponse().getResults()) {
+      if (diff.getNode() != null && !isValidNode(diff.getNode())) {
+        // Rejected path
+        continue;
+      }
+      builder.add(navTreeDiffToJson(diff));
+    }
+    getEntityBuilder().add("diffs", builder);
+  }
+
+  private JsonObjectBuilder navTreeDiffToJson(NavTreeDiff diff) {
+    JsonObjectBuilder builder = Json.createObjectBuilder();
+    builder.add("type", getType(diff));
+    JsonArrayBuilder pathBuilder = Json.createArrayBuilder();
+    for (String name : diff.getPath().getComponents()) {
+      pathBuilder.add(name);
+    }
+    builder.add("path", pathBuilder);
+    if (diff.getIndex() != -1) {
+      builder.add("index", diff.getIndex());
+    }
+    if (diff.getNode() != null) {
+      builder.add("node", navTreeNodeToJson(diff.getNode()));
+    }
+    return builder;
+  }
+
+  private String getType(NavTreeDiff diff) {
+    NavTreeDiff.Type type = diff.getType();
+    if (NavTreeDiff.Type.ADD == type) {
+      return "add";
+    }
+    if (NavTreeDiff.Type.REMOVE == type) {
+      return "remove";
+    }
+    if (NavTreeDiff.Type.UPDATE == type) {
+      return "update";
+    }
+    if (NavTreeDiff.Type.REPLACE == type) {
+      return "replace";
+    }
+    throw new AssertionError("Unknown NavTreeDiff.Type " + type);
+  }
+}
@@ -17,9 +17,15 @@ import weblogic.remoteconsole.server.repo.Response;
  *
  * Note: only fetch 'name', 'expanded' and 'contents' since that's all that we need.
  * The rest is computable from them.
+ *
+ * The request body may also contain "session": true, meaning that it's the CFE's nav tree
+ * and that it will expand, collapse and refresh single nodes from now on
+ * (see PageReaderRepo.startNavTreeSession).
  */
 public class NavTreeNodeRequestBodyMapper extends RequestBodyMapper<List<NavTreeNode>> {
 
+  public static final String PROP_SESSION = "session";
+
   public static Response<List<NavTreeNode>> fromRequestBody(
     InvocationContext ic,
     JsonObject requestBody
@@ -9,10 +9,16 @@ import javax.json.JsonObject;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.POST;
 import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 
 import weblogic.remoteconsole.common.utils.StringUtils;
+import weblogic.remoteconsole.server.repo.NavTreeDiff;
 import weblogic.remoteconsole.server.repo.NavTreeNode;
+import weblogic.remoteconsole.server.repo.NavTreeUpdate;
+import weblogic.remoteconsole.server.repo.PageReaderRepo;
+import weblogic.remoteconsole.server.repo.RequestDeadline.Budget;
 import weblogic.remoteconsole.server.repo.Response;
 
 /** 
@@ -24,21 +30,46 @@ public class NavTreeResource extends BaseResource {
 
   /**
    * Get the nav tree info for a set of nav tree nodes
+   * <p>
+   * If the request body contains an action, expand, collapse or refresh a single node
+   * in the nav tree that the caller is displaying (i.e. the one returned by the last call
+   * that contained "session": true) and only return the changes to the nav tree.
    *
    * @param navTreeNodes - the nav tree nodes that the caller wants nav tree info for
    * 
-   * @return a Response containing the nav tree info for navTreeNodes
+   * Resumes asyncResponse with a Response containing the nav tree info for navTreeNodes
    */
   @POST
   @Consumes(MediaType.APPLICATION_JSON)
   @Produces(MediaType.APPLICATION_JSON)
-  public javax.ws.rs.core.Response expandNavTreeNodes(JsonObject requestBody) {
+  public void expandNavTreeNodes(JsonObject requestBody, @Suspended AsyncResponse asyncResponse) {
     // FortifyIssueSuppression Log Forging
     // The values are scrubbed by cleanStringForLogging
     LOGGER.fine("expandNavTreeNodes" + StringUtils.cleanStringForLogging(requestBody.toString()));
+    handleAsync(asyncResponse, Budget.NAV_TREE, () -> getNavTreeResponse(requestBody));
+  }
+
+  private javax.ws.rs.core.Response getNavTreeResponse(JsonObject requestBody) {
+    if (requestBody.containsKey(NavTreeUpdateRequestBodyMapper.PROP_ACTION)) {
+      return NavTreeDiffResponseMapper.toResponse(getInvocationContext(), getUpdateResponse(requestBody));
+    }
     return NavTreeNodeResponseMapper.toResponse(getInvocationContext(), getResponse(requestBody));
   }
 
+  private Response<List<NavTreeDiff>> getUpdateResponse(JsonObject requestBody) {
+    // Convert the request body into a NavTreeUpdate (i.e. the node to expand, collapse or refresh)
+    Response<NavTreeUpdate> updateResponse =
+      NavTreeUpdateRequestBodyMapper.fromRequestBody(getInvocationContext(), requestBody);
+    if (!updateResponse.isSuccess()) {
+      return (new Response<List<NavTreeDiff>>()).copyUnsuccessfulResponse(updateResponse);
+    }
+    // Update the node and return the changes
+    return
+      getInvocationContext()
+      .getPageRepo().asPageReaderRepo()
+      .updateNavTree(getInvocationContext(), updateResponse.getResults());
+  }
+
   private Response<List<NavTreeNode>> getResponse(JsonObject requestBody) {
     // Convert the request body into a List<NavTreeNode> (i.e. the nodes to expand)
     Response<List<NavTreeNode>> response =
@@ -47,9 +78,10 @@ public class NavTreeResource extends BaseResource {
       return response;
     }
     // Expand the nodes and return them
-    return
-      getInvocationContext()
-      .getPageRepo().asPageReaderRepo()
-      .expandNavTreeNodes(getInvocationContext(), response.getResults());
+    PageReaderRepo pageReaderRepo = getInvocationContext().getPageRepo().asPageReaderRepo();
+    if (requestBody.getBoolean(NavTreeNodeRequestBodyMapper.PROP_SESSION, false)) {
+      return pageReaderRepo.startNavTreeSession(getInvocationContext(), response.getResults());
+    }
+    return pageReaderRepo.expandNavTreeNodes(getInvocationContext(), response.getResults());
   }
 }
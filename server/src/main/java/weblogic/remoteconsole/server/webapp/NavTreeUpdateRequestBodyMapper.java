@@ -0,0 +1,90 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.webapp;
+
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+
+import weblogic.remoteconsole.common.utils.Path;
+import weblogic.remoteconsole.server.repo.InvocationContext;
+import weblogic.remoteconsole.server.repo.NavTreeUpdate;
+import weblogic.remoteconsole.server.repo.Response;
+
+/**
+ * Converts a JAXRS Request body to a Response<NavTreeUpdate>.
+ *
+ * The request body looks like:
+ *   { "action": "expand", "path": [ "Environment", "Servers", "Server1" ] }
+ * where action is expand, collapse or refresh and path is the names of the nav tree nodes,
+ * starting at the root.
+ */
+public class NavTreeUpdateRequestBodyMapper extends RequestBodyMapper<NavTreeUpdate> {
+
+  public static final String PROP_ACTION = "action";
+  private static final String PROP_PATH = "path";
+  private static final String ACTION_EXPAND = "expand";
+  private static final String ACTION_COLLAPSE = "collapse";
+  private static final String ACTION_REFRESH = "refresh";
+
+  public static Response<NavTreeUpdate> fromRequestBody(
+    InvocationContext ic,
+    JsonObject requestBody
+  ) {
+    return (new NavTreeUpdateRequestBodyMapper(ic, requestBody)).fromRequestBody();
+  }
+
+  private NavTreeUpdateRequestBodyMapper(InvocationContext ic, JsonObject requestBody) {
+    super(ic, requestBody, null);
+  }
+
+  @Override
+  protected void parseRequestBody() {
+    NavTreeUpdate.Action action = getAction();
+    if (!isOK()) {
+      return;
+    }
+    Path path = getPath();
+    if (isOK()) {
+      getResponse().setSuccess(new NavTreeUpdate(action, path));
+    }
+  }
+
+  private NavTreeUpdate.Action getAction() {
+    String action = getRequiredString(getRequestBody(), PROP_ACTION);
+    if (!isOK()) {
+      return null;
+    }
+    if (ACTION_EXPAND.equals(action)) {
+      return NavTreeUpdate.Action.EXPAND;
+    }
+    if (ACTION_COLLAPSE.equals(action)) {
+      return NavTreeUpdate.Action.COLLAPSE;
+    }
+    if (ACTION_REFRESH.equals(action)) {
+      return NavTreeUpdate.Action.REFRESH;
+    }
+    badFormat("Unsupported " + PROP_ACTION + ": " + action);
+    return null;
+  }
+
+  private Path getPath() {
+    JsonArray array = getRequiredJsonArray(getRequestBody(), PROP_PATH);
+    if (!isOK()) {
+      return null;
+    }
+    if (array.isEmpty()) {
+      badFormat(PROP_PATH + " is empty");
+      return null;
+    }
+    Path path = new Path();
+    for (int i = 0; i < array.size(); i++) {
+      String name = asString(PROP_PATH, array.get(i));
+      if (!isOK()) {
+        return null;
+      }
+      path = path.childPath(name);
+    }
+    return path;
+  }
+}
@@ -3,8 +3,6 @@
 
 package weblogic.remoteconsole.server.webapp;
 
-import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
 import javax.ws.rs.Path;
@@ -19,8 +17,10 @@ import weblogic.remoteconsole.common.utils.CustomizerInvocationUtils;
 import weblogic.remoteconsole.common.utils.StringUtils;
 import weblogic.remoteconsole.server.repo.BeanRepo;
 import weblogic.remoteconsole.server.repo.BeanTreePath;
+import weblogic.remoteconsole.server.repo.ConfigSearchBeanRepo;
 import weblogic.remoteconsole.server.repo.DownloadBeanRepo;
 import weblogic.remoteconsole.server.repo.InvocationContext;
+import weblogic.remoteconsole.server.repo.TableQuery;
 
 /**
  * Top level JAXRS resource for a page repo of a provider.
@@ -46,9 +46,14 @@ public class PageRepoResource extends BaseResource {
   @Path("data/{pathSegments: .+}")
   public Object getDataResource(
     @PathParam("pathSegments") List<PathSegment> pathSegments,
-    @QueryParam("properties") String properties
+    @QueryParam("properties") String properties,
+    @QueryParam("offset") Integer offset,
+    @QueryParam("limit") Integer limit,
+    @QueryParam("sort") String sort,
+    @QueryParam("filter") String filter
   ) {
     getInvocationContext().setProperties(properties);
+    getInvocationContext().setTableQuery(new TableQuery(offset, limit, sort, filter));
     setBeanTreePath(pathSegments);
     if (getInvocationContext().getBeanTreePath() == null) {
       // not found because the path is referring to a bean child (v.s. instance) that doesn't exist
@@ -68,11 +73,10 @@ public class PageRepoResource extends BaseResource {
     if (StringUtils.isEmpty(methodName)) {
       return null;
     }
-    Method method = CustomizerInvocationUtils.getMethod(methodName);
-    CustomizerInvocationUtils.checkSignature(method, BaseResource.class, InvocationContext.class);
-    List<Object> args = new ArrayList<>();
-    args.add(getInvocationContext());
-    Object resourceAsObject = CustomizerInvocationUtils.invokeMethod(method, args);
+    Object resourceAsObject =
+      CustomizerInvocationUtils.getInvoker(methodName)
+        .checkSignature(BaseResource.class, InvocationContext.class)
+        .invoke(getInvocationContext());
     return (BaseResource)resourceAsObject;
   }
 
@@ -111,6 +115,20 @@ public class PageRepoResource extends BaseResource {
     }
   }
 
+  // Get the JAXRS resource that returns the plans of the WLS REST searches
+  // that getting the page of a bean, or collection of beans, makes (for debugging).
+  @Path("queryPlans/{pathSegments: .+}")
+  public Object getSearchQueryPlansResource(
+    @PathParam("pathSegments") List<PathSegment> pathSegments
+  ) {
+    setBeanTreePath(pathSegments);
+    if (getInvocationContext().getBeanTreePath() == null) {
+      // not found because the path is referring to a bean child that doesn't exist
+      return null;
+    }
+    return copyContext(new SearchQueryPlansResource());
+  }
+
   // Get the JAXRS resource that describes the pages in the page repo.
   @Path("pages")
   public Object getPagesResource() {
@@ -138,6 +156,20 @@ public class PageRepoResource extends BaseResource {
     return copyContext(new ChangeManagerResource());
   }
 
+  // Get the JAXRS resource for modifying many beans in the page repo at once.
+  @Path("bulkEdit")
+  public Object getBulkEditResource() {
+    if (!getInvocationContext().getPageRepo().isPageEditorRepo()) {
+      LOGGER.info(
+        "BAD REQUEST: tried to bulk edit a repo that doesn't support editing");
+      throw new WebApplicationException(Response.status(
+        Status.NOT_FOUND.getStatusCode(),
+          "There is no edit support for this type of repository"
+      ).build());
+    }
+    return copyContext(new BulkEditResource());
+  }
+
   // Get the JAXRS resource for downloading the contents of the page repo.
   @Path("download")
   public Object getDownloadResource() {
@@ -152,4 +184,25 @@ public class PageRepoResource extends BaseResource {
     }
     return copyContext(new DownloadResource());
   }
+
+  // Get the JAXRS resource for full text searches over the configuration in the page repo.
+  @Path("search")
+  public Object getConfigSearchResource() {
+    BeanRepo beanRepo = getInvocationContext().getPageRepo().getBeanRepo();
+    if (!(beanRepo instanceof ConfigSearchBeanRepo)) {
+      LOGGER.info(
+        "BAD REQUEST: BeanRepo does not support configuration search");
+      throw new WebApplicationException(Response.status(
+        Status.NOT_FOUND.getStatusCode(),
+          "There is no configuration search support for this type of repository"
+      ).build());
+    }
+    return copyContext(new ConfigSearchResource());
+  }
+
+  // Get the JAXRS resource for searching the labels and help of the pages in the page repo.
+  @Path("help")
+  public Object getHelpSearchResource() {
+    return copyContext(new HelpSearchResource());
+  }
 }
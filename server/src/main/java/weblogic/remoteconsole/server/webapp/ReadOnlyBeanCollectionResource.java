@@ -3,11 +3,20 @@
 
 package weblogic.remoteconsole.server.webapp;
 
+import javax.json.JsonObject;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
+import javax.ws.rs.POST;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
+import weblogic.remoteconsole.server.repo.RequestDeadline.Budget;
+
 /**
  * Handles JAXRS methods for a readonly collection of beans.
  */
@@ -18,9 +27,28 @@ public class ReadOnlyBeanCollectionResource extends BeanResource {
    */
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public Response get() {
+  public void get(@Suspended AsyncResponse asyncResponse) {
     setTablePagePath();
-    return getTable();
+    handleAsync(asyncResponse, Budget.TABLE, this::getTable);
+  }
+
+  /**
+   * Invokes the table row action on the children listed in the request body.
+   */
+  @POST
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  public void post(
+    @QueryParam("action") @DefaultValue("") String action,
+    JsonObject requestBody,
+    @Suspended AsyncResponse asyncResponse
+  ) {
+    setTablePagePath();
+    handleAsync(asyncResponse, Budget.ACTION, () -> invokeTableRowsAction(action, requestBody));
+  }
+
+  protected Response invokeTableRowsAction(String action, JsonObject requestBody) {
+    return InvokeActionHelper.invokeTableRowsAction(getInvocationContext(), action, requestBody);
   }
 
   protected Response getTable() {
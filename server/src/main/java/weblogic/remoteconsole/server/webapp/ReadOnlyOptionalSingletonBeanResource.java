@@ -7,9 +7,13 @@ import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
+import weblogic.remoteconsole.server.repo.RequestDeadline.Budget;
+
 /**
  * Handles HTTP methods for a readonly optonal singleton bean.
  */
@@ -23,9 +27,12 @@ public class ReadOnlyOptionalSingletonBeanResource extends BeanResource {
    */
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public Response get(@QueryParam("slice") @DefaultValue("") String slice) {
+  public void get(
+    @QueryParam("slice") @DefaultValue("") String slice,
+    @Suspended AsyncResponse asyncResponse
+  ) {
     setSliceFormPagePath(slice);
-    return getSliceForm();
+    handleAsync(asyncResponse, Budget.FORM, this::getSliceForm);
   }
 
   protected Response getSliceForm() {
@@ -11,7 +11,6 @@ import javax.json.JsonString;
 import javax.json.JsonValue;
 import javax.json.JsonValue.ValueType;
 
-import org.glassfish.jersey.media.multipart.FormDataBodyPart;
 import weblogic.remoteconsole.server.repo.InvocationContext;
 import weblogic.remoteconsole.server.repo.Response;
 
@@ -22,14 +21,14 @@ public abstract class RequestBodyMapper<T> {
 
   private InvocationContext ic;
   private JsonObject requestBody;
-  private FormDataBodyPart[] uploadedFiles;
+  private UploadedFile[] uploadedFiles;
   // use a response so we can return BadRequest for poorly formatted request bodies:
   private Response<T> response = new Response<>();
 
   protected RequestBodyMapper(
     InvocationContext ic,
     JsonObject requestBody,
-    FormDataBodyPart... uploadedFiles) {
+    UploadedFile... uploadedFiles) {
     this.ic = ic;
     this.requestBody = requestBody;
     this.uploadedFiles = uploadedFiles;
@@ -48,7 +47,7 @@ public abstract class RequestBodyMapper<T> {
     return requestBody;
   }
 
-  protected FormDataBodyPart[] getUploadedFiles() {
+  protected UploadedFile[] getUploadedFiles() {
     return uploadedFiles;
   }
 
@@ -3,24 +3,32 @@
 
 package weblogic.remoteconsole.server.webapp;
 
-import java.text.SimpleDateFormat;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.json.Json;
 import javax.json.JsonArrayBuilder;
 import javax.json.JsonObjectBuilder;
 import javax.json.JsonValue;
+import javax.json.stream.JsonGenerator;
 
 import weblogic.remoteconsole.common.repodef.BeanChildDef;
 import weblogic.remoteconsole.common.repodef.LocalizedConstants;
 import weblogic.remoteconsole.common.utils.Message;
 import weblogic.remoteconsole.common.utils.Path;
 import weblogic.remoteconsole.common.utils.StringUtils;
+import weblogic.remoteconsole.server.ConsoleBackendRuntimeConfig;
 import weblogic.remoteconsole.server.repo.ArrayValue;
 import weblogic.remoteconsole.server.repo.BeanTreePath;
 import weblogic.remoteconsole.server.repo.BeanTreePathSegment;
 import weblogic.remoteconsole.server.repo.InvocationContext;
 import weblogic.remoteconsole.server.repo.PropertiesValue;
+import weblogic.remoteconsole.server.repo.RequestTimings;
 import weblogic.remoteconsole.server.repo.Response;
 import weblogic.remoteconsole.server.repo.SecretValue;
 import weblogic.remoteconsole.server.repo.SettableValue;
@@ -40,7 +48,12 @@ public abstract class ResponseMapper<T> {
   private JsonObjectBuilder entityBuilder;
   private Response<T> response;
 
+  private static final String SERVER_TIMING_HEADER = "Server-Timing";
+  private static final boolean SERVER_TIMING_ENABLED = ConsoleBackendRuntimeConfig.isServerTimingEnabled();
+
   private static final String DISPLAYED_DATE_TIME_FORMAT = "EEE MMM dd kk:mm:ss z yyyy";
+  private static final Map<List<Object>,DateTimeFormatter> DISPLAYED_DATE_TIME_FORMATTERS =
+    new ConcurrentHashMap<>();
 
   protected ResponseMapper(InvocationContext invocationContext, Response<T> response) {
     this.invocationContext = invocationContext;
@@ -59,7 +72,26 @@ public abstract class ResponseMapper<T> {
     return response;
   }
 
+  // Returns the JAXRS response, with a Server-Timing header that says how long
+  // each phase of the request took (see RequestTimings).
+  // Since the header is sent before the entity, the time spent writing
+  // streamed entities (e.g. large tables) isn't included.
   protected javax.ws.rs.core.Response toResponse() {
+    InvocationContext ic = getInvocationContext();
+    if (!SERVER_TIMING_ENABLED || ic == null) {
+      return buildResponse();
+    }
+    javax.ws.rs.core.Response jaxrsResponse = null;
+    try (RequestTimings.Timer timer = ic.getTimings().start(RequestTimings.RESPONSE)) {
+      jaxrsResponse = buildResponse();
+    }
+    return
+      javax.ws.rs.core.Response.fromResponse(jaxrsResponse)
+        .header(SERVER_TIMING_HEADER, ic.getTimings().toServerTimingHeader())
+        .build();
+  }
+
+  private javax.ws.rs.core.Response buildResponse() {
     this.entityBuilder = Json.createObjectBuilder();
     addMessages();
     if (getResponse().isNotFound()) {
@@ -93,7 +125,7 @@ public abstract class ResponseMapper<T> {
     }
     if (getResponse().isSuccess()) {
       addResults();
-      return javax.ws.rs.core.Response.ok(getEntityBuilder().build()).build();
+      return javax.ws.rs.core.Response.ok(getSuccessEntity()).build();
     }
     throw new AssertionError("Unsupported Response " + getResponse().getClass());
   }
@@ -109,7 +141,7 @@ public abstract class ResponseMapper<T> {
     getEntityBuilder().add("messages", builder);
   }
 
-  private JsonObjectBuilder messageToJson(Message message) {
+  protected JsonObjectBuilder messageToJson(Message message) {
     JsonObjectBuilder builder = Json.createObjectBuilder();
     builder.add("severity", getSeverity(message));
     builder.add("message", message.getText());
@@ -133,8 +165,36 @@ public abstract class ResponseMapper<T> {
     throw new AssertionError("Unsupported message type");
   }
 
+  // Returns the name of a response's status, e.g. for reporting
+  // the results of the individual parts of a request.
+  protected String getStatusName(Response<?> response) {
+    if (response.isSuccess()) {
+      return "success";
+    }
+    if (response.isNotFound()) {
+      return "notFound";
+    }
+    if (response.isServiceNotAvailable()) {
+      return "serviceNotAvailable";
+    }
+    if (response.isUserBadRequest()) {
+      return "userBadRequest";
+    }
+    if (response.isFrontEndBadRequest()) {
+      return "frontEndBadRequest";
+    }
+    throw new AssertionError("Unsupported Response " + response.getStatus());
+  }
+
   protected abstract void addResults();
 
+  // Returns the entity to return if the response is successful.
+  // By default, it's the json object that addResults built.
+  // Derived classes can override this to stream large results.
+  protected Object getSuccessEntity() {
+    return getEntityBuilder().build();
+  }
+
   protected void addValueToJsonObject(JsonObjectBuilder builder, Value value) {
     Value unsettableValue = Value.unsettableValue(value);
     if (unsettableValue == null) {
@@ -160,6 +220,73 @@ public abstract class ResponseMapper<T> {
     }
   }
 
+  // Streaming version of addValueToJsonObject.
+  // Writes the value's properties to the json object the generator is currently writing.
+  protected void writeValueToJsonObject(JsonGenerator generator, Value value) {
+    Value unsettableValue = Value.unsettableValue(value);
+    if (unsettableValue == null) {
+      return;
+    }
+    if (value.isSettable()) {
+      SettableValue settable = value.asSettable();
+      if (settable.isSet()) {
+        generator.write("set", true);
+      } else if (settable.isUnset()) {
+        generator.write("set", false);
+      } else {
+        // we don't know whether the property is set.
+      }
+    }
+    if (unsettableValue.isUnknown()) {
+      return;
+    }
+    if (unsettableValue.isModelToken()) {
+      generator.write("modelToken", unsettableValue.asModelToken().getToken());
+    } else {
+      writeValue(generator, "value", unsettableValue);
+    }
+  }
+
+  // Streaming version of valueToJson.
+  // Writes the common simple values directly to the generator.
+  // Falls back to valueToJson for everything else.
+  protected void writeValue(JsonGenerator generator, String name, Value value) {
+    if (value.isString()) {
+      String str = value.asString().getValue();
+      if (str == null) {
+        generator.writeNull(name);
+      } else {
+        generator.write(name, str);
+      }
+    } else if (value.isBoolean()) {
+      generator.write(name, value.asBoolean().getValue());
+    } else if (value.isInt()) {
+      generator.write(name, value.asInt().getValue());
+    } else if (value.isLong()) {
+      generator.write(name, value.asLong().getValue());
+    } else if (value.isDouble()) {
+      generator.write(name, value.asDouble().getValue());
+    } else if (value.isNullReference()) {
+      generator.writeNull(name);
+    } else if (value.isHealthState()) {
+      generator.write(name, value.asHealthState().getValue());
+    } else if (value.isDate()) {
+      generator.write(name, formatDate(value.asDate().getValue()));
+    } else if (value.isDateAsLong()) {
+      generator.write(name, formatDate(value.asDateAsLong().asDate().getValue()));
+    } else if (value.isArray()) {
+      generator.writeStartArray(name);
+      for (Value item : value.asArray().getValues()) {
+        generator.writeStartObject();
+        writeValueToJsonObject(generator, item);
+        generator.writeEnd();
+      }
+      generator.writeEnd();
+    } else {
+      generator.write(name, valueToJson(value));
+    }
+  }
+
   protected JsonValue valueToJson(Value value) {
     if (value.isArray()) {
       return arrayToJson(value.asArray());
@@ -278,12 +405,28 @@ public abstract class ResponseMapper<T> {
   }
 
   private JsonValue dateToJson(Date date) {
-    String dateAsString = "";
-    if (date != null) {
-      // Convert the date to an user-visible string.
-      dateAsString = new SimpleDateFormat(DISPLAYED_DATE_TIME_FORMAT).format(date);
+    return Json.createValue(formatDate(date));
+  }
+
+  // Convert the date to an user-visible string.
+  private String formatDate(Date date) {
+    if (date == null) {
+      return "";
     }
-    return Json.createValue(dateAsString);
+    return getDisplayedDateTimeFormatter().format(date.toInstant());
+  }
+
+  // DateTimeFormatters are immutable and thread safe, so one per locale & time zone
+  // can be shared by all requests (v.s. SimpleDateFormat, which is neither).
+  // Like SimpleDateFormat, use the server's default locale and time zone.
+  private static DateTimeFormatter getDisplayedDateTimeFormatter() {
+    Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+    ZoneId zone = ZoneId.systemDefault();
+    return
+      DISPLAYED_DATE_TIME_FORMATTERS.computeIfAbsent(
+        List.of(locale, zone),
+        key -> DateTimeFormatter.ofPattern(DISPLAYED_DATE_TIME_FORMAT, locale).withZone(zone)
+      );
   }
 
   protected JsonValue beanTreePathToJson(BeanTreePath beanTreePath) {
@@ -319,12 +462,10 @@ public abstract class ResponseMapper<T> {
     if (beanTreePath == null) {
       return JsonValue.NULL;
     }
-    Path connectionRelativePath = new Path();
     String pageRepoName =
       getInvocationContext().getPageRepo().getPageRepoDef().getName();
-    connectionRelativePath.addComponent(pageRepoName);
-    connectionRelativePath.addComponent("data");
-    connectionRelativePath.addPath(beanTreePath.getPath());
+    Path connectionRelativePath =
+      new Path().childPath(pageRepoName).childPath("data").childPath(beanTreePath.getPath());
     String backendRelativeUri =
       UriUtils.getBackendRelativeUri(getInvocationContext(), connectionRelativePath)
       +
@@ -0,0 +1,56 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.webapp;
+
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import weblogic.remoteconsole.server.repo.InvocationContext;
+import weblogic.remoteconsole.server.repo.RequestDeadline.Budget;
+
+/**
+ * Handles JAXRS methods for debugging the WLS REST searches that getting
+ * a bean's or a collection's page makes.
+ * <p>
+ * It gets the page (i.e. the bean's slice form or the collection's table)
+ * and returns the plans of the searches instead of the page.
+ */
+public class SearchQueryPlansResource extends BeanResource {
+
+  /**
+   * Get the search query plans for a slice of a bean, or for a collection's table.
+   * It has the same time budget as getting the table or slice.
+   */
+  @GET
+  @Produces(MediaType.APPLICATION_JSON)
+  public void get(
+    @QueryParam("slice") @DefaultValue("") String slice,
+    @Suspended AsyncResponse asyncResponse
+  ) {
+    InvocationContext ic = getInvocationContext();
+    ic.startRecordingSearchQueryPlans();
+    if (ic.getBeanTreePath().isCollection()) {
+      setTablePagePath();
+      handleAsync(asyncResponse, Budget.TABLE, this::getSearchQueryPlans);
+    } else {
+      setSliceFormPagePath(slice);
+      handleAsync(asyncResponse, Budget.FORM, this::getSearchQueryPlans);
+    }
+  }
+
+  private Response getSearchQueryPlans() {
+    InvocationContext ic = getInvocationContext();
+    return
+      SearchQueryPlansResponseMapper.toResponse(
+        ic,
+        ic.getPageRepo().asPageReaderRepo().getPage(ic)
+      );
+  }
+}
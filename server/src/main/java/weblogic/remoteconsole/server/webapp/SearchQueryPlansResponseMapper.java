@@ -0,0 +1,36 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.webapp;
+
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+
+import weblogic.remoteconsole.server.repo.InvocationContext;
+import weblogic.remoteconsole.server.repo.Page;
+import weblogic.remoteconsole.server.repo.Response;
+
+/**
+ * Converts a Response<Page> to a JAXRS Response that contains the plans of the
+ * WLS REST searches that were made to get the page, instead of the page.
+ */
+public class SearchQueryPlansResponseMapper extends ResponseMapper<Page> {
+
+  public static javax.ws.rs.core.Response toResponse(InvocationContext invocationContext, Response<Page> response) {
+    return new SearchQueryPlansResponseMapper(invocationContext, response).toResponse();
+  }
+
+  private SearchQueryPlansResponseMapper(InvocationContext invocationContext, Response<Page> response) {
+    super(invocationContext, response);
+  }
+
+  @Override
+  protected void addResults() {
+    JsonArrayBuilder plansBldr = Json.createArrayBuilder();
+    for (JsonObject plan : getInvocationContext().getSearchQueryPlans()) {
+      plansBldr.add(plan);
+    }
+    getEntityBuilder().add("queryPlans", plansBldr);
+  }
+}
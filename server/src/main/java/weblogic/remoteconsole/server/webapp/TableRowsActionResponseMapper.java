@@ -0,0 +1,89 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.webapp;
+
+import java.util.List;
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObjectBuilder;
+
+import weblogic.remoteconsole.common.repodef.TableActionDef;
+import weblogic.remoteconsole.common.utils.Message;
+import weblogic.remoteconsole.server.repo.InvocationContext;
+import weblogic.remoteconsole.server.repo.Response;
+
+/**
+ * Maps the results of invoking a table action on many rows to a JAXRS response.
+ * <p>
+ * The Response<List<Response<Void>>> contains each row's result,
+ * in the same order as the requested rows:
+ * <pre>
+ * {
+ *   "messages": [ ... ],
+ *   "asynchronous": true,
+ *   "results": [
+ *     { "row": "Server1", "status": "success" },
+ *     { "row": "Server2", "status": "serviceNotAvailable", "messages": [ ... ] },
+ *     { "row": "Server3", "status": "notFound" }
+ *   ]
+ * }
+ * </pre>
+ * "asynchronous" is only returned for asynchronous actions.  For them, a
+ * successful row means that the action has been started, not that it has finished.
+ * <p>
+ * Per-row progress isn't streamed.  The response is written once the action
+ * has been invoked on all of the rows (see TableRowsActionInvoker).
+ */
+public class TableRowsActionResponseMapper extends ResponseMapper<List<Response<Void>>> {
+
+  private TableActionDef tableActionDef;
+  private List<String> requestedKeys;
+
+  public static javax.ws.rs.core.Response toResponse(
+    InvocationContext invocationContext,
+    TableActionDef tableActionDef,
+    List<String> requestedKeys,
+    Response<List<Response<Void>>> response
+  ) {
+    return new TableRowsActionResponseMapper(invocationContext, tableActionDef, requestedKeys, response).toResponse();
+  }
+
+  private TableRowsActionResponseMapper(
+    InvocationContext invocationContext,
+    TableActionDef tableActionDef,
+    List<String> requestedKeys,
+    Response<List<Response<Void>>> response
+  ) {
+    super(invocationContext, response);
+    this.tableActionDef = tableActionDef;
+    this.requestedKeys = requestedKeys;
+  }
+
+  @Override
+  protected void addResults() {
+    if (tableActionDef.isAsynchronous()) {
+      getEntityBuilder().add("asynchronous", true);
+    }
+    List<Response<Void>> rowResponses = getResponse().getResults();
+    JsonArrayBuilder builder = Json.createArrayBuilder();
+    for (int i = 0; i < requestedKeys.size(); i++) {
+      builder.add(rowToJson(requestedKeys.get(i), rowResponses.get(i)));
+    }
+    getEntityBuilder().add("results", builder);
+  }
+
+  private JsonObjectBuilder rowToJson(String key, Response<Void> rowResponse) {
+    JsonObjectBuilder builder = Json.createObjectBuilder();
+    builder.add("row", key);
+    builder.add("status", getStatusName(rowResponse));
+    if (!rowResponse.getMessages().isEmpty()) {
+      JsonArrayBuilder messagesBuilder = Json.createArrayBuilder();
+      for (Message message : rowResponse.getMessages()) {
+        messagesBuilder.add(messageToJson(message));
+      }
+      builder.add("messages", messagesBuilder);
+    }
+    return builder;
+  }
+}
@@ -0,0 +1,70 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.webapp;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+
+import weblogic.remoteconsole.server.repo.InvocationContext;
+import weblogic.remoteconsole.server.repo.Response;
+
+/**
+ * Converts a JAXRS Request body that lists rows of a table
+ * (e.g. to invoke an action on them) to a Response<List<String>>
+ * containing the rows' keys.
+ * <p>
+ * The request body looks like:
+ * <pre>
+ * {
+ *   "rows": [ "Server1", "Server2" ]
+ * }
+ * </pre>
+ */
+public class TableRowsRequestBodyMapper extends RequestBodyMapper<List<String>> {
+  private static final String PROP_ROWS = "rows";
+
+  public static Response<List<String>> fromRequestBody(
+    InvocationContext ic,
+    JsonObject requestBody
+  ) {
+    return (new TableRowsRequestBodyMapper(ic, requestBody)).fromRequestBody();
+  }
+
+  private TableRowsRequestBodyMapper(InvocationContext ic, JsonObject requestBody) {
+    super(ic, requestBody, null);
+  }
+
+  @Override
+  protected void parseRequestBody() {
+    List<String> rows = getRows();
+    if (isOK()) {
+      getResponse().setSuccess(rows);
+    }
+  }
+
+  private List<String> getRows() {
+    // Ignore duplicates so that the action is only invoked once per row.
+    Set<String> rows = new LinkedHashSet<>();
+    JsonArray array = getRequiredJsonArray(getRequestBody(), PROP_ROWS);
+    if (!isOK()) {
+      return null;
+    }
+    for (int i = 0; i < array.size(); i++) {
+      String row = asString(PROP_ROWS, array.get(i));
+      if (!isOK()) {
+        return null;
+      }
+      if (row == null) {
+        badFormat(PROP_ROWS + " must not contain null");
+        return null;
+      }
+      rows.add(row);
+    }
+    return new ArrayList<>(rows);
+  }
+}
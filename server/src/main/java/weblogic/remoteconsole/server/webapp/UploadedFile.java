@@ -0,0 +1,49 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.remoteconsole.server.webapp;
+
+import java.io.InputStream;
+
+/**
+ * A file that was uploaded as a part of a multipart request body.
+ * <p>
+ * The file's contents are read from the input stream.  Depending on how the request
+ * was read (see MultiPartUploadReader), the stream either reads the contents from a
+ * buffer or directly from the request, in which case it can only be read once.
+ */
+public class UploadedFile {
+  private String name;
+  private String fileName;
+  private String mediaType;
+  private InputStream inputStream;
+
+  public UploadedFile(String name, String fileName, String mediaType, InputStream inputStream) {
+    this.name = name;
+    this.fileName = fileName;
+    this.mediaType = mediaType;
+    this.inputStream = inputStream;
+  }
+
+  // The name of the part, i.e. the name of the property the file is being uploaded for.
+  public String getName() {
+    return name;
+  }
+
+  public String getFileName() {
+    return fileName;
+  }
+
+  public String getMediaType() {
+    return mediaType;
+  }
+
+  public InputStream getInputStream() {
+    return inputStream;
+  }
+
+  @Override
+  public String toString() {
+    return "UploadedFile<" + getName() + "," + getFileName() + "," + getMediaType() + ">";
+  }
+}
@@ -22,10 +22,10 @@ public class UriUtils {
   }
 
   private static Path getBackendRelativePath(InvocationContext invocationContext, Path connectionRelativePath) {
-    Path path = new Path();
-    path.addComponent(API_URI);
-    path.addComponent(StringUtils.urlEncode(invocationContext.getProvider().getName()));
-    path.addPath(connectionRelativePath);
-    return path;
+    return
+      new Path()
+        .childPath(API_URI)
+        .childPath(StringUtils.urlEncode(invocationContext.getProvider().getName()))
+        .childPath(connectionRelativePath);
   }
 }
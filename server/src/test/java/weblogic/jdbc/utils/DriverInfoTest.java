@@ -3,11 +3,16 @@
 
 package weblogic.jdbc.utils;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -17,6 +22,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class DriverInfoTest {
@@ -311,4 +319,122 @@ public class DriverInfoTest {
       assertNotNull(helper.getProperties(), "Properties null");
     }
   }
+
+  @Test
+  public void testCatalogIsShared() throws Exception {
+    assertSame(driverUtil, JDBCDriversUtils.getJDBCDriverInfoFactory(), "factory not shared");
+  }
+
+  @Test
+  public void testVendorNames() throws Exception {
+    String[] vendorNames = driverUtil.getDBMSVendorNames();
+    for (int i = 1; i < vendorNames.length; i++) {
+      assertTrue(vendorNames[i - 1].compareTo(vendorNames[i]) < 0, "vendor names not sorted and unique");
+    }
+    // Changing the returned array must not change the catalog
+    vendorNames[0] = "Changed";
+    assertNotEquals("Changed", driverUtil.getDBMSVendorNames()[0]);
+  }
+
+  @Test
+  public void testVendorIndex() throws Exception {
+    for (String vendorName : driverUtil.getDBMSVendorNames()) {
+      JDBCDriverInfo[] driverInfos = driverUtil.getDriverInfos(vendorName);
+      for (int i = 0; i < driverInfos.length; i++) {
+        JDBCDriverInfo driverInfo = driverInfos[i];
+        assertEquals(vendorName, driverInfo.getDbmsVendor());
+        String desc = driverInfo.getDescription();
+        if (desc != null) {
+          assertFalse(desc.contains("GridLink"), "unexpected GridLink entry");
+          assertFalse(desc.contains("UCP"), "unexpected UCP entry");
+        }
+        if (i > 0) {
+          assertTrue(driverInfos[i - 1].compareTo(driverInfo) < 0, "driver infos not sorted and unique");
+        }
+      }
+    }
+    assertEquals(0, driverUtil.getDriverInfos("NoSuchVendor").length);
+  }
+
+  @Test
+  public void testGridLinkAndUCPIndexes() throws Exception {
+    JDBCDriverInfo[] gridLinkDriverInfos = driverUtil.getGridLinkDriverInfos();
+    assertTrue(gridLinkDriverInfos.length > 0, "no GridLink drivers");
+    for (JDBCDriverInfo driverInfo : gridLinkDriverInfos) {
+      assertTrue(driverInfo.getDescription().contains("GridLink"), "expected GridLink entry");
+    }
+    JDBCDriverInfo[] ucpDriverInfos = driverUtil.getUCPDriverInfos();
+    assertTrue(ucpDriverInfos.length > 0, "no UCP drivers");
+    for (JDBCDriverInfo driverInfo : ucpDriverInfos) {
+      assertTrue(driverInfo.getDescription().contains("UCP"), "expected UCP entry");
+    }
+  }
+
+  @Test
+  public void testNameAndClassIndexes() throws Exception {
+    for (JDBCDriverInfo driverInfo : driverUtil.getJDBCDriverInfos()) {
+      JDBCDriverInfo byName = driverUtil.getDriverInfo(driverInfo.toString());
+      assertNotNull(byName, "getDriverInfo null for " + driverInfo);
+      assertEquals(driverInfo.getDriverPK(), byName.getDriverPK());
+
+      String className = driverInfo.getDriverClassName();
+      JDBCDriverInfo byClass = driverUtil.getDriverInfoByClass(className);
+      assertNotNull(byClass, "getDriverInfoByClass null for " + className);
+      assertEquals(className, byClass.getDriverClassName());
+
+      JDBCDriverInfo byClassAndXA = driverUtil.getDriverInfoByClass(className, driverInfo.isForXA());
+      assertNotNull(byClassAndXA, "getDriverInfoByClass null for " + className + " " + driverInfo.isForXA());
+      assertEquals(className, byClassAndXA.getDriverClassName());
+      assertEquals(driverInfo.isForXA(), byClassAndXA.isForXA());
+    }
+    assertNull(driverUtil.getDriverInfo("NoSuchDriver"));
+    assertNull(driverUtil.getDriverInfoByClass("NoSuchDriver"));
+    assertNull(driverUtil.getDriverInfoByClass("NoSuchDriver", true));
+  }
+
+  @Test
+  public void testDriverInfosAreNotShared() throws Exception {
+    // JDBCDriverInfos hold the values the user enters, so each caller gets its own
+    JDBCDriverInfo driverInfo1 = driverUtil.getDriverInfoByClass("oracle.jdbc.OracleDriver", false);
+    JDBCDriverInfo driverInfo2 = driverUtil.getDriverInfoByClass("oracle.jdbc.OracleDriver", false);
+    assertNotSame(driverInfo1, driverInfo2);
+    driverInfo1.setDbmsHost("host1");
+    assertNotEquals("host1", driverInfo2.getDbmsHost());
+    assertNotEquals("host1", driverUtil.getDriverInfos("Oracle")[0].getDbmsHost());
+  }
+
+  @Test
+  public void testConcurrentLookups() throws Exception {
+    String expected = describeCatalog();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<String>> futures = new ArrayList<>();
+      for (int i = 0; i < 32; i++) {
+        Callable<String> describe = () -> describeCatalog();
+        futures.add(executor.submit(describe));
+      }
+      for (Future<String> future : futures) {
+        assertEquals(expected, future.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private String describeCatalog() throws Exception {
+    StringBuilder sb = new StringBuilder();
+    for (String vendorName : driverUtil.getDBMSVendorNames()) {
+      for (JDBCDriverInfo driverInfo : driverUtil.getDriverInfos(vendorName)) {
+        sb.append(driverInfo.getDriverPK()).append("|");
+        sb.append(driverUtil.getDriverInfo(driverInfo.toString()).getDriverClassName()).append("\n");
+      }
+    }
+    for (JDBCDriverInfo driverInfo : driverUtil.getGridLinkDriverInfos()) {
+      sb.append(driverInfo.getDriverPK()).append("\n");
+    }
+    for (JDBCDriverInfo driverInfo : driverUtil.getUCPDriverInfos()) {
+      sb.append(driverInfo.getDriverPK()).append("\n");
+    }
+    return sb.toString();
+  }
 }